@@ -0,0 +1,35 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 表示 {@link Genericable} 的调用是幂等的，并发的相同参数的调用可以被合并为一次调用。
+ * <p>当同一个服务实现上存在参数相同（按照 {@link java.util.Arrays#deepEquals(Object[], Object[])} 比较）且尚未完成的调用时，
+ * 后续的调用不再发起新的调用，而是等待并共享该调用的结果或异常。仅对单播调用生效。</p>
+ * <p>当 {@link #ttl()} 大于 0 时，成功的调用结果会在指定的毫秒数内被缓存，期间的相同调用直接返回缓存的结果。</p>
+ *
+ * @author agent
+ * @see Genericable
+ * @since 2026-10-17
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD})
+public @interface Coalescing {
+    /**
+     * 获取成功的调用结果的缓存时间。
+     *
+     * @return 表示成功的调用结果的缓存毫秒数的 {@code long}，不大于 0 时表示不缓存。
+     */
+    long ttl() default 0L;
+}
@@ -160,6 +160,17 @@ public interface InvocationContext {
      */
     boolean withDegradation();
 
+    /**
+     * 判断当前调用是否为非阻塞调用。
+     * <p>非阻塞调用中，远程服务实现的执行结果为 {@link java.util.concurrent.CompletableFuture}，调用线程不等待响应到达。多播调用
+     * 总是同步执行。默认实现返回 {@code false}。</p>
+     *
+     * @return 如果当前调用是非阻塞调用，返回 {@code true}，否则，返回 {@code false}。
+     */
+    default boolean isNonBlocking() {
+        return false;
+    }
+
     /**
      * 获取多播调用的结果累加器。
      *
@@ -167,6 +178,16 @@ public interface InvocationContext {
      */
     BinaryOperator<Object> accumulator();
 
+    /**
+     * 获取多播调用的执行策略。
+     * <p>默认实现返回顺序调用所有目标的策略。</p>
+     *
+     * @return 表示多播调用的执行策略的 {@link MulticastPolicy}。
+     */
+    default MulticastPolicy multicastPolicy() {
+        return MulticastPolicy.sequential();
+    }
+
     /**
      * 获取动态路由或负载均衡所需的扩展信息。
      *
@@ -331,6 +352,17 @@ public interface InvocationContext {
          */
         Builder withDegradation(boolean withDegradation);
 
+        /**
+         * 向当前构建器中设置当前调用是否为非阻塞调用。
+         * <p>默认实现忽略设置的值，构建出的调用上下文使用 {@link InvocationContext#isNonBlocking()} 的默认值。</p>
+         *
+         * @param isNonBlocking 如果当前调用是非阻塞调用，则为 {@code true}，否则为 {@code false}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        default Builder isNonBlocking(boolean isNonBlocking) {
+            return this;
+        }
+
         /**
          * 向当前构建器中设置多播调用的结果累加器。
          *
@@ -339,6 +371,17 @@ public interface InvocationContext {
          */
         Builder accumulator(BinaryOperator<Object> accumulator);
 
+        /**
+         * 向当前构建器中设置多播调用的执行策略。
+         * <p>默认实现忽略设置的策略，构建出的调用上下文使用 {@link InvocationContext#multicastPolicy()} 的默认策略。</p>
+         *
+         * @param multicastPolicy 表示多播调用的执行策略的 {@link MulticastPolicy}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        default Builder multicastPolicy(MulticastPolicy multicastPolicy) {
+            return this;
+        }
+
         /**
          * 向当前构建器中设置动态路由或负载均衡所需的扩展信息。
          *
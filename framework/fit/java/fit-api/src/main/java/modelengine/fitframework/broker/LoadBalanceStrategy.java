@@ -0,0 +1,34 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker;
+
+import modelengine.fitframework.broker.client.Invoker;
+
+/**
+ * 表示单播调用时从负载均衡后的地址列表中选择最终调用地址的策略。
+ * <p>系统内置了 {@code round-robin}、{@code weighted-round-robin}、{@code least-outstanding-requests} 和
+ * {@code p2c-ewma} 四种策略，插件可以通过在容器中注册该接口的实现来扩展新的策略。策略通过名字在配置
+ * {@code fit.broker.load-balance} 中按服务进行选择。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface LoadBalanceStrategy {
+    /**
+     * 获取策略的名字。
+     *
+     * @return 表示策略名字的 {@link String}。
+     */
+    String name();
+
+    /**
+     * 获取策略对应的负载均衡过滤器，该过滤器从待选地址中选出唯一的调用地址。
+     *
+     * @return 表示负载均衡过滤器的 {@link Invoker.Filter}。
+     */
+    Invoker.Filter filter();
+}
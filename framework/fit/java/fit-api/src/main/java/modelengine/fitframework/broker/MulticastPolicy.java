@@ -0,0 +1,137 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker;
+
+import modelengine.fitframework.broker.support.DefaultMulticastPolicy;
+
+/**
+ * 表示多播调用的执行策略。
+ * <p>默认的策略为顺序调用所有目标。开启并发后，所有目标将同时被调用（受最大并发数限制），调用结果在返回时即被累加，
+ * 调用上下文中的超时时间作为整个多播调用的全局截止时间，超时或因满足完成条件而被取消的目标将被丢弃。</p>
+ * <p>并发模式下结果的累加顺序与目标的顺序无关，因此累加器需要满足交换律和结合律。</p>
+ * <p>完成条件为 {@link Completion#FIRST_N} 或 {@link Completion#QUORUM} 时，如果成功调用的数量最终未达到要求，调用将抛出
+ * {@link modelengine.fitframework.broker.client.MulticastIncompleteException}。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface MulticastPolicy {
+    /**
+     * 判断是否并发调用所有目标。
+     *
+     * @return 如果并发调用所有目标，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isParallel();
+
+    /**
+     * 获取并发调用时的最大并发数。
+     * <p>当最大并发数不大于 0 时，表示不限制并发数，即所有目标同时被调用。</p>
+     *
+     * @return 表示最大并发数的 {@code int}。
+     */
+    int maxConcurrency();
+
+    /**
+     * 获取多播调用的完成条件。
+     *
+     * @return 表示完成条件的 {@link Completion}。
+     */
+    Completion completion();
+
+    /**
+     * 获取完成条件为 {@link Completion#FIRST_N} 时所需的成功调用数量。
+     *
+     * @return 表示所需的成功调用数量的 {@code int}。
+     */
+    int requiredSuccesses();
+
+    /**
+     * 表示多播调用的完成条件。
+     */
+    enum Completion {
+        /** 表示等待所有目标调用完成。 */
+        ALL,
+
+        /** 表示当成功调用的数量达到 {@link #requiredSuccesses()} 时即完成。 */
+        FIRST_N,
+
+        /** 表示当超过半数的目标调用成功时即完成。 */
+        QUORUM
+    }
+
+    /**
+     * {@link MulticastPolicy} 的构建器。
+     */
+    interface Builder {
+        /**
+         * 向当前构建器中设置是否并发调用所有目标。
+         *
+         * @param isParallel 表示是否并发调用所有目标的 {@code boolean}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder isParallel(boolean isParallel);
+
+        /**
+         * 向当前构建器中设置并发调用时的最大并发数。
+         *
+         * @param maxConcurrency 表示最大并发数的 {@code int}，不大于 0 时表示不限制。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder maxConcurrency(int maxConcurrency);
+
+        /**
+         * 向当前构建器中设置多播调用的完成条件。
+         *
+         * @param completion 表示完成条件的 {@link Completion}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder completion(Completion completion);
+
+        /**
+         * 向当前构建器中设置完成条件为 {@link Completion#FIRST_N} 时所需的成功调用数量。
+         *
+         * @param requiredSuccesses 表示所需的成功调用数量的 {@code int}。
+         * @return 表示当前构建器的 {@link Builder}。
+         */
+        Builder requiredSuccesses(int requiredSuccesses);
+
+        /**
+         * 构建对象。
+         *
+         * @return 表示构建出来的对象的 {@link MulticastPolicy}。
+         */
+        MulticastPolicy build();
+    }
+
+    /**
+     * 获取顺序调用所有目标的多播策略。
+     *
+     * @return 表示顺序调用所有目标的多播策略的 {@link MulticastPolicy}。
+     */
+    static MulticastPolicy sequential() {
+        return DefaultMulticastPolicy.SEQUENTIAL;
+    }
+
+    /**
+     * 获取 {@link MulticastPolicy} 的构建器。
+     *
+     * @return 表示 {@link MulticastPolicy} 的构建器的 {@link Builder}。
+     */
+    static Builder custom() {
+        return custom(null);
+    }
+
+    /**
+     * 获取 {@link MulticastPolicy} 的构建器，同时将指定对象的值进行填充。
+     *
+     * @param value 表示指定对象的 {@link MulticastPolicy}。
+     * @return 表示 {@link MulticastPolicy} 的构建器的 {@link Builder}。
+     */
+    static Builder custom(MulticastPolicy value) {
+        return new DefaultMulticastPolicy.Builder(value);
+    }
+}
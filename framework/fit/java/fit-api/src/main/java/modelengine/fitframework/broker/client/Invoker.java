@@ -9,15 +9,20 @@ package modelengine.fitframework.broker.client;
 import modelengine.fitframework.broker.CommunicationType;
 import modelengine.fitframework.broker.FitableMetadata;
 import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.MulticastPolicy;
 import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.broker.client.filter.loadbalance.EmptyFilter;
+import modelengine.fitframework.broker.client.filter.loadbalance.LeastOutstandingRequestsFilter;
+import modelengine.fitframework.broker.client.filter.loadbalance.PowerOfTwoChoicesFilter;
 import modelengine.fitframework.broker.client.filter.loadbalance.RoundRobinFilter;
+import modelengine.fitframework.broker.client.filter.loadbalance.WeightedRoundRobinFilter;
 import modelengine.fitframework.conf.runtime.CommunicationProtocol;
 import modelengine.fitframework.conf.runtime.SerializationFormat;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
 
@@ -48,7 +53,7 @@ public interface Invoker {
     /**
      * 设置服务调用的通信类型。
      * <p>如果设置了 {@link CommunicationType#ASYNC}，但服务器不支持异步调用，则仍以同步方式执行调用。</p>
-     * TODO: 向应用提供异步API
+     * <p>该通信类型表示服务端的执行方式，如需调用线程不等待响应，请使用 {@link #invokeAsync(Object...)}。</p>
      *
      * @param communicationType 表示需要设置的通信类型的 {@link CommunicationType}。
      * @return 表示当前的服务调用器的 {@link Invoker}。
@@ -79,6 +84,18 @@ public interface Invoker {
      */
     Invoker multicast(BinaryOperator<Object> accumulator);
 
+    /**
+     * 使用指定策略的多播调用，即会调用多次。
+     * <p>默认实现忽略指定的策略，与 {@link #multicast(BinaryOperator)} 相同。</p>
+     *
+     * @param accumulator 表示多个结果的聚合器的 {@link BinaryOperator}{@code <}{@link Object}{@code >}。
+     * @param policy 表示多播调用的执行策略的 {@link MulticastPolicy}。
+     * @return 表示当前的服务调用器的 {@link Invoker}。
+     */
+    default Invoker multicast(BinaryOperator<Object> accumulator, MulticastPolicy policy) {
+        return this.multicast(accumulator);
+    }
+
     /**
      * 设置最多可重试的次数。
      *
@@ -141,6 +158,18 @@ public interface Invoker {
      */
     <R> R invoke(Object... args);
 
+    /**
+     * 进行非阻塞的服务调用。
+     * <p>路由和负载均衡在调用线程中完成，远程调用发出后立即返回，调用线程不等待响应到达。重试和降级在异步结果失败时进行，同样不阻塞
+     * 调用线程。本地服务实现和多播调用仍在调用线程中同步执行，返回已经完成的结果。</p>
+     * <p>调用过程中发生的所有异常，包括找不到服务或服务实现的异常，均通过返回的结果传递。</p>
+     *
+     * @param args 表示服务调用的参数列表的 {@link Object}{@code []}。
+     * @param <R> 表示返回值类型的 {@link R}。
+     * @return 表示调用结果的 {@link CompletableFuture}{@code <}{@link R}{@code >}。
+     */
+    <R> CompletableFuture<R> invokeAsync(Object... args);
+
     /**
      * 获取当前调用器对应的服务。
      * <p><b>注意：该方法获取的服务是未经过动态路由和负载均衡的，如果需要调用获取结果，请使用 {@link #invoke(Object...)}。</b></p>
@@ -237,5 +266,32 @@ public interface Invoker {
         static Filter roundRobin() {
             return RoundRobinFilter.INSTANCE;
         }
+
+        /**
+         * 获取一个平滑加权轮询的负载均衡过滤器。
+         *
+         * @return 表示平滑加权轮询的负载均衡过滤器的实例的 {@link Filter}。
+         */
+        static Filter weightedRoundRobin() {
+            return WeightedRoundRobinFilter.INSTANCE;
+        }
+
+        /**
+         * 获取一个最少进行中请求的负载均衡过滤器。
+         *
+         * @return 表示最少进行中请求的负载均衡过滤器的实例的 {@link Filter}。
+         */
+        static Filter leastOutstandingRequests() {
+            return LeastOutstandingRequestsFilter.INSTANCE;
+        }
+
+        /**
+         * 获取一个基于调用耗时移动平均值的二选一负载均衡过滤器。
+         *
+         * @return 表示基于调用耗时移动平均值的二选一负载均衡过滤器的实例的 {@link Filter}。
+         */
+        static Filter powerOfTwoChoices() {
+            return PowerOfTwoChoicesFilter.INSTANCE;
+        }
     }
 }
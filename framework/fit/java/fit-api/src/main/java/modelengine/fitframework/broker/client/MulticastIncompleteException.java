@@ -0,0 +1,62 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client;
+
+import modelengine.fitframework.exception.ErrorCode;
+import modelengine.fitframework.exception.FitException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 当并发多播调用的成功数量未达到 {@link modelengine.fitframework.broker.MulticastPolicy} 指定的完成条件时发生的异常。
+ * <p>异常中携带调用失败的目标和因超时、中断而被丢弃的目标，失败目标的异常原因作为被抑制的异常附加在当前异常上。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@ErrorCode(MulticastIncompleteException.CODE)
+public class MulticastIncompleteException extends FitException {
+    /** 表示多播调用未满足完成条件的异常码。 */
+    public static final int CODE = 0x7F020002;
+
+    private final List<String> failedTargets;
+    private final List<String> droppedTargets;
+
+    /**
+     * 通过异常信息、调用失败的目标和被丢弃的目标来实例化 {@link MulticastIncompleteException}。
+     *
+     * @param message 表示异常信息的 {@link String}。
+     * @param failedTargets 表示调用失败的目标描述的 {@link List}{@code <}{@link String}{@code >}。
+     * @param droppedTargets 表示被丢弃的目标描述的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public MulticastIncompleteException(String message, List<String> failedTargets, List<String> droppedTargets) {
+        super(message);
+        this.failedTargets =
+                failedTargets == null ? Collections.emptyList() : Collections.unmodifiableList(failedTargets);
+        this.droppedTargets =
+                droppedTargets == null ? Collections.emptyList() : Collections.unmodifiableList(droppedTargets);
+    }
+
+    /**
+     * 获取调用失败的目标描述。
+     *
+     * @return 表示调用失败的目标描述的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public List<String> failedTargets() {
+        return this.failedTargets;
+    }
+
+    /**
+     * 获取因超时或中断而未完成调用的目标描述。
+     *
+     * @return 表示被丢弃的目标描述的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    public List<String> droppedTargets() {
+        return this.droppedTargets;
+    }
+}
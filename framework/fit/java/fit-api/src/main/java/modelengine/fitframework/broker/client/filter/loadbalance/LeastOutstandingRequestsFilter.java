@@ -0,0 +1,58 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 最少进行中请求的负载均衡策略。
+ * <p>该策略选择正在进行中的调用数量最少的地址，当存在多个数量相同的地址时，从随机位置开始选择第一个，避免流量集中。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class LeastOutstandingRequestsFilter extends ChampionFilter {
+    /** {@link LeastOutstandingRequestsFilter} 的预置实例。 */
+    public static final LeastOutstandingRequestsFilter INSTANCE =
+            new LeastOutstandingRequestsFilter(TargetStatistics.INSTANCE);
+
+    private final TargetStatistics statistics;
+
+    /**
+     * 使用指定的负载统计信息初始化 {@link LeastOutstandingRequestsFilter} 的新实例。
+     *
+     * @param statistics 表示负载统计信息的 {@link TargetStatistics}。
+     * @throws IllegalArgumentException 当 {@code statistics} 为 {@code null} 时。
+     */
+    public LeastOutstandingRequestsFilter(TargetStatistics statistics) {
+        this.statistics = notNull(statistics, "The target statistics cannot be null.");
+    }
+
+    @Override
+    protected Optional<Target> select(FitableMetadata fitable, String localWorkerId, List<Target> toFilterTargets) {
+        int size = toFilterTargets.size();
+        int start = ThreadLocalRandom.current().nextInt(size);
+        Target selected = null;
+        int least = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            Target target = toFilterTargets.get((start + i) % size);
+            int outstanding = this.statistics.outstanding(target);
+            if (outstanding < least) {
+                least = outstanding;
+                selected = target;
+            }
+        }
+        return Optional.ofNullable(selected);
+    }
+}
@@ -0,0 +1,83 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 基于调用耗时移动平均值的二选一（Power of Two Choices）负载均衡策略。
+ * <p>该策略随机选取两个不同的地址，并选择负载代价较低的一个。负载代价为调用耗时的指数加权移动平均值与进行中调用数量加一的乘积，
+ * 因此响应变慢或积压请求的地址会逐渐减少其所承担的流量。</p>
+ * <p>尚无调用耗时记录的地址使用所有候选地址中已有记录的耗时的平均值计算代价，使新地址能够按照平均水平被探测，而不会因为代价为
+ * {@code 0} 在第一次调用完成之前吸收所有流量。所有候选地址都没有记录时，代价仅由进行中的调用数量决定。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class PowerOfTwoChoicesFilter extends ChampionFilter {
+    /** {@link PowerOfTwoChoicesFilter} 的预置实例。 */
+    public static final PowerOfTwoChoicesFilter INSTANCE = new PowerOfTwoChoicesFilter(TargetStatistics.INSTANCE);
+
+    private final TargetStatistics statistics;
+
+    /**
+     * 使用指定的负载统计信息初始化 {@link PowerOfTwoChoicesFilter} 的新实例。
+     *
+     * @param statistics 表示负载统计信息的 {@link TargetStatistics}。
+     * @throws IllegalArgumentException 当 {@code statistics} 为 {@code null} 时。
+     */
+    public PowerOfTwoChoicesFilter(TargetStatistics statistics) {
+        this.statistics = notNull(statistics, "The target statistics cannot be null.");
+    }
+
+    @Override
+    protected Optional<Target> select(FitableMetadata fitable, String localWorkerId, List<Target> toFilterTargets) {
+        int size = toFilterTargets.size();
+        if (size == 1) {
+            return Optional.of(toFilterTargets.get(0));
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        Target firstTarget = toFilterTargets.get(first);
+        Target secondTarget = toFilterTargets.get(second);
+        double defaultLatency = 0D;
+        if (!this.statistics.isSampled(firstTarget) || !this.statistics.isSampled(secondTarget)) {
+            defaultLatency = this.averageLatency(toFilterTargets);
+        }
+        double firstCost = this.cost(firstTarget, defaultLatency);
+        double secondCost = this.cost(secondTarget, defaultLatency);
+        return Optional.of(firstCost <= secondCost ? firstTarget : secondTarget);
+    }
+
+    private double averageLatency(List<Target> targets) {
+        double total = 0D;
+        int sampled = 0;
+        for (Target target : targets) {
+            if (this.statistics.isSampled(target)) {
+                total += this.statistics.latency(target);
+                sampled++;
+            }
+        }
+        return sampled == 0 ? 1D : total / sampled;
+    }
+
+    private double cost(Target target, double defaultLatency) {
+        double latency = this.statistics.isSampled(target) ? this.statistics.latency(target) : defaultLatency;
+        return latency * (this.statistics.outstanding(target) + 1);
+    }
+}
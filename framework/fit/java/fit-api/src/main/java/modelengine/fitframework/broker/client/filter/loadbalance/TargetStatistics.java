@@ -0,0 +1,178 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static modelengine.fitframework.inspection.Validation.isTrue;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.Target;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 表示调用地址的负载统计信息。
+ * <p>统计信息按地址所在进程的唯一标识进行记录，包括正在进行中的调用数量和调用耗时的指数加权移动平均值（EWMA），
+ * 用于为基于负载的负载均衡策略提供依据。</p>
+ * <p>地址下线后其统计信息不再被访问，因此没有进行中的调用且超过空闲时间未被访问的统计信息会在记录调用开始时被清除，
+ * 清除最多每个空闲时间进行一次，以保证统计信息的数量不会随着地址的变化无限增长。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class TargetStatistics {
+    /** {@link TargetStatistics} 的全局实例，由远程调用执行器负责记录。 */
+    public static final TargetStatistics INSTANCE = new TargetStatistics();
+
+    private static final double DEFAULT_DECAY = 0.2;
+    private static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 10L;
+
+    private final double decay;
+    private final long idleTimeoutNanos;
+    private final Map<String, Statistic> statistics = new ConcurrentHashMap<>();
+    private final AtomicLong nextEviction;
+
+    /**
+     * 使用默认的衰减系数和空闲时间初始化 {@link TargetStatistics} 的新实例。
+     */
+    public TargetStatistics() {
+        this(DEFAULT_DECAY);
+    }
+
+    /**
+     * 使用指定的衰减系数和默认的空闲时间初始化 {@link TargetStatistics} 的新实例。
+     *
+     * @param decay 表示新的耗时样本在移动平均值中所占权重的 {@code double}，取值范围为 {@code (0, 1]}。
+     * @throws IllegalArgumentException 当 {@code decay} 不在 {@code (0, 1]} 范围内时。
+     */
+    public TargetStatistics(double decay) {
+        this(decay, Duration.ofMinutes(DEFAULT_IDLE_TIMEOUT_MINUTES));
+    }
+
+    /**
+     * 使用指定的衰减系数和空闲时间初始化 {@link TargetStatistics} 的新实例。
+     *
+     * @param decay 表示新的耗时样本在移动平均值中所占权重的 {@code double}，取值范围为 {@code (0, 1]}。
+     * @param idleTimeout 表示统计信息未被访问多久后可以被清除的 {@link Duration}。
+     * @throws IllegalArgumentException 当 {@code decay} 不在 {@code (0, 1]} 范围内，或 {@code idleTimeout} 为
+     * {@code null} 或不是正数时。
+     */
+    public TargetStatistics(double decay, Duration idleTimeout) {
+        if (decay <= 0 || decay > 1) {
+            throw new IllegalArgumentException("The decay of target statistics must be in (0, 1].");
+        }
+        notNull(idleTimeout, "The idle timeout of target statistics cannot be null.");
+        isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(),
+                "The idle timeout of target statistics must be positive.");
+        this.decay = decay;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nextEviction = new AtomicLong(System.nanoTime() + this.idleTimeoutNanos);
+    }
+
+    /**
+     * 记录一次对指定地址的调用开始。
+     *
+     * @param target 表示被调用的地址的 {@link Target}。
+     * @throws IllegalArgumentException 当 {@code target} 为 {@code null} 时。
+     */
+    public void start(Target target) {
+        long now = System.nanoTime();
+        this.evictIdle(now);
+        Statistic statistic = this.statistic(target);
+        statistic.outstanding.incrementAndGet();
+        statistic.lastAccessed = now;
+    }
+
+    /**
+     * 记录一次对指定地址的调用结束。
+     *
+     * @param target 表示被调用的地址的 {@link Target}。
+     * @param elapsedNanos 表示调用耗时纳秒数的 {@code long}。
+     * @throws IllegalArgumentException 当 {@code target} 为 {@code null} 时。
+     */
+    public void complete(Target target, long elapsedNanos) {
+        Statistic statistic = this.statistic(target);
+        // 调用开始后统计信息可能恰好被清除，此时进行中的调用数量不能减为负数。
+        statistic.outstanding.updateAndGet(count -> Math.max(count - 1, 0));
+        statistic.update(Math.max(elapsedNanos, 0L), this.decay);
+        statistic.lastAccessed = System.nanoTime();
+    }
+
+    /**
+     * 获取指定地址正在进行中的调用数量。
+     *
+     * @param target 表示指定地址的 {@link Target}。
+     * @return 表示正在进行中的调用数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code target} 为 {@code null} 时。
+     */
+    public int outstanding(Target target) {
+        Statistic statistic = this.statistics.get(notNull(target, "The target cannot be null.").workerId());
+        return statistic == null ? 0 : Math.max(statistic.outstanding.get(), 0);
+    }
+
+    /**
+     * 获取指定地址调用耗时的指数加权移动平均值。
+     *
+     * @param target 表示指定地址的 {@link Target}。
+     * @return 表示调用耗时移动平均纳秒数的 {@code double}，当尚无调用记录时为 {@code 0}。
+     * @throws IllegalArgumentException 当 {@code target} 为 {@code null} 时。
+     */
+    public double latency(Target target) {
+        Statistic statistic = this.statistics.get(notNull(target, "The target cannot be null.").workerId());
+        return statistic == null ? 0D : Double.longBitsToDouble(statistic.latency.get());
+    }
+
+    /**
+     * 判断指定地址是否已经有调用耗时的记录。
+     *
+     * @param target 表示指定地址的 {@link Target}。
+     * @return 若已经有调用耗时的记录，则为 {@code true}，否则为 {@code false}。
+     * @throws IllegalArgumentException 当 {@code target} 为 {@code null} 时。
+     */
+    public boolean isSampled(Target target) {
+        Statistic statistic = this.statistics.get(notNull(target, "The target cannot be null.").workerId());
+        return statistic != null && statistic.samples.get() > 0;
+    }
+
+    private void evictIdle(long now) {
+        long deadline = this.nextEviction.get();
+        if (now - deadline < 0 || !this.nextEviction.compareAndSet(deadline, now + this.idleTimeoutNanos)) {
+            return;
+        }
+        this.statistics.forEach((workerId, statistic) -> {
+            if (statistic.outstanding.get() <= 0 && now - statistic.lastAccessed >= this.idleTimeoutNanos) {
+                this.statistics.remove(workerId, statistic);
+            }
+        });
+    }
+
+    private Statistic statistic(Target target) {
+        notNull(target, "The target cannot be null.");
+        return this.statistics.computeIfAbsent(target.workerId(), key -> new Statistic());
+    }
+
+    private static class Statistic {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicLong latency = new AtomicLong(Double.doubleToLongBits(0D));
+        private final AtomicLong samples = new AtomicLong();
+        private volatile long lastAccessed = System.nanoTime();
+
+        private void update(long elapsedNanos, double decay) {
+            boolean isFirst = this.samples.getAndIncrement() == 0;
+            long current;
+            long next;
+            do {
+                current = this.latency.get();
+                double average = Double.longBitsToDouble(current);
+                next = Double.doubleToLongBits(isFirst ? elapsedNanos : average + decay * (elapsedNanos - average));
+            } while (!this.latency.compareAndSet(current, next));
+        }
+    }
+}
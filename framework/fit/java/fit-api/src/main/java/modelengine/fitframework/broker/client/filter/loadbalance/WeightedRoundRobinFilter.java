@@ -0,0 +1,77 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 平滑加权轮询的负载均衡策略。
+ * <p>地址的权重来自 {@link Target#extensions()} 中的 {@value #WEIGHT_KEY} 扩展信息，缺省或非法时权重为 {@code 1}。
+ * 每次选择时，所有地址的当前权重增加其配置权重，选择当前权重最大的地址，并将其当前权重减去所有地址的权重之和，
+ * 从而使流量按权重平滑地分布到各个地址上。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class WeightedRoundRobinFilter extends ChampionFilter {
+    /** {@link WeightedRoundRobinFilter} 的预置实例。 */
+    public static final WeightedRoundRobinFilter INSTANCE = new WeightedRoundRobinFilter();
+
+    /** 表示地址权重的扩展信息的键。 */
+    public static final String WEIGHT_KEY = "weight";
+
+    private static final int DEFAULT_WEIGHT = 1;
+
+    private final Map<String, Map<String, Long>> fitableWeights = new ConcurrentHashMap<>();
+
+    @Override
+    protected Optional<Target> select(FitableMetadata fitable, String localWorkerId, List<Target> toFilterTargets) {
+        String key = fitable.genericable().id() + ":" + fitable.id();
+        Map<String, Long> currentWeights = this.fitableWeights.computeIfAbsent(key, fitableKey -> new HashMap<>());
+        synchronized (currentWeights) {
+            long total = 0;
+            Target selected = null;
+            long selectedWeight = Long.MIN_VALUE;
+            for (Target target : toFilterTargets) {
+                int weight = weight(target);
+                total += weight;
+                long current = currentWeights.getOrDefault(target.workerId(), 0L) + weight;
+                currentWeights.put(target.workerId(), current);
+                if (current > selectedWeight) {
+                    selectedWeight = current;
+                    selected = target;
+                }
+            }
+            if (currentWeights.size() > toFilterTargets.size()) {
+                currentWeights.keySet()
+                        .removeIf(workerId -> toFilterTargets.stream()
+                                .noneMatch(target -> target.workerId().equals(workerId)));
+            }
+            currentWeights.put(selected.workerId(), selectedWeight - total);
+            return Optional.of(selected);
+        }
+    }
+
+    private static int weight(Target target) {
+        String weight = target.extensions() == null ? null : target.extensions().get(WEIGHT_KEY);
+        if (weight == null) {
+            return DEFAULT_WEIGHT;
+        }
+        try {
+            return Math.max(Integer.parseInt(weight.trim()), 0);
+        } catch (NumberFormatException e) {
+            return DEFAULT_WEIGHT;
+        }
+    }
+}
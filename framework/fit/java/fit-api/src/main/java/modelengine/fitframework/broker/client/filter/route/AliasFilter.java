@@ -16,6 +16,7 @@ import modelengine.fitframework.util.StringUtils;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -79,6 +80,23 @@ public class AliasFilter extends AbstractFilter {
         return !theSameAliases.isEmpty();
     }
 
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) {
+            return true;
+        }
+        if (another == null || this.getClass() != another.getClass()) {
+            return false;
+        }
+        AliasFilter that = (AliasFilter) another;
+        return Objects.equals(this.aliases, that.aliases);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getClass(), this.aliases);
+    }
+
     @Override
     public String toString() {
         return "AliasFilter{" + "aliases=" + this.aliases + '}';
@@ -68,6 +68,23 @@ public class FitableIdFilter extends AbstractFilter {
                 .anyMatch(fitableId -> Objects.equals(toFilterFitable.id(), fitableId));
     }
 
+    @Override
+    public boolean equals(Object another) {
+        if (this == another) {
+            return true;
+        }
+        if (another == null || this.getClass() != another.getClass()) {
+            return false;
+        }
+        FitableIdFilter that = (FitableIdFilter) another;
+        return Objects.equals(this.fitableIds, that.fitableIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getClass(), this.fitableIds);
+    }
+
     @Override
     public String toString() {
         return "FitableIdFilter{" + "fitableIds=" + this.fitableIds + '}';
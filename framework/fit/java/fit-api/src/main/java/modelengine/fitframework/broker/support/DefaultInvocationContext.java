@@ -8,6 +8,7 @@ package modelengine.fitframework.broker.support;
 
 import modelengine.fitframework.broker.CommunicationType;
 import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.MulticastPolicy;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.broker.client.Invoker;
 import modelengine.fitframework.broker.client.Router;
@@ -52,7 +53,9 @@ public class DefaultInvocationContext implements InvocationContext {
     private final boolean isMulticast;
     private final CommunicationType communicationType;
     private final boolean withDegradation;
+    private final boolean isNonBlocking;
     private final BinaryOperator<Object> accumulator;
+    private final MulticastPolicy multicastPolicy;
     private final Map<String, Object> extensions;
 
     private DefaultInvocationContext(String genericableId, boolean isMicro, Method genericableMethod,
@@ -60,7 +63,8 @@ public class DefaultInvocationContext implements InvocationContext {
             String localWorkerId, String appName, List<String> environmentPrioritySequence, String specifiedEnvironment,
             int retry, long timeout, TimeUnit timeoutUnit, CommunicationProtocol protocol, SerializationFormat format,
             boolean isGeneric, boolean isMulticast, CommunicationType communicationType, boolean withDegradation,
-            BinaryOperator<Object> accumulator, Map<String, Object> extensions) {
+            boolean isNonBlocking, BinaryOperator<Object> accumulator, MulticastPolicy multicastPolicy,
+            Map<String, Object> extensions) {
         this.genericableId = genericableId;
         this.isMicro = isMicro;
         this.genericableMethod = genericableMethod;
@@ -80,7 +84,9 @@ public class DefaultInvocationContext implements InvocationContext {
         this.isMulticast = isMulticast;
         this.communicationType = communicationType;
         this.withDegradation = withDegradation;
+        this.isNonBlocking = isNonBlocking;
         this.accumulator = accumulator;
+        this.multicastPolicy = multicastPolicy;
         this.extensions = extensions;
     }
 
@@ -179,11 +185,21 @@ public class DefaultInvocationContext implements InvocationContext {
         return this.withDegradation;
     }
 
+    @Override
+    public boolean isNonBlocking() {
+        return this.isNonBlocking;
+    }
+
     @Override
     public BinaryOperator<Object> accumulator() {
         return this.accumulator;
     }
 
+    @Override
+    public MulticastPolicy multicastPolicy() {
+        return this.multicastPolicy;
+    }
+
     @Override
     public Map<String, Object> filterExtensions() {
         return this.extensions;
@@ -211,7 +227,9 @@ public class DefaultInvocationContext implements InvocationContext {
         private boolean isGeneric;
         private boolean isMulticast;
         private boolean withDegradation;
+        private boolean isNonBlocking;
         private BinaryOperator<Object> accumulator;
+        private MulticastPolicy multicastPolicy = MulticastPolicy.sequential();
         private CommunicationType communicationType = CommunicationType.DEFAULT;
         private Map<String, Object> filterExtensions = new HashMap<>();
 
@@ -242,7 +260,9 @@ public class DefaultInvocationContext implements InvocationContext {
                 this.isMulticast = context.isMulticast();
                 this.communicationType = context.communicationType();
                 this.withDegradation = context.withDegradation();
+                this.isNonBlocking = context.isNonBlocking();
                 this.accumulator = context.accumulator();
+                this.multicastPolicy = ObjectUtils.nullIf(context.multicastPolicy(), MulticastPolicy.sequential());
             }
         }
 
@@ -366,12 +386,24 @@ public class DefaultInvocationContext implements InvocationContext {
             return this;
         }
 
+        @Override
+        public InvocationContext.Builder isNonBlocking(boolean isNonBlocking) {
+            this.isNonBlocking = isNonBlocking;
+            return this;
+        }
+
         @Override
         public InvocationContext.Builder accumulator(BinaryOperator<Object> accumulator) {
             this.accumulator = accumulator;
             return this;
         }
 
+        @Override
+        public InvocationContext.Builder multicastPolicy(MulticastPolicy multicastPolicy) {
+            this.multicastPolicy = ObjectUtils.nullIf(multicastPolicy, MulticastPolicy.sequential());
+            return this;
+        }
+
         @Override
         public InvocationContext.Builder filterExtensions(Map<String, Object> filterExtensions) {
             if (MapUtils.isEmpty(filterExtensions)) {
@@ -403,7 +435,9 @@ public class DefaultInvocationContext implements InvocationContext {
                     this.isMulticast,
                     this.communicationType,
                     this.withDegradation,
+                    this.isNonBlocking,
                     this.accumulator,
+                    this.multicastPolicy,
                     this.filterExtensions);
         }
     }
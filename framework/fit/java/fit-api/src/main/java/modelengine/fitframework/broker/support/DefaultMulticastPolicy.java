@@ -0,0 +1,128 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+
+import modelengine.fitframework.broker.MulticastPolicy;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+
+/**
+ * 表示 {@link MulticastPolicy} 的默认实现。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class DefaultMulticastPolicy implements MulticastPolicy {
+    /** 表示顺序调用所有目标的多播策略。 */
+    public static final MulticastPolicy SEQUENTIAL = new DefaultMulticastPolicy(false, 0, Completion.ALL, 0);
+
+    private final boolean isParallel;
+    private final int maxConcurrency;
+    private final Completion completion;
+    private final int requiredSuccesses;
+
+    private DefaultMulticastPolicy(boolean isParallel, int maxConcurrency, Completion completion,
+            int requiredSuccesses) {
+        this.isParallel = isParallel;
+        this.maxConcurrency = maxConcurrency;
+        this.completion = completion;
+        this.requiredSuccesses = requiredSuccesses;
+    }
+
+    @Override
+    public boolean isParallel() {
+        return this.isParallel;
+    }
+
+    @Override
+    public int maxConcurrency() {
+        return this.maxConcurrency;
+    }
+
+    @Override
+    public Completion completion() {
+        return this.completion;
+    }
+
+    @Override
+    public int requiredSuccesses() {
+        return this.requiredSuccesses;
+    }
+
+    @Override
+    public String toString() {
+        return StringUtils.format("[isParallel={0}, maxConcurrency={1}, completion={2}, requiredSuccesses={3}]",
+                this.isParallel,
+                this.maxConcurrency,
+                this.completion,
+                this.requiredSuccesses);
+    }
+
+    /**
+     * 表示 {@link MulticastPolicy.Builder} 的默认实现。
+     */
+    public static class Builder implements MulticastPolicy.Builder {
+        private boolean isParallel;
+        private int maxConcurrency;
+        private Completion completion = Completion.ALL;
+        private int requiredSuccesses;
+
+        /**
+         * 使用已知的多播策略初始化 {@link Builder} 类的新实例。
+         *
+         * @param value 表示已知的多播策略的 {@link MulticastPolicy}。
+         */
+        public Builder(MulticastPolicy value) {
+            if (value != null) {
+                this.isParallel = value.isParallel();
+                this.maxConcurrency = value.maxConcurrency();
+                this.completion = value.completion();
+                this.requiredSuccesses = value.requiredSuccesses();
+            }
+        }
+
+        @Override
+        public MulticastPolicy.Builder isParallel(boolean isParallel) {
+            this.isParallel = isParallel;
+            return this;
+        }
+
+        @Override
+        public MulticastPolicy.Builder maxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        @Override
+        public MulticastPolicy.Builder completion(Completion completion) {
+            this.completion = ObjectUtils.nullIf(completion, Completion.ALL);
+            return this;
+        }
+
+        @Override
+        public MulticastPolicy.Builder requiredSuccesses(int requiredSuccesses) {
+            this.requiredSuccesses = requiredSuccesses;
+            return this;
+        }
+
+        @Override
+        public MulticastPolicy build() {
+            if (this.completion == Completion.FIRST_N) {
+                greaterThan(this.requiredSuccesses,
+                        0,
+                        "The required successes must be positive. [requiredSuccesses={0}]",
+                        this.requiredSuccesses);
+            }
+            return new DefaultMulticastPolicy(this.isParallel,
+                    this.maxConcurrency,
+                    this.completion,
+                    this.requiredSuccesses);
+        }
+    }
+}
@@ -27,7 +27,9 @@ public enum CommunicationProtocol {
     /** 表示 grpc 的传输协议。 */
     GRPC(3),
     /** 表示 https 的传输协议。 */
-    HTTPS(4);
+    HTTPS(4),
+    /** 表示基于长连接多路复用的 tcp 传输协议。 */
+    TCP(5);
 
     private final int code;
 
@@ -0,0 +1,45 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.plugin;
+
+import modelengine.fitframework.event.Event;
+
+import java.time.Duration;
+
+/**
+ * 当根插件完成一个用户插件的初始化和启动时引发的事件。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface PluginStartedEvent extends Event {
+    /**
+     * 获取已启动的插件。
+     *
+     * @return 表示已启动的插件的 {@link Plugin}。
+     */
+    Plugin plugin();
+
+    /**
+     * 获取初始化插件所花费的时间。
+     *
+     * @return 表示初始化插件所花费的时间的 {@link Duration}。
+     */
+    Duration initializationDuration();
+
+    /**
+     * 获取启动插件所花费的时间。
+     *
+     * @return 表示启动插件所花费的时间的 {@link Duration}。
+     */
+    Duration startDuration();
+
+    @Override
+    default Object publisher() {
+        return this.plugin();
+    }
+}
@@ -11,36 +11,49 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.serialization.ByteSerializer;
 import modelengine.fitframework.serialization.TagLengthValues;
-import modelengine.fitframework.serialization.util.VaryingNumber;
-import modelengine.fitframework.util.IoUtils;
+import modelengine.fitframework.serialization.util.IllegalVaryingNumberException;
 import modelengine.fitframework.util.MapUtils;
+import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 为 {@link TagLengthValues} 提供默认实现。
+ * <p>标识按照从小到大的顺序保存在基本类型的数组中，查找时使用二分查找，避免了对标识的装箱。扩展字段中的标识通常只有少数几个，
+ * 因此插入和删除时移动数组元素的开销可以忽略。</p>
  *
  * @author 季聿阶
  * @since 2021-05-15
  */
 public class DefaultTagLengthValues implements TagLengthValues {
     private static final byte[] EMPTY_VALUE = new byte[0];
+    private static final int INITIAL_CAPACITY = 4;
 
-    private final Map<Integer, byte[]> tagValues = new ConcurrentHashMap<>();
+    private int[] tags = new int[INITIAL_CAPACITY];
+    private byte[][] values = new byte[INITIAL_CAPACITY][];
+    private int size;
 
     @Override
-    public Set<Integer> getTags() {
-        return this.tagValues.keySet();
+    public synchronized Set<Integer> getTags() {
+        Set<Integer> snapshot = new LinkedHashSet<>(this.size << 1);
+        for (int i = 0; i < this.size; i++) {
+            snapshot.add(this.tags[i]);
+        }
+        return Collections.unmodifiableSet(snapshot);
     }
 
     @Override
-    public byte[] getValue(int tag) {
-        return this.tagValues.getOrDefault(tag, EMPTY_VALUE);
+    public synchronized byte[] getValue(int tag) {
+        int index = Arrays.binarySearch(this.tags, 0, this.size, tag);
+        return index < 0 ? EMPTY_VALUE : this.values[index];
     }
 
     @Override
@@ -48,7 +61,23 @@ public class DefaultTagLengthValues implements TagLengthValues {
         Validation.notNull(value,
                 "Cannot put null value to Tag-Length-Value, please use 'remove(int tag)' method. [tag={0}]",
                 tag);
-        this.tagValues.put(tag, value);
+        synchronized (this) {
+            int index = Arrays.binarySearch(this.tags, 0, this.size, tag);
+            if (index >= 0) {
+                this.values[index] = value;
+                return;
+            }
+            index = -index - 1;
+            if (this.size == this.tags.length) {
+                this.tags = Arrays.copyOf(this.tags, this.size << 1);
+                this.values = Arrays.copyOf(this.values, this.size << 1);
+            }
+            System.arraycopy(this.tags, index, this.tags, index + 1, this.size - index);
+            System.arraycopy(this.values, index, this.values, index + 1, this.size - index);
+            this.tags[index] = tag;
+            this.values[index] = value;
+            this.size++;
+        }
     }
 
     @Override
@@ -63,12 +92,40 @@ public class DefaultTagLengthValues implements TagLengthValues {
     }
 
     @Override
-    public void remove(int tag) {
-        this.tagValues.remove(tag);
+    public synchronized void remove(int tag) {
+        int index = Arrays.binarySearch(this.tags, 0, this.size, tag);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(this.tags, index + 1, this.tags, index, this.size - index - 1);
+        System.arraycopy(this.values, index + 1, this.values, index, this.size - index - 1);
+        this.size--;
+        this.tags[this.size] = 0;
+        this.values[this.size] = null;
+    }
+
+    private synchronized byte[] encode() {
+        int length = 0;
+        for (int i = 0; i < this.size; i++) {
+            int valueLength = this.values[i].length;
+            length += Varints.measure(this.tags[i]) + Varints.measure(valueLength) + valueLength;
+        }
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        for (int i = 0; i < this.size; i++) {
+            byte[] value = this.values[i];
+            offset = Varints.write(bytes, offset, this.tags[i]);
+            offset = Varints.write(bytes, offset, value.length);
+            System.arraycopy(value, 0, bytes, offset, value.length);
+            offset += value.length;
+        }
+        return bytes;
     }
 
     /**
      * 为 {@link TagLengthValues} 提供序列化程序。
+     * <p>标识和长度均使用可变长数字编码，编码与 {@link modelengine.fitframework.serialization.util.VaryingNumber} 完全兼容，
+     * 但直接写入输出缓冲区或从输入缓冲区中读取，不再为每个标识和长度创建中间对象。</p>
      *
      * @author 邬涨财
      * @since 2024-02-19
@@ -79,25 +136,104 @@ public class DefaultTagLengthValues implements TagLengthValues {
 
         @Override
         public void serialize(TagLengthValues tagValues, OutputStream out) throws IOException {
+            if (tagValues instanceof DefaultTagLengthValues) {
+                out.write(((DefaultTagLengthValues) tagValues).encode());
+                return;
+            }
+            byte[] header = new byte[Varints.MAX_LENGTH << 1];
             for (Integer tag : tagValues.getTags()) {
                 notNull(tag, "The tag cannot be null.");
-                out.write(VaryingNumber.valueOf(tag).bytes());
                 byte[] value = tagValues.getValue(tag);
-                out.write(VaryingNumber.valueOf(value.length).bytes());
+                int offset = Varints.write(header, 0, tag);
+                offset = Varints.write(header, offset, value.length);
+                out.write(header, 0, offset);
                 out.write(value);
             }
         }
 
         @Override
         public TagLengthValues deserialize(InputStream in) throws IOException {
-            TagLengthValues values = TagLengthValues.create();
-            VaryingNumber tag;
-            while ((tag = VaryingNumber.serializer().deserialize(in)) != null) {
-                int length = VaryingNumber.serializer().deserialize(in).intValue();
-                byte[] value = IoUtils.read(in, length);
-                values.putTag(tag.intValue(), value);
+            return this.deserialize(ByteBuffer.wrap(in.readAllBytes()));
+        }
+
+        @Override
+        public TagLengthValues deserialize(byte[] value) {
+            return this.deserialize(ByteBuffer.wrap(value));
+        }
+
+        /**
+         * 从缓冲区中反序列化扩展字段，读取缓冲区中剩余的所有数据。
+         *
+         * @param buffer 表示包含序列化后的扩展字段的 {@link ByteBuffer}。
+         * @return 表示反序列化后的扩展字段的 {@link TagLengthValues}。
+         * @throws IllegalVaryingNumberException 当标识或长度不是有效的可变长数字时。
+         * @throws IllegalArgumentException 当缓冲区中剩余的数据少于值的长度时。
+         */
+        public TagLengthValues deserialize(ByteBuffer buffer) {
+            DefaultTagLengthValues values = new DefaultTagLengthValues();
+            while (buffer.hasRemaining()) {
+                int tag = Varints.read(buffer);
+                int length = Varints.read(buffer);
+                if (length < 0 || length > buffer.remaining()) {
+                    throw new IllegalArgumentException(StringUtils.format(
+                            "No enough bytes for the value of Tag-Length-Value. [tag={0}, length={1}, remaining={2}]",
+                            tag,
+                            Integer.toUnsignedString(length),
+                            buffer.remaining()));
+                }
+                byte[] value = new byte[length];
+                buffer.get(value);
+                values.putTag(tag, value);
             }
             return values;
         }
     }
+
+    /**
+     * 为 32 位整数提供可变长数字的编解码方法。
+     * <p>每个字节的低 7 位为数据位，最高位表示是否还有后续字节，高位数据在前。整数被视为无符号数。</p>
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class Varints {
+        private static final int BITS_PER_BYTE = 7;
+        private static final int DATA_MASK = 0x7F;
+        private static final int MORE_BYTES_MASK = 0x80;
+        private static final int MAX_LENGTH = 5;
+
+        private static int measure(int value) {
+            int bits = Integer.SIZE - Integer.numberOfLeadingZeros(value);
+            return bits == 0 ? 1 : (bits + BITS_PER_BYTE - 1) / BITS_PER_BYTE;
+        }
+
+        private static int write(byte[] bytes, int offset, int value) {
+            int length = measure(value);
+            for (int i = length - 1; i > 0; i--) {
+                bytes[offset++] = (byte) (((value >>> (i * BITS_PER_BYTE)) & DATA_MASK) | MORE_BYTES_MASK);
+            }
+            bytes[offset++] = (byte) (value & DATA_MASK);
+            return offset;
+        }
+
+        private static int read(ByteBuffer buffer) {
+            long value = 0L;
+            for (int i = 0; i < MAX_LENGTH; i++) {
+                if (!buffer.hasRemaining()) {
+                    throw new IllegalVaryingNumberException("The bytes of varying number is incomplete.");
+                }
+                int current = buffer.get();
+                value = (value << BITS_PER_BYTE) | (current & DATA_MASK);
+                if ((current & MORE_BYTES_MASK) == 0) {
+                    if (value > 0xFFFFFFFFL) {
+                        throw new IllegalVaryingNumberException("Data truncation for int. [bytes length=5]");
+                    }
+                    return (int) value;
+                }
+            }
+            throw new IllegalVaryingNumberException(StringUtils.format(
+                    "The varying number is too long for int. [maxLength={0}]",
+                    MAX_LENGTH));
+        }
+    }
 }
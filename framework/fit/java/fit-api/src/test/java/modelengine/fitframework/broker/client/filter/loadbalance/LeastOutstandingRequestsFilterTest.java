@@ -0,0 +1,59 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.GenericableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * {@link LeastOutstandingRequestsFilter} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("验证最少进行中请求的负载均衡过滤器")
+public class LeastOutstandingRequestsFilterTest {
+    private final FitableMetadata fitable = mock(FitableMetadata.class);
+    private final Target busy = Target.custom().workerId("busy").host("h1").build();
+    private final Target idle = Target.custom().workerId("idle").host("h2").build();
+    private final List<Target> targets = Arrays.asList(this.busy, this.idle);
+
+    @BeforeEach
+    void setup() {
+        GenericableMetadata genericable = mock(GenericableMetadata.class);
+        when(this.fitable.genericable()).thenReturn(genericable);
+        when(genericable.id()).thenReturn("gid");
+        when(this.fitable.id()).thenReturn("fid");
+    }
+
+    @Test
+    @DisplayName("最少进行中请求策略选择进行中调用数量最少的地址")
+    void shouldSelectTargetWithLeastOutstandingRequests() {
+        TargetStatistics statistics = new TargetStatistics();
+        statistics.start(this.busy);
+        statistics.start(this.busy);
+        statistics.start(this.idle);
+        LeastOutstandingRequestsFilter filter = new LeastOutstandingRequestsFilter(statistics);
+        for (int i = 0; i < 10; i++) {
+            List<Target> selected = filter.filter(this.fitable, "local", this.targets, new HashMap<>());
+            assertThat(selected).containsExactly(this.idle);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.GenericableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PowerOfTwoChoicesFilter} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("验证二选一的负载均衡过滤器")
+public class PowerOfTwoChoicesFilterTest {
+    private final FitableMetadata fitable = mock(FitableMetadata.class);
+    private final Target slow = Target.custom().workerId("slow").host("h1").build();
+    private final Target fast = Target.custom().workerId("fast").host("h2").build();
+    private final Target fresh = Target.custom().workerId("fresh").host("h3").build();
+
+    @BeforeEach
+    void setup() {
+        GenericableMetadata genericable = mock(GenericableMetadata.class);
+        when(this.fitable.genericable()).thenReturn(genericable);
+        when(genericable.id()).thenReturn("gid");
+        when(this.fitable.id()).thenReturn("fid");
+    }
+
+    @Test
+    @DisplayName("选择耗时移动平均值较低的地址")
+    void shouldSelectTargetWithLowerLatency() {
+        TargetStatistics statistics = new TargetStatistics();
+        statistics.start(this.slow);
+        statistics.complete(this.slow, TimeUnit.MILLISECONDS.toNanos(100));
+        statistics.start(this.fast);
+        statistics.complete(this.fast, TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(statistics.outstanding(this.slow)).isEqualTo(0);
+        assertThat(statistics.latency(this.slow)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        this.assertAlwaysSelected(new PowerOfTwoChoicesFilter(statistics), Arrays.asList(this.slow, this.fast),
+                this.fast);
+    }
+
+    @Test
+    @DisplayName("尚无耗时记录的地址使用已有记录的平均耗时，积压请求时不会继续被选择")
+    void shouldPenalizeUnsampledTargetWithOutstandingRequests() {
+        TargetStatistics statistics = new TargetStatistics();
+        statistics.start(this.fast);
+        statistics.complete(this.fast, TimeUnit.MILLISECONDS.toNanos(1));
+        statistics.start(this.fresh);
+        statistics.start(this.fresh);
+        statistics.start(this.fresh);
+        assertThat(statistics.isSampled(this.fresh)).isFalse();
+        this.assertAlwaysSelected(new PowerOfTwoChoicesFilter(statistics), Arrays.asList(this.fresh, this.fast),
+                this.fast);
+    }
+
+    @Test
+    @DisplayName("尚无耗时记录且没有积压请求的地址可以被探测")
+    void shouldProbeUnsampledIdleTarget() {
+        TargetStatistics statistics = new TargetStatistics();
+        statistics.start(this.slow);
+        statistics.complete(this.slow, TimeUnit.MILLISECONDS.toNanos(100));
+        statistics.start(this.slow);
+        this.assertAlwaysSelected(new PowerOfTwoChoicesFilter(statistics), Arrays.asList(this.slow, this.fresh),
+                this.fresh);
+    }
+
+    private void assertAlwaysSelected(PowerOfTwoChoicesFilter filter, List<Target> targets, Target expected) {
+        for (int i = 0; i < 10; i++) {
+            List<Target> selected = filter.filter(this.fitable, "local", targets, new HashMap<>());
+            assertThat(selected).containsExactly(expected);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.broker.Target;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * {@link TargetStatistics} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("验证调用地址的负载统计信息")
+public class TargetStatisticsTest {
+    private final Target removed = Target.custom().workerId("removed").host("h1").build();
+    private final Target busy = Target.custom().workerId("busy").host("h2").build();
+    private final Target other = Target.custom().workerId("other").host("h3").build();
+
+    @Test
+    @DisplayName("超过空闲时间的统计信息被清除，进行中的调用的统计信息被保留")
+    void shouldEvictIdleStatistics() throws InterruptedException {
+        TargetStatistics statistics = new TargetStatistics(0.2, Duration.ofMillis(1));
+        statistics.start(this.removed);
+        statistics.complete(this.removed, 100L);
+        statistics.start(this.busy);
+        assertThat(statistics.isSampled(this.removed)).isTrue();
+        Thread.sleep(5);
+
+        statistics.start(this.other);
+        assertThat(statistics.isSampled(this.removed)).isFalse();
+        assertThat(statistics.latency(this.removed)).isEqualTo(0D);
+        assertThat(statistics.outstanding(this.busy)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,65 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.filter.loadbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.FitableMetadata;
+import modelengine.fitframework.broker.GenericableMetadata;
+import modelengine.fitframework.broker.Target;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * {@link WeightedRoundRobinFilter} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("验证平滑加权轮询的负载均衡的过滤器")
+public class WeightedRoundRobinFilterTest {
+    private FitableMetadata fitable;
+
+    @BeforeEach
+    void setup() {
+        this.fitable = mock(FitableMetadata.class);
+        GenericableMetadata genericable = mock(GenericableMetadata.class);
+        when(this.fitable.genericable()).thenReturn(genericable);
+        when(genericable.id()).thenReturn("gid");
+        when(this.fitable.id()).thenReturn("fid");
+    }
+
+    @Test
+    @DisplayName("按权重平滑地分配调用地址")
+    void shouldSelectTargetsSmoothlyByWeight() {
+        WeightedRoundRobinFilter filter = new WeightedRoundRobinFilter();
+        List<Target> targets = Arrays.asList(Target.custom()
+                .workerId("w1")
+                .host("h1")
+                .extensions(Collections.singletonMap(WeightedRoundRobinFilter.WEIGHT_KEY, "5"))
+                .build(), Target.custom().workerId("w2").host("h2").build(), Target.custom()
+                .workerId("w3")
+                .host("h3")
+                .extensions(Collections.singletonMap(WeightedRoundRobinFilter.WEIGHT_KEY, "illegal"))
+                .build());
+        List<String> selected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            selected.add(filter.filter(this.fitable, "local", targets, new HashMap<>()).get(0).workerId());
+        }
+        assertThat(selected).containsExactly("w1", "w1", "w2", "w1", "w3", "w1", "w1");
+    }
+}
@@ -7,8 +7,11 @@
 package modelengine.fitframework.serialization.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.util.IllegalVaryingNumberException;
+import modelengine.fitframework.serialization.util.VaryingNumber;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +20,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -88,4 +92,34 @@ class DefaultTagLengthValuesTest {
         TagLengthValues deserialize = TagLengthValues.deserialize(comparedTagLengthValues.serialize());
         assertThat(comparedTagLengthValues).usingRecursiveComparison().isEqualTo(deserialize);
     }
+
+    @Test
+    @DisplayName("提供边界值的 tag 和长度时，序列化结果与可变长数字的编码一致")
+    void givenBoundaryTagsWhenSerializeThenCompatibleWithVaryingNumber() throws IOException {
+        int[] tags = {0, 127, 128, 16384, Integer.MAX_VALUE, -1};
+        byte[] value = new byte[128];
+        TagLengthValues values = TagLengthValues.create();
+        try (ByteArrayOutputStream expected = new ByteArrayOutputStream()) {
+            for (int tag : tags) {
+                values.putTag(tag, value);
+            }
+            for (int tag : new int[] {-1, 0, 127, 128, 16384, Integer.MAX_VALUE}) {
+                expected.write(VaryingNumber.valueOf(tag).bytes());
+                expected.write(VaryingNumber.valueOf(value.length).bytes());
+                expected.write(value);
+            }
+            assertThat(values.serialize()).isEqualTo(expected.toByteArray());
+        }
+        TagLengthValues deserialized = DefaultTagLengthValues.Serializer.INSTANCE.deserialize(
+                ByteBuffer.wrap(values.serialize()));
+        assertThat(deserialized.getTags()).containsExactly(-1, 0, 127, 128, 16384, Integer.MAX_VALUE);
+        assertThat(deserialized.getValue(16384)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("提供不完整的可变长数字时，反序列化抛出异常")
+    void givenIncompleteVaryingNumberWhenDeserializeThenThrowException() {
+        assertThatThrownBy(() -> TagLengthValues.deserialize(new byte[] {(byte) 0x81}))
+                .isInstanceOf(IllegalVaryingNumberException.class);
+    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@
 
 package modelengine.fitframework.broker;
 
+import modelengine.fitframework.broker.client.Invoker;
+
 import java.util.List;
 
 /**
@@ -24,4 +26,14 @@ public interface LoadBalancer {
      * @return 表示负载均衡后的地址列表的 {@link List}{@code <}{@link Target}{@code >}。
      */
     List<Target> balance(Fitable fitable, InvocationContext context, Object[] args);
+
+    /**
+     * 获取单播调用指定服务实现时，从负载均衡后的地址列表中选择最终调用地址的过滤器。
+     *
+     * @param fitable 表示指定服务实现的 {@link Fitable}。
+     * @return 表示选择最终调用地址的过滤器的 {@link Invoker.Filter}。
+     */
+    default Invoker.Filter strategy(Fitable fitable) {
+        return Invoker.Filter.roundRobin();
+    }
 }
@@ -39,12 +39,12 @@ import java.util.concurrent.TimeUnit;
  */
 public class DynamicRoutingInterceptor extends AbstractMethodInterceptor {
     private final LazyLoader<BrokerClient> brokerClientLazyLoader;
-    private final String alias;
     private final int retry;
     private final int timeout;
     private final TimeUnit timeoutUnit;
     private final CommunicationProtocol protocol;
     private final SerializationFormat format;
+    private final Router.Filter filter;
     private final Map<Method, GenericableInfo> genericableInfos = new ConcurrentHashMap<>();
 
     /**
@@ -62,27 +62,22 @@ public class DynamicRoutingInterceptor extends AbstractMethodInterceptor {
     public DynamicRoutingInterceptor(LazyLoader<BrokerClient> brokerClientLazyLoader, String alias, int retry,
             int timeout, TimeUnit timeoutUnit, CommunicationProtocol protocol, SerializationFormat format) {
         this.brokerClientLazyLoader = notNull(brokerClientLazyLoader, "The broker client loader cannot be null.");
-        this.alias = alias;
         this.retry = retry;
         this.timeout = timeout;
         this.timeoutUnit = ObjectUtils.nullIf(timeoutUnit, TimeUnit.MILLISECONDS);
         this.protocol = protocol;
         this.format = format;
+        // 过滤器只取决于别名，在每次调用时复用同一个实例。
+        this.filter = StringUtils.isNotBlank(alias) ? new AliasFilter(alias) : DefaultFilter.INSTANCE;
     }
 
     @Override
     public Object intercept(@Nonnull MethodJoinPoint methodJoinPoint) {
         Method method = methodJoinPoint.getProxiedInvocation().getMethod();
         GenericableInfo genericableInfo = this.getGenericableId(method);
-        Router.Filter filter;
-        if (StringUtils.isNotBlank(this.alias)) {
-            filter = new AliasFilter(this.alias);
-        } else {
-            filter = DefaultFilter.INSTANCE;
-        }
         return this.brokerClientLazyLoader.get()
                 .getRouter(genericableInfo.id(), genericableInfo.isMicro(), method)
-                .route(filter)
+                .route(this.filter)
                 .retry(this.retry)
                 .timeout(this.timeout, this.timeoutUnit)
                 .protocol(this.protocol)
@@ -0,0 +1,138 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.support;
+
+import modelengine.fitframework.broker.MulticastPolicy;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.util.CollectionUtils;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.TypeUtils;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 为服务调用提供通过配置指定的多播调用的执行策略。
+ * <p>全局默认策略通过配置 {@code fit.broker.multicast} 指定，并可以通过 {@code fit.broker.multicast.genericables} 按服务
+ * 覆盖，服务中没有配置的项使用全局默认值，如：</p>
+ * <pre>
+ * fit:
+ *   broker:
+ *     multicast:
+ *       parallel: true
+ *       max-concurrency: 8
+ *       completion: all
+ *       genericables:
+ *         - id: genericable-id
+ *           completion: first-n
+ *           required-successes: 1
+ * </pre>
+ * <p>{@code completion} 的取值为 {@code all}、{@code first-n} 或 {@code quorum}。没有配置时多播调用顺序执行，与之前的行为一致。
+ * 调用方通过 {@code Invoker#multicast(BinaryOperator, MulticastPolicy)} 指定的策略优先于配置。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class ConfigurableMulticastPolicies {
+    private static final Logger log = Logger.get(ConfigurableMulticastPolicies.class);
+    private static final String PREFIX = "fit.broker.multicast.";
+    private static final String GENERICABLES_KEY = PREFIX + "genericables";
+    private static final String GENERICABLE_ID_KEY = "id";
+    private static final String PARALLEL_KEY = "parallel";
+    private static final String MAX_CONCURRENCY_KEY = "max-concurrency";
+    private static final String COMPLETION_KEY = "completion";
+    private static final String REQUIRED_SUCCESSES_KEY = "required-successes";
+
+    private final MulticastPolicy defaultPolicy;
+    private final Map<String, MulticastPolicy> genericablePolicies;
+
+    /**
+     * 使用指定的系统配置初始化 {@link ConfigurableMulticastPolicies} 的新实例。
+     *
+     * @param config 表示系统配置的 {@link Config}，为 {@code null} 时所有服务均使用顺序调用的策略。
+     */
+    ConfigurableMulticastPolicies(Config config) {
+        if (config == null) {
+            this.defaultPolicy = MulticastPolicy.sequential();
+            this.genericablePolicies = Collections.emptyMap();
+            return;
+        }
+        this.defaultPolicy = toPolicy(MulticastPolicy.sequential(),
+                key -> config.get(PREFIX + key, String.class),
+                StringUtils.EMPTY);
+        this.genericablePolicies = this.getGenericablePolicies(config);
+    }
+
+    /**
+     * 获取指定服务的多播调用的执行策略。
+     *
+     * @param genericableId 表示服务唯一标识的 {@link String}。
+     * @return 表示多播调用的执行策略的 {@link MulticastPolicy}。
+     */
+    MulticastPolicy get(String genericableId) {
+        return this.genericablePolicies.getOrDefault(genericableId, this.defaultPolicy);
+    }
+
+    private Map<String, MulticastPolicy> getGenericablePolicies(Config config) {
+        Type elementType = TypeUtils.parameterized(Map.class, new Type[] {String.class, String.class});
+        List<Map<String, String>> configs = ObjectUtils.cast(config.get(GENERICABLES_KEY,
+                TypeUtils.parameterized(List.class, new Type[] {elementType})));
+        if (CollectionUtils.isEmpty(configs)) {
+            return Collections.emptyMap();
+        }
+        Map<String, MulticastPolicy> policies = new HashMap<>();
+        for (Map<String, String> genericableConfig : configs) {
+            String id = genericableConfig.get(GENERICABLE_ID_KEY);
+            if (StringUtils.isNotBlank(id)) {
+                policies.put(id, toPolicy(this.defaultPolicy, key -> getValue(genericableConfig, key), id));
+            }
+        }
+        return Collections.unmodifiableMap(policies);
+    }
+
+    private static String getValue(Map<String, String> values, String key) {
+        // 配置中的键在加载时被规范化，如 'required-successes' 被转换为 'requiredSuccesses'。
+        String value = values.get(Config.canonicalizeKey(key));
+        return value != null ? value : values.get(key);
+    }
+
+    private static MulticastPolicy toPolicy(MulticastPolicy base, Function<String, String> values,
+            String genericableId) {
+        MulticastPolicy.Builder builder = MulticastPolicy.custom(base);
+        String parallel = values.apply(PARALLEL_KEY);
+        String maxConcurrency = values.apply(MAX_CONCURRENCY_KEY);
+        String completion = values.apply(COMPLETION_KEY);
+        String requiredSuccesses = values.apply(REQUIRED_SUCCESSES_KEY);
+        try {
+            if (StringUtils.isNotBlank(parallel)) {
+                builder.isParallel(Boolean.parseBoolean(parallel.trim()));
+            }
+            if (StringUtils.isNotBlank(maxConcurrency)) {
+                builder.maxConcurrency(Integer.parseInt(maxConcurrency.trim()));
+            }
+            if (StringUtils.isNotBlank(completion)) {
+                builder.completion(MulticastPolicy.Completion.valueOf(StringUtils.toUpperCase(completion.trim()
+                        .replace('-', '_'))));
+            }
+            if (StringUtils.isNotBlank(requiredSuccesses)) {
+                builder.requiredSuccesses(Integer.parseInt(requiredSuccesses.trim()));
+            }
+            return builder.build();
+        } catch (IllegalArgumentException e) {
+            log.warn("Illegal multicast policy config, use default policy instead. [genericableId={}, cause={}]",
+                    genericableId,
+                    e.getMessage());
+            return base;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.GenericableMetadata;
 import modelengine.fitframework.broker.GenericableRepository;
 import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.MulticastPolicy;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.broker.client.FitableNotFoundException;
 import modelengine.fitframework.broker.client.GenericableNotFoundException;
@@ -28,6 +29,8 @@ import modelengine.fitframework.util.StringUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
 
@@ -101,6 +104,13 @@ public class DefaultInvoker implements Invoker {
         return this;
     }
 
+    @Override
+    public Invoker multicast(BinaryOperator<Object> accumulator, MulticastPolicy policy) {
+        this.multicast(accumulator);
+        this.contextBuilder.multicastPolicy(policy);
+        return this;
+    }
+
     @Override
     public Invoker retry(int maxCount) {
         if (maxCount >= 0) {
@@ -151,6 +161,35 @@ public class DefaultInvoker implements Invoker {
         }
     }
 
+    @Override
+    public <R> CompletableFuture<R> invokeAsync(Object... args) {
+        Object result;
+        try {
+            this.contextBuilder.isNonBlocking(true);
+            Genericable genericable = this.getGenericable();
+            result = genericable.execute(this.context, args);
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(FitException.wrap(e, this.context.genericableId()));
+        } finally {
+            this.contextBuilder.isNonBlocking(false);
+        }
+        if (!(result instanceof CompletableFuture)) {
+            return CompletableFuture.completedFuture(ObjectUtils.cast(result));
+        }
+        String genericableId = this.context.genericableId();
+        CompletableFuture<Object> future = ObjectUtils.cast(result);
+        return future.handle((value, exception) -> {
+            if (exception == null) {
+                return ObjectUtils.cast(value);
+            }
+            Throwable cause = exception;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            throw FitException.wrap(cause, genericableId);
+        });
+    }
+
     @Override
     public Genericable getGenericable() {
         this.context = this.contextBuilder.build();
@@ -70,6 +70,7 @@ public class DefaultInvokerFactory implements InvokerFactory, LocalExecutorFacto
 
     private final LazyLoader<String> appNameLoader = new LazyLoader<>(this::getApplicationName);
     private final WorkerConfig worker;
+    private final ConfigurableMulticastPolicies multicastPolicies;
 
     /**
      * 通过系统的 Bean 容器、泛服务工厂、泛服务实现工厂和系统配置来创建一个新的 {@link DefaultInvokerFactory} 的实例。
@@ -101,6 +102,7 @@ public class DefaultInvokerFactory implements InvokerFactory, LocalExecutorFacto
         this.fitableFactory = notNull(fitableFactory, "The fitable factory cannot be null.");
         this.config = notNull(config, "The config cannot be null.");
         this.worker = notNull(worker, "The worker config cannot be null.");
+        this.multicastPolicies = new ConfigurableMulticastPolicies(config);
 
         DefaultLocalExecutorRepository rootExecutorRepository = new DefaultLocalExecutorRepository("root");
         this.rootLocalExecutorRepository = rootExecutorRepository;
@@ -118,6 +120,7 @@ public class DefaultInvokerFactory implements InvokerFactory, LocalExecutorFacto
             return new PriorityGenericableRepository(repositories);
         });
         rootExecutorRepository.observeLocalExecutorRegistered(rootGenericableRepository);
+        rootExecutorRepository.observeLocalExecutorRegistered(this.localGenericableRepository);
     }
 
     private String getApplicationName() {
@@ -149,7 +152,8 @@ public class DefaultInvokerFactory implements InvokerFactory, LocalExecutorFacto
                 .timeout(3000)
                 .timeoutUnit(TimeUnit.MILLISECONDS)
                 .environmentPrioritySequence(this.worker.environmentSequence())
-                .routingFilter(filter);
+                .routingFilter(filter)
+                .multicastPolicy(this.multicastPolicies.get(genericableId));
         return new DefaultInvoker(this.localGenericableRepository,
                 this.genericableRepositoryLoader.get(),
                 genericableId,
@@ -165,6 +169,7 @@ public class DefaultInvokerFactory implements InvokerFactory, LocalExecutorFacto
                 new DefaultGenericableRepository(pluginName, this.genericableFactory, this.fitableFactory);
         this.localGenericableRepository.install(pluginGenericableRepository);
         pluginLocalExecutorRepository.observeLocalExecutorRegistered(pluginGenericableRepository);
+        pluginLocalExecutorRepository.observeLocalExecutorRegistered(this.localGenericableRepository);
         container.factories()
                 .forEach(factory -> this.resolveLocalExecutors(factory.metadata(),
                         container,
@@ -0,0 +1,62 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import modelengine.fitframework.broker.LoadBalanceStrategy;
+import modelengine.fitframework.broker.client.Invoker;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 为系统内置的 {@link LoadBalanceStrategy} 提供查找。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class BuiltinLoadBalanceStrategies {
+    /** 表示轮询策略的名字。 */
+    static final String ROUND_ROBIN = "round-robin";
+
+    /** 表示平滑加权轮询策略的名字，权重来自地址的扩展信息。 */
+    static final String WEIGHTED_ROUND_ROBIN = "weighted-round-robin";
+
+    /** 表示最少进行中请求策略的名字。 */
+    static final String LEAST_OUTSTANDING_REQUESTS = "least-outstanding-requests";
+
+    /** 表示基于调用耗时移动平均值的二选一策略的名字。 */
+    static final String POWER_OF_TWO_CHOICES = "p2c-ewma";
+
+    private static final Map<String, Invoker.Filter> STRATEGIES;
+
+    static {
+        Map<String, Invoker.Filter> strategies = new LinkedHashMap<>();
+        strategies.put(ROUND_ROBIN, Invoker.Filter.roundRobin());
+        strategies.put(WEIGHTED_ROUND_ROBIN, Invoker.Filter.weightedRoundRobin());
+        strategies.put(LEAST_OUTSTANDING_REQUESTS, Invoker.Filter.leastOutstandingRequests());
+        strategies.put(POWER_OF_TWO_CHOICES, Invoker.Filter.powerOfTwoChoices());
+        STRATEGIES = Collections.unmodifiableMap(strategies);
+    }
+
+    private BuiltinLoadBalanceStrategies() {}
+
+    /**
+     * 根据策略名字查找内置策略的负载均衡过滤器，名字不区分大小写。
+     *
+     * @param name 表示策略名字的 {@link String}。
+     * @return 表示查找到的负载均衡过滤器的 {@link Optional}{@code <}{@link Invoker.Filter}{@code >}。
+     */
+    static Optional<Invoker.Filter> get(String name) {
+        if (StringUtils.isBlank(name)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(STRATEGIES.get(StringUtils.toLowerCase(name.trim())));
+    }
+}
@@ -0,0 +1,239 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.annotation.Coalescing;
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.GenericableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.exception.TimeoutException;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * 表示 {@link GenericableExecutor} 的合并调用实现。
+ * <p>同一个服务实现上参数相同的并发调用只有第一个调用会真正执行，其余调用等待并共享其结果或异常。当缓存时间大于 0 时，成功的结果在
+ * 缓存时间内被保留，期间的相同调用直接返回该结果；失败的调用不会被缓存。</p>
+ * <p>共享的结果总是实际的值：阻塞的调用者得到该值，非阻塞的调用者得到以该值完成的 {@link CompletableFuture}，因此两种调用方式
+ * 可以合并到同一次执行中。非阻塞执行的结果在完成之前，相同的调用同样被合并。</p>
+ * <p>缓存的结果按照过期时间的先后进入过期队列，每次调用时从队首清理少量已经过期的结果，避免集中扫描所有缓存。等待共享结果的
+ * 阻塞调用者最多等待其自身调用上下文中的超时时间。</p>
+ *
+ * @author agent
+ * @see Coalescing
+ * @since 2026-10-17
+ */
+public class CoalescingGenericableExecutor extends AbstractUnicastGenericableExecutor {
+    /** 表示每次调用时最多清理的过期结果数量。 */
+    private static final int MAX_EXPIRATIONS_PER_CALL = 32;
+
+    private final GenericableExecutor executor;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final Queue<Expiration> expirations = new ConcurrentLinkedQueue<>();
+
+    CoalescingGenericableExecutor(GenericableExecutor executor, long ttlMillis) {
+        this(executor, ttlMillis, System::nanoTime);
+    }
+
+    CoalescingGenericableExecutor(GenericableExecutor executor, long ttlMillis, LongSupplier clock) {
+        this.executor = notNull(executor, "The executor to coalesce cannot be null.");
+        this.ttlNanos = Math.max(ttlMillis, 0L) * 1_000_000L;
+        this.clock = notNull(clock, "The clock cannot be null.");
+    }
+
+    @Override
+    protected Object execute(Fitable fitable, InvocationContext context, Object[] args) {
+        this.expire();
+        Key key = new Key(fitable.toUniqueId(), args);
+        Flight created = new Flight();
+        Flight flight;
+        while (true) {
+            flight = this.flights.putIfAbsent(key, created);
+            if (flight == null) {
+                flight = created;
+                break;
+            }
+            if (!flight.isExpired(this.clock.getAsLong())) {
+                // 共享的结果总是实际的值，按照每个调用者自身的调用方式返回。
+                return NonBlockingResults.isEnabled(context) ? flight.result.copy() : flight.await(fitable, context);
+            }
+            this.flights.remove(key, flight);
+        }
+        Object result;
+        try {
+            result = this.executor.execute(Collections.singletonList(fitable), context, args);
+        } catch (Throwable e) {
+            this.fail(key, flight, e);
+            throw e;
+        }
+        if (result instanceof CompletableFuture) {
+            // 非阻塞调用的结果在返回时尚未完成，完成之前相同的调用继续合并，完成后再共享实际的值或异常。
+            ((CompletableFuture<?>) result).whenComplete((value, cause) -> {
+                if (cause != null) {
+                    this.fail(key, created, NonBlockingResults.actualCause(cause));
+                } else {
+                    this.succeed(key, created, value);
+                }
+            });
+        } else {
+            this.succeed(key, flight, result);
+        }
+        return result;
+    }
+
+    private void succeed(Key key, Flight flight, Object value) {
+        if (this.ttlNanos > 0) {
+            flight.expiresAt = this.clock.getAsLong() + this.ttlNanos;
+            flight.result.complete(value);
+            this.expirations.add(new Expiration(key, flight));
+        } else {
+            this.flights.remove(key, flight);
+            flight.result.complete(value);
+        }
+    }
+
+    private void fail(Key key, Flight flight, Throwable cause) {
+        this.flights.remove(key, flight);
+        flight.result.completeExceptionally(cause);
+    }
+
+    /**
+     * 获取当前缓存中正在进行或尚未清理的调用数量。
+     *
+     * @return 表示调用数量的 {@code int}。
+     */
+    int size() {
+        return this.flights.size();
+    }
+
+    private void expire() {
+        if (this.expirations.isEmpty()) {
+            return;
+        }
+        long now = this.clock.getAsLong();
+        for (int i = 0; i < MAX_EXPIRATIONS_PER_CALL; i++) {
+            Expiration expiration = this.expirations.peek();
+            if (expiration == null || !expiration.flight.isExpired(now)) {
+                return;
+            }
+            if (this.expirations.remove(expiration)) {
+                this.flights.remove(expiration.key, expiration.flight);
+            }
+        }
+    }
+
+    /**
+     * 表示合并调用的键，由服务实现的唯一标识和调用参数组成。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class Key {
+        private final UniqueFitableId fitableId;
+        private final Object[] args;
+        private final int hash;
+
+        private Key(UniqueFitableId fitableId, Object[] args) {
+            this.fitableId = fitableId;
+            this.args = args == null ? new Object[0] : args.clone();
+            this.hash = 31 * fitableId.hashCode() + Arrays.deepHashCode(this.args);
+        }
+
+        @Override
+        public boolean equals(Object another) {
+            if (this == another) {
+                return true;
+            }
+            if (!(another instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) another;
+            return this.hash == that.hash && this.fitableId.equals(that.fitableId)
+                    && Arrays.deepEquals(this.args, that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+
+    /**
+     * 表示过期队列中的一项缓存结果。
+     * <p>所有结果的缓存时间相同，因此按照完成的先后入队即按照过期时间的先后排列。</p>
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class Expiration {
+        private final Key key;
+        private final Flight flight;
+
+        private Expiration(Key key, Flight flight) {
+            this.key = key;
+            this.flight = flight;
+        }
+    }
+
+    /**
+     * 表示一次正在进行或已经完成的调用。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private volatile long expiresAt;
+
+        private boolean isExpired(long now) {
+            return this.result.isDone() && now - this.expiresAt >= 0;
+        }
+
+        private Object await(Fitable fitable, InvocationContext context) {
+            try {
+                if (context.timeout() <= 0 || context.timeoutUnit() == null) {
+                    return this.result.get();
+                }
+                return this.result.get(context.timeout(), context.timeoutUnit());
+            } catch (java.util.concurrent.TimeoutException e) {
+                TimeoutException exception = new TimeoutException(StringUtils.format(
+                        "Timeout while waiting for the coalesced invocation. [timeout={0}, timeoutUnit={1}]",
+                        context.timeout(),
+                        context.timeoutUnit()), e);
+                exception.associateFitable(fitable.genericable().id(), fitable.id());
+                throw exception;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw FitException.wrap(cause, fitable.genericable().id(), fitable.id());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw FitException.wrap(e, fitable.genericable().id(), fitable.id());
+            }
+        }
+    }
+}
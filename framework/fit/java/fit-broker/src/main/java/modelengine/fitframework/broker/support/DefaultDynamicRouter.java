@@ -11,6 +11,10 @@ import modelengine.fitframework.broker.Fitable;
 import modelengine.fitframework.broker.FitableMetadata;
 import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.client.Router;
+import modelengine.fitframework.broker.client.filter.route.AliasFilter;
+import modelengine.fitframework.broker.client.filter.route.DefaultFilter;
+import modelengine.fitframework.broker.client.filter.route.FitableIdFilter;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
@@ -37,6 +41,23 @@ public class DefaultDynamicRouter implements DynamicRouter {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 判断指定的路由过滤器的过滤结果是否只取决于服务及其服务实现的配置。
+     * <p>这样的过滤器与调用参数和扩展信息无关，相等的过滤器对同一个服务总是得到相同的结果，因此过滤结果可以被缓存，直到服务
+     * 或其服务实现的配置发生变化。</p>
+     *
+     * @param filter 表示路由过滤器的 {@link Router.Filter}。
+     * @return 如果过滤结果只取决于服务及其服务实现的配置，返回 {@code true}，否则，返回 {@code false}。
+     */
+    static boolean isStatic(Router.Filter filter) {
+        if (filter == null) {
+            return false;
+        }
+        Class<?> filterClass = filter.getClass();
+        return filterClass == DefaultFilter.class || filterClass == AliasFilter.class
+                || filterClass == FitableIdFilter.class;
+    }
+
     private Fitable cast(FitableMetadata metadata, List<Fitable> scope) {
         if (metadata instanceof Fitable) {
             return ObjectUtils.cast(metadata);
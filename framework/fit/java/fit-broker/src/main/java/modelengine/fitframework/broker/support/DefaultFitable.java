@@ -151,9 +151,9 @@ public class DefaultFitable implements ConfigurableFitable {
                 return localExecutor.execute(actualArgs);
             }
         }
-        Invoker.Filter roundRobinFilter = Invoker.Filter.roundRobin();
+        Invoker.Filter strategyFilter = this.loadBalancer.strategy(this);
         List<Target> actualTargets =
-                roundRobinFilter.filter(this, context.localWorkerId(), balancedTargets, context.filterExtensions());
+                strategyFilter.filter(this, context.localWorkerId(), balancedTargets, context.filterExtensions());
         if (context.genericableMethod() != null) {
             return execute(this.remoteExecutor, this, actualTargets, context, args);
         } else {
@@ -188,6 +188,7 @@ public class DefaultFitable implements ConfigurableFitable {
         if (aliases != null) {
             this.aliases.set(aliases);
         }
+        this.modified();
         return this;
     }
 
@@ -196,6 +197,7 @@ public class DefaultFitable implements ConfigurableFitable {
         if (StringUtils.isNotBlank(alias)) {
             this.aliases.append(alias);
         }
+        this.modified();
         return this;
     }
 
@@ -204,12 +206,14 @@ public class DefaultFitable implements ConfigurableFitable {
         if (StringUtils.isNotBlank(alias)) {
             this.aliases.remove(alias);
         }
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableFitable clearAliases() {
         this.aliases.clear();
+        this.modified();
         return this;
     }
 
@@ -219,6 +223,7 @@ public class DefaultFitable implements ConfigurableFitable {
         if (tags != null) {
             this.tags.set(tags);
         }
+        this.modified();
         return this;
     }
 
@@ -227,6 +232,7 @@ public class DefaultFitable implements ConfigurableFitable {
         if (StringUtils.isNotBlank(tag)) {
             this.tags.append(tag);
         }
+        this.modified();
         return this;
     }
 
@@ -235,18 +241,21 @@ public class DefaultFitable implements ConfigurableFitable {
         if (StringUtils.isNotBlank(tag)) {
             this.tags.remove(tag);
         }
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableFitable clearTags() {
         this.tags.clear();
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableFitable degradationFitableId(String degradationFitableId) {
         this.degradationFitableId = degradationFitableId;
+        this.modified();
         return this;
     }
 
@@ -256,6 +265,12 @@ public class DefaultFitable implements ConfigurableFitable {
         return this;
     }
 
+    private void modified() {
+        if (this.genericable instanceof DefaultGenericable) {
+            ((DefaultGenericable) this.genericable).modified();
+        }
+    }
+
     @Override
     public String toString() {
         return "{\"id\": \"" + this.id + '\"' + ", \"version\": \"" + this.version + '\"' + ", \"aliases\": "
@@ -15,14 +15,18 @@ import modelengine.fitframework.broker.LoadBalancer;
 import modelengine.fitframework.broker.TargetLocator;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 
 /**
  * 表示 {@link FitableFactory} 的默认实现。
+ * <p>插件启动或停止时，所创建的服务实现的远程调用计划将全部失效。</p>
  *
  * @author 季聿阶
  * @since 2023-03-24
  */
-public class DefaultFitableFactory implements FitableFactory {
+public class DefaultFitableFactory implements FitableFactory, PluginStartedObserver, PluginStoppedObserver {
     private final BeanContainer container;
     private final LoadBalancer loadBalancer;
     private final TargetLocator targetLocator;
@@ -62,4 +66,14 @@ public class DefaultFitableFactory implements FitableFactory {
                 .degradationFitableId(fitable.degradationFitableId())
                 .genericable(fitable.genericable());
     }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        RemoteCallPlan.invalidateAll();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        RemoteCallPlan.invalidateAll();
+    }
 }
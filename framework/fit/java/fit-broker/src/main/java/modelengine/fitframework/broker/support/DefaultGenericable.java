@@ -8,6 +8,7 @@ package modelengine.fitframework.broker.support;
 
 import static modelengine.fitframework.inspection.Validation.notBlank;
 
+import modelengine.fitframework.annotation.Coalescing;
 import modelengine.fitframework.broker.ConfigurableGenericable;
 import modelengine.fitframework.broker.DynamicRouter;
 import modelengine.fitframework.broker.Fitable;
@@ -20,9 +21,12 @@ import modelengine.fitframework.broker.Route;
 import modelengine.fitframework.broker.Tags;
 import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.broker.UniqueGenericableId;
+import modelengine.fitframework.broker.client.Router;
 import modelengine.fitframework.broker.client.FitableNotFoundException;
 import modelengine.fitframework.broker.client.TooManyFitablesException;
 import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.ioc.annotation.AnnotationMetadata;
+import modelengine.fitframework.ioc.annotation.AnnotationMetadataResolvers;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
@@ -34,18 +38,27 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
  * 表示 {@link Genericable} 的默认实现。
+ * <p>服务实现的列表在首次调用时被编译为不可变的快照，后续调用直接使用该快照，而不再每次复制服务实现的列表。快照在服务实现发生
+ * 变化时失效，并在下一次调用时重新编译。</p>
+ * <p>使用默认的动态路由时，只取决于服务配置的路由过滤器（见 {@link DefaultDynamicRouter#isStatic(Router.Filter)}）的过滤结果
+ * 按过滤器被缓存，相等的过滤器在后续调用中直接使用缓存的结果，不再重新过滤。服务或其服务实现的配置发生变化时缓存失效。</p>
  *
  * @author 季聿阶
  * @since 2023-03-10
  */
 public class DefaultGenericable implements ConfigurableGenericable {
+    private static final int MAX_COMPILED_ROUTES = 64;
+
     private final DynamicRouter dynamicRouter;
     private final GenericableExecutor retryableExecutor;
     private final GenericableExecutor degradableExecutor;
+    private final GenericableExecutor multicastRetryableExecutor;
+    private final GenericableExecutor multicastDegradableExecutor;
 
     private final String id;
     private final String version;
@@ -56,11 +69,18 @@ public class DefaultGenericable implements ConfigurableGenericable {
     private final ConfigurableTags tags;
     private final Map<UniqueFitableId, Fitable> fitables = new ConcurrentHashMap<>();
     private final UniqueGenericableId uniqueId;
+    private final Object snapshotMonitor = new byte[0];
+    private volatile List<Fitable> snapshot;
+    private volatile UnicastExecutors unicastExecutors;
+    private final Map<Router.Filter, CompiledRoute> compiledRoutes = new ConcurrentHashMap<>();
+    private final AtomicLong modifications = new AtomicLong();
 
     DefaultGenericable(DynamicRouter dynamicRouter, String id, String version) {
         this.dynamicRouter = dynamicRouter;
         this.retryableExecutor = new RetryableGenericableExecutor(new UnicastGenericableExecutor());
         this.degradableExecutor = new DegradableGenericableExecutor(this.retryableExecutor);
+        this.multicastRetryableExecutor = new MulticastGenericableExecutor(this.retryableExecutor);
+        this.multicastDegradableExecutor = new MulticastGenericableExecutor(this.degradableExecutor);
 
         this.id = notBlank(id, "The genericable id cannot be blank.");
         this.version = notBlank(version, "The genericable version cannot be blank.");
@@ -108,7 +128,40 @@ public class DefaultGenericable implements ConfigurableGenericable {
 
     @Override
     public List<Fitable> fitables() {
-        return Collections.unmodifiableList(new ArrayList<>(this.fitables.values()));
+        List<Fitable> compiled = this.snapshot;
+        if (compiled != null) {
+            return compiled;
+        }
+        synchronized (this.snapshotMonitor) {
+            if (this.snapshot == null) {
+                this.snapshot = Collections.unmodifiableList(new ArrayList<>(this.fitables.values()));
+            }
+            return this.snapshot;
+        }
+    }
+
+    private void invalidate() {
+        synchronized (this.snapshotMonitor) {
+            this.snapshot = null;
+        }
+        this.modified();
+    }
+
+    /**
+     * 获取服务的修改次数。
+     * <p>服务自身或其服务实现的配置发生变化时修改次数增加，用于判断基于服务构建的缓存是否仍然有效。</p>
+     *
+     * @return 表示服务的修改次数的 {@code long}。
+     */
+    long modifications() {
+        return this.modifications.get();
+    }
+
+    /**
+     * 记录服务自身或其服务实现的配置发生了变化。
+     */
+    void modified() {
+        this.modifications.incrementAndGet();
     }
 
     @Override
@@ -133,7 +186,7 @@ public class DefaultGenericable implements ConfigurableGenericable {
 
     @Override
     public Object execute(InvocationContext context, Object[] args) {
-        List<Fitable> routedFitables = this.dynamicRouter.route(this, context, args);
+        List<Fitable> routedFitables = this.route(context, args);
         if (CollectionUtils.isEmpty(routedFitables)) {
             FitableNotFoundException exception = new FitableNotFoundException(StringUtils.format(
                     "No matched fitables left after routing filter. "
@@ -157,14 +210,57 @@ public class DefaultGenericable implements ConfigurableGenericable {
             throw exception;
         }
         if (context.isMulticast()) {
-            GenericableExecutor multicastExecutor = context.withDegradation()
-                    ? new MulticastGenericableExecutor(this.degradableExecutor)
-                    : new MulticastGenericableExecutor(this.retryableExecutor);
+            GenericableExecutor multicastExecutor =
+                    context.withDegradation() ? this.multicastDegradableExecutor : this.multicastRetryableExecutor;
             return execute(multicastExecutor, this, routedFitables, context, args);
         }
+        UnicastExecutors executors = this.unicastExecutors();
         return context.withDegradation()
-                ? execute(this.degradableExecutor, this, routedFitables, context, args)
-                : execute(this.retryableExecutor, this, routedFitables, context, args);
+                ? execute(executors.degradable, this, routedFitables, context, args)
+                : execute(executors.retryable, this, routedFitables, context, args);
+    }
+
+    /**
+     * 使用调用上下文中的路由过滤器对服务实现进行路由。
+     *
+     * @param context 表示调用上下文的 {@link InvocationContext}。
+     * @param args 表示调用参数的 {@link Object}{@code []}。
+     * @return 表示路由后的服务实现列表的 {@link List}{@code <}{@link Fitable}{@code >}。
+     */
+    List<Fitable> route(InvocationContext context, Object[] args) {
+        Router.Filter filter = context.routingFilter();
+        if (!(this.dynamicRouter instanceof DefaultDynamicRouter) || !DefaultDynamicRouter.isStatic(filter)) {
+            return this.dynamicRouter.route(this, context, args);
+        }
+        // 修改次数需要在路由之前读取，路由过程中发生的变化会使缓存在下次调用时失效。
+        long currentModifications = this.modifications.get();
+        CompiledRoute compiled = this.compiledRoutes.get(filter);
+        if (compiled != null && compiled.modifications == currentModifications) {
+            return compiled.fitables;
+        }
+        List<Fitable> fitables = this.dynamicRouter.route(this, context, args);
+        if (compiled != null || this.compiledRoutes.size() < MAX_COMPILED_ROUTES) {
+            List<Fitable> snapshot = Collections.unmodifiableList(new ArrayList<>(fitables));
+            this.compiledRoutes.put(filter, new CompiledRoute(currentModifications, snapshot));
+            return snapshot;
+        }
+        return fitables;
+    }
+
+    private UnicastExecutors unicastExecutors() {
+        Method genericableMethod = this.method.method();
+        UnicastExecutors executors = this.unicastExecutors;
+        if (executors != null && executors.method == genericableMethod) {
+            return executors;
+        }
+        synchronized (this.snapshotMonitor) {
+            executors = this.unicastExecutors;
+            if (executors == null || executors.method != genericableMethod) {
+                executors = new UnicastExecutors(genericableMethod, this.retryableExecutor, this.degradableExecutor);
+                this.unicastExecutors = executors;
+            }
+            return executors;
+        }
     }
 
     private static Object execute(GenericableExecutor executor, Genericable genericable, List<Fitable> fitables,
@@ -179,19 +275,22 @@ public class DefaultGenericable implements ConfigurableGenericable {
     @Override
     public ConfigurableGenericable name(String name) {
         this.name = name;
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableGenericable type(GenericableType type) {
         this.type = type;
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableGenericable method(Method method) {
-        if (method != null) {
+        if (method != null && method != this.method.method()) {
             this.method.method(method);
+            this.modified();
         }
         return this;
     }
@@ -199,6 +298,7 @@ public class DefaultGenericable implements ConfigurableGenericable {
     @Override
     public ConfigurableGenericable route(String defaultFitableId) {
         this.route.defaultFitable(defaultFitableId);
+        this.modified();
         return this;
     }
 
@@ -208,24 +308,28 @@ public class DefaultGenericable implements ConfigurableGenericable {
         if (tags != null) {
             this.tags.set(tags);
         }
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableGenericable appendTag(String tag) {
         this.tags.append(tag);
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableGenericable removeTag(String tag) {
         this.tags.remove(tag);
+        this.modified();
         return this;
     }
 
     @Override
     public ConfigurableGenericable clearTags() {
         this.tags.clear();
+        this.modified();
         return this;
     }
 
@@ -237,18 +341,21 @@ public class DefaultGenericable implements ConfigurableGenericable {
                     .filter(Objects::nonNull)
                     .forEach(fitable -> this.fitables.put(fitable.toUniqueId(), fitable));
         }
+        this.invalidate();
         return this;
     }
 
     @Override
     public ConfigurableGenericable appendFitable(Fitable fitable) {
         this.fitables.put(fitable.toUniqueId(), fitable);
+        this.invalidate();
         return this;
     }
 
     @Override
     public ConfigurableGenericable clearFitables() {
         this.fitables.clear();
+        this.invalidate();
         return this;
     }
 
@@ -275,4 +382,49 @@ public class DefaultGenericable implements ConfigurableGenericable {
     public int hashCode() {
         return Objects.hash(this.id, this.version, this.name, this.fitables);
     }
+
+    /**
+     * 表示缓存的路由结果，以及路由时服务的修改次数。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class CompiledRoute {
+        private final long modifications;
+        private final List<Fitable> fitables;
+
+        private CompiledRoute(long modifications, List<Fitable> fitables) {
+            this.modifications = modifications;
+            this.fitables = fitables;
+        }
+    }
+
+    /**
+     * 表示为服务方法准备的单播调用执行器。
+     * <p>当服务方法声明了 {@link Coalescing} 时，执行器会合并参数相同的并发调用。</p>
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class UnicastExecutors {
+        private final Method method;
+        private final GenericableExecutor retryable;
+        private final GenericableExecutor degradable;
+
+        private UnicastExecutors(Method method, GenericableExecutor retryable, GenericableExecutor degradable) {
+            this.method = method;
+            Coalescing coalescing = null;
+            if (method != null) {
+                AnnotationMetadata annotations = AnnotationMetadataResolvers.create().resolve(method);
+                coalescing = annotations.getAnnotation(Coalescing.class);
+            }
+            if (coalescing == null) {
+                this.retryable = retryable;
+                this.degradable = degradable;
+            } else {
+                this.retryable = new CoalescingGenericableExecutor(retryable, coalescing.ttl());
+                this.degradable = new CoalescingGenericableExecutor(degradable, coalescing.ttl());
+            }
+        }
+    }
 }
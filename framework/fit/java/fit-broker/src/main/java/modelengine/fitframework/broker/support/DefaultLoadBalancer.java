@@ -10,7 +10,9 @@ import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.client.Client;
 import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.GenericableMethod;
 import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.LoadBalanceStrategy;
 import modelengine.fitframework.broker.LoadBalancer;
 import modelengine.fitframework.broker.SerializationService;
 import modelengine.fitframework.broker.Target;
@@ -23,28 +25,67 @@ import modelengine.fitframework.broker.client.filter.loadbalance.FirstMatchedEnv
 import modelengine.fitframework.broker.client.filter.loadbalance.ProtocolAndFormatSupportedFilter;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.TypeUtils;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * 表示 {@link LoadBalancer} 的默认实现。
+ * <p>每个服务实现都维护一张路由表，路由表绑定由 {@link TargetLocator} 查找到的地址列表快照，并按环境、通信协议和序列化方式缓存
+ * 内置过滤器的过滤结果。当地址列表快照发生变化，或有插件启动、停止时，路由表被整体替换，因此稳定状态下每次负载均衡只需要一次
+ * 查表。</p>
+ * <p>单播调用时最终调用地址的选择策略通过配置 {@code fit.broker.load-balance.strategy} 指定全局默认值，并可以通过
+ * {@code fit.broker.load-balance.genericables} 按服务覆盖，如：</p>
+ * <pre>
+ * fit:
+ *   broker:
+ *     load-balance:
+ *       strategy: round-robin
+ *       genericables:
+ *         - id: genericable-id
+ *           strategy: p2c-ewma
+ * </pre>
  *
  * @author 季聿阶
  * @since 2023-03-28
  */
-public class DefaultLoadBalancer implements LoadBalancer {
+public class DefaultLoadBalancer implements LoadBalancer, PluginStartedObserver, PluginStoppedObserver {
     private static final Logger log = Logger.get(DefaultLoadBalancer.class);
+    private static final String STRATEGY_KEY = "fit.broker.load-balance.strategy";
+    private static final String GENERICABLE_STRATEGIES_KEY = "fit.broker.load-balance.genericables";
+    private static final String GENERICABLE_ID_KEY = "id";
+    private static final String GENERICABLE_STRATEGY_KEY = "strategy";
 
     private final BeanContainer container;
     private final LazyLoader<List<Client>> clientsLoader;
     private final SerializationService serializationService;
     private final TargetLocator targetLocator;
+    private final Map<UniqueFitableId, RouteTable> routeTables = new ConcurrentHashMap<>();
+    private final String defaultStrategy;
+    private final Map<String, String> genericableStrategies;
+    private final Map<String, Invoker.Filter> strategies = new ConcurrentHashMap<>();
 
     /**
      * 使用指定的容器、序列化服务和地址定位服务初始化 {@link DefaultLoadBalancer} 的新实例。
@@ -57,6 +98,23 @@ public class DefaultLoadBalancer implements LoadBalancer {
      */
     public DefaultLoadBalancer(BeanContainer container, SerializationService serializationService,
             TargetLocator targetLocator) {
+        this(container, serializationService, targetLocator, null);
+    }
+
+    /**
+     * 使用指定的容器、序列化服务、地址定位服务和系统配置初始化 {@link DefaultLoadBalancer} 的新实例。
+     *
+     * @param container 表示容器的 {@link BeanContainer}。
+     * @param serializationService 表示序列化服务的 {@link SerializationService}。
+     * @param targetLocator 表示地址定位服务的 {@link TargetLocator}。
+     * @param config 表示系统配置的 {@link Config}，为 {@code null} 时所有服务均使用轮询策略。
+     * @throws IllegalArgumentException 当 {@code container}、{@code serializationService} 或 {@code targetLocator} 为
+     * {@code null} 时。
+     */
+    public DefaultLoadBalancer(BeanContainer container, SerializationService serializationService,
+            TargetLocator targetLocator, Config config) {
+        this.defaultStrategy = config == null ? null : config.get(STRATEGY_KEY, String.class);
+        this.genericableStrategies = getGenericableStrategies(config);
         this.container = notNull(container, "The bean container cannot be null.");
         this.clientsLoader = new LazyLoader<>(this::getClients);
         this.serializationService = notNull(serializationService, "The serialization service cannot be null.");
@@ -65,10 +123,95 @@ public class DefaultLoadBalancer implements LoadBalancer {
 
     @Override
     public List<Target> balance(Fitable fitable, InvocationContext context, Object[] args) {
-        Invoker.Filter filter = Invoker.Filter.combine(this.getFirstMatchedEnvironmentFilter(fitable, context),
-                this.getProtocolAndFormatSupportedFilter(context),
-                context.loadBalanceFilter());
-        return this.filterCandidateTargets(filter, fitable, context, this.getTargets(fitable.toUniqueId()));
+        RouteTable routeTable = this.getRouteTable(fitable.toUniqueId());
+        List<Target> targets = routeTable.route(new RouteKey(fitable, context),
+                key -> this.getBuiltinFilter(fitable, context).filter(fitable,
+                        context.localWorkerId(),
+                        routeTable.targets(),
+                        context.filterExtensions()));
+        if (context.loadBalanceFilter() != null) {
+            targets = context.loadBalanceFilter()
+                    .filter(fitable, context.localWorkerId(), targets, context.filterExtensions());
+        }
+        return this.filterCandidateTargets(fitable, context, targets);
+    }
+
+    @Override
+    public Invoker.Filter strategy(Fitable fitable) {
+        return this.strategies.computeIfAbsent(fitable.genericable().id(), this::resolveStrategy);
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.routeTables.clear();
+        this.strategies.clear();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.routeTables.clear();
+        this.strategies.clear();
+    }
+
+    private static Map<String, String> getGenericableStrategies(Config config) {
+        if (config == null) {
+            return Collections.emptyMap();
+        }
+        Type elementType = TypeUtils.parameterized(Map.class, new Type[] {String.class, String.class});
+        List<Map<String, String>> configs =
+                ObjectUtils.cast(config.get(GENERICABLE_STRATEGIES_KEY, TypeUtils.parameterized(List.class,
+                        new Type[] {elementType})));
+        if (CollectionUtils.isEmpty(configs)) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> strategies = new HashMap<>();
+        for (Map<String, String> genericableConfig : configs) {
+            String id = genericableConfig.get(GENERICABLE_ID_KEY);
+            String strategy = genericableConfig.get(GENERICABLE_STRATEGY_KEY);
+            if (StringUtils.isNotBlank(id) && StringUtils.isNotBlank(strategy)) {
+                strategies.put(id, strategy);
+            }
+        }
+        return Collections.unmodifiableMap(strategies);
+    }
+
+    private Invoker.Filter resolveStrategy(String genericableId) {
+        String name = this.genericableStrategies.getOrDefault(genericableId, this.defaultStrategy);
+        if (StringUtils.isBlank(name)) {
+            return Invoker.Filter.roundRobin();
+        }
+        Optional<Invoker.Filter> builtin = BuiltinLoadBalanceStrategies.get(name);
+        if (builtin.isPresent()) {
+            return builtin.get();
+        }
+        return this.container.all(LoadBalanceStrategy.class)
+                .stream()
+                .map(BeanFactory::<LoadBalanceStrategy>get)
+                .filter(strategy -> StringUtils.equalsIgnoreCase(strategy.name(), name))
+                .findFirst()
+                .map(LoadBalanceStrategy::filter)
+                .orElseGet(() -> {
+                    log.warn("No load balance strategy found, use round robin instead. [genericableId={}, strategy={}]",
+                            genericableId,
+                            name);
+                    return Invoker.Filter.roundRobin();
+                });
+    }
+
+    private RouteTable getRouteTable(UniqueFitableId id) {
+        List<Target> targets = this.targetLocator.lookup(id);
+        RouteTable routeTable = this.routeTables.get(id);
+        if (routeTable != null && routeTable.isBasedOn(targets)) {
+            return routeTable;
+        }
+        routeTable = new RouteTable(targets);
+        this.routeTables.put(id, routeTable);
+        return routeTable;
+    }
+
+    private Invoker.Filter getBuiltinFilter(Fitable fitable, InvocationContext context) {
+        return Invoker.Filter.combine(this.getFirstMatchedEnvironmentFilter(fitable, context),
+                this.getProtocolAndFormatSupportedFilter(context));
     }
 
     private Invoker.Filter getFirstMatchedEnvironmentFilter(Fitable fitable, InvocationContext context) {
@@ -92,11 +235,9 @@ public class DefaultLoadBalancer implements LoadBalancer {
         return this.container.all(Client.class).stream().map(BeanFactory::<Client>get).collect(Collectors.toList());
     }
 
-    private List<Target> filterCandidateTargets(Invoker.Filter filter, Fitable fitable, InvocationContext context,
+    private List<Target> filterCandidateTargets(Fitable fitable, InvocationContext context,
             List<Target> toFilterTargets) {
-        List<Target> filteredTargets =
-                filter.filter(fitable, context.localWorkerId(), toFilterTargets, context.filterExtensions());
-        filteredTargets = this.filterWithOtherFitables(context, filteredTargets);
+        List<Target> filteredTargets = this.filterWithOtherFitables(context, toFilterTargets);
         if (CollectionUtils.isEmpty(filteredTargets)) {
             String message = StringUtils.format("No matched fitable targets left after loadbalance. [id={0}]",
                     fitable.toUniqueId());
@@ -110,17 +251,93 @@ public class DefaultLoadBalancer implements LoadBalancer {
     private List<Target> filterWithOtherFitables(InvocationContext context, List<Target> targets) {
         List<Target> intersection = targets;
         for (UniqueFitableId id : context.loadBalanceWith()) {
-            intersection = this.intersect(intersection, this.getTargets(id));
+            intersection = this.intersect(intersection, this.getRouteTable(id).workerIds());
         }
         return intersection;
     }
 
-    private List<Target> intersect(List<Target> targets, List<Target> toFilterTargets) {
-        Set<String> workerIds = toFilterTargets.stream().map(Target::workerId).collect(Collectors.toSet());
+    private List<Target> intersect(List<Target> targets, Set<String> workerIds) {
         return targets.stream().filter(target -> workerIds.contains(target.workerId())).collect(Collectors.toList());
     }
 
-    private List<Target> getTargets(UniqueFitableId id) {
-        return this.targetLocator.lookup(id);
+    /**
+     * 表示指定服务实现的路由表。
+     * <p>路由表绑定一份地址列表快照，内置过滤器的过滤结果按 {@link RouteKey} 缓存。地址定位服务无法提供快照时（如注册中心没有
+     * 版本号或地址列表为空），每次查找都返回新的地址列表，此时按照地址列表的内容判断是否可以复用路由表。</p>
+     */
+    private static class RouteTable {
+        private final List<Target> targets;
+        private final Set<String> workerIds;
+        private final Map<RouteKey, List<Target>> routes = new ConcurrentHashMap<>();
+
+        RouteTable(List<Target> targets) {
+            this.targets = targets;
+            this.workerIds = Collections.unmodifiableSet(targets.stream()
+                    .map(Target::workerId)
+                    .collect(Collectors.toSet()));
+        }
+
+        boolean isBasedOn(List<Target> targets) {
+            return this.targets == targets || Objects.equals(this.targets, targets);
+        }
+
+        List<Target> targets() {
+            return this.targets;
+        }
+
+        Set<String> workerIds() {
+            return this.workerIds;
+        }
+
+        List<Target> route(RouteKey key, Function<RouteKey, List<Target>> router) {
+            return this.routes.computeIfAbsent(key, actualKey -> Collections.unmodifiableList(router.apply(actualKey)));
+        }
+    }
+
+    /**
+     * 表示路由表中过滤结果的键，包含所有影响内置过滤器结果的调用参数。
+     */
+    private static class RouteKey {
+        private final Method method;
+        private final String localWorkerId;
+        private final String specifiedEnvironment;
+        private final List<String> environmentPrioritySequence;
+        private final CommunicationProtocol protocol;
+        private final SerializationFormat format;
+
+        RouteKey(Fitable fitable, InvocationContext context) {
+            GenericableMethod genericableMethod = fitable.genericable().method();
+            this.method = genericableMethod == null ? null : genericableMethod.method();
+            this.localWorkerId = context.localWorkerId();
+            this.specifiedEnvironment = context.specifiedEnvironment();
+            this.environmentPrioritySequence = context.environmentPrioritySequence();
+            this.protocol = context.protocol();
+            this.format = context.format();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RouteKey)) {
+                return false;
+            }
+            RouteKey another = (RouteKey) obj;
+            return Objects.equals(this.method, another.method) && Objects.equals(this.localWorkerId,
+                    another.localWorkerId) && Objects.equals(this.specifiedEnvironment, another.specifiedEnvironment)
+                    && Objects.equals(this.environmentPrioritySequence, another.environmentPrioritySequence)
+                    && this.protocol == another.protocol && this.format == another.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.method,
+                    this.localWorkerId,
+                    this.specifiedEnvironment,
+                    this.environmentPrioritySequence,
+                    this.protocol,
+                    this.format);
+        }
     }
 }
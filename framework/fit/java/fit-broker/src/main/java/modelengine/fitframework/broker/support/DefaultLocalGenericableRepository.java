@@ -14,33 +14,50 @@ import modelengine.fitframework.broker.Fitable;
 import modelengine.fitframework.broker.FitableFactory;
 import modelengine.fitframework.broker.Genericable;
 import modelengine.fitframework.broker.GenericableFactory;
+import modelengine.fitframework.broker.GenericableMethod;
 import modelengine.fitframework.broker.GenericableRepository;
+import modelengine.fitframework.broker.GenericableType;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.LocalExecutor;
 import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.Route;
+import modelengine.fitframework.broker.Tags;
+import modelengine.fitframework.broker.UniqueFitableId;
 import modelengine.fitframework.broker.UniqueGenericableId;
+import modelengine.fitframework.broker.event.LocalExecutorRegisteredObserver;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LockUtils;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 /**
  * 表示 {@link GenericableRepository} 的本地仓库。
+ * <p>多个插件中声明的同一个服务会被合并为一个新的服务，合并的结果会被缓存，避免在每次调用时重新合并。有插件仓库被安装或卸载，
+ * 有新的本地执行器被注册，或参与合并的任意一个服务的路由、标签、服务实现及其降级配置发生变化时，缓存失效并重新合并。
+ * 合并的结果以只读的形式返回，调用方除了设置服务方法之外无法修改被缓存的服务。</p>
  *
  * @author 季聿阶
  * @since 2023-03-25
  */
-public class DefaultLocalGenericableRepository implements LocalGenericableRepository {
+public class DefaultLocalGenericableRepository implements LocalGenericableRepository, LocalExecutorRegisteredObserver {
     private static final Logger log = Logger.get(DefaultLocalGenericableRepository.class);
 
     private final GenericableFactory genericableFactory;
@@ -49,6 +66,8 @@ public class DefaultLocalGenericableRepository implements LocalGenericableReposi
     private final GenericableRepository rootRepository;
     private final List<GenericableRepository> pluginRepositories = new ArrayList<>();
     private final ReadWriteLock lock;
+    private final Map<UniqueGenericableId, Merged> merged = new ConcurrentHashMap<>();
+    private final AtomicLong revision = new AtomicLong();
 
     /**
      * 使用指定的泛服务工厂、实现工厂和泛服务仓库初始化 {@link DefaultLocalGenericableRepository} 的新实例。
@@ -73,13 +92,34 @@ public class DefaultLocalGenericableRepository implements LocalGenericableReposi
 
     @Override
     public Optional<Genericable> get(String id, String version) {
+        UniqueGenericableId key = UniqueGenericableId.create(id, version);
+        long currentRevision = this.revision.get();
+        Merged cached = this.merged.get(key);
+        if (cached != null && cached.isValid(currentRevision)) {
+            return cached.genericable;
+        }
         List<GenericableRepository> allRepositories = new ArrayList<>(this.pluginRepositories);
         allRepositories.add(this.rootRepository);
-        return allRepositories.stream()
+        List<Genericable> sources = allRepositories.stream()
                 .map(repository -> repository.get(id, version))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
-                .reduce((g1, g2) -> this.mergeGenericables(id, version, g1, g2));
+                .collect(Collectors.toList());
+        if (sources.size() <= 1) {
+            // 只有一个服务时直接返回该服务本身，其变化对调用方总是可见的。
+            Optional<Genericable> genericable = sources.stream().findFirst();
+            this.merged.put(key, new Merged(currentRevision, genericable, Collections.emptyList(), new long[0]));
+            return genericable;
+        }
+        // 修改次数需要在合并之前读取，合并过程中发生的变化会使缓存在下次获取时失效。
+        long[] modifications = sources.stream().mapToLong(Merged::modifications).toArray();
+        Optional<Genericable> genericable = sources.stream()
+                .reduce((g1, g2) -> this.mergeGenericables(id, version, g1, g2))
+                .map(merged -> new UnmodifiableGenericable(ObjectUtils.cast(merged)));
+        if (sources.stream().allMatch(DefaultGenericable.class::isInstance)) {
+            this.merged.put(key, new Merged(currentRevision, genericable, sources, modifications));
+        }
+        return genericable;
     }
 
     @Override
@@ -135,6 +175,7 @@ public class DefaultLocalGenericableRepository implements LocalGenericableReposi
             this.getChild(repository.name()).ifPresent(this::uninstall);
             log.debug("Install genericable repository. [name={}]", repository.name());
             this.pluginRepositories.add(repository);
+            this.invalidate();
         });
     }
 
@@ -152,6 +193,7 @@ public class DefaultLocalGenericableRepository implements LocalGenericableReposi
             if (first.isPresent()) {
                 log.debug("Uninstall genericable repository. [name={}]", repository.name());
                 this.pluginRepositories.remove(first.getAsInt());
+                this.invalidate();
             } else {
                 log.debug("The genericable repository to uninstall not exists. [name={}]", repository.name());
             }
@@ -170,4 +212,186 @@ public class DefaultLocalGenericableRepository implements LocalGenericableReposi
                         .filter(repository -> StringUtils.equals(repository.name(), name))
                         .findAny());
     }
+
+    @Override
+    public void onLocalExecutorRegistered(UniqueFitableId id, LocalExecutor executor) {
+        this.invalidate();
+    }
+
+    private void invalidate() {
+        this.revision.incrementAndGet();
+        this.merged.clear();
+    }
+
+    /**
+     * 表示合并后的服务，以及合并时仓库的版本和参与合并的服务的修改次数。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class Merged {
+        private final long revision;
+        private final Optional<Genericable> genericable;
+        private final List<Genericable> sources;
+        private final long[] modifications;
+
+        private Merged(long revision, Optional<Genericable> genericable, List<Genericable> sources,
+                long[] modifications) {
+            this.revision = revision;
+            this.genericable = genericable;
+            this.sources = sources;
+            this.modifications = modifications;
+        }
+
+        private boolean isValid(long currentRevision) {
+            if (this.revision != currentRevision) {
+                return false;
+            }
+            for (int i = 0; i < this.modifications.length; i++) {
+                if (modifications(this.sources.get(i)) != this.modifications[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long modifications(Genericable genericable) {
+            return genericable instanceof DefaultGenericable ? ((DefaultGenericable) genericable).modifications() : -1L;
+        }
+    }
+
+    /**
+     * 表示合并后的服务的只读视图，避免调用方修改被缓存的服务。
+     * <p>调用方在每次调用时设置的服务方法会被传递给合并后的服务，与没有合并的服务的行为保持一致，其余的修改均不被支持。</p>
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class UnmodifiableGenericable implements ConfigurableGenericable {
+        private final ConfigurableGenericable genericable;
+
+        private UnmodifiableGenericable(ConfigurableGenericable genericable) {
+            this.genericable = genericable;
+        }
+
+        @Override
+        public ConfigurableGenericable method(Method method) {
+            this.genericable.method(method);
+            return this;
+        }
+
+        @Override
+        public ConfigurableGenericable name(String name) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable type(GenericableType type) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable route(String defaultFitableId) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable tags(Set<String> tags) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable appendTag(String tag) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable removeTag(String tag) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable clearTags() {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable fitables(List<Fitable> fitables) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable appendFitable(Fitable fitable) {
+            throw unsupported();
+        }
+
+        @Override
+        public ConfigurableGenericable clearFitables() {
+            throw unsupported();
+        }
+
+        private static UnsupportedOperationException unsupported() {
+            return new UnsupportedOperationException("The merged genericable cannot be modified.");
+        }
+
+        @Override
+        public String id() {
+            return this.genericable.id();
+        }
+
+        @Override
+        public String version() {
+            return this.genericable.version();
+        }
+
+        @Override
+        public String name() {
+            return this.genericable.name();
+        }
+
+        @Override
+        public GenericableType type() {
+            return this.genericable.type();
+        }
+
+        @Override
+        public GenericableMethod method() {
+            return this.genericable.method();
+        }
+
+        @Override
+        public Route route() {
+            return this.genericable.route();
+        }
+
+        @Override
+        public Tags tags() {
+            return this.genericable.tags();
+        }
+
+        @Override
+        public List<Fitable> fitables() {
+            return this.genericable.fitables();
+        }
+
+        @Override
+        public Fitable fitable(String fitableId, String fitableVersion) {
+            return this.genericable.fitable(fitableId, fitableVersion);
+        }
+
+        @Override
+        public UniqueGenericableId toUniqueId() {
+            return this.genericable.toUniqueId();
+        }
+
+        @Override
+        public Object execute(InvocationContext context, Object[] args) {
+            return this.genericable.execute(context, args);
+        }
+
+        @Override
+        public String toString() {
+            return this.genericable.toString();
+        }
+    }
 }
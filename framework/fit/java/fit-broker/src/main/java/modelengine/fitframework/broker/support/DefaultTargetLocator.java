@@ -23,33 +23,44 @@ import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedObserver;
+import modelengine.fitframework.plugin.PluginStoppedObserver;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * {@link TargetLocator} 的默认实现。
+ * <p>查找到的地址列表会按服务实现缓存为不可变的快照，快照与查找时 {@link Registry#version() 注册中心的版本号} 绑定，当注册中心
+ * 的版本号发生变化，或有插件启动、停止时，快照失效并在下一次查找时重新生成。</p>
  *
  * @author 梁济时
  * @author 张越
  * @author 季聿阶
  * @since 2020-09-02
  */
-public class DefaultTargetLocator implements TargetLocator {
+public class DefaultTargetLocator implements TargetLocator, PluginStartedObserver, PluginStoppedObserver {
     private static final Logger log = Logger.get(DefaultTargetLocator.class);
+    private static final long NO_REGISTRY_VERSION = 0L;
 
     private final BeanContainer container;
     private final LazyLoader<LocalExecutorFactory> localExecutorFactoryLoader;
 
     private final WorkerConfig worker;
     private final List<MatataConfig.Registry.AvailableService> registryServices;
+    private final Map<UniqueFitableId, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private volatile LazyLoader<Registry> registryLoader;
 
     /**
      * 使用指定的容器、工作进程配置和可直接调用服务列表初始化 {@link DefaultTargetLocator} 的新实例。
@@ -68,11 +79,53 @@ public class DefaultTargetLocator implements TargetLocator {
 
         this.worker = notNull(worker, "The worker config cannot be null.");
         this.registryServices = notNull(services, "The available services config cannot be null.");
+        this.registryLoader = this.createRegistryLoader();
     }
 
     @Override
     public List<Target> lookup(UniqueFitableId id) {
         notNull(id, "The fitable key cannot be null when looking-up fitable targets.");
+        long registryVersion = this.getRegistryVersion();
+        Snapshot snapshot = this.snapshots.get(id);
+        if (snapshot != null && snapshot.registryVersion() == registryVersion) {
+            return snapshot.targets();
+        }
+        List<Target> targets = this.locate(id);
+        if (registryVersion < 0 || CollectionUtils.isEmpty(targets)) {
+            return targets;
+        }
+        snapshot = new Snapshot(registryVersion, targets);
+        this.snapshots.put(id, snapshot);
+        return snapshot.targets();
+    }
+
+    @Override
+    public void onPluginStarted(Plugin plugin) {
+        this.invalidate();
+    }
+
+    @Override
+    public void onPluginStopped(Plugin plugin) {
+        this.invalidate();
+    }
+
+    private void invalidate() {
+        this.registryLoader = this.createRegistryLoader();
+        this.snapshots.clear();
+    }
+
+    private LazyLoader<Registry> createRegistryLoader() {
+        return new LazyLoader<>(() -> this.container.lookup(Registry.class)
+                .map(BeanFactory::<Registry>get)
+                .orElse(null));
+    }
+
+    private long getRegistryVersion() {
+        Registry registry = this.registryLoader.get();
+        return registry == null ? NO_REGISTRY_VERSION : registry.version();
+    }
+
+    private List<Target> locate(UniqueFitableId id) {
         if (this.isFitableLocal(id, true)) {
             return Collections.singletonList(this.local());
         }
@@ -112,8 +165,7 @@ public class DefaultTargetLocator implements TargetLocator {
     }
 
     private List<Target> getFitableTargets(UniqueFitableId id) {
-        return this.container.lookup(Registry.class)
-                .map(BeanFactory::<Registry>get)
+        return Optional.ofNullable(this.registryLoader.get())
                 .map(registry -> this.getTargetsFromRegistry(registry, id))
                 .filter(CollectionUtils::isNotEmpty)
                 .orElseGet(() -> this.getTargetsFromLocal(id));
@@ -167,4 +219,25 @@ public class DefaultTargetLocator implements TargetLocator {
                 .map(BeanFactory::<FitServer>get)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * 表示服务实现地址列表的不可变快照。
+     */
+    private static class Snapshot {
+        private final long registryVersion;
+        private final List<Target> targets;
+
+        Snapshot(long registryVersion, List<Target> targets) {
+            this.registryVersion = registryVersion;
+            this.targets = Collections.unmodifiableList(new ArrayList<>(targets));
+        }
+
+        long registryVersion() {
+            return this.registryVersion;
+        }
+
+        List<Target> targets() {
+            return this.targets;
+        }
+    }
 }
@@ -22,9 +22,11 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link GenericableExecutor} 的可降级的实现。
+ * <p>对于非阻塞调用，在异步结果因可降级异常失败时执行降级服务实现，降级过程同样不阻塞调用线程。</p>
  *
  * @author 季聿阶
  * @since 2023-03-27
@@ -40,6 +42,9 @@ public class DegradableGenericableExecutor extends AbstractUnicastGenericableExe
 
     @Override
     protected Object execute(Fitable fitable, InvocationContext context, Object[] args) {
+        if (NonBlockingResults.isEnabled(context)) {
+            return this.executeNonBlocking(fitable, context, args, new HashSet<>());
+        }
         try {
             return this.executor.execute(Collections.singletonList(fitable), context, args);
         } catch (DegradableException e) {
@@ -92,6 +97,34 @@ public class DegradableGenericableExecutor extends AbstractUnicastGenericableExe
         throw actualException;
     }
 
+    private CompletableFuture<Object> executeNonBlocking(Fitable fitable, InvocationContext context, Object[] args,
+            Set<UniqueFitableId> executedFitables) {
+        executedFitables.add(fitable.toUniqueId());
+        return NonBlockingResults.of(() -> this.executor.execute(Collections.singletonList(fitable), context, args))
+                .exceptionallyCompose(exception -> {
+                    Throwable cause = NonBlockingResults.actualCause(exception);
+                    if (!(cause instanceof DegradableException)) {
+                        return CompletableFuture.failedFuture(FitException.wrap(cause,
+                                fitable.genericable().id(),
+                                fitable.id()));
+                    }
+                    DegradableException actualException = ObjectUtils.cast(cause);
+                    if (executedFitables.size() > 1) {
+                        actualException.associateFitable(fitable.genericable().id(), fitable.id());
+                    }
+                    Optional<Fitable> degradationFitable = this.getDegradationFitable(fitable);
+                    if (degradationFitable.isEmpty()) {
+                        return CompletableFuture.failedFuture(actualException);
+                    }
+                    if (executedFitables.contains(degradationFitable.get().toUniqueId())) {
+                        log.warn("Circular degradation, exit. [id={}]", degradationFitable.get().toUniqueId());
+                        return CompletableFuture.failedFuture(actualException);
+                    }
+                    log.debug("Prepare to execute degradation. [id={}]", degradationFitable.get().toUniqueId());
+                    return this.executeNonBlocking(degradationFitable.get(), context, args, executedFitables);
+                });
+    }
+
     private Optional<Fitable> getDegradationFitable(Fitable fitable) {
         for (Fitable target : fitable.genericable().fitables()) {
             if (Objects.equals(target.id(), fitable.degradationFitableId())) {
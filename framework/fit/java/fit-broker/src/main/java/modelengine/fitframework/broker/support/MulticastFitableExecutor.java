@@ -45,6 +45,13 @@ public class MulticastFitableExecutor implements FitableExecutor {
 
     @Override
     public Object execute(Fitable fitable, List<Target> targets, InvocationContext context, Object[] args) {
+        if (ParallelMulticaster.isApplicable(context, targets.size())) {
+            return ParallelMulticaster.shared()
+                    .execute(targets,
+                            target -> this.execute(fitable, target, context, args),
+                            target -> StringUtils.format("{0}@{1}", fitable.toUniqueId(), target.workerId()),
+                            context);
+        }
         return targets.stream().map(target -> {
             try {
                 return this.execute(fitable, target, context, args);
@@ -32,6 +32,13 @@ public class MulticastGenericableExecutor implements GenericableExecutor {
 
     @Override
     public Object execute(List<Fitable> fitables, InvocationContext context, Object[] args) {
+        if (ParallelMulticaster.isApplicable(context, fitables.size())) {
+            return ParallelMulticaster.shared()
+                    .execute(fitables,
+                            fitable -> this.executor.execute(Collections.singletonList(fitable), context, args),
+                            fitable -> fitable.toUniqueId().toString(),
+                            context);
+        }
         return fitables.stream().map(fitable -> {
             try {
                 return this.executor.execute(Collections.singletonList(fitable), context, args);
@@ -0,0 +1,76 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.exception.MethodInvocationException;
+import modelengine.fitframework.util.ExceptionUtils;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 为非阻塞调用的执行结果提供工具方法。
+ * <p>非阻塞调用中，远程服务实现的执行结果为 {@link CompletableFuture}，而本地服务实现仍然同步执行，因此各执行器需要将两种结果以及
+ * 同步抛出的异常统一为异步结果后再进行重试、降级等处理。</p>
+ *
+ * @author agent
+ * @see InvocationContext#isNonBlocking()
+ * @since 2026-10-17
+ */
+final class NonBlockingResults {
+    private NonBlockingResults() {}
+
+    /**
+     * 判断指定的调用是否以非阻塞的方式执行。
+     * <p>多播调用需要在调用线程中累加各个服务实现的结果，因此总是同步执行。</p>
+     *
+     * @param context 表示调用上下文的 {@link InvocationContext}。
+     * @return 如果调用以非阻塞的方式执行，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    static boolean isEnabled(InvocationContext context) {
+        return context.isNonBlocking() && !context.isMulticast();
+    }
+
+    /**
+     * 执行指定的调用，并将调用结果或调用过程中抛出的异常转换为异步结果。
+     *
+     * @param invocation 表示待执行的调用的 {@link Supplier}{@code <}{@link Object}{@code >}。
+     * @return 表示调用的异步结果的 {@link CompletableFuture}{@code <}{@link Object}{@code >}。
+     */
+    static CompletableFuture<Object> of(Supplier<Object> invocation) {
+        try {
+            Object result = invocation.get();
+            if (result instanceof CompletableFuture) {
+                return ObjectUtils.cast(result);
+            }
+            return CompletableFuture.completedFuture(result);
+        } catch (Throwable e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 获取异步结果中的实际异常。
+     * <p>实际异常为去除 {@link CompletionException} 和 {@link MethodInvocationException} 包装后的异常。</p>
+     *
+     * @param exception 表示异步结果中的异常的 {@link Throwable}。
+     * @return 表示实际异常的 {@link Throwable}。
+     */
+    static Throwable actualCause(Throwable exception) {
+        Throwable cause = exception;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof MethodInvocationException) {
+            return ExceptionUtils.getActualCause((MethodInvocationException) cause);
+        }
+        return cause;
+    }
+}
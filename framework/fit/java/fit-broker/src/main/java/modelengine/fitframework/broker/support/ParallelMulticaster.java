@@ -0,0 +1,225 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.MulticastPolicy;
+import modelengine.fitframework.broker.client.MulticastIncompleteException;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.LazyLoader;
+import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.ThreadUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * 为多播调用提供并发执行的能力。
+ * <p>所有候选者在最大并发数的限制下同时被调用，调用结果在返回时即通过调用上下文中的累加器进行累加。调用上下文中的超时时间作为整个
+ * 多播调用的全局截止时间，达到截止时间或满足 {@link MulticastPolicy#completion()} 指定的完成条件后，尚未完成的调用将被取消，
+ * 所有被丢弃的候选者将通过日志进行报告。完成条件为 {@link MulticastPolicy.Completion#FIRST_N} 或
+ * {@link MulticastPolicy.Completion#QUORUM} 时，如果成功调用的数量最终未达到要求，将抛出
+ * {@link MulticastIncompleteException}，其中携带失败和被丢弃的候选者。</p>
+ * <p>调用在虚拟线程上执行，当运行环境不支持虚拟线程时，使用平台线程的缓存线程池。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class ParallelMulticaster {
+    private static final Logger log = Logger.get(ParallelMulticaster.class);
+    private static final String THREAD_NAME_PREFIX = "fit-multicast";
+    private static final LazyLoader<ParallelMulticaster> INSTANCE_LOADER =
+            new LazyLoader<>(() -> new ParallelMulticaster(createExecutor()));
+
+    private final Executor executor;
+
+    /**
+     * 使用执行调用的执行器初始化 {@link ParallelMulticaster} 类的新实例。
+     *
+     * @param executor 表示执行调用的执行器的 {@link Executor}。
+     * @throws IllegalArgumentException 当 {@code executor} 为 {@code null} 时。
+     */
+    ParallelMulticaster(Executor executor) {
+        this.executor = notNull(executor, "The multicast executor cannot be null.");
+    }
+
+    /**
+     * 获取共享的并发多播执行程序。
+     *
+     * @return 表示共享的并发多播执行程序的 {@link ParallelMulticaster}。
+     */
+    static ParallelMulticaster shared() {
+        return INSTANCE_LOADER.get();
+    }
+
+    /**
+     * 判断指定的调用是否需要并发执行。
+     *
+     * @param context 表示调用上下文的 {@link InvocationContext}。
+     * @param candidates 表示候选者数量的 {@code int}。
+     * @return 如果调用上下文指定了并发多播且候选者不止一个，返回 {@code true}，否则，返回 {@code false}。
+     */
+    static boolean isApplicable(InvocationContext context, int candidates) {
+        MulticastPolicy policy = context.multicastPolicy();
+        return policy != null && policy.isParallel() && candidates > 1;
+    }
+
+    private static Executor createExecutor() {
+        return ThreadUtils.virtualThreadFactory(THREAD_NAME_PREFIX + "-virtual-")
+                .<Executor>map(factory -> command -> factory.newThread(command).start())
+                .orElseGet(() -> {
+                    ThreadFactory factory = new DefaultThreadFactory(THREAD_NAME_PREFIX, true, null);
+                    return Executors.newCachedThreadPool(factory);
+                });
+    }
+
+    /**
+     * 并发调用所有的候选者，并累加调用结果。
+     *
+     * @param candidates 表示候选者列表的 {@link List}{@code <}{@link T}{@code >}。
+     * @param call 表示调用单个候选者的方法的 {@link Function}{@code <}{@link T}{@code , }{@link Object}{@code >}。
+     * @param describer 表示描述单个候选者的方法的 {@link Function}{@code <}{@link T}{@code , }{@link String}{@code >}。
+     * @param context 表示调用上下文的 {@link InvocationContext}。
+     * @param <T> 表示候选者类型的 {@link T}。
+     * @return 表示累加后的调用结果的 {@link Object}，当没有任何非空结果时为 {@code null}。
+     * @throws MulticastIncompleteException 当完成条件要求的成功调用数量未达到时。
+     */
+    <T> Object execute(List<T> candidates, Function<T, Object> call, Function<T, String> describer,
+            InvocationContext context) {
+        MulticastPolicy policy = context.multicastPolicy();
+        int total = candidates.size();
+        int window = policy.maxConcurrency() > 0 ? Math.min(policy.maxConcurrency(), total) : total;
+        int required = requiredSuccesses(policy, total);
+        long deadline = deadline(context);
+        BinaryOperator<Object> accumulator = context.accumulator();
+        CompletionService<Object> completionService = new ExecutorCompletionService<>(this.executor);
+        Map<Future<Object>, T> running = new HashMap<>();
+        List<String> failed = new ArrayList<>();
+        List<Throwable> causes = new ArrayList<>();
+        List<String> dropped = new ArrayList<>();
+        int next = 0;
+        for (; next < window; next++) {
+            T candidate = candidates.get(next);
+            running.put(completionService.submit(() -> call.apply(candidate)), candidate);
+        }
+        Object result = null;
+        int successes = 0;
+        String reason = "timeout";
+        while (!running.isEmpty()) {
+            Future<Object> done;
+            try {
+                done = poll(completionService, deadline);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reason = "interrupted";
+                break;
+            }
+            if (done == null) {
+                break;
+            }
+            T candidate = running.remove(done);
+            try {
+                Object value = done.get();
+                successes++;
+                if (value != null) {
+                    result = result == null ? value : accumulator.apply(result, value);
+                }
+            } catch (ExecutionException e) {
+                failed.add(StringUtils.format("{0}(failed: {1})", describer.apply(candidate), e.getCause()));
+                causes.add(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                reason = "interrupted";
+                break;
+            }
+            if (successes >= required) {
+                reason = "completed";
+                break;
+            }
+            if (next < total) {
+                T nextCandidate = candidates.get(next++);
+                running.put(completionService.submit(() -> call.apply(nextCandidate)), nextCandidate);
+            }
+        }
+        for (Map.Entry<Future<Object>, T> entry : running.entrySet()) {
+            entry.getKey().cancel(true);
+            dropped.add(StringUtils.format("{0}({1})", describer.apply(entry.getValue()), reason));
+        }
+        for (; next < total; next++) {
+            dropped.add(StringUtils.format("{0}(not started: {1})", describer.apply(candidates.get(next)), reason));
+        }
+        if (required != Integer.MAX_VALUE && successes < required) {
+            throw incomplete(context, successes, required, failed, causes, dropped);
+        }
+        if (!failed.isEmpty() || !dropped.isEmpty()) {
+            log.warn("Some candidates are dropped while multicast. [genericableId={}, policy={}, successes={}, "
+                    + "failed={}, dropped={}]", context.genericableId(), policy, successes, failed, dropped);
+        }
+        return result;
+    }
+
+    private static MulticastIncompleteException incomplete(InvocationContext context, int successes, int required,
+            List<String> failed, List<Throwable> causes, List<String> dropped) {
+        MulticastIncompleteException exception = new MulticastIncompleteException(StringUtils.format(
+                "Not enough candidates succeeded while multicast. [genericableId={0}, policy={1}, successes={2}, "
+                        + "required={3}, failed={4}, dropped={5}]",
+                context.genericableId(),
+                context.multicastPolicy(),
+                successes,
+                required,
+                failed,
+                dropped), failed, dropped);
+        exception.associateGenericable(context.genericableId());
+        causes.forEach(exception::addSuppressed);
+        return exception;
+    }
+
+    private static Future<Object> poll(CompletionService<Object> completionService, long deadline)
+            throws InterruptedException {
+        if (deadline == Long.MAX_VALUE) {
+            return completionService.take();
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return completionService.poll();
+        }
+        return completionService.poll(remaining, TimeUnit.NANOSECONDS);
+    }
+
+    private static int requiredSuccesses(MulticastPolicy policy, int total) {
+        switch (policy.completion()) {
+            case FIRST_N:
+                return policy.requiredSuccesses();
+            case QUORUM:
+                return total / 2 + 1;
+            default:
+                return Integer.MAX_VALUE;
+        }
+    }
+
+    private static long deadline(InvocationContext context) {
+        if (context.timeout() <= 0 || context.timeoutUnit() == null) {
+            return Long.MAX_VALUE;
+        }
+        return System.nanoTime() + context.timeoutUnit().toNanos(context.timeout());
+    }
+}
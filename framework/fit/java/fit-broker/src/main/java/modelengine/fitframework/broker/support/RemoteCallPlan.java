@@ -0,0 +1,147 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fit.client.Client;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+/**
+ * 表示单个服务实现的远程调用计划。
+ * <p>远程调用计划缓存了每次远程调用中不随调用参数变化的内容，包括按通信协议解析得到的客户端、按序列化方式生成的请求元数据模板（不含每次请求独立的扩展字段和访问令牌），
+ * 以及服务方法的泛型参数类型和返回值类型，从而避免每次调用时扫描容器和重复反射。</p>
+ * <p>插件的启动和停止可能改变容器中可用的客户端，因此所有调用计划共享一个全局的版本号，版本号通过 {@link #invalidateAll()}
+ * 递增后，已有的调用计划全部失效，并在下一次调用时重新生成。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class RemoteCallPlan {
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private final long generation;
+    private final BeanContainer container;
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+    private final Map<Integer, RequestMetadata> metadataTemplates = new ConcurrentHashMap<>();
+    private volatile MethodTypes methodTypes;
+
+    /**
+     * 使用指定的容器初始化 {@link RemoteCallPlan} 的新实例。
+     *
+     * @param container 表示容器的 {@link BeanContainer}。
+     * @throws IllegalArgumentException 当 {@code container} 为 {@code null} 时。
+     */
+    RemoteCallPlan(BeanContainer container) {
+        this.generation = GENERATION.get();
+        this.container = notNull(container, "The bean container cannot be null.");
+    }
+
+    /**
+     * 使所有已生成的远程调用计划失效。
+     */
+    static void invalidateAll() {
+        GENERATION.incrementAndGet();
+    }
+
+    /**
+     * 判断当前调用计划是否仍然有效。
+     *
+     * @return 如果调用计划有效，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isValid() {
+        return this.generation == GENERATION.get();
+    }
+
+    /**
+     * 获取支持指定通信协议的客户端。
+     *
+     * @param protocol 表示通信协议的 {@link String}。
+     * @return 表示支持指定通信协议的客户端的 {@link Client}。
+     * @throws IllegalStateException 当容器中没有支持指定通信协议的客户端时。
+     */
+    Client client(String protocol) {
+        return this.clients.computeIfAbsent(protocol, this::requireClient);
+    }
+
+    /**
+     * 获取指定序列化方式的请求元数据模板。
+     *
+     * @param format 表示序列化方式编码的 {@code int}。
+     * @param creator 表示请求元数据模板不存在时的创建方法的 {@link IntFunction}{@code <}{@link RequestMetadata}{@code >}。
+     * @return 表示请求元数据模板的 {@link RequestMetadata}。
+     */
+    RequestMetadata metadata(int format, IntFunction<RequestMetadata> creator) {
+        return this.metadataTemplates.computeIfAbsent(format, creator::apply);
+    }
+
+    /**
+     * 获取指定方法的泛型参数类型数组。
+     * <p>返回的数组为缓存内容，调用方不能修改。</p>
+     *
+     * @param method 表示指定方法的 {@link Method}。
+     * @return 表示泛型参数类型数组的 {@link Type}{@code []}。
+     */
+    Type[] parameterTypes(Method method) {
+        return this.methodTypes(method).parameterTypes;
+    }
+
+    /**
+     * 获取指定方法的泛型返回值类型。
+     *
+     * @param method 表示指定方法的 {@link Method}。
+     * @return 表示泛型返回值类型的 {@link Type}。
+     */
+    Type returnType(Method method) {
+        return this.methodTypes(method).returnType;
+    }
+
+    private MethodTypes methodTypes(Method method) {
+        MethodTypes current = this.methodTypes;
+        if (current == null || !current.method.equals(method)) {
+            current = new MethodTypes(method);
+            this.methodTypes = current;
+        }
+        return current;
+    }
+
+    private Client requireClient(String protocol) {
+        return this.container.all(Client.class)
+                .stream()
+                .map(BeanFactory::<Client>get)
+                .filter(client -> client.getSupportedProtocols().contains(protocol))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "No supported client at localhost. [protocol={0}]",
+                        protocol)));
+    }
+
+    private static class MethodTypes {
+        private final Method method;
+        private final Type[] parameterTypes;
+        private final Type returnType;
+
+        private MethodTypes(Method method) {
+            this.method = method;
+            this.parameterTypes =
+                    Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
+            this.returnType = method.getGenericReturnType();
+        }
+    }
+}
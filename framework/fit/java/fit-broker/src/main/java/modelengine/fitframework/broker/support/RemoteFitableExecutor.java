@@ -10,7 +10,6 @@ import static modelengine.fitframework.inspection.Validation.notBlank;
 import static modelengine.fitframework.inspection.Validation.notEmpty;
 
 import modelengine.fit.client.Address;
-import modelengine.fit.client.Client;
 import modelengine.fit.client.Request;
 import modelengine.fit.client.RequestContext;
 import modelengine.fit.client.Response;
@@ -24,6 +23,7 @@ import modelengine.fitframework.broker.FitableExecutor;
 import modelengine.fitframework.broker.Format;
 import modelengine.fitframework.broker.InvocationContext;
 import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.client.filter.loadbalance.TargetStatistics;
 import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.exception.FitException;
 import modelengine.fitframework.ioc.BeanContainer;
@@ -33,27 +33,38 @@ import modelengine.fitframework.serialization.RequestMetadata;
 import modelengine.fitframework.serialization.ResponseMetadata;
 import modelengine.fitframework.serialization.TagLengthValues;
 import modelengine.fitframework.serialization.Version;
+import modelengine.fitframework.thread.DefaultThreadFactory;
 import modelengine.fitframework.util.LazyLoader;
 import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.ThreadUtils;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * 表示 {@link FitableExecutor} 的远程调用实现。
+ * <p>每个执行器对应一个服务实现，执行器通过 {@link RemoteCallPlan} 缓存客户端、请求元数据模板和方法的泛型类型，
+ * 在插件启动或停止后重新生成。</p>
+ * <p>对于非阻塞的单播调用，执行器不等待响应到达，而是返回表示调用结果的 {@link CompletableFuture}。响应的回调运行在客户端的
+ * 网络线程上，因此鉴权失败后阻塞的令牌刷新被转移到独立的线程上执行。</p>
  *
  * @author 季聿阶
  * @since 2023-03-28
  */
 public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
     private static final Logger log = Logger.get(RemoteFitableExecutor.class);
+    private static final String TOKEN_REFRESH_THREAD_NAME_PREFIX = "fit-token-refresh";
+    private static final LazyLoader<Executor> TOKEN_REFRESH_EXECUTOR_LOADER =
+            new LazyLoader<>(RemoteFitableExecutor::createTokenRefreshExecutor);
 
     private final BeanContainer container;
     private final LazyLoader<FitExceptionCreator> exceptionCreatorLoader = new LazyLoader<>(this::getExceptionCreator);
@@ -61,6 +72,7 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
             new LazyLoader<>(this::requireRegisterAuthService);
     private final LazyLoader<Set<String>> requireMatataGenericables = new LazyLoader<>(this::requireMatataGenericables);
     private final LazyLoader<Boolean> isAccessEnable = new LazyLoader<>(this::isAccessEnable);
+    private volatile RemoteCallPlan plan;
 
     RemoteFitableExecutor(BeanContainer container) {
         this.container = container;
@@ -73,14 +85,45 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         Format format = this.chooseFormat(target);
         RequestMetadata requestMetadataBytes = this.getRequestMetadataBytes(format, fitable);
         Method method = fitable.genericable().method().method();
+        if (NonBlockingResults.isEnabled(context)) {
+            return this.executeNonBlocking(fitable, target, context, requestMetadataBytes, args, method);
+        }
         Response response = this.requestResponse(target, context, requestMetadataBytes, args, method);
         if (this.isTokenValid(response.metadata())) {
-            this.requireRegisterAuthService.get().refreshToken(Instant.now());
-            requestMetadataBytes = requestMetadataBytes.copy()
-                    .accessToken(this.requireRegisterAuthService.get().getToken().getAccessToken().getToken())
-                    .build();
-            response = this.requestResponse(target, context, requestMetadataBytes, args, method);
+            response = this.requestResponse(target, context, this.refreshToken(requestMetadataBytes), args, method);
         }
+        return this.getResult(fitable, target, response);
+    }
+
+    private CompletableFuture<Object> executeNonBlocking(Fitable fitable, Target target, InvocationContext context,
+            RequestMetadata metadata, Object[] args, Method method) {
+        return this.requestResponseAsync(target, context, metadata, args, method).thenCompose(response -> {
+            if (this.isTokenValid(response.metadata())) {
+                return CompletableFuture.supplyAsync(() -> this.refreshToken(metadata),
+                                TOKEN_REFRESH_EXECUTOR_LOADER.get())
+                        .thenCompose(refreshed -> this.requestResponseAsync(target, context, refreshed, args, method));
+            }
+            return CompletableFuture.completedFuture(response);
+        }).thenApply(response -> this.getResult(fitable, target, response));
+    }
+
+    private static Executor createTokenRefreshExecutor() {
+        return ThreadUtils.virtualThreadFactory(TOKEN_REFRESH_THREAD_NAME_PREFIX + "-virtual-")
+                .<Executor>map(factory -> command -> factory.newThread(command).start())
+                .orElseGet(() -> {
+                    ThreadFactory factory = new DefaultThreadFactory(TOKEN_REFRESH_THREAD_NAME_PREFIX, true, null);
+                    return Executors.newCachedThreadPool(factory);
+                });
+    }
+
+    private RequestMetadata refreshToken(RequestMetadata metadata) {
+        this.requireRegisterAuthService.get().refreshToken(Instant.now());
+        return metadata.copy()
+                .accessToken(this.requireRegisterAuthService.get().getToken().getAccessToken().getToken())
+                .build();
+    }
+
+    private Object getResult(Fitable fitable, Target target, Response response) {
         if (this.isSuccess(response.metadata())) {
             log.debug("Invoke remote fitable successfully. [id={}, target={}]", fitable.toUniqueId(), target);
             return response.data();
@@ -94,6 +137,15 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
         throw responseException;
     }
 
+    private RemoteCallPlan plan() {
+        RemoteCallPlan current = this.plan;
+        if (current == null || !current.isValid()) {
+            current = new RemoteCallPlan(this.container);
+            this.plan = current;
+        }
+        return current;
+    }
+
     private FitExceptionCreator getExceptionCreator() {
         return this.container.lookup(FitExceptionCreator.class)
                 .map(BeanFactory::<FitExceptionCreator>get)
@@ -130,32 +182,21 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
                 this.isAccessEnable.get() && this.requireMatataGenericables.get().contains(fitable.genericable().id())
                         ? this.requireRegisterAuthService.get().getToken().getAccessToken().getToken()
                         : null;
-        return RequestMetadata.custom()
-                .dataFormat(valueFormat(format.code()))
+        RequestMetadata template = this.plan().metadata(format.code(), code -> RequestMetadata.custom()
+                .dataFormat(valueFormat(code))
                 .genericableId(fitable.genericable().id())
                 .genericableVersion(Version.builder(fitable.genericable().version()).build())
                 .fitableId(fitable.id())
                 .fitableVersion(Version.builder(fitable.version()).build())
-                .tagValues(this.getTlvFromSerializers())
-                .accessToken(token)
-                .build();
+                .build());
+        // 扩展字段在发送前会被写入工作进程、实例和异步任务等标识，每次请求都需要独立的对象。
+        return template.copy().tagValues(this.getTlvFromSerializers()).accessToken(token).build();
     }
 
     private static byte valueFormat(int format) {
         return (byte) (format & 0xFF);
     }
 
-    private Client requireClient(String protocol) {
-        return this.container.all(Client.class)
-                .stream()
-                .map(BeanFactory::<Client>get)
-                .filter(client -> client.getSupportedProtocols().contains(protocol))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
-                        "No supported client at localhost. [protocol={0}]",
-                        protocol)));
-    }
-
     private RegisterAuthService requireRegisterAuthService() {
         return this.container.all(RegisterAuthService.class)
                 .stream()
@@ -208,14 +249,47 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
 
     private Response requestResponse(Target target, InvocationContext context, RequestMetadata metadata, Object[] args,
             Method method) {
+        TargetStatistics.INSTANCE.start(target);
+        long start = System.nanoTime();
+        try {
+            return this.doRequestResponse(target, context, metadata, args, method);
+        } finally {
+            TargetStatistics.INSTANCE.complete(target, System.nanoTime() - start);
+        }
+    }
+
+    private CompletableFuture<Response> requestResponseAsync(Target target, InvocationContext context,
+            RequestMetadata metadata, Object[] args, Method method) {
+        TargetStatistics.INSTANCE.start(target);
+        long start = System.nanoTime();
+        CompletableFuture<Response> future;
+        try {
+            Endpoint endpoint = target.endpoints().iterator().next();
+            Request request = this.buildRequest(endpoint, target, context, metadata, args, method);
+            future = this.plan().client(endpoint.protocol()).requestResponseAsync(request);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((response, cause) -> TargetStatistics.INSTANCE.complete(target,
+                System.nanoTime() - start));
+    }
+
+    private Response doRequestResponse(Target target, InvocationContext context, RequestMetadata metadata,
+            Object[] args, Method method) {
         Endpoint endpoint = target.endpoints().iterator().next();
+        Request request = this.buildRequest(endpoint, target, context, metadata, args, method);
+        return this.plan().client(endpoint.protocol()).requestResponse(request);
+    }
+
+    private Request buildRequest(Endpoint endpoint, Target target, InvocationContext context,
+            RequestMetadata metadata, Object[] args, Method method) {
         Address address = Address.create(target.host(), endpoint.port());
         RequestContext requestContext = RequestContext.create(context.timeout(),
                 context.timeoutUnit(),
                 context.communicationType(),
                 target.extensions());
         Type[] argumentTypes = this.getGenericParameterTypes(method, args);
-        Request request = Request.custom()
+        return Request.custom()
                 .protocol(endpoint.protocol())
                 .address(address)
                 .metadata(metadata)
@@ -224,7 +298,6 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
                 .returnType(this.getGenericReturnType(method))
                 .context(requestContext)
                 .build();
-        return this.requireClient(endpoint.protocol()).requestResponse(request);
     }
 
     /**
@@ -235,7 +308,7 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
      * @return 表示泛化参数的类型数组的 {@link Type}{@code []}。
      */
     protected Type[] getGenericParameterTypes(Method method, Object[] args) {
-        return Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
+        return this.plan().parameterTypes(method);
     }
 
     /**
@@ -245,6 +318,6 @@ public class RemoteFitableExecutor extends AbstractUnicastFitableExecutor {
      * @return 表示泛化返回值的类型的 {@link Type}。
      */
     protected Type getGenericReturnType(Method method) {
-        return method.getGenericReturnType();
+        return this.plan().returnType(method);
     }
 }
\ No newline at end of file
@@ -16,9 +16,11 @@ import modelengine.fitframework.util.ExceptionUtils;
 import modelengine.fitframework.util.ObjectUtils;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link GenericableExecutor} 的重试调用实现。
+ * <p>对于非阻塞调用，在异步结果失败时发起重试，重试过程同样不阻塞调用线程。</p>
  *
  * @author 季聿阶
  * @since 2023-03-27
@@ -32,6 +34,9 @@ public class RetryableGenericableExecutor extends AbstractUnicastGenericableExec
 
     @Override
     protected Object execute(Fitable fitable, InvocationContext context, Object[] args) {
+        if (NonBlockingResults.isEnabled(context)) {
+            return this.executeNonBlocking(fitable, context, args, context.retry());
+        }
         int retry = context.retry() + 1;
         RetryableException actualException;
         do {
@@ -54,4 +59,23 @@ public class RetryableGenericableExecutor extends AbstractUnicastGenericableExec
         actualException.associateFitable(fitable.genericable().id(), fitable.id());
         throw actualException;
     }
+
+    private CompletableFuture<Object> executeNonBlocking(Fitable fitable, InvocationContext context, Object[] args,
+            int retry) {
+        return NonBlockingResults.of(() -> this.executor.execute(Collections.singletonList(fitable), context, args))
+                .exceptionallyCompose(exception -> {
+                    Throwable cause = NonBlockingResults.actualCause(exception);
+                    if (!(cause instanceof RetryableException)) {
+                        return CompletableFuture.failedFuture(FitException.wrap(cause,
+                                fitable.genericable().id(),
+                                fitable.id()));
+                    }
+                    if (retry > 0) {
+                        return this.executeNonBlocking(fitable, context, args, retry - 1);
+                    }
+                    RetryableException actualException = ObjectUtils.cast(cause);
+                    actualException.associateFitable(fitable.genericable().id(), fitable.id());
+                    return CompletableFuture.failedFuture(actualException);
+                });
+    }
 }
@@ -0,0 +1,69 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.broker.MulticastPolicy;
+import modelengine.fitframework.conf.Config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ConfigurableMulticastPolicies} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 ConfigurableMulticastPolicies")
+public class ConfigurableMulticastPoliciesTest {
+    private static Config config(Map<String, Object> multicast) {
+        return Config.fromHierarchical("test",
+                Collections.singletonMap("fit", Collections.singletonMap("broker",
+                        Collections.singletonMap("multicast", multicast))));
+    }
+
+    @Test
+    @DisplayName("按服务的配置选择多播策略，服务中没有配置的项使用全局默认值")
+    void shouldSelectPolicyByGenericableConfig() {
+        Map<String, Object> genericable1 = new HashMap<>();
+        genericable1.put("id", "g1");
+        genericable1.put("completion", "first-n");
+        genericable1.put("required-successes", "2");
+        Map<String, Object> genericable2 = new HashMap<>();
+        genericable2.put("id", "g2");
+        genericable2.put("completion", "first-n");
+        Map<String, Object> multicast = new HashMap<>();
+        multicast.put("parallel", "true");
+        multicast.put("max-concurrency", "8");
+        multicast.put("completion", "quorum");
+        multicast.put("genericables", Arrays.asList(genericable1, genericable2));
+        ConfigurableMulticastPolicies policies = new ConfigurableMulticastPolicies(config(multicast));
+
+        MulticastPolicy policy = policies.get("g1");
+        assertThat(policy.isParallel()).isTrue();
+        assertThat(policy.maxConcurrency()).isEqualTo(8);
+        assertThat(policy.completion()).isEqualTo(MulticastPolicy.Completion.FIRST_N);
+        assertThat(policy.requiredSuccesses()).isEqualTo(2);
+        assertThat(policies.get("g2").completion()).isEqualTo(MulticastPolicy.Completion.QUORUM);
+        assertThat(policies.get("g3").completion()).isEqualTo(MulticastPolicy.Completion.QUORUM);
+    }
+
+    @Test
+    @DisplayName("没有配置时使用顺序调用的策略")
+    void shouldUseSequentialWithoutConfig() {
+        assertThat(new ConfigurableMulticastPolicies(null).get("g1")).isSameAs(MulticastPolicy.sequential());
+        assertThat(new ConfigurableMulticastPolicies(config(Collections.emptyMap())).get("g1").isParallel())
+                .isFalse();
+    }
+}
@@ -0,0 +1,70 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.client.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.broker.ConfigurableGenericable;
+import modelengine.fitframework.broker.DynamicRouter;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.GenericableRepository;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.LoadBalancer;
+import modelengine.fitframework.broker.TargetLocator;
+import modelengine.fitframework.broker.support.DefaultFitableFactory;
+import modelengine.fitframework.broker.support.DefaultGenericableFactory;
+import modelengine.fitframework.broker.support.DefaultLocalGenericableRepository;
+import modelengine.fitframework.ioc.BeanContainer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * 表示 {@link DefaultInvoker} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 DefaultInvoker")
+public class DefaultInvokerTest {
+    @Test
+    @DisplayName("获取多个插件中声明的服务时，调用上下文中的服务方法对合并后的服务生效")
+    void shouldApplyGenericableMethodToMergedGenericable() throws NoSuchMethodException {
+        DefaultGenericableFactory genericableFactory = new DefaultGenericableFactory(Mockito.mock(DynamicRouter.class));
+        DefaultFitableFactory fitableFactory = new DefaultFitableFactory(Mockito.mock(BeanContainer.class),
+                Mockito.mock(LoadBalancer.class),
+                Mockito.mock(TargetLocator.class));
+        ConfigurableGenericable root = genericableFactory.create("g", "1.0.0");
+        root.appendFitable(fitableFactory.create("f1", "1.0.0").genericable(root));
+        ConfigurableGenericable plugin = genericableFactory.create("g", "1.0.0");
+        plugin.appendFitable(fitableFactory.create("f2", "1.0.0").genericable(plugin));
+        DefaultLocalGenericableRepository repository = new DefaultLocalGenericableRepository(genericableFactory,
+                fitableFactory,
+                repositoryOf("root", root));
+        repository.install(repositoryOf("plugin", plugin));
+        Method method = String.class.getMethod("trim");
+
+        Genericable genericable = new DefaultInvoker(repository,
+                Mockito.mock(GenericableRepository.class),
+                "g",
+                InvocationContext.custom().genericableId("g").isMicro(true).genericableMethod(method)).getGenericable();
+        assertThat(genericable.fitables()).hasSize(2);
+        assertThat(genericable.method().method()).isSameAs(method);
+        assertThat(repository.get("g", "1.0.0")).containsSame(genericable);
+    }
+
+    private static GenericableRepository repositoryOf(String name, Genericable genericable) {
+        GenericableRepository repository = Mockito.mock(GenericableRepository.class);
+        Mockito.when(repository.name()).thenReturn(name);
+        Mockito.when(repository.get("g", "1.0.0")).thenReturn(Optional.of(genericable));
+        return repository;
+    }
+}
@@ -0,0 +1,271 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.GenericableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.exception.TimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CoalescingGenericableExecutor} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 CoalescingGenericableExecutor")
+class CoalescingGenericableExecutorTest {
+    private final AtomicInteger executions = new AtomicInteger();
+    private final InvocationContext context = mock(InvocationContext.class);
+    private Fitable fitable;
+    private ExecutorService threads;
+
+    @BeforeEach
+    void setup() {
+        this.fitable = mock(Fitable.class);
+        when(this.fitable.toUniqueId()).thenReturn(UniqueFitableId.create("g", "f"));
+        when(this.fitable.id()).thenReturn("f");
+        Genericable genericable = mock(Genericable.class);
+        when(genericable.id()).thenReturn("g");
+        when(this.fitable.genericable()).thenReturn(genericable);
+        this.threads = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void teardown() {
+        this.threads.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("不缓存结果")
+    class WithoutTtl {
+        @Test
+        @DisplayName("参数相同的并发调用只执行一次，且共享相同的结果")
+        void shouldExecuteOnceForConcurrentIdenticalCalls() throws Exception {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            GenericableExecutor blocking = (fitables, context, args) -> {
+                CoalescingGenericableExecutorTest.this.executions.incrementAndGet();
+                entered.countDown();
+                await(release);
+                return new Object();
+            };
+            CoalescingGenericableExecutor executor = new CoalescingGenericableExecutor(blocking, 0);
+            List<Future<Object>> futures = new ArrayList<>();
+            futures.add(CoalescingGenericableExecutorTest.this.submit(executor, "arg"));
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 7; i++) {
+                futures.add(CoalescingGenericableExecutorTest.this.submit(executor, "arg"));
+            }
+            // 等待跟随者进入等待状态后再释放领导者。
+            Thread.sleep(100);
+            release.countDown();
+            Object expected = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Object> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+            }
+            assertThat(CoalescingGenericableExecutorTest.this.executions.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("参数不同的调用分别执行")
+        void shouldExecuteSeparatelyForDifferentArguments() {
+            CoalescingGenericableExecutor executor =
+                    new CoalescingGenericableExecutor(CoalescingGenericableExecutorTest.this.counting(), 0);
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "first")).isEqualTo(1);
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "second")).isEqualTo(2);
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "first")).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("调用失败时抛出原始异常，且失败不会被缓存")
+        void shouldNotCacheFailures() {
+            IllegalStateException cause = new IllegalStateException("failed");
+            GenericableExecutor failing = (fitables, context, args) -> {
+                if (CoalescingGenericableExecutorTest.this.executions.incrementAndGet() == 1) {
+                    throw cause;
+                }
+                return "ok";
+            };
+            CoalescingGenericableExecutor executor = new CoalescingGenericableExecutor(failing, 1000);
+            IllegalStateException actual = catchThrowableOfType(IllegalStateException.class,
+                    () -> CoalescingGenericableExecutorTest.this.call(executor, "arg"));
+            assertThat(actual).isSameAs(cause);
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "arg")).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("阻塞的跟随者最多等待其调用上下文中的超时时间")
+        void shouldStopWaitingWhenFollowerTimeout() throws Exception {
+            CountDownLatch entered = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            GenericableExecutor blocking = (fitables, context, args) -> {
+                entered.countDown();
+                await(release);
+                return "value";
+            };
+            CoalescingGenericableExecutor executor = new CoalescingGenericableExecutor(blocking, 0);
+            Future<Object> leader = CoalescingGenericableExecutorTest.this.submit(executor, "arg");
+            assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+            InvocationContext follower = mock(InvocationContext.class);
+            when(follower.timeout()).thenReturn(50L);
+            when(follower.timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+            TimeoutException actual = catchThrowableOfType(TimeoutException.class,
+                    () -> executor.execute(Collections.singletonList(CoalescingGenericableExecutorTest.this.fitable),
+                            follower,
+                            new Object[] {"arg"}));
+            assertThat(actual).isNotNull();
+            assertThat(actual.associatedFitableId()).isEqualTo("f");
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+    }
+
+    @Nested
+    @DisplayName("混合调用方式")
+    class WithMixedModes {
+        @Test
+        @DisplayName("非阻塞调用执行期间的阻塞调用得到实际的值，非阻塞调用得到异步结果，且只执行一次")
+        void shouldShapeSharedResultForEachCaller() throws Exception {
+            InvocationContext nonBlocking = mock(InvocationContext.class);
+            when(nonBlocking.isNonBlocking()).thenReturn(true);
+            CompletableFuture<Object> pending = new CompletableFuture<>();
+            GenericableExecutor async = (fitables, context, args) -> {
+                CoalescingGenericableExecutorTest.this.executions.incrementAndGet();
+                return pending;
+            };
+            CoalescingGenericableExecutor executor = new CoalescingGenericableExecutor(async, 0);
+            Object leader = executor.execute(Collections.singletonList(CoalescingGenericableExecutorTest.this.fitable),
+                    nonBlocking,
+                    new Object[] {"arg"});
+            Future<Object> blockingFollower = CoalescingGenericableExecutorTest.this.submit(executor, "arg");
+            Object nonBlockingFollower =
+                    executor.execute(Collections.singletonList(CoalescingGenericableExecutorTest.this.fitable),
+                            nonBlocking,
+                            new Object[] {"arg"});
+            assertThat(leader).isSameAs(pending);
+            assertThat(nonBlockingFollower).isInstanceOf(CompletableFuture.class);
+            assertThat((CompletableFuture<?>) nonBlockingFollower).isNotDone();
+
+            // 等待阻塞的跟随者进入等待状态后再完成领导者的结果。
+            Thread.sleep(100);
+            pending.complete("value");
+            assertThat(blockingFollower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(((CompletableFuture<?>) nonBlockingFollower).get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(CoalescingGenericableExecutorTest.this.executions.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("非阻塞调用失败时，阻塞调用抛出实际的异常，且失败不会被缓存")
+        void shouldShareAsyncFailureWithoutCaching() throws Exception {
+            InvocationContext nonBlocking = mock(InvocationContext.class);
+            when(nonBlocking.isNonBlocking()).thenReturn(true);
+            IllegalStateException cause = new IllegalStateException("failed");
+            CompletableFuture<Object> pending = new CompletableFuture<>();
+            GenericableExecutor async = (fitables, context, args) -> {
+                if (CoalescingGenericableExecutorTest.this.executions.incrementAndGet() == 1) {
+                    return pending;
+                }
+                return "ok";
+            };
+            CoalescingGenericableExecutor executor = new CoalescingGenericableExecutor(async, 1000);
+            executor.execute(Collections.singletonList(CoalescingGenericableExecutorTest.this.fitable),
+                    nonBlocking,
+                    new Object[] {"arg"});
+            Future<Object> blockingFollower = CoalescingGenericableExecutorTest.this.submit(executor, "arg");
+
+            Thread.sleep(100);
+            pending.completeExceptionally(cause);
+            ExecutionException actual = catchThrowableOfType(ExecutionException.class,
+                    () -> blockingFollower.get(5, TimeUnit.SECONDS));
+            assertThat(actual.getCause()).isSameAs(cause);
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "arg")).isEqualTo("ok");
+        }
+    }
+
+    @Nested
+    @DisplayName("缓存结果")
+    class WithTtl {
+        @Test
+        @DisplayName("缓存时间内的相同调用直接返回缓存的结果，过期后重新执行")
+        void shouldReuseResultUntilExpired() {
+            AtomicLong now = new AtomicLong();
+            CoalescingGenericableExecutor executor = new CoalescingGenericableExecutor(
+                    CoalescingGenericableExecutorTest.this.counting(), 10, now::get);
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "arg")).isEqualTo(1);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(9));
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "arg")).isEqualTo(1);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+            assertThat(CoalescingGenericableExecutorTest.this.call(executor, "arg")).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("过期的结果在后续调用时按照过期时间的先后被清理")
+        void shouldExpireResultsIncrementally() {
+            AtomicLong now = new AtomicLong();
+            CoalescingGenericableExecutor executor = new CoalescingGenericableExecutor(
+                    CoalescingGenericableExecutorTest.this.counting(), 10, now::get);
+            CoalescingGenericableExecutorTest.this.call(executor, "first");
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+            CoalescingGenericableExecutorTest.this.call(executor, "second");
+            assertThat(executor.size()).isEqualTo(2);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(5));
+            CoalescingGenericableExecutorTest.this.call(executor, "third");
+            assertThat(executor.size()).isEqualTo(2);
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            CoalescingGenericableExecutorTest.this.call(executor, "fourth");
+            assertThat(executor.size()).isEqualTo(1);
+        }
+    }
+
+    private GenericableExecutor counting() {
+        return (fitables, context, args) -> this.executions.incrementAndGet();
+    }
+
+    private Object call(CoalescingGenericableExecutor executor, Object arg) {
+        return executor.execute(Collections.singletonList(this.fitable), this.context, new Object[] {arg});
+    }
+
+    private Future<Object> submit(CoalescingGenericableExecutor executor, Object arg) {
+        return this.threads.submit(() -> this.call(executor, arg));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
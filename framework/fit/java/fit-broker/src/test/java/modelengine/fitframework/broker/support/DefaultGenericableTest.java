@@ -8,9 +8,16 @@ package modelengine.fitframework.broker.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import modelengine.fitframework.broker.ConfigurableFitable;
 import modelengine.fitframework.broker.DynamicRouter;
 import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.LoadBalancer;
+import modelengine.fitframework.broker.TargetLocator;
 import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.broker.client.Router;
+import modelengine.fitframework.broker.client.filter.route.AliasFilter;
+import modelengine.fitframework.ioc.BeanContainer;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -63,4 +71,70 @@ public class DefaultGenericableTest {
         genericable.appendFitable(fitable);
         assertThat(genericable.fitables()).hasSize(1).containsExactly(fitable);
     }
+
+    @Test
+    @DisplayName("当服务实现未发生变化时，多次获取返回同一个服务实现列表的快照")
+    void givenUnchangedFitablesThenReturnSameSnapshot() {
+        DefaultGenericable genericable = new DefaultGenericable(this.router, "g", "1.0.0");
+        Fitable fitable = Mockito.mock(Fitable.class);
+        Mockito.when(fitable.toUniqueId()).thenReturn(UniqueFitableId.create("g", "f1"));
+        genericable.appendFitable(fitable);
+        assertThat(genericable.fitables()).isSameAs(genericable.fitables());
+    }
+
+    @Test
+    @DisplayName("当追加或清除服务实现后，服务实现列表的快照失效")
+    void givenChangedFitablesThenRecompileSnapshot() {
+        DefaultGenericable genericable = new DefaultGenericable(this.router, "g", "1.0.0");
+        Fitable first = Mockito.mock(Fitable.class);
+        Mockito.when(first.toUniqueId()).thenReturn(UniqueFitableId.create("g", "f1"));
+        Fitable second = Mockito.mock(Fitable.class);
+        Mockito.when(second.toUniqueId()).thenReturn(UniqueFitableId.create("g", "f2"));
+        genericable.appendFitable(first);
+        assertThat(genericable.fitables()).containsExactly(first);
+        genericable.appendFitable(second);
+        assertThat(genericable.fitables()).containsExactlyInAnyOrder(first, second);
+        genericable.clearFitables();
+        assertThat(genericable.fitables()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("当使用只取决于服务配置的路由过滤器时，相等的过滤器复用路由结果，直到服务配置发生变化")
+    void givenStaticFilterThenReuseRoutedFitablesUntilModified() {
+        DynamicRouter dynamicRouter = Mockito.spy(new DefaultDynamicRouter());
+        DefaultGenericable genericable = new DefaultGenericable(dynamicRouter, "g", "1.0.0");
+        DefaultFitableFactory fitableFactory = new DefaultFitableFactory(Mockito.mock(BeanContainer.class),
+                Mockito.mock(LoadBalancer.class),
+                Mockito.mock(TargetLocator.class));
+        ConfigurableFitable first = fitableFactory.create("f1", "1.0.0").appendAlias("a").genericable(genericable);
+        ConfigurableFitable second = fitableFactory.create("f2", "1.0.0").genericable(genericable);
+        genericable.fitables(Arrays.asList(first, second));
+
+        List<Fitable> routed = genericable.route(this.contextOf(new AliasFilter("a")), new Object[0]);
+        assertThat(routed).containsExactly(first);
+        assertThat(genericable.route(this.contextOf(new AliasFilter("a")), new Object[0])).isSameAs(routed);
+        Mockito.verify(dynamicRouter, Mockito.times(1)).route(Mockito.any(), Mockito.any(), Mockito.any());
+
+        second.appendAlias("a");
+        assertThat(genericable.route(this.contextOf(new AliasFilter("a")), new Object[0]))
+                .containsExactlyInAnyOrder(first, second);
+        Mockito.verify(dynamicRouter, Mockito.times(2)).route(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("当使用自定义的路由过滤器时，每次调用都重新路由")
+    void givenCustomFilterThenRouteEveryTime() {
+        DynamicRouter dynamicRouter = Mockito.spy(new DefaultDynamicRouter());
+        DefaultGenericable genericable = new DefaultGenericable(dynamicRouter, "g", "1.0.0");
+        Router.Filter filter = (metadata, fitables, args, extensions) -> Collections.emptyList();
+        genericable.route(this.contextOf(filter), new Object[0]);
+        genericable.route(this.contextOf(filter), new Object[0]);
+        Mockito.verify(dynamicRouter, Mockito.times(2)).route(Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    private InvocationContext contextOf(Router.Filter filter) {
+        InvocationContext context = Mockito.mock(InvocationContext.class);
+        Mockito.when(context.routingFilter()).thenReturn(filter);
+        return context;
+    }
 }
@@ -0,0 +1,131 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.LoadBalanceStrategy;
+import modelengine.fitframework.broker.SerializationService;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.TargetLocator;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.broker.client.Invoker;
+import modelengine.fitframework.conf.Config;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link DefaultLoadBalancer} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 DefaultLoadBalancer")
+public class DefaultLoadBalancerTest {
+    private BeanContainer container;
+    private DefaultLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setup() {
+        Map<String, Object> genericable1 = new HashMap<>();
+        genericable1.put("id", "g1");
+        genericable1.put("strategy", "p2c-ewma");
+        Map<String, Object> genericable2 = new HashMap<>();
+        genericable2.put("id", "g2");
+        genericable2.put("strategy", "custom");
+        Map<String, Object> loadBalance = new HashMap<>();
+        loadBalance.put("strategy", "least-outstanding-requests");
+        loadBalance.put("genericables", Arrays.asList(genericable1, genericable2));
+        Config config = Config.fromHierarchical("test",
+                Collections.singletonMap("fit", Collections.singletonMap("broker",
+                        Collections.singletonMap("load-balance", loadBalance))));
+        this.container = mock(BeanContainer.class);
+        this.loadBalancer = new DefaultLoadBalancer(this.container,
+                mock(SerializationService.class),
+                mock(TargetLocator.class),
+                config);
+    }
+
+    private static Fitable fitable(String genericableId) {
+        Fitable fitable = mock(Fitable.class);
+        Genericable genericable = mock(Genericable.class);
+        when(fitable.genericable()).thenReturn(genericable);
+        when(genericable.id()).thenReturn(genericableId);
+        return fitable;
+    }
+
+    @Test
+    @DisplayName("按服务的配置选择负载均衡策略，未配置的服务使用默认策略")
+    void shouldSelectStrategyByGenericableConfig() {
+        assertThat(this.loadBalancer.strategy(fitable("g1"))).isSameAs(Invoker.Filter.powerOfTwoChoices());
+        assertThat(this.loadBalancer.strategy(fitable("g3"))).isSameAs(Invoker.Filter.leastOutstandingRequests());
+    }
+
+    @Test
+    @DisplayName("使用容器中注册的自定义负载均衡策略，找不到时使用轮询策略")
+    void shouldSelectCustomStrategyFromContainer() {
+        assertThat(this.loadBalancer.strategy(fitable("g2"))).isSameAs(Invoker.Filter.roundRobin());
+        Invoker.Filter custom = Invoker.Filter.empty();
+        LoadBalanceStrategy strategy = mock(LoadBalanceStrategy.class);
+        when(strategy.name()).thenReturn("custom");
+        when(strategy.filter()).thenReturn(custom);
+        BeanFactory factory = mock(BeanFactory.class);
+        when(factory.get()).thenReturn(strategy);
+        when(this.container.all(LoadBalanceStrategy.class)).thenReturn(Collections.singletonList(factory));
+        this.loadBalancer.onPluginStarted(null);
+        assertThat(this.loadBalancer.strategy(fitable("g2"))).isSameAs(custom);
+    }
+
+    @Test
+    @DisplayName("没有配置时使用轮询策略")
+    void shouldUseRoundRobinWithoutConfig() {
+        DefaultLoadBalancer balancer =
+                new DefaultLoadBalancer(this.container, mock(SerializationService.class), mock(TargetLocator.class));
+        assertThat(balancer.strategy(fitable("g1"))).isSameAs(Invoker.Filter.roundRobin());
+    }
+
+    @Test
+    @DisplayName("地址定位服务每次返回内容相同的新地址列表时，复用路由表中的过滤结果")
+    void shouldReuseRoutesWhenTargetsHaveSameContent() {
+        TargetLocator targetLocator = mock(TargetLocator.class);
+        List<Target> targets = new ArrayList<>();
+        targets.add(Target.custom().workerId("w1").host("localhost").environment("env").build());
+        when(targetLocator.lookup(UniqueFitableId.create("g", "f"))).thenAnswer(invocation -> new ArrayList<>(targets));
+        DefaultLoadBalancer balancer =
+                new DefaultLoadBalancer(this.container, mock(SerializationService.class), targetLocator);
+        Fitable fitable = fitable("g");
+        when(fitable.toUniqueId()).thenReturn(UniqueFitableId.create("g", "f"));
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.localWorkerId()).thenReturn("w1");
+        when(context.environmentPrioritySequence()).thenReturn(Collections.singletonList("env"));
+        when(context.filterExtensions()).thenReturn(Collections.emptyMap());
+        when(context.loadBalanceWith()).thenReturn(Collections.emptyList());
+
+        List<Target> first = balancer.balance(fitable, context, new Object[0]);
+        assertThat(first).extracting(Target::workerId).containsExactly("w1");
+        assertThat(balancer.balance(fitable, context, new Object[0])).isSameAs(first);
+
+        targets.add(Target.custom().workerId("w2").host("localhost").environment("env").build());
+        assertThat(balancer.balance(fitable, context, new Object[0])).isNotSameAs(first);
+    }
+}
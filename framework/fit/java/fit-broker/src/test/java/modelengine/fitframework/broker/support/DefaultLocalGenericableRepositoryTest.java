@@ -0,0 +1,86 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import modelengine.fitframework.broker.ConfigurableFitable;
+import modelengine.fitframework.broker.ConfigurableGenericable;
+import modelengine.fitframework.broker.DynamicRouter;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.GenericableRepository;
+import modelengine.fitframework.broker.LoadBalancer;
+import modelengine.fitframework.broker.TargetLocator;
+import modelengine.fitframework.ioc.BeanContainer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+/**
+ * 表示 {@link DefaultLocalGenericableRepository} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 DefaultLocalGenericableRepository")
+public class DefaultLocalGenericableRepositoryTest {
+    private DefaultGenericableFactory genericableFactory;
+    private DefaultFitableFactory fitableFactory;
+    private ConfigurableFitable rootFitable;
+    private DefaultLocalGenericableRepository repository;
+
+    @BeforeEach
+    void setup() {
+        this.genericableFactory = new DefaultGenericableFactory(Mockito.mock(DynamicRouter.class));
+        this.fitableFactory = new DefaultFitableFactory(Mockito.mock(BeanContainer.class),
+                Mockito.mock(LoadBalancer.class),
+                Mockito.mock(TargetLocator.class));
+        ConfigurableGenericable root = this.genericableFactory.create("g", "1.0.0");
+        this.rootFitable = this.fitableFactory.create("f1", "1.0.0");
+        root.appendFitable(this.rootFitable.genericable(root));
+        ConfigurableGenericable plugin = this.genericableFactory.create("g", "1.0.0");
+        plugin.appendFitable(this.fitableFactory.create("f2", "1.0.0").genericable(plugin));
+        this.repository = new DefaultLocalGenericableRepository(this.genericableFactory,
+                this.fitableFactory,
+                this.repositoryOf("root", root));
+        this.repository.install(this.repositoryOf("plugin", plugin));
+    }
+
+    private GenericableRepository repositoryOf(String name, Genericable genericable) {
+        GenericableRepository repository = Mockito.mock(GenericableRepository.class);
+        Mockito.when(repository.name()).thenReturn(name);
+        Mockito.when(repository.get("g", "1.0.0")).thenReturn(Optional.of(genericable));
+        return repository;
+    }
+
+    @Test
+    @DisplayName("多个插件中声明的服务合并后被缓存，并且以只读的形式返回")
+    void shouldCacheMergedGenericableAsUnmodifiableView() {
+        Genericable merged = this.repository.get("g", "1.0.0").orElseThrow(IllegalStateException::new);
+        assertThat(merged.fitables()).hasSize(2);
+        assertThat(this.repository.get("g", "1.0.0")).containsSame(merged);
+        assertThat(merged).isInstanceOf(ConfigurableGenericable.class);
+        assertThatThrownBy(() -> ((ConfigurableGenericable) merged).appendTag("t"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("参与合并的服务的降级配置发生变化后，重新合并服务")
+    void shouldMergeAgainWhenSourceChanged() {
+        Genericable merged = this.repository.get("g", "1.0.0").orElseThrow(IllegalStateException::new);
+        this.rootFitable.degradationFitableId("f2");
+
+        Genericable actual = this.repository.get("g", "1.0.0").orElseThrow(IllegalStateException::new);
+        assertThat(actual).isNotSameAs(merged);
+        assertThat(actual.fitable("f1", "1.0.0").degradationFitableId()).isEqualTo("f2");
+    }
+}
@@ -0,0 +1,97 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import modelengine.fit.service.Registry;
+import modelengine.fitframework.broker.LocalExecutorFactory;
+import modelengine.fitframework.broker.Target;
+import modelengine.fitframework.broker.UniqueFitableId;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.plugin.Plugin;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link DefaultTargetLocator} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 DefaultTargetLocator")
+public class DefaultTargetLocatorTest {
+    private final UniqueFitableId id = UniqueFitableId.create("g", "f");
+
+    private Registry registry;
+    private DefaultTargetLocator locator;
+
+    @BeforeEach
+    void setup() {
+        BeanContainer container = mock(BeanContainer.class);
+        LocalExecutorFactory localExecutorFactory = mock(LocalExecutorFactory.class);
+        when(localExecutorFactory.get(any(UniqueFitableId.class))).thenReturn(Optional.empty());
+        BeanFactory localExecutorFactoryFactory = mock(BeanFactory.class);
+        when(localExecutorFactoryFactory.get()).thenReturn(localExecutorFactory);
+        when(container.factory(LocalExecutorFactory.class)).thenReturn(Optional.of(localExecutorFactoryFactory));
+        this.registry = mock(Registry.class);
+        when(this.registry.getFitableTargets(this.id)).thenAnswer(invocation -> Collections.singletonList(Target.custom()
+                .workerId("w1")
+                .host("h1")
+                .build()));
+        BeanFactory registryFactory = mock(BeanFactory.class);
+        when(registryFactory.get()).thenReturn(this.registry);
+        when(container.lookup(Registry.class)).thenReturn(Optional.of(registryFactory));
+        this.locator = new DefaultTargetLocator(container, mock(WorkerConfig.class), Collections.emptyList());
+    }
+
+    @Test
+    @DisplayName("当注册中心版本号不变时，返回缓存的地址列表快照")
+    void shouldReturnSnapshotWhenRegistryVersionNotChanged() {
+        when(this.registry.version()).thenReturn(1L);
+        List<Target> first = this.locator.lookup(this.id);
+        List<Target> second = this.locator.lookup(this.id);
+        assertThat(second).isSameAs(first).hasSize(1);
+        verify(this.registry, times(1)).getFitableTargets(this.id);
+    }
+
+    @Test
+    @DisplayName("当注册中心版本号变化或插件启动后，重新查找地址列表")
+    void shouldLookupAgainWhenRegistryVersionChangedOrPluginStarted() {
+        when(this.registry.version()).thenReturn(1L, 1L, 2L, 2L);
+        List<Target> first = this.locator.lookup(this.id);
+        List<Target> second = this.locator.lookup(this.id);
+        List<Target> third = this.locator.lookup(this.id);
+        assertThat(second).isSameAs(first);
+        assertThat(third).isNotSameAs(first);
+        this.locator.onPluginStarted(mock(Plugin.class));
+        assertThat(this.locator.lookup(this.id)).isNotSameAs(third);
+        verify(this.registry, times(3)).getFitableTargets(this.id);
+    }
+
+    @Test
+    @DisplayName("当注册中心不支持版本号时，不缓存地址列表")
+    void shouldNotCacheWhenRegistryVersionUnsupported() {
+        when(this.registry.version()).thenReturn(-1L);
+        this.locator.lookup(this.id);
+        this.locator.lookup(this.id);
+        verify(this.registry, times(2)).getFitableTargets(this.id);
+    }
+}
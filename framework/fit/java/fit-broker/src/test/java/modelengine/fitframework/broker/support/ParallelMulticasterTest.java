@@ -0,0 +1,168 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.MulticastPolicy;
+import modelengine.fitframework.broker.client.MulticastIncompleteException;
+import modelengine.fitframework.util.ThreadUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link ParallelMulticaster} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 ParallelMulticaster")
+public class ParallelMulticasterTest {
+    private ExecutorService executor;
+    private ParallelMulticaster multicaster;
+
+    @BeforeEach
+    void setup() {
+        this.executor = Executors.newCachedThreadPool();
+        this.multicaster = new ParallelMulticaster(this.executor);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.executor.shutdownNow();
+    }
+
+    private static InvocationContext context(MulticastPolicy policy, long timeoutMillis) {
+        return InvocationContext.custom()
+                .genericableId("g")
+                .isMulticast(true)
+                .accumulator((first, second) -> (int) first + (int) second)
+                .multicastPolicy(policy)
+                .timeout(timeoutMillis)
+                .timeoutUnit(TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @Test
+    @DisplayName("当所有候选者均成功时，累加所有结果，且失败的候选者被忽略")
+    void shouldAccumulateAllResultsAndIgnoreFailures() {
+        MulticastPolicy policy = MulticastPolicy.custom().isParallel(true).maxConcurrency(2).build();
+        List<Integer> candidates = Arrays.asList(1, 2, 3, 4, -1);
+        Object result = this.multicaster.execute(candidates, candidate -> {
+            if (candidate < 0) {
+                throw new IllegalStateException("failed");
+            }
+            return candidate;
+        }, String::valueOf, context(policy, 0));
+        assertThat(result).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("当超过全局截止时间时，丢弃未完成的候选者")
+    void shouldDropSlowCandidatesWhenDeadlineExceeded() {
+        MulticastPolicy policy = MulticastPolicy.custom().isParallel(true).build();
+        List<Integer> candidates = Arrays.asList(1, 2, 1000);
+        long start = System.currentTimeMillis();
+        Object result = this.multicaster.execute(candidates, candidate -> {
+            ThreadUtils.sleep(candidate * 5L);
+            return candidate;
+        }, String::valueOf, context(policy, 500));
+        assertThat(result).isEqualTo(3);
+        assertThat(System.currentTimeMillis() - start).isLessThan(5000L);
+    }
+
+    @Test
+    @DisplayName("当完成条件为前 N 个成功时，达到数量后即返回")
+    void shouldReturnWhenFirstNSucceeded() {
+        MulticastPolicy policy = MulticastPolicy.custom()
+                .isParallel(true)
+                .maxConcurrency(1)
+                .completion(MulticastPolicy.Completion.FIRST_N)
+                .requiredSuccesses(2)
+                .build();
+        AtomicInteger invoked = new AtomicInteger();
+        Object result = this.multicaster.execute(Arrays.asList(1, 2, 3, 4), candidate -> {
+            invoked.incrementAndGet();
+            return candidate;
+        }, String::valueOf, context(policy, 0));
+        assertThat(result).isEqualTo(3);
+        assertThat(invoked.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("当完成条件为多数派时，超过半数成功后即返回")
+    void shouldReturnWhenQuorumReached() {
+        MulticastPolicy policy = MulticastPolicy.custom()
+                .isParallel(true)
+                .maxConcurrency(1)
+                .completion(MulticastPolicy.Completion.QUORUM)
+                .build();
+        AtomicInteger invoked = new AtomicInteger();
+        this.multicaster.execute(Arrays.asList(1, 2, 3, 4, 5), candidate -> {
+            invoked.incrementAndGet();
+            return candidate;
+        }, String::valueOf, context(policy, 0));
+        assertThat(invoked.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("当完成条件为前 N 个成功但成功数量不足时，抛出异常并携带失败的候选者")
+    void shouldThrowWhenFirstNNotReached() {
+        MulticastPolicy policy = MulticastPolicy.custom()
+                .isParallel(true)
+                .completion(MulticastPolicy.Completion.FIRST_N)
+                .requiredSuccesses(2)
+                .build();
+        List<Integer> candidates = Arrays.asList(1, -2, -3);
+        MulticastIncompleteException exception = catchThrowableOfType(() -> this.multicaster.execute(candidates,
+                candidate -> {
+                    if (candidate < 0) {
+                        throw new IllegalStateException("failed");
+                    }
+                    return candidate;
+                },
+                String::valueOf,
+                context(policy, 0)), MulticastIncompleteException.class);
+        assertThat(exception).isNotNull();
+        assertThat(exception.failedTargets()).hasSize(2).allMatch(target -> target.startsWith("-"));
+        assertThat(exception.droppedTargets()).isEmpty();
+        assertThat(exception.getSuppressed()).hasSize(2).allMatch(IllegalStateException.class::isInstance);
+        assertThat(exception.associatedGenericableId()).isEqualTo("g");
+    }
+
+    @Test
+    @DisplayName("当完成条件为多数派但截止时间前成功数量不足时，抛出异常并携带被丢弃的候选者")
+    void shouldThrowWhenQuorumNotReachedBeforeDeadline() {
+        MulticastPolicy policy = MulticastPolicy.custom()
+                .isParallel(true)
+                .completion(MulticastPolicy.Completion.QUORUM)
+                .build();
+        List<Integer> candidates = Arrays.asList(1, 1000, 1001);
+        MulticastIncompleteException exception = catchThrowableOfType(() -> this.multicaster.execute(candidates,
+                candidate -> {
+                    ThreadUtils.sleep(candidate * 5L);
+                    return candidate;
+                },
+                String::valueOf,
+                context(policy, 200)), MulticastIncompleteException.class);
+        assertThat(exception).isNotNull();
+        assertThat(exception.failedTargets()).isEmpty();
+        assertThat(exception.droppedTargets()).containsExactlyInAnyOrder("1000(timeout)", "1001(timeout)");
+    }
+}
@@ -6,13 +6,24 @@
 
 package modelengine.fitframework.broker.support;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Response;
 import modelengine.fit.service.RegisterAuthService;
 import modelengine.fit.service.entity.ClientTokenInfo;
 import modelengine.fit.service.entity.TokenInfo;
+import modelengine.fit.service.exception.AuthenticationException;
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.broker.Fitable;
 import modelengine.fitframework.broker.Format;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.GenericableMethod;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.broker.Target;
 import modelengine.fitframework.conf.runtime.DefaultAvailableService;
 import modelengine.fitframework.conf.runtime.DefaultMatata;
 import modelengine.fitframework.conf.runtime.DefaultRegistry;
@@ -21,17 +32,23 @@ import modelengine.fitframework.conf.runtime.MatataConfig;
 import modelengine.fitframework.ioc.BeanContainer;
 import modelengine.fitframework.ioc.BeanFactory;
 import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@link RemoteFitableExecutor} 的测试类。
@@ -42,6 +59,8 @@ import java.util.List;
 @DisplayName("测试 RemoteFitableExecutor")
 public class RemoteFitableExecutorTest {
     private RemoteFitableExecutor remoteFitableExecutor;
+    private BeanContainer container;
+    private RegisterAuthService registerAuthService;
 
     @BeforeEach
     void setUp() {
@@ -59,7 +78,9 @@ public class RemoteFitableExecutorTest {
         DefaultMatata mockMatata = new DefaultMatata();
         mockMatata.setRegistry(mockRegistry);
         RegisterAuthService mockService = mock(RegisterAuthService.class);
+        this.registerAuthService = mockService;
         BeanContainer container = mock(BeanContainer.class);
+        this.container = container;
         remoteFitableExecutor = new RemoteFitableExecutor(container);
         BeanFactory matataConfigFactory = mock(BeanFactory.class);
         BeanFactory registerFactory = mock(BeanFactory.class);
@@ -84,4 +105,91 @@ public class RemoteFitableExecutorTest {
         Assertions.assertEquals("mockAccessToken", requestMetadata.accessToken());
         Assertions.assertEquals("testGenericableId", requestMetadata.genericableId());
     }
+
+    @Test
+    @DisplayName("测试远程调用计划缓存方法类型并在失效后重新生成，每次请求的元数据扩展字段相互独立")
+    void shouldReuseCallPlanUntilInvalidated() throws NoSuchMethodException {
+        DefaultFitable fitable = new DefaultFitable(null, null, null, "1", "1.0.0");
+        DefaultGenericable genericable = new DefaultGenericable(null, "otherGenericableId", "1.0.0");
+        fitable.genericable(genericable);
+        Format format = Format.custom().name("1").code(1).build();
+        RequestMetadata first = this.remoteFitableExecutor.getRequestMetadataBytes(format, fitable);
+        first.tagValues().putTag(1, new byte[] {1});
+        RequestMetadata second = this.remoteFitableExecutor.getRequestMetadataBytes(format, fitable);
+        Assertions.assertFalse(second.tagValues().getTags().contains(1));
+        Assertions.assertEquals(first.genericableId(), second.genericableId());
+        Assertions.assertNull(first.accessToken());
+
+        Method method = String.class.getMethod("substring", int.class, int.class);
+        Type[] types = this.remoteFitableExecutor.getGenericParameterTypes(method, new Object[] {0, 1});
+        Assertions.assertSame(types, this.remoteFitableExecutor.getGenericParameterTypes(method, new Object[] {0, 1}));
+        Assertions.assertArrayEquals(new Type[] {int.class, int.class}, types);
+
+        RemoteCallPlan.invalidateAll();
+        Assertions.assertNotSame(types, this.remoteFitableExecutor.getGenericParameterTypes(method, new Object[] {0, 1}));
+    }
+
+    @Test
+    @DisplayName("非阻塞调用鉴权失败时，在回调线程之外刷新令牌后重新调用")
+    void shouldRefreshTokenOutsideCallbackThreadWhenNonBlocking() throws Exception {
+        CompletableFuture<Response> first = new CompletableFuture<>();
+        Response success =
+                Response.create(ResponseMetadata.custom().code(ResponseMetadata.CODE_OK).build(), "ok");
+        Client client = mock(Client.class);
+        when(client.getSupportedProtocols()).thenReturn(Collections.singleton("http"));
+        when(client.requestResponseAsync(any())).thenReturn(first, CompletableFuture.completedFuture(success));
+        BeanFactory clientFactory = mock(BeanFactory.class);
+        when(clientFactory.get()).thenReturn(client);
+        when(this.container.all(Client.class)).thenReturn(Collections.singletonList(clientFactory));
+        AtomicReference<Thread> refreshThread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            refreshThread.set(Thread.currentThread());
+            return null;
+        }).when(this.registerAuthService).refreshToken(any());
+
+        Object result = this.remoteFitableExecutor.execute(this.mockFitable(),
+                this.target(),
+                this.nonBlockingContext(),
+                new Object[0]);
+        Thread callback = new Thread(() -> first.complete(Response.create(ResponseMetadata.custom()
+                .code(AuthenticationException.CODE)
+                .build(), null)), "callback");
+        callback.start();
+        Assertions.assertEquals("ok", ((CompletableFuture<?>) result).get(10, TimeUnit.SECONDS));
+        Assertions.assertNotNull(refreshThread.get());
+        Assertions.assertNotSame(callback, refreshThread.get());
+    }
+
+    private Fitable mockFitable() throws NoSuchMethodException {
+        GenericableMethod genericableMethod = mock(GenericableMethod.class);
+        when(genericableMethod.method()).thenReturn(String.class.getMethod("trim"));
+        Genericable genericable = mock(Genericable.class);
+        when(genericable.id()).thenReturn("otherGenericableId");
+        when(genericable.version()).thenReturn("1.0.0");
+        when(genericable.method()).thenReturn(genericableMethod);
+        Fitable fitable = mock(Fitable.class);
+        when(fitable.id()).thenReturn("1");
+        when(fitable.version()).thenReturn("1.0.0");
+        when(fitable.genericable()).thenReturn(genericable);
+        return fitable;
+    }
+
+    private Target target() {
+        return Target.custom()
+                .workerId("worker")
+                .host("127.0.0.1")
+                .environment("env")
+                .endpoints(Collections.singletonList(Endpoint.custom().protocol("http", 2).port(8080).build()))
+                .formats(Collections.singletonList(Format.custom().name("json").code(1).build()))
+                .extensions(Collections.emptyMap())
+                .build();
+    }
+
+    private InvocationContext nonBlockingContext() {
+        InvocationContext context = mock(InvocationContext.class);
+        when(context.isNonBlocking()).thenReturn(true);
+        when(context.timeout()).thenReturn(3000L);
+        when(context.timeoutUnit()).thenReturn(TimeUnit.MILLISECONDS);
+        return context;
+    }
 }
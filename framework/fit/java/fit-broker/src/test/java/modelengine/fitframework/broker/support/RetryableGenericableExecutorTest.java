@@ -0,0 +1,106 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.broker.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import modelengine.fitframework.broker.Fitable;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.GenericableExecutor;
+import modelengine.fitframework.broker.InvocationContext;
+import modelengine.fitframework.exception.RetryableException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@link RetryableGenericableExecutor} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 RetryableGenericableExecutor")
+class RetryableGenericableExecutorTest {
+    private final List<CompletableFuture<Object>> pending = new ArrayList<>();
+    private Fitable fitable;
+    private RetryableGenericableExecutor executor;
+
+    @BeforeEach
+    void setup() {
+        Genericable genericable = mock(Genericable.class);
+        when(genericable.id()).thenReturn("g");
+        this.fitable = mock(Fitable.class);
+        when(this.fitable.id()).thenReturn("f");
+        when(this.fitable.genericable()).thenReturn(genericable);
+        GenericableExecutor remote = (fitables, context, args) -> {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            this.pending.add(future);
+            return future;
+        };
+        this.executor = new RetryableGenericableExecutor(remote);
+    }
+
+    @Nested
+    @DisplayName("非阻塞调用")
+    class NonBlocking {
+        @Test
+        @DisplayName("异步结果因可重试异常失败时发起重试，且不阻塞调用线程")
+        void shouldRetryWhenFutureFailsWithRetryableException() throws Exception {
+            Object result = RetryableGenericableExecutorTest.this.execute(1);
+            assertThat(result).isInstanceOf(CompletableFuture.class);
+            CompletableFuture<?> future = (CompletableFuture<?>) result;
+            assertThat(future).isNotDone();
+            RetryableGenericableExecutorTest.this.pending.get(0)
+                    .completeExceptionally(new RetryableException("retry"));
+            assertThat(RetryableGenericableExecutorTest.this.pending).hasSize(2);
+            assertThat(future).isNotDone();
+            RetryableGenericableExecutorTest.this.pending.get(1).complete("ok");
+            assertThat(future.get()).isEqualTo("ok");
+        }
+
+        @Test
+        @DisplayName("重试次数用尽后，异步结果以最后一次的可重试异常失败")
+        void shouldFailWhenRetryExhausted() {
+            CompletableFuture<?> future = (CompletableFuture<?>) RetryableGenericableExecutorTest.this.execute(1);
+            RetryableException last = new RetryableException("last");
+            RetryableGenericableExecutorTest.this.pending.get(0)
+                    .completeExceptionally(new RetryableException("first"));
+            RetryableGenericableExecutorTest.this.pending.get(1).completeExceptionally(last);
+            assertThat(RetryableGenericableExecutorTest.this.pending).hasSize(2);
+            ExecutionException exception = null;
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                exception = e;
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            assertThat(exception).isNotNull();
+            assertThat(exception.getCause()).isSameAs(last);
+            assertThat(last.associatedGenericableId()).isEqualTo("g");
+        }
+    }
+
+    private Object execute(int retry) {
+        InvocationContext context = InvocationContext.custom()
+                .genericableId("g")
+                .retry(retry)
+                .isNonBlocking(true)
+                .build();
+        return this.executor.execute(Collections.singletonList(this.fitable), context, new Object[0]);
+    }
+}
@@ -24,6 +24,7 @@ import modelengine.fitframework.util.MapBuilder;
 import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -67,6 +68,14 @@ public class HttpClient implements Client {
         return this.clients.get(request.context().communicationType()).requestResponse(request);
     }
 
+    @Override
+    public CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        if (this.isFluent(request)) {
+            return this.fluentClient.requestResponseAsync(request);
+        }
+        return this.clients.get(request.context().communicationType()).requestResponseAsync(request);
+    }
+
     private boolean isFluent(Request request) {
         for (Type type : request.dataTypes()) {
             if (HttpClientUtils.isReactor(type)) {
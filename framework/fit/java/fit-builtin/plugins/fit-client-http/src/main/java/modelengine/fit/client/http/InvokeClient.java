@@ -17,6 +17,8 @@ import modelengine.fitframework.conf.runtime.WorkerConfig;
 import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanContainer;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 表示真实调用的客户端。
  *
@@ -32,6 +34,21 @@ public interface InvokeClient {
      */
     Response requestResponse(@Nonnull Request request);
 
+    /**
+     * 异步请求一个响应。
+     * <p>默认实现在当前线程中同步完成请求。</p>
+     *
+     * @param request 表示请求的 {@link Request}。调用保证请求一定不为 {@code null}。
+     * @return 表示响应的异步结果的 {@link CompletableFuture}{@code <}{@link Response}{@code >}。
+     */
+    default CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        try {
+            return CompletableFuture.completedFuture(this.requestResponse(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 获取调用客户端支持的通信类型。
      *
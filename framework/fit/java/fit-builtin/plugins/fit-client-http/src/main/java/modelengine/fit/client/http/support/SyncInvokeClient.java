@@ -21,6 +21,7 @@ import modelengine.fitframework.inspection.Nonnull;
 import modelengine.fitframework.ioc.BeanContainer;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link InvokeClient} 的同步实现。
@@ -45,6 +46,20 @@ public class SyncInvokeClient extends AbstractInvokeClient {
         }
     }
 
+    @Override
+    public CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        HttpClassicClient client = this.buildHttpClient(request);
+        HttpClassicClientRequest clientRequest = this.buildClientRequest(client, request);
+        clientRequest.entity(this.buildHttpEntity(clientRequest, request));
+        return client.<Object>exchangeAsync(clientRequest, request.returnType()).thenApply(clientResponse -> {
+            try (HttpClassicClientResponse<Object> actual = clientResponse) {
+                return HttpClientUtils.getResponse(this.getContainer(), request, actual);
+            } catch (IOException e) {
+                throw new ClientException("Failed to close http classic client.", e);
+            }
+        });
+    }
+
     @Override
     public CommunicationType support() {
         return CommunicationType.SYNC;
@@ -0,0 +1,232 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.tcp;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import modelengine.fit.client.Address;
+import modelengine.fit.client.Client;
+import modelengine.fit.client.Request;
+import modelengine.fit.client.Response;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fit.tcp.protocol.TcpFrame;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.annotation.PreDestroy;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
+import modelengine.fitframework.schedule.ThreadPoolExecutor;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为 Broker 提供基于 Tcp 长连接调用的客户端。
+ * <p>到每个服务端地址只建立一个长连接，所有调用以 {@link TcpFrame} 的形式在连接上多路复用。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+public class TcpClient implements Client {
+    private static final Logger log = Logger.get(TcpClient.class);
+    private static final String PROTOCOL_NAME = "tcp";
+
+    private final BeanContainer container;
+    private final WorkerConfig workerConfig;
+    private final TcpClientConfig config;
+    private final EventLoopGroup group;
+    private final ThreadPoolExecutor callbackExecutor;
+    private final Bootstrap bootstrap;
+    private final Map<Address, TcpConnection> connections = new ConcurrentHashMap<>();
+
+    /**
+     * 创建 Tcp 客户端。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param workerConfig 表示当前进程的配置的 {@link WorkerConfig}。
+     * @param config 表示 Tcp 客户端配置的 {@link TcpClientConfig}。
+     * @throws IllegalArgumentException 当任意参数为 {@code null}，或配置的调用数量上限、帧的最大长度或回调线程数不合法时。
+     */
+    public TcpClient(BeanContainer container, WorkerConfig workerConfig, TcpClientConfig config) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
+        this.config = notNull(config, "The tcp client config cannot be null.");
+        greaterThan(config.getMaxConcurrentStreams(), 0, "The client tcp max concurrent streams must be positive.");
+        greaterThan(config.getMaxFrameLength(),
+                TcpFrame.HEADER_LENGTH,
+                "The client tcp max frame length is too small.");
+        greaterThan(config.getCallbackThreadNum(), 0, "The client tcp callback thread num must be positive.");
+        this.group = new NioEventLoopGroup(Math.max(config.getIoThreadNum(), 0),
+                new DefaultThreadFactory("netty-tcp-client", true, (thread, e) -> {
+                    log.error("Netty tcp client group occurs exception.", e);
+                }));
+        this.callbackExecutor = ThreadPoolExecutor.custom()
+                .threadPoolName("fit-tcp-client-callback")
+                .corePoolSize(config.getCallbackThreadNum())
+                .maximumPoolSize(config.getCallbackThreadNum())
+                .keepAliveTime(60, TimeUnit.SECONDS)
+                .workQueueCapacity(config.getCallbackQueueCapacity())
+                .isDaemonThread(true)
+                .isImmediateShutdown(false)
+                .awaitTermination(3, TimeUnit.SECONDS)
+                .exceptionHandler((thread, e) -> log.error("Fit tcp client callback occurs exception.", e))
+                .rejectedExecutionHandler(new AbortPolicy())
+                .build();
+        this.bootstrap = new Bootstrap().channel(NioSocketChannel.class)
+                .option(ChannelOption.TCP_NODELAY, true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.max(config.getConnectTimeout(), 0));
+    }
+
+    @Override
+    public Response requestResponse(@Nonnull Request request) {
+        try {
+            return this.requestResponseAsync(request).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ClientException("Failed to request tcp server.", cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        TcpConnection connection;
+        byte[] metadata;
+        byte[] body;
+        try {
+            TagLengthValues tagValues = request.metadata().tagValues();
+            TlvUtils.setWorkerId(tagValues, this.workerConfig.id());
+            TlvUtils.setWorkerInstanceId(tagValues, this.workerConfig.instanceId());
+            metadata = request.metadata().serialize();
+            body = this.getMessageSerializer(request.metadata().dataFormat())
+                    .serializeRequest(request.dataTypes(), request.data());
+            connection = this.connection(request.address());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        long timeout = request.context().timeoutUnit().toMillis(request.context().timeout());
+        return connection.send(metadata, body, timeout).thenApply(frame -> this.toResponse(request, frame));
+    }
+
+    @Override
+    public Set<String> getSupportedProtocols() {
+        return Collections.singleton(PROTOCOL_NAME);
+    }
+
+    /**
+     * 关闭所有的连接，并释放客户端的线程资源。
+     */
+    @PreDestroy
+    public void close() {
+        ClientException cause = new ClientException("The tcp client is closed.");
+        this.connections.values().forEach(connection -> connection.close(cause));
+        this.connections.clear();
+        this.group.shutdownGracefully();
+        try {
+            this.callbackExecutor.shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 获取到指定地址的长连接，当连接不存在或已经关闭时，建立新的连接。
+     *
+     * @param address 表示服务端地址的 {@link Address}。
+     * @return 表示到指定地址的长连接的 {@link TcpConnection}。
+     */
+    TcpConnection connection(Address address) {
+        TcpConnection connection = this.connections.get(address);
+        if (connection != null && !connection.isClosed()) {
+            return connection;
+        }
+        return this.connections.compute(address,
+                (key, previous) -> previous != null && !previous.isClosed() ? previous : this.connect(key));
+    }
+
+    private TcpConnection connect(Address address) {
+        EventLoop eventLoop = this.group.next();
+        TcpConnection connection =
+                new TcpConnection(eventLoop, this.callbackExecutor(), this.config.getMaxConcurrentStreams());
+        ChannelFuture future = this.bootstrap.clone(eventLoop).handler(new ChannelInitializer<SocketChannel>() {
+            @Override
+            protected void initChannel(SocketChannel ch) {
+                ch.pipeline()
+                        .addLast(new FlushConsolidationHandler())
+                        .addLast(TcpFrameCodec.frameDecoder(TcpClient.this.config.getMaxFrameLength()))
+                        .addLast(TcpFrameCodec.INSTANCE)
+                        .addLast(connection);
+            }
+        }).connect(address.host(), address.port());
+        future.addListener(result -> {
+            if (!result.isSuccess()) {
+                connection.close(new ClientException(StringUtils.format(
+                        "Failed to connect tcp server. [host={0}, port={1}]",
+                        address.host(),
+                        address.port()), result.cause()));
+            }
+        });
+        future.channel().closeFuture().addListener(result -> this.connections.remove(address, connection));
+        return connection;
+    }
+
+    private Executor callbackExecutor() {
+        // 回调线程和队列都已占满时，执行器抛出 RejectedExecutionException，连接在网络读写线程中直接执行回调。
+        return command -> this.callbackExecutor.execute(Task.builder()
+                .runnable(command)
+                .uncaughtExceptionHandler((thread, e) -> log.error("Fit tcp client callback occurs exception.", e))
+                .buildDisposable());
+    }
+
+    private Response toResponse(Request request, TcpFrame frame) {
+        ResponseMetadata metadata = ResponseMetadata.deserialize(frame.metadata());
+        if (metadata.code() != ResponseMetadata.CODE_OK) {
+            return Response.create(metadata, null);
+        }
+        Object data = this.getMessageSerializer(metadata.dataFormat())
+                .deserializeResponse(request.returnType(), frame.body());
+        return Response.create(metadata, data);
+    }
+
+    private MessageSerializer getMessageSerializer(int format) {
+        return MessageSerializerUtils.getMessageSerializer(this.container, format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        format)));
+    }
+}
@@ -0,0 +1,61 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.tcp;
+
+/**
+ * 表示 {@link TcpClient} 的配置。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface TcpClientConfig {
+    /**
+     * 获取建立连接的超时时间。
+     * <p>单位为毫秒。</p>
+     *
+     * @return 表示建立连接的超时时间的 {@code int}。
+     */
+    int getConnectTimeout();
+
+    /**
+     * 获取处理网络读写的线程数。
+     * <p>当线程数小于等于 {@code 0} 时，使用 Netty 的默认线程数。</p>
+     *
+     * @return 表示处理网络读写的线程数的 {@code int}。
+     */
+    int getIoThreadNum();
+
+    /**
+     * 获取每个连接上同时等待响应的调用数量上限。
+     * <p>超过上限的调用在客户端排队，直到有调用收到响应后再发送。</p>
+     *
+     * @return 表示每个连接上同时等待响应的调用数量上限的 {@code int}。
+     */
+    int getMaxConcurrentStreams();
+
+    /**
+     * 获取数据帧的最大长度。
+     *
+     * @return 表示数据帧的最大长度的 {@code int}。
+     */
+    int getMaxFrameLength();
+
+    /**
+     * 获取完成调用结果的回调线程数的上限。
+     *
+     * @return 表示完成调用结果的回调线程数的上限的 {@code int}。
+     */
+    int getCallbackThreadNum();
+
+    /**
+     * 获取等待执行的回调的队列容量。
+     * <p>当队列容量小于等于 {@code 0} 时，不缓存回调。回调线程和队列都已占满时，回调在网络读写线程中直接执行。</p>
+     *
+     * @return 表示等待执行的回调的队列容量的 {@code int}。
+     */
+    int getCallbackQueueCapacity();
+}
@@ -0,0 +1,244 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.tcp;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.util.concurrent.ScheduledFuture;
+import modelengine.fit.tcp.protocol.TcpFrame;
+import modelengine.fitframework.exception.ClientException;
+import modelengine.fitframework.exception.TimeoutException;
+import modelengine.fitframework.util.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表示客户端到一个服务端地址的 Tcp 长连接。
+ * <p>每个调用分配一个流标识，请求帧发送后无需等待响应即可发送下一个请求帧，响应帧按照流标识匹配到对应的调用。等待响应的调用数量达到上限时，
+ * 后续调用在客户端排队，直到有调用收到响应后再依次发送。连接的所有状态仅在连接所属的事件循环中修改，因此无需加锁。</p>
+ * <p>调用结果在回调线程池中完成，避免调用方的后续处理占用事件循环。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+class TcpConnection extends SimpleChannelInboundHandler<TcpFrame> {
+    private final EventLoop eventLoop;
+    private final Executor callbackExecutor;
+    private final int maxConcurrentStreams;
+    private final Map<Integer, Stream> activeStreams = new HashMap<>();
+    private final Queue<Stream> waitingStreams = new ArrayDeque<>();
+
+    private Channel channel;
+    private int nextStreamId = 1;
+    private volatile boolean closed;
+
+    /**
+     * 创建 Tcp 长连接。
+     *
+     * @param eventLoop 表示连接所属的事件循环的 {@link EventLoop}。
+     * @param callbackExecutor 表示完成调用结果的回调线程池的 {@link Executor}。
+     * @param maxConcurrentStreams 表示同时等待响应的调用数量上限的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code eventLoop} 或 {@code callbackExecutor} 为 {@code null}，或
+     * {@code maxConcurrentStreams} 不是正数时。
+     */
+    TcpConnection(EventLoop eventLoop, Executor callbackExecutor, int maxConcurrentStreams) {
+        this.eventLoop = notNull(eventLoop, "The event loop cannot be null.");
+        this.callbackExecutor = notNull(callbackExecutor, "The callback executor cannot be null.");
+        this.maxConcurrentStreams =
+                greaterThan(maxConcurrentStreams, 0, "The max concurrent streams must be positive.");
+    }
+
+    /**
+     * 在连接上发送一个请求。
+     *
+     * @param metadata 表示序列化后的请求元数据的 {@code byte[]}。
+     * @param body 表示序列化后的请求消息体的 {@code byte[]}。
+     * @param timeoutMillis 表示等待响应的超时时间的毫秒数的 {@code long}，小于等于 {@code 0} 时表示不超时。
+     * @return 表示响应帧的异步结果的 {@link CompletableFuture}{@code <}{@link TcpFrame}{@code >}。
+     */
+    CompletableFuture<TcpFrame> send(byte[] metadata, byte[] body, long timeoutMillis) {
+        Stream stream = new Stream(metadata, body);
+        try {
+            this.eventLoop.execute(() -> this.enqueue(stream, timeoutMillis));
+        } catch (RejectedExecutionException e) {
+            stream.future.completeExceptionally(new ClientException("The tcp client is closed.", e));
+        }
+        return stream.future;
+    }
+
+    /**
+     * 判断连接是否已经关闭。
+     *
+     * @return 如果连接已经关闭，则返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * 关闭连接，所有尚未完成的调用均以指定的异常失败。
+     *
+     * @param cause 表示关闭连接的原因的 {@link Throwable}。
+     */
+    void close(Throwable cause) {
+        if (!this.eventLoop.inEventLoop()) {
+            this.eventLoop.execute(() -> this.close(cause));
+            return;
+        }
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        List<Stream> streams = new ArrayList<>(this.activeStreams.values());
+        streams.addAll(this.waitingStreams);
+        this.activeStreams.clear();
+        this.waitingStreams.clear();
+        streams.forEach(stream -> this.fail(stream, cause));
+        if (this.channel != null) {
+            this.channel.close();
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        this.channel = ctx.channel();
+        if (this.closed) {
+            this.channel.close();
+        } else {
+            this.drain();
+        }
+        super.channelActive(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        this.close(new ClientException(StringUtils.format("The tcp connection is closed. [remote={0}]",
+                ctx.channel().remoteAddress())));
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        this.close(new ClientException(StringUtils.format("The tcp connection is broken. [remote={0}]",
+                ctx.channel().remoteAddress()), cause));
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, TcpFrame frame) {
+        Stream stream = this.activeStreams.remove(frame.streamId());
+        if (stream == null) {
+            // 调用已超时，忽略迟到的响应。
+            return;
+        }
+        stream.cancelTimeout();
+        this.complete(stream, frame);
+        this.drain();
+    }
+
+    private void enqueue(Stream stream, long timeoutMillis) {
+        if (this.closed) {
+            this.fail(stream, new ClientException("The tcp connection is closed."));
+            return;
+        }
+        if (timeoutMillis > 0) {
+            stream.timeout = this.eventLoop.schedule(() -> this.expire(stream, timeoutMillis),
+                    timeoutMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+        this.waitingStreams.add(stream);
+        this.drain();
+    }
+
+    private void drain() {
+        if (this.channel == null || this.closed) {
+            return;
+        }
+        boolean isWritten = false;
+        while (this.activeStreams.size() < this.maxConcurrentStreams && !this.waitingStreams.isEmpty()) {
+            Stream stream = this.waitingStreams.poll();
+            stream.id = this.nextStreamId();
+            this.activeStreams.put(stream.id, stream);
+            this.channel.write(new TcpFrame(TcpFrame.TYPE_REQUEST, stream.id, stream.metadata, stream.body));
+            isWritten = true;
+        }
+        if (isWritten) {
+            this.channel.flush();
+        }
+    }
+
+    private int nextStreamId() {
+        int id;
+        do {
+            id = this.nextStreamId;
+            this.nextStreamId = id == Integer.MAX_VALUE ? 1 : id + 1;
+        } while (this.activeStreams.containsKey(id));
+        return id;
+    }
+
+    private void expire(Stream stream, long timeoutMillis) {
+        boolean isRemoved = stream.id == 0
+                ? this.waitingStreams.remove(stream)
+                : this.activeStreams.remove(stream.id, stream);
+        if (!isRemoved) {
+            return;
+        }
+        this.fail(stream, new TimeoutException(StringUtils.format(
+                "Timeout to wait for the response of tcp request. [timeout={0}ms]",
+                timeoutMillis)));
+        this.drain();
+    }
+
+    private void complete(Stream stream, TcpFrame frame) {
+        this.callback(() -> stream.future.complete(frame));
+    }
+
+    private void fail(Stream stream, Throwable cause) {
+        stream.cancelTimeout();
+        this.callback(() -> stream.future.completeExceptionally(cause));
+    }
+
+    private void callback(Runnable runnable) {
+        try {
+            this.callbackExecutor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            runnable.run();
+        }
+    }
+
+    private static class Stream {
+        private final byte[] metadata;
+        private final byte[] body;
+        private final CompletableFuture<TcpFrame> future = new CompletableFuture<>();
+        private int id;
+        private ScheduledFuture<?> timeout;
+
+        private Stream(byte[] metadata, byte[] body) {
+            this.metadata = metadata;
+            this.body = body;
+        }
+
+        private void cancelTimeout() {
+            if (this.timeout != null) {
+                this.timeout.cancel(false);
+            }
+        }
+    }
+}
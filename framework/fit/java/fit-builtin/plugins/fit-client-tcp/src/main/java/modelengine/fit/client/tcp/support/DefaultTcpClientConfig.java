@@ -0,0 +1,135 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.tcp.support;
+
+import modelengine.fit.client.tcp.TcpClientConfig;
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+/**
+ * {@link TcpClientConfig} 的默认实现。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+@AcceptConfigValues("client.tcp")
+public class DefaultTcpClientConfig implements TcpClientConfig {
+    /**
+     * 配置项：{@code 'connect-timeout'}。
+     */
+    private int connectTimeout;
+
+    /**
+     * 配置项：{@code 'io-thread-num'}。
+     */
+    private int ioThreadNum;
+
+    /**
+     * 配置项：{@code 'max-concurrent-streams'}。
+     */
+    private int maxConcurrentStreams;
+
+    /**
+     * 配置项：{@code 'max-frame-length'}。
+     */
+    private int maxFrameLength;
+
+    /**
+     * 配置项：{@code 'callback-thread-num'}。
+     */
+    private int callbackThreadNum;
+
+    /**
+     * 配置项：{@code 'callback-queue-capacity'}。
+     */
+    private int callbackQueueCapacity;
+
+    @Override
+    public int getConnectTimeout() {
+        return this.connectTimeout;
+    }
+
+    /**
+     * 设置建立连接的超时时间。
+     *
+     * @param connectTimeout 表示建立连接的超时时间的 {@code int}。
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    @Override
+    public int getIoThreadNum() {
+        return this.ioThreadNum;
+    }
+
+    /**
+     * 设置处理网络读写的线程数。
+     *
+     * @param ioThreadNum 表示处理网络读写的线程数的 {@code int}。
+     */
+    public void setIoThreadNum(int ioThreadNum) {
+        this.ioThreadNum = ioThreadNum;
+    }
+
+    @Override
+    public int getMaxConcurrentStreams() {
+        return this.maxConcurrentStreams;
+    }
+
+    /**
+     * 设置每个连接上同时等待响应的调用数量上限。
+     *
+     * @param maxConcurrentStreams 表示每个连接上同时等待响应的调用数量上限的 {@code int}。
+     */
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    @Override
+    public int getMaxFrameLength() {
+        return this.maxFrameLength;
+    }
+
+    /**
+     * 设置数据帧的最大长度。
+     *
+     * @param maxFrameLength 表示数据帧的最大长度的 {@code int}。
+     */
+    public void setMaxFrameLength(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    @Override
+    public int getCallbackThreadNum() {
+        return this.callbackThreadNum;
+    }
+
+    /**
+     * 设置完成调用结果的回调线程数的上限。
+     *
+     * @param callbackThreadNum 表示完成调用结果的回调线程数的上限的 {@code int}。
+     */
+    public void setCallbackThreadNum(int callbackThreadNum) {
+        this.callbackThreadNum = callbackThreadNum;
+    }
+
+    @Override
+    public int getCallbackQueueCapacity() {
+        return this.callbackQueueCapacity;
+    }
+
+    /**
+     * 设置等待执行的回调的队列容量。
+     *
+     * @param callbackQueueCapacity 表示等待执行的回调的队列容量的 {@code int}。
+     */
+    public void setCallbackQueueCapacity(int callbackQueueCapacity) {
+        this.callbackQueueCapacity = callbackQueueCapacity;
+    }
+}
@@ -0,0 +1,165 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.client.tcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import modelengine.fit.client.Address;
+import modelengine.fit.tcp.protocol.TcpFrame;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.TimeoutException;
+import modelengine.fitframework.ioc.BeanContainer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TcpClient} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 TcpClient")
+class TcpClientTest {
+    private static final int MAX_CONCURRENT_STREAMS = 2;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final BlockingQueue<Received> received = new LinkedBlockingQueue<>();
+    private EventLoopGroup serverGroup;
+    private Channel serverChannel;
+    private TcpClient client;
+    private Address address;
+
+    @BeforeEach
+    void setup() throws InterruptedException {
+        this.serverGroup = new NioEventLoopGroup(1);
+        this.serverChannel = new ServerBootstrap().group(this.serverGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline()
+                                .addLast(TcpFrameCodec.frameDecoder(1024))
+                                .addLast(TcpFrameCodec.INSTANCE)
+                                .addLast(new SimpleChannelInboundHandler<TcpFrame>() {
+                                    @Override
+                                    protected void channelRead0(ChannelHandlerContext ctx, TcpFrame frame) {
+                                        TcpClientTest.this.received.add(new Received(ctx.channel(), frame));
+                                    }
+                                });
+                    }
+                })
+                .bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .sync()
+                .channel();
+        TcpClientConfig config = mock(TcpClientConfig.class);
+        when(config.getConnectTimeout()).thenReturn(3000);
+        when(config.getMaxConcurrentStreams()).thenReturn(MAX_CONCURRENT_STREAMS);
+        when(config.getMaxFrameLength()).thenReturn(1024);
+        when(config.getCallbackThreadNum()).thenReturn(1);
+        this.client = new TcpClient(mock(BeanContainer.class), mock(WorkerConfig.class), config);
+        int port = ((InetSocketAddress) this.serverChannel.localAddress()).getPort();
+        this.address = Address.create(InetAddress.getLoopbackAddress().getHostAddress(), port);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.client.close();
+        this.serverChannel.close().syncUninterruptibly();
+        this.serverGroup.shutdownGracefully();
+    }
+
+    @Test
+    @DisplayName("同一个连接上的多个请求按照流标识匹配乱序返回的响应，且等待响应的请求数量不超过上限")
+    void shouldMultiplexRequestsWithFlowControl() throws Exception {
+        TcpConnection connection = this.client.connection(this.address);
+        List<CompletableFuture<TcpFrame>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(connection.send(bytes("request-" + i), EMPTY, 0));
+        }
+        Received first = this.received.poll(5, TimeUnit.SECONDS);
+        Received second = this.received.poll(5, TimeUnit.SECONDS);
+        assertThat(first).isNotNull();
+        assertThat(second).isNotNull();
+        // 等待响应的请求数量已达到上限，第三个请求在客户端排队。
+        assertThat(this.received.poll(200, TimeUnit.MILLISECONDS)).isNull();
+
+        second.reply();
+        assertThat(futures.get(1).get(5, TimeUnit.SECONDS).metadata()).isEqualTo(bytes("request-1"));
+        assertThat(futures.get(0)).isNotDone();
+        Received third = this.received.poll(5, TimeUnit.SECONDS);
+        assertThat(third).isNotNull();
+        assertThat(third.frame.metadata()).isEqualTo(bytes("request-2"));
+
+        third.reply();
+        first.reply();
+        assertThat(futures.get(0).get(5, TimeUnit.SECONDS).metadata()).isEqualTo(bytes("request-0"));
+        assertThat(futures.get(2).get(5, TimeUnit.SECONDS).metadata()).isEqualTo(bytes("request-2"));
+        assertThat(this.client.connection(this.address)).isSameAs(connection);
+    }
+
+    @Test
+    @DisplayName("超时未收到响应时，请求以 TimeoutException 失败")
+    void shouldFailWhenTimeout() throws InterruptedException {
+        CompletableFuture<TcpFrame> future = this.client.connection(this.address).send(EMPTY, EMPTY, 100);
+        assertThat(this.received.poll(5, TimeUnit.SECONDS)).isNotNull();
+        ExecutionException exception = null;
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        } catch (java.util.concurrent.TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+        assertThat(exception).isNotNull().hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static class Received {
+        private final Channel channel;
+        private final TcpFrame frame;
+
+        private Received(Channel channel, TcpFrame frame) {
+            this.channel = channel;
+            this.frame = frame;
+        }
+
+        private void reply() {
+            this.channel.writeAndFlush(new TcpFrame(TcpFrame.TYPE_RESPONSE,
+                    this.frame.streamId(),
+                    this.frame.metadata(),
+                    this.frame.body()));
+        }
+    }
+}
@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"modelengine.fit.client.tcp","c":"TcpClient","l":"close()"},{"p":"modelengine.fit.client.tcp","c":"TcpFrameCodec","l":"decode(ChannelHandlerContext, ByteBuf, List<Object>)","u":"decode(io.netty.channel.ChannelHandlerContext,io.netty.buffer.ByteBuf,java.util.List)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"DefaultTcpClientConfig()","u":"%3Cinit%3E()"},{"p":"modelengine.fit.client.tcp","c":"TcpFrameCodec","l":"encode(ChannelHandlerContext, TcpFrame, List<Object>)","u":"encode(io.netty.channel.ChannelHandlerContext,modelengine.fit.tcp.protocol.TcpFrame,java.util.List)"},{"p":"modelengine.fit.client.tcp","c":"TcpFrameCodec","l":"frameDecoder(int)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"getCallbackQueueCapacity()"},{"p":"modelengine.fit.client.tcp","c":"TcpClientConfig","l":"getCallbackQueueCapacity()"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"getCallbackThreadNum()"},{"p":"modelengine.fit.client.tcp","c":"TcpClientConfig","l":"getCallbackThreadNum()"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"getConnectTimeout()"},{"p":"modelengine.fit.client.tcp","c":"TcpClientConfig","l":"getConnectTimeout()"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"getIoThreadNum()"},{"p":"modelengine.fit.client.tcp","c":"TcpClientConfig","l":"getIoThreadNum()"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"getMaxConcurrentStreams()"},{"p":"modelengine.fit.client.tcp","c":"TcpClientConfig","l":"getMaxConcurrentStreams()"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"getMaxFrameLength()"},{"p":"modelengine.fit.client.tcp","c":"TcpClientConfig","l":"getMaxFrameLength()"},{"p":"modelengine.fit.client.tcp","c":"TcpClient","l":"getSupportedProtocols()"},{"p":"modelengine.fit.client.tcp","c":"TcpFrameCodec","l":"INSTANCE"},{"p":"modelengine.fit.client.tcp","c":"TcpClient","l":"requestResponse(Request)","u":"requestResponse(modelengine.fit.client.Request)"},{"p":"modelengine.fit.client.tcp","c":"TcpClient","l":"requestResponseAsync(Request)","u":"requestResponseAsync(modelengine.fit.client.Request)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"setCallbackQueueCapacity(int)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"setCallbackThreadNum(int)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"setConnectTimeout(int)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"setIoThreadNum(int)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"setMaxConcurrentStreams(int)"},{"p":"modelengine.fit.client.tcp.support","c":"DefaultTcpClientConfig","l":"setMaxFrameLength(int)"},{"p":"modelengine.fit.client.tcp","c":"TcpClient","l":"TcpClient(BeanContainer, WorkerConfig, TcpClientConfig)","u":"%3Cinit%3E(modelengine.fitframework.ioc.BeanContainer,modelengine.fitframework.conf.runtime.WorkerConfig,modelengine.fit.client.tcp.TcpClientConfig)"},{"p":"modelengine.fit.client.tcp","c":"TcpFrameCodec","l":"TcpFrameCodec()","u":"%3Cinit%3E()"}];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"modelengine.fit.client.tcp"},{"l":"modelengine.fit.client.tcp.support"}];updateSearchResults();
\ No newline at end of file
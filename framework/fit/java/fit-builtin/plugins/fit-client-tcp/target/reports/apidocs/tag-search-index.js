@@ -0,0 +1 @@
+tagSearchIndex = [];updateSearchResults();
\ No newline at end of file
@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"modelengine.fit.client.tcp.support","l":"DefaultTcpClientConfig"},{"p":"modelengine.fit.client.tcp","l":"TcpClient"},{"p":"modelengine.fit.client.tcp","l":"TcpClientConfig"},{"p":"modelengine.fit.client.tcp","l":"TcpFrameCodec"}];updateSearchResults();
\ No newline at end of file
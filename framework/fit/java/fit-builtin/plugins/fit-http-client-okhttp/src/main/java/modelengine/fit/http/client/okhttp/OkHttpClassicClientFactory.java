@@ -7,6 +7,7 @@
 package modelengine.fit.http.client.okhttp;
 
 import static modelengine.fit.http.client.okhttp.OkHttpClientBuilderFactory.getOkHttpClientBuilder;
+import static modelengine.fitframework.inspection.Validation.greaterThan;
 import static modelengine.fitframework.inspection.Validation.notNull;
 import static modelengine.fitframework.util.ObjectUtils.getIfNull;
 
@@ -17,6 +18,7 @@ import modelengine.fit.http.Serializers;
 import modelengine.fit.http.client.HttpClassicClient;
 import modelengine.fit.http.client.HttpClassicClientFactory;
 import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.annotation.Fit;
 import modelengine.fitframework.annotation.Order;
 import modelengine.fitframework.annotation.Value;
 import modelengine.fitframework.serialization.ObjectSerializer;
@@ -37,12 +39,29 @@ public class OkHttpClassicClientFactory implements HttpClassicClientFactory {
     private final Serializers serializers;
     private final ValueFetcher valueFetcher;
     private final Cache<Config, OkHttpClient> okHttpClientCache;
+    private final int maxAsyncRequests;
+    private final int maxAsyncRequestsPerHost;
 
     public OkHttpClassicClientFactory(Map<String, ObjectSerializer> serializers, ValueFetcher valueFetcher,
-            @Value("${okhttp.config-client.cache.max-size}") long cacheSize) {
+            long cacheSize) {
+        this(serializers,
+                valueFetcher,
+                cacheSize,
+                OkHttpClientBuilderFactory.DEFAULT_MAX_ASYNC_REQUESTS,
+                OkHttpClientBuilderFactory.DEFAULT_MAX_ASYNC_REQUESTS_PER_HOST);
+    }
+
+    @Fit
+    public OkHttpClassicClientFactory(Map<String, ObjectSerializer> serializers, ValueFetcher valueFetcher,
+            @Value("${okhttp.config-client.cache.max-size}") long cacheSize,
+            @Value("${okhttp.config-client.async.max-requests}") int maxAsyncRequests,
+            @Value("${okhttp.config-client.async.max-requests-per-host}") int maxAsyncRequestsPerHost) {
         this.serializers = Serializers.create(serializers);
         this.valueFetcher = notNull(valueFetcher, "The value fetcher cannot be null.");
         this.okHttpClientCache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.maxAsyncRequests = greaterThan(maxAsyncRequests, 0, "The max async requests must be positive.");
+        this.maxAsyncRequestsPerHost =
+                greaterThan(maxAsyncRequestsPerHost, 0, "The max async requests per host must be positive.");
     }
 
     @Override
@@ -54,7 +73,9 @@ public class OkHttpClassicClientFactory implements HttpClassicClientFactory {
     public HttpClassicClient create(Config config) {
         Config actualConfig = getIfNull(config, () -> HttpClassicClientFactory.Config.builder().build());
         OkHttpClient okHttpClient =
-                this.okHttpClientCache.get(actualConfig, tempConfig -> getOkHttpClientBuilder(tempConfig).build());
+                this.okHttpClientCache.get(actualConfig, tempConfig -> getOkHttpClientBuilder(tempConfig,
+                this.maxAsyncRequests,
+                this.maxAsyncRequestsPerHost).build());
         return new OkHttpClassicClient(this.serializers, this.valueFetcher, okHttpClient);
     }
 }
@@ -16,6 +16,7 @@ import modelengine.fit.http.protocol.util.SslUtils;
 import modelengine.fitframework.log.Logger;
 import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.StringUtils;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 
 import java.security.GeneralSecurityException;
@@ -48,6 +49,30 @@ public class OkHttpClientBuilderFactory {
     private static final Logger log = Logger.get(OkHttpClientBuilderFactory.class);
     private static final String SECURE_DEFAULT_PROTOCOL = "TLSv1.2";
 
+    /**
+     * 表示客户端异步请求最大并发数的配置项。
+     * <p>该限制仅作用于异步请求，未配置时使用 {@link #DEFAULT_MAX_ASYNC_REQUESTS}。</p>
+     */
+    public static final String CLIENT_MAX_ASYNC_REQUESTS = "client.http.async.max-requests";
+
+    /**
+     * 表示客户端异步请求对每个主机最大并发数的配置项。
+     * <p>该限制仅作用于异步请求，未配置时使用 {@link #DEFAULT_MAX_ASYNC_REQUESTS_PER_HOST}，超出的异步请求在客户端排队。</p>
+     */
+    public static final String CLIENT_MAX_ASYNC_REQUESTS_PER_HOST = "client.http.async.max-requests-per-host";
+
+    /**
+     * 表示客户端异步请求默认的最大并发数。
+     * <p>OkHttp 的默认值为 64，对于非阻塞的远程调用过小。</p>
+     */
+    public static final int DEFAULT_MAX_ASYNC_REQUESTS = 256;
+
+    /**
+     * 表示客户端异步请求对每个主机默认的最大并发数。
+     * <p>OkHttp 的默认值为 5，会使对同一个服务提供方的非阻塞调用最多只有 5 个在途。</p>
+     */
+    public static final int DEFAULT_MAX_ASYNC_REQUESTS_PER_HOST = 128;
+
     private OkHttpClientBuilderFactory() {}
 
     /**
@@ -57,8 +82,22 @@ public class OkHttpClientBuilderFactory {
      * @return 表示工厂创建实例的 {@link OkHttpClient.Builder}。
      */
     public static OkHttpClient.Builder getOkHttpClientBuilder(HttpClassicClientFactory.Config config) {
+        return getOkHttpClientBuilder(config, DEFAULT_MAX_ASYNC_REQUESTS, DEFAULT_MAX_ASYNC_REQUESTS_PER_HOST);
+    }
+
+    /**
+     * 根据配置获取工厂实例的 {@link OkHttpClient.Builder}，配置中没有指定异步请求的并发数时使用指定的默认值。
+     *
+     * @param config 表示配置的 {@link HttpClassicClientFactory.Config}。
+     * @param defaultMaxRequests 表示默认的异步请求最大并发数的 {@code int}。
+     * @param defaultMaxRequestsPerHost 表示默认的异步请求对每个主机最大并发数的 {@code int}。
+     * @return 表示工厂创建实例的 {@link OkHttpClient.Builder}。
+     */
+    public static OkHttpClient.Builder getOkHttpClientBuilder(HttpClassicClientFactory.Config config,
+            int defaultMaxRequests, int defaultMaxRequestsPerHost) {
         OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
         setTimeout(clientBuilder, config);
+        setDispatcher(clientBuilder, config, defaultMaxRequests, defaultMaxRequestsPerHost);
         try {
             setSslConfig(clientBuilder, config);
         } catch (GeneralSecurityException e) {
@@ -78,6 +117,16 @@ public class OkHttpClientBuilderFactory {
         }
     }
 
+    private static void setDispatcher(OkHttpClient.Builder clientBuilder, HttpClassicClientFactory.Config config,
+            int defaultMaxRequests, int defaultMaxRequestsPerHost) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Integer.parseInt(String.valueOf(config.custom()
+                .getOrDefault(CLIENT_MAX_ASYNC_REQUESTS, defaultMaxRequests))));
+        dispatcher.setMaxRequestsPerHost(Integer.parseInt(String.valueOf(config.custom()
+                .getOrDefault(CLIENT_MAX_ASYNC_REQUESTS_PER_HOST, defaultMaxRequestsPerHost))));
+        clientBuilder.dispatcher(dispatcher);
+    }
+
     private static void setSslConfig(OkHttpClient.Builder clientBuilder, HttpClassicClientFactory.Config config)
             throws GeneralSecurityException {
         boolean isStrongRandom = Boolean.parseBoolean(String.valueOf(config.custom()
@@ -18,6 +18,8 @@ import modelengine.fit.http.protocol.RequestLine;
 import modelengine.fit.http.protocol.WritableMessageBody;
 import modelengine.fit.http.protocol.support.ClientRequestBody;
 import modelengine.fitframework.model.MultiValueMap;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -27,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 {@link ClientRequest} 的使用 OkHttp 实现。
@@ -107,6 +110,43 @@ public class OkHttpClientRequest implements ClientRequest {
     public ClientResponse readResponse() throws IOException {
         this.checkIfClosed();
         Response response = this.okHttpClient.newCall(this.requestBuilder.build()).execute();
+        return toClientResponse(response);
+    }
+
+    @Override
+    public CompletableFuture<ClientResponse> readResponseAsync() {
+        try {
+            this.checkIfClosed();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<ClientResponse> future = new CompletableFuture<>();
+        Call call = this.okHttpClient.newCall(this.requestBuilder.build());
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(Call failedCall, IOException cause) {
+                future.completeExceptionally(cause);
+            }
+
+            @Override
+            public void onResponse(Call succeededCall, Response response) {
+                try {
+                    future.complete(toClientResponse(response));
+                } catch (RuntimeException e) {
+                    response.close();
+                    future.completeExceptionally(e);
+                }
+            }
+        });
+        future.whenComplete((response, cause) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        return future;
+    }
+
+    private static ClientResponse toClientResponse(Response response) {
         notNull(response.body(), () -> new IllegalStateException("The response body cannot be null."));
         return ClientResponse.create(response.code(),
                 response.message(),
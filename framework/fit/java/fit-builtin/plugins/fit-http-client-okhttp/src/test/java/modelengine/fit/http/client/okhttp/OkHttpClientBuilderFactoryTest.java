@@ -34,4 +34,31 @@ class OkHttpClientBuilderFactoryTest {
         OkHttpClient.Builder okHttpClientBuilder = OkHttpClientBuilderFactory.getOkHttpClientBuilder(build);
         assertThat(okHttpClientBuilder).isNotNull();
     }
+
+    @DisplayName("未配置异步请求并发数时，使用默认的并发数")
+    @Test
+    void givenNoAsyncLimitsThenUseDefaults() {
+        HttpClassicClientFactory.Config build =
+                HttpClassicClientFactory.Config.builder().custom(new HashMap<>()).build();
+        OkHttpClient client = OkHttpClientBuilderFactory.getOkHttpClientBuilder(build).build();
+        assertThat(client.dispatcher().getMaxRequests())
+                .isEqualTo(OkHttpClientBuilderFactory.DEFAULT_MAX_ASYNC_REQUESTS);
+        assertThat(client.dispatcher().getMaxRequestsPerHost())
+                .isEqualTo(OkHttpClientBuilderFactory.DEFAULT_MAX_ASYNC_REQUESTS_PER_HOST);
+        client = OkHttpClientBuilderFactory.getOkHttpClientBuilder(build, 32, 16).build();
+        assertThat(client.dispatcher().getMaxRequests()).isEqualTo(32);
+        assertThat(client.dispatcher().getMaxRequestsPerHost()).isEqualTo(16);
+    }
+
+    @DisplayName("配置异步请求并发数时，使用配置的并发数")
+    @Test
+    void givenAsyncLimitsThenUseConfiguredLimits() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(OkHttpClientBuilderFactory.CLIENT_MAX_ASYNC_REQUESTS, "512");
+        config.put(OkHttpClientBuilderFactory.CLIENT_MAX_ASYNC_REQUESTS_PER_HOST, 64);
+        HttpClassicClientFactory.Config build = HttpClassicClientFactory.Config.builder().custom(config).build();
+        OkHttpClient client = OkHttpClientBuilderFactory.getOkHttpClientBuilder(build, 32, 16).build();
+        assertThat(client.dispatcher().getMaxRequests()).isEqualTo(512);
+        assertThat(client.dispatcher().getMaxRequestsPerHost()).isEqualTo(64);
+    }
 }
\ No newline at end of file
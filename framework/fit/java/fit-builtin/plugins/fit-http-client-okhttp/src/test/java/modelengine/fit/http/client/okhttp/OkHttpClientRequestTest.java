@@ -0,0 +1,129 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.http.client.okhttp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import modelengine.fit.http.client.HttpClassicClientFactory;
+import modelengine.fit.http.protocol.ClientResponse;
+import modelengine.fit.http.protocol.HttpRequestMethod;
+import okhttp3.OkHttpClient;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 为 {@link OkHttpClientRequest} 提供单测。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 OkHttpClientRequest")
+class OkHttpClientRequestTest {
+    private static final int CONCURRENCY = 32;
+    private static final byte[] BODY = "ok".getBytes(StandardCharsets.UTF_8);
+
+    private final CountDownLatch arrived = new CountDownLatch(CONCURRENCY);
+    private ExecutorService serverExecutor;
+    private HttpServer server;
+    private OkHttpClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.serverExecutor = Executors.newCachedThreadPool();
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/wait", exchange -> {
+            // 所有请求均到达服务端后才返回响应，因此只有所有请求同时在途时调用才能完成。
+            this.arrived.countDown();
+            try {
+                this.arrived.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, BODY.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(BODY);
+            }
+        });
+        this.server.setExecutor(this.serverExecutor);
+        this.server.start();
+        this.client = OkHttpClientBuilderFactory.getOkHttpClientBuilder(HttpClassicClientFactory.Config.builder()
+                .connectTimeout(10_000)
+                .socketTimeout(10_000)
+                .build()).build();
+    }
+
+    @AfterEach
+    void teardown() {
+        this.server.stop(0);
+        this.serverExecutor.shutdownNow();
+        this.client.dispatcher().executorService().shutdownNow();
+        this.client.connectionPool().evictAll();
+    }
+
+    @Test
+    @DisplayName("在同一个线程中发起的多个异步请求同时在途，且全部成功返回")
+    void shouldKeepAsyncRequestsInFlightConcurrently() throws Exception {
+        List<CompletableFuture<ClientResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENCY; i++) {
+            OkHttpClientRequest request = this.request("/wait");
+            request.writeStartLineAndHeaders();
+            futures.add(request.readResponseAsync());
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(20, TimeUnit.SECONDS);
+        for (CompletableFuture<ClientResponse> future : futures) {
+            try (ClientResponse response = future.get()) {
+                assertThat(response.startLine().statusCode()).isEqualTo(200);
+                assertThat(response.getBodyInputStream().readAllBytes()).isEqualTo(BODY);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("连接失败时，异步结果以 IOException 失败")
+    void shouldFailWhenConnectionRefused() throws IOException {
+        int port = this.server.getAddress().getPort();
+        this.server.stop(0);
+        OkHttpClientRequest request = new OkHttpClientRequest(HttpRequestMethod.GET,
+                "http://127.0.0.1:" + port + "/wait",
+                this.client);
+        request.writeStartLineAndHeaders();
+        CompletableFuture<ClientResponse> future = request.readResponseAsync();
+        ExecutionException exception = null;
+        try {
+            future.get(20, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        assertThat(exception).isNotNull().hasCauseInstanceOf(IOException.class);
+    }
+
+    private OkHttpClientRequest request(String path) {
+        return new OkHttpClientRequest(HttpRequestMethod.GET,
+                "http://127.0.0.1:" + this.server.getAddress().getPort() + path,
+                this.client);
+    }
+}
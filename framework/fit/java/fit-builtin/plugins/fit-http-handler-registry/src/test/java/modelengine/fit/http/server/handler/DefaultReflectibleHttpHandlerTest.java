@@ -312,4 +312,68 @@ public class DefaultReflectibleHttpHandlerTest {
             assertThat(entity).isPresent().get().isExactlyInstanceOf(DefaultTextEntity.class);
         }
     }
+
+    @Nested
+    @DisplayName("通过预编译的调用程序执行处理器")
+    class HandleWithCompiledInvoker {
+        private final Calculator calculator = new Calculator();
+        private final PropertyValueMapper first = mock(PropertyValueMapper.class);
+        private final PropertyValueMapper second = mock(PropertyValueMapper.class);
+        private DefaultReflectibleHttpHandler handler;
+
+        @BeforeEach
+        void setup() {
+            Optional<Method> add = ReflectionUtils.findMethod(Calculator.class, "add", int.class, int.class);
+            HttpHandler.ExecutionInfo executionInfo = HttpHandler.ExecutionInfo.builder()
+                    .httpServer(mock(HttpClassicServer.class))
+                    .preFilters(new ArrayList<>())
+                    .httpMappers(List.of(this.first, this.second))
+                    .target(this.calculator)
+                    .method(add.orElseThrow())
+                    .build();
+            HttpHandler.StaticInfo staticInfo = DefaultReflectibleHttpHandlerTest.this.initializeStaticInfo();
+            this.handler = new DefaultReflectibleHttpHandler(staticInfo, executionInfo);
+        }
+
+        @Test
+        @DisplayName("给定映射后的参数，调用目标方法")
+        void givenMappedArgumentsThenInvokeTargetMethod() {
+            when(this.first.map(any(), any(), any())).thenReturn(1);
+            when(this.second.map(any(), any(), any())).thenReturn(2);
+            this.handler.handle(DefaultReflectibleHttpHandlerTest.this.request,
+                    DefaultReflectibleHttpHandlerTest.this.response);
+            assertThat(this.calculator.sum).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("给定基本类型参数为 null，交由异常处理且不调用目标方法")
+        void givenNullPrimitiveArgumentThenHandleException() {
+            when(this.first.map(any(), any(), any())).thenReturn(1);
+            when(this.second.map(any(), any(), any())).thenReturn(null);
+            this.handler.handle(DefaultReflectibleHttpHandlerTest.this.request,
+                    DefaultReflectibleHttpHandlerTest.this.response);
+            assertThat(this.calculator.sum).isEqualTo(0);
+            Optional<Entity> entity = DefaultReflectibleHttpHandlerTest.this.response.entity();
+            assertThat(entity).isPresent().get().isExactlyInstanceOf(DefaultObjectEntity.class);
+        }
+    }
+
+    /**
+     * 表示用于测试处理器调用的目标对象。
+     */
+    public static class Calculator {
+        private int sum;
+
+        /**
+         * 记录两个整数的和。
+         *
+         * @param first 表示第一个整数的 {@code int}。
+         * @param second 表示第二个整数的 {@code int}。
+         * @return 表示两个整数的和的 {@code int}。
+         */
+        public int add(int first, int second) {
+            this.sum = first + second;
+            return this.sum;
+        }
+    }
 }
\ No newline at end of file
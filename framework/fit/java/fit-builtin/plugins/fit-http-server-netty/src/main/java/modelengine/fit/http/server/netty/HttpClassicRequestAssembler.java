@@ -48,13 +48,22 @@ import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.StringUtils;
+import modelengine.fitframework.util.ThreadUtils;
 
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@link HttpClassicServerRequest} 的组装器。
+ * <p>组装完成的请求根据 {@link ExecutionMode} 交由业务线程池或虚拟线程执行。使用虚拟线程时，不再排队等待，而是通过并发上限控制同时
+ * 执行的请求数量，超出上限的请求直接以 {@code 503} 拒绝。</p>
  *
  * @author 季聿阶
  * @since 2022-07-14
@@ -68,19 +77,64 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
     private final boolean secure;
     private final Config config;
     private final ThreadPoolExecutor threadPoolExecutor;
+    private final ThreadFactory virtualThreadFactory;
+    private final Semaphore concurrencyLimiter;
+    private final AtomicInteger inFlightRequests = new AtomicInteger();
+    private final LongAdder rejectedRequests = new LongAdder();
 
     public HttpClassicRequestAssembler(HttpClassicServer server, boolean secure, Config config) {
+        this(server, secure, config, createVirtualThreadFactory(config));
+    }
+
+    /**
+     * 使用指定的请求线程工厂创建 {@link HttpClassicRequestAssembler} 的新实例。
+     * <p>请求线程工厂不为 {@code null} 时，每个请求在该工厂创建的新线程上执行，并受同时执行的请求数量上限的控制，否则，请求交由
+     * 业务线程池执行。</p>
+     *
+     * @param server 表示 Http 服务器的 {@link HttpClassicServer}。
+     * @param secure 表示是否为安全连接的 {@code boolean}。
+     * @param config 表示组装器配置的 {@link Config}。
+     * @param virtualThreadFactory 表示请求线程工厂的 {@link ThreadFactory}。
+     */
+    HttpClassicRequestAssembler(HttpClassicServer server, boolean secure, Config config,
+            ThreadFactory virtualThreadFactory) {
         this.server = notNull(server, "The http server cannot be null.");
         this.secure = secure;
         this.config = notNull(config, "The assembler config cannot be null.");
-        this.threadPoolExecutor = ThreadPoolExecutor.custom()
+        this.virtualThreadFactory = virtualThreadFactory;
+        if (this.virtualThreadFactory == null) {
+            this.threadPoolExecutor = this.createThreadPoolExecutor();
+            this.concurrencyLimiter = null;
+        } else {
+            this.threadPoolExecutor = null;
+            this.concurrencyLimiter = config.maxConcurrentRequests() > 0
+                    ? new Semaphore(config.maxConcurrentRequests())
+                    : null;
+        }
+    }
+
+    private static ThreadFactory createVirtualThreadFactory(Config config) {
+        notNull(config, "The assembler config cannot be null.");
+        if (config.executionMode() != ExecutionMode.VIRTUAL_THREAD) {
+            return null;
+        }
+        Optional<ThreadFactory> factory = ThreadUtils.virtualThreadFactory("netty-request-assembler-virtual-");
+        if (factory.isEmpty()) {
+            log.warn("Virtual threads are not supported by current JDK, use thread pool instead. [version={}]",
+                    Runtime.version());
+        }
+        return factory.orElse(null);
+    }
+
+    private ThreadPoolExecutor createThreadPoolExecutor() {
+        return ThreadPoolExecutor.custom()
                 .threadPoolName("netty-request-assembler")
                 .awaitTermination(3, TimeUnit.SECONDS)
                 .isImmediateShutdown(!this.config.isGracefulExit())
-                .corePoolSize(config.coreThreadNum())
-                .maximumPoolSize(config.maxThreadNum())
+                .corePoolSize(this.config.coreThreadNum())
+                .maximumPoolSize(this.config.maxThreadNum())
                 .keepAliveTime(60, TimeUnit.SECONDS)
-                .workQueueCapacity(config.queueCapacity())
+                .workQueueCapacity(this.config.queueCapacity())
                 .isDaemonThread(!this.config.isGracefulExit())
                 .exceptionHandler((thread, cause) -> log.error("Failed to handle http request by request assembler.",
                         cause))
@@ -88,6 +142,24 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
                 .build();
     }
 
+    /**
+     * 获取当前正在执行的请求数量。
+     *
+     * @return 表示当前正在执行的请求数量的 {@code int}。
+     */
+    public int inFlightRequests() {
+        return this.inFlightRequests.get();
+    }
+
+    /**
+     * 获取因执行资源不足而被拒绝的请求数量。
+     *
+     * @return 表示被拒绝的请求数量的 {@code long}。
+     */
+    public long rejectedRequests() {
+        return this.rejectedRequests.sum();
+    }
+
     private static void setRequest(ChannelHandlerContext ctx, NettyHttpServerRequest serverRequest) {
         Attribute<NettyHttpServerRequest> attr = ((AttributeMap) ctx).attr(REQUEST);
         attr.set(serverRequest);
@@ -154,10 +226,57 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
         if (HttpUtil.is100ContinueExpected(request)) {
             this.return100Continue(ctx);
         } else {
-            this.threadPoolExecutor.execute(Task.builder()
-                    .runnable(() -> this.doHttpRequest(ctx, serverRequest))
-                    .uncaughtExceptionHandler((thread, cause) -> this.exceptionCaught(ctx, cause, serverRequest))
-                    .buildDisposable());
+            this.execute(ctx, serverRequest);
+        }
+    }
+
+    private void execute(ChannelHandlerContext ctx, NettyHttpServerRequest serverRequest) {
+        if (this.concurrencyLimiter != null && !this.concurrencyLimiter.tryAcquire()) {
+            this.rejectedRequests.increment();
+            this.exceptionCaught(ctx,
+                    new HttpServerResponseException(HttpResponseStatus.SERVICE_UNAVAILABLE,
+                            "Too many concurrent http requests."),
+                    serverRequest);
+            return;
+        }
+        this.inFlightRequests.incrementAndGet();
+        try {
+            if (this.virtualThreadFactory != null) {
+                this.virtualThreadFactory.newThread(() -> this.doHttpRequestOnVirtualThread(ctx, serverRequest))
+                        .start();
+            } else {
+                this.threadPoolExecutor.execute(Task.builder()
+                        .runnable(() -> this.doHttpRequestAndRelease(ctx, serverRequest))
+                        .uncaughtExceptionHandler((thread, cause) -> this.exceptionCaught(ctx, cause, serverRequest))
+                        .buildDisposable());
+            }
+        } catch (RejectedExecutionException e) {
+            this.release();
+            this.rejectedRequests.increment();
+            throw e;
+        }
+    }
+
+    private void doHttpRequestOnVirtualThread(ChannelHandlerContext ctx, NettyHttpServerRequest request) {
+        try {
+            this.doHttpRequestAndRelease(ctx, request);
+        } catch (Throwable cause) {
+            this.exceptionCaught(ctx, cause, request);
+        }
+    }
+
+    private void doHttpRequestAndRelease(ChannelHandlerContext ctx, NettyHttpServerRequest request) {
+        try {
+            this.doHttpRequest(ctx, request);
+        } finally {
+            this.release();
+        }
+    }
+
+    private void release() {
+        this.inFlightRequests.decrementAndGet();
+        if (this.concurrencyLimiter != null) {
+            this.concurrencyLimiter.release();
         }
     }
 
@@ -313,6 +432,21 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
          */
         boolean isGracefulExit();
 
+        /**
+         * 获取请求的执行模式。
+         *
+         * @return 表示请求的执行模式的 {@link ExecutionMode}。
+         */
+        ExecutionMode executionMode();
+
+        /**
+         * 获取使用虚拟线程执行时，同时执行的请求数量上限。
+         * <p>当上限小于等于 {@code 0} 时，表示不限制同时执行的请求数量。</p>
+         *
+         * @return 表示同时执行的请求数量上限的 {@code int}。
+         */
+        int maxConcurrentRequests();
+
         /**
          * 表示 {@link Config} 的构建器。
          */
@@ -365,6 +499,22 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
              */
             Builder isGracefulExit(boolean isGracefulExit);
 
+            /**
+             * 向当前构建器中设置请求的执行模式。
+             *
+             * @param executionMode 表示待设置的请求的执行模式的 {@link ExecutionMode}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder executionMode(ExecutionMode executionMode);
+
+            /**
+             * 向当前构建器中设置使用虚拟线程执行时，同时执行的请求数量上限。
+             *
+             * @param maxConcurrentRequests 表示待设置的同时执行的请求数量上限的 {@code int}。
+             * @return 表示当前构建器的 {@link Builder}。
+             */
+            Builder maxConcurrentRequests(int maxConcurrentRequests);
+
             /**
              * 构建对象。
              *
@@ -392,4 +542,33 @@ public class HttpClassicRequestAssembler extends SimpleChannelInboundHandler<Htt
             return BuilderFactory.get(Config.class, Builder.class).create(value);
         }
     }
+
+    /**
+     * 表示 Http 请求的执行模式。
+     */
+    public enum ExecutionMode {
+        /** 表示使用有界的业务线程池执行请求。 */
+        THREAD_POOL,
+
+        /** 表示每个请求使用一个虚拟线程执行，当前 JDK 不支持虚拟线程时，退化为 {@link #THREAD_POOL}。 */
+        VIRTUAL_THREAD;
+
+        /**
+         * 将执行模式名转换为对应的执行模式。
+         * <p>执行模式名不区分大小写，且 {@code '-'} 与 {@code '_'} 等价。当执行模式名不匹配时，统一返回
+         * {@link ExecutionMode#THREAD_POOL}。</p>
+         *
+         * @param name 表示执行模式名的 {@link String}。
+         * @return 表示转换后的执行模式的 {@link ExecutionMode}。
+         */
+        public static ExecutionMode from(String name) {
+            String actualName = StringUtils.isBlank(name) ? StringUtils.EMPTY : name.trim().replace('-', '_');
+            for (ExecutionMode mode : values()) {
+                if (StringUtils.equalsIgnoreCase(actualName, mode.name())) {
+                    return mode;
+                }
+            }
+            return ExecutionMode.THREAD_POOL;
+        }
+    }
 }
@@ -12,17 +12,30 @@ import static modelengine.fitframework.inspection.Validation.lessThanOrEquals;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
-import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.nio.NioIoHandler;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.compression.StandardCompressionOptions;
+import io.netty.handler.codec.http.HttpContentCompressor;
 import io.netty.handler.codec.http.HttpServerCodec;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.util.NettyRuntime;
@@ -57,6 +70,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.locks.Lock;
 
@@ -75,6 +89,9 @@ import javax.net.ssl.TrustManager;
 public class NettyHttpClassicServer implements HttpClassicServer {
     private static final Logger log = Logger.get(NettyHttpClassicServer.class);
     private static final String SECURE_DEFAULT_PROTOCOL = "TLSv1.2";
+    private static final String EPOLL_TRANSPORT = "epoll";
+    private static final String POOLED_ALLOCATOR = "pooled";
+    private static final String UNPOOLED_ALLOCATOR = "unpooled";
 
     private final BeanContainer container;
     private final HttpDispatcher dispatcher;
@@ -98,6 +115,7 @@ public class NettyHttpClassicServer implements HttpClassicServer {
     private volatile int httpsPort;
     private final boolean isGracefulExit;
     private volatile boolean isStarted = false;
+    private volatile ChannelInitializerHandler channelInitializerHandler;
     private final Lock lock = LockUtils.newReentrantLock();
 
     NettyHttpClassicServer(BeanContainer container, Map<String, ObjectSerializer> serializers,
@@ -198,30 +216,43 @@ public class NettyHttpClassicServer implements HttpClassicServer {
     }
 
     private void startServer() {
-        EventLoopGroup bossGroup = createBossGroup();
-        EventLoopGroup workerGroup = this.createWorkerGroup();
+        boolean isEpoll = this.isEpollEnabled();
+        int acceptThreadNum = isEpoll ? Math.max(this.nettyConfig.getAcceptThreadNum(), 1) : 1;
+        EventLoopGroup bossGroup = createBossGroup(isEpoll, acceptThreadNum);
+        EventLoopGroup workerGroup = this.createWorkerGroup(isEpoll);
         try {
             SSLContext sslContext = null;
             if (this.httpsPort > 0 && this.httpsConfig.isSslEnabled()) {
                 sslContext = this.createSslContext();
             }
-            ChannelHandler channelHandler = new ChannelInitializerHandler(this,
+            ChannelInitializerHandler channelHandler = new ChannelInitializerHandler(this,
                     this.getAssemblerConfig(),
                     this.httpsPort,
                     sslContext,
-                    this.httpsConfig);
+                    this.httpsConfig,
+                    this.getCompressionThreshold());
+            this.channelInitializerHandler = channelHandler;
             ServerBootstrap serverBootstrap = new ServerBootstrap();
             serverBootstrap.group(bossGroup, workerGroup)
-                    .channel(NioServerSocketChannel.class)
+                    .channel(serverChannelClass(isEpoll))
+                    .childOption(ChannelOption.TCP_NODELAY, true)
                     .childHandler(channelHandler);
-            this.logServerStarted();
-            if (this.httpPort > 0) {
-                Channel channel = serverBootstrap.bind(this.httpPort).sync().channel();
-                this.channelGroup.add(channel);
+            if (acceptThreadNum > 1) {
+                serverBootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
             }
-            if (this.httpsPort > 0) {
-                Channel channel = serverBootstrap.bind(this.httpsPort).sync().channel();
-                this.channelGroup.add(channel);
+            this.configureAllocator(serverBootstrap);
+            this.configureWriteBufferWaterMark(serverBootstrap);
+            this.logServerStarted();
+            // 开启 SO_REUSEPORT 时，同一端口绑定多个监听通道，由内核在多个接收线程间分发连接。
+            for (int i = 0; i < acceptThreadNum; i++) {
+                if (this.httpPort > 0) {
+                    Channel channel = serverBootstrap.bind(this.httpPort).sync().channel();
+                    this.channelGroup.add(channel);
+                }
+                if (this.httpsPort > 0) {
+                    Channel channel = serverBootstrap.bind(this.httpsPort).sync().channel();
+                    this.channelGroup.add(channel);
+                }
             }
             ChannelGroupFuture channelFutures = this.channelGroup.newCloseFuture();
             this.isStarted = true;
@@ -243,6 +274,8 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                 .maxThreadNum(this.maxThreadNum)
                 .queueCapacity(this.queueCapacity)
                 .isGracefulExit(this.isGracefulExit)
+                .executionMode(HttpClassicRequestAssembler.ExecutionMode.from(this.nettyConfig.getExecutionMode()))
+                .maxConcurrentRequests(this.nettyConfig.getMaxConcurrentRequests())
                 .build();
     }
 
@@ -258,18 +291,94 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         }
     }
 
-    private static EventLoopGroup createBossGroup() {
-        return new NioEventLoopGroup(1, new DefaultThreadFactory("netty-boss-group", false, (thread, exception) -> {
+    private int getCompressionThreshold() {
+        // 返回负数表示不压缩 Http 响应。
+        return this.nettyConfig.isCompressionEnabled() ? Math.max(this.nettyConfig.getCompressionThreshold(), 0) : -1;
+    }
+
+    /**
+     * 判断是否使用 Epoll 传输层。
+     * <p>只有配置的传输层为 {@code epoll} 且当前环境支持 Epoll 时才使用，否则使用 Nio 传输层。</p>
+     *
+     * @return 如果使用 Epoll 传输层，返回 {@code true}，否则，返回 {@code false}。
+     */
+    boolean isEpollEnabled() {
+        if (!StringUtils.equalsIgnoreCase(StringUtils.trim(this.nettyConfig.getTransport()), EPOLL_TRANSPORT)) {
+            return false;
+        }
+        if (Epoll.isAvailable()) {
+            return true;
+        }
+        log.warn("Epoll transport is not available, use nio transport instead. [cause={}]",
+                Epoll.unavailabilityCause().getMessage());
+        return false;
+    }
+
+    private void configureAllocator(ServerBootstrap serverBootstrap) {
+        String allocatorType = StringUtils.trim(this.nettyConfig.getAllocator());
+        ByteBufAllocator allocator;
+        if (StringUtils.equalsIgnoreCase(allocatorType, POOLED_ALLOCATOR)) {
+            allocator = PooledByteBufAllocator.DEFAULT;
+        } else if (StringUtils.equalsIgnoreCase(allocatorType, UNPOOLED_ALLOCATOR)) {
+            allocator = UnpooledByteBufAllocator.DEFAULT;
+        } else {
+            return;
+        }
+        serverBootstrap.option(ChannelOption.ALLOCATOR, allocator).childOption(ChannelOption.ALLOCATOR, allocator);
+    }
+
+    private void configureWriteBufferWaterMark(ServerBootstrap serverBootstrap) {
+        int low = this.nettyConfig.getWriteBufferLowWaterMark();
+        int high = this.nettyConfig.getWriteBufferHighWaterMark();
+        if (low <= 0 && high <= 0) {
+            return;
+        }
+        int actualHigh = high > 0 ? high : Math.max(WriteBufferWaterMark.DEFAULT.high(), low);
+        int actualLow = low > 0 ? low : Math.min(WriteBufferWaterMark.DEFAULT.low(), actualHigh);
+        isTrue(actualLow <= actualHigh,
+                "The write buffer low water mark cannot be greater than the high water mark. [low={0}, high={1}]",
+                actualLow,
+                actualHigh);
+        serverBootstrap.childOption(ChannelOption.WRITE_BUFFER_WATER_MARK,
+                new WriteBufferWaterMark(actualLow, actualHigh));
+    }
+
+    private static EventLoopGroup createBossGroup(boolean isEpoll, int threadNum) {
+        ThreadFactory threadFactory = new DefaultThreadFactory("netty-boss-group", false, (thread, exception) -> {
             log.error("Netty boss group occurs exception.", exception);
-        }));
+        });
+        return newEventLoopGroup(isEpoll, threadNum, threadFactory);
     }
 
-    private EventLoopGroup createWorkerGroup() {
+    private EventLoopGroup createWorkerGroup(boolean isEpoll) {
         boolean isDaemon = !this.isGracefulExit;
-        return new NioEventLoopGroup(this.coreThreadNum,
-                new DefaultThreadFactory("netty-worker-group", isDaemon, (thread, exception) -> {
-                    log.error("Netty worker group occurs exception.", exception);
-                }));
+        ThreadFactory threadFactory = new DefaultThreadFactory("netty-worker-group", isDaemon, (thread, exception) -> {
+            log.error("Netty worker group occurs exception.", exception);
+        });
+        return newEventLoopGroup(isEpoll, this.coreThreadNum, threadFactory);
+    }
+
+    /**
+     * 创建指定传输层的事件循环组。
+     *
+     * @param isEpoll 表示是否使用 Epoll 传输层的 {@code boolean}。
+     * @param threadNum 表示事件循环组的线程数量的 {@code int}。
+     * @param threadFactory 表示事件循环组的线程工厂的 {@link ThreadFactory}。
+     * @return 表示创建的事件循环组的 {@link EventLoopGroup}。
+     */
+    static EventLoopGroup newEventLoopGroup(boolean isEpoll, int threadNum, ThreadFactory threadFactory) {
+        IoHandlerFactory ioHandlerFactory = isEpoll ? EpollIoHandler.newFactory() : NioIoHandler.newFactory();
+        return new MultiThreadIoEventLoopGroup(threadNum, threadFactory, ioHandlerFactory);
+    }
+
+    /**
+     * 获取指定传输层的服务端通道类型。
+     *
+     * @param isEpoll 表示是否使用 Epoll 传输层的 {@code boolean}。
+     * @return 表示服务端通道类型的 {@link Class}{@code <? extends }{@link ServerChannel}{@code >}。
+     */
+    static Class<? extends ServerChannel> serverChannelClass(boolean isEpoll) {
+        return isEpoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class;
     }
 
     private SSLContext createSslContext() throws GeneralSecurityException, IOException {
@@ -291,6 +400,26 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         return SslUtils.getSslContext(keyManagers, trustManagers, isSecureRandomEnabled, secureProtocol);
     }
 
+    /**
+     * 获取当前正在执行的 Http 请求数量。
+     *
+     * @return 表示当前正在执行的 Http 请求数量的 {@code int}。
+     */
+    public int inFlightRequests() {
+        ChannelInitializerHandler handler = this.channelInitializerHandler;
+        return handler == null ? 0 : handler.assembler.inFlightRequests() + handler.secureAssembler.inFlightRequests();
+    }
+
+    /**
+     * 获取因执行资源不足而被拒绝的 Http 请求数量。
+     *
+     * @return 表示被拒绝的 Http 请求数量的 {@code long}。
+     */
+    public long rejectedRequests() {
+        ChannelInitializerHandler handler = this.channelInitializerHandler;
+        return handler == null ? 0 : handler.assembler.rejectedRequests() + handler.secureAssembler.rejectedRequests();
+    }
+
     @Override
     public HttpDispatcher httpDispatcher() {
         return this.dispatcher;
@@ -360,10 +489,12 @@ public class NettyHttpClassicServer implements HttpClassicServer {
         private final ProtocolUpgrader secureUpgrader;
         private final HttpClassicRequestAssembler assembler;
         private final HttpClassicRequestAssembler secureAssembler;
+        private final int compressionThreshold;
 
         ChannelInitializerHandler(HttpClassicServer server, HttpClassicRequestAssembler.Config assemblerConfig,
-                int httpsPort, SSLContext sslContext, ServerConfig.Secure httpsConfig) {
+                int httpsPort, SSLContext sslContext, ServerConfig.Secure httpsConfig, int compressionThreshold) {
             this.httpsPort = httpsPort;
+            this.compressionThreshold = compressionThreshold;
             this.sslContext = sslContext;
             this.httpsConfig = httpsConfig;
             this.upgrader = new ProtocolUpgrader(server,
@@ -385,15 +516,26 @@ public class NettyHttpClassicServer implements HttpClassicServer {
                     && this.httpsConfig.isSslEnabled()) {
                 pipeline.addLast(new SslHandler(this.buildSslEngine(this.sslContext, this.httpsConfig)));
                 pipeline.addLast(new HttpServerCodec());
+                this.addCompressor(pipeline);
                 pipeline.addLast(this.secureUpgrader);
                 pipeline.addLast(this.secureAssembler);
             } else {
                 pipeline.addLast(new HttpServerCodec());
+                this.addCompressor(pipeline);
                 pipeline.addLast(this.upgrader);
                 pipeline.addLast(this.assembler);
             }
         }
 
+        private void addCompressor(ChannelPipeline pipeline) {
+            if (this.compressionThreshold < 0) {
+                return;
+            }
+            pipeline.addLast(new HttpContentCompressor(this.compressionThreshold,
+                    StandardCompressionOptions.gzip(),
+                    StandardCompressionOptions.deflate()));
+        }
+
         private SSLEngine buildSslEngine(SSLContext sslContext, ServerConfig.Secure httpsConfig) {
             SSLEngine sslEngine = sslContext.createSSLEngine();
             sslEngine.setUseClientMode(false);
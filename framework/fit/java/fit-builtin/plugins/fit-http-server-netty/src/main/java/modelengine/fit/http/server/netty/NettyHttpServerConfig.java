@@ -40,4 +40,74 @@ public interface NettyHttpServerConfig {
      * @return 表示 Http 响应发生错误时，是否显示错误详细信息的 {@code boolean}。
      */
     boolean isDisplayError();
+
+    /**
+     * 获取 Http 请求的执行模式。
+     * <p>可选值为 {@code 'thread-pool'} 和 {@code 'virtual-thread'}，未配置或无法识别时使用业务线程池执行。</p>
+     *
+     * @return 表示 Http 请求的执行模式的 {@link String}。
+     */
+    String getExecutionMode();
+
+    /**
+     * 获取使用虚拟线程执行 Http 请求时，同时执行的请求数量上限。
+     * <p>当上限小于等于 {@code 0} 时，表示不限制同时执行的请求数量。</p>
+     *
+     * @return 表示同时执行的请求数量上限的 {@code int}。
+     */
+    int getMaxConcurrentRequests();
+
+    /**
+     * 获取网络传输层的实现。
+     * <p>可选值为 {@code 'nio'} 和 {@code 'epoll'}，未配置、无法识别或当前平台不支持 epoll 时使用 nio。</p>
+     *
+     * @return 表示网络传输层实现的 {@link String}。
+     */
+    String getTransport();
+
+    /**
+     * 获取接收连接的线程数。
+     * <p>仅在使用 epoll 时生效，大于 {@code 1} 时通过 {@code SO_REUSEPORT} 在同一端口上绑定多个监听通道。</p>
+     *
+     * @return 表示接收连接的线程数的 {@code int}。
+     */
+    int getAcceptThreadNum();
+
+    /**
+     * 获取缓冲区分配器的类型。
+     * <p>可选值为 {@code 'default'}、{@code 'pooled'} 和 {@code 'unpooled'}，未配置或无法识别时使用 Netty 的默认分配器。</p>
+     *
+     * @return 表示缓冲区分配器类型的 {@link String}。
+     */
+    String getAllocator();
+
+    /**
+     * 获取写缓冲区的低水位线。
+     * <p>小于等于 {@code 0} 时使用 Netty 的默认值。</p>
+     *
+     * @return 表示写缓冲区低水位线字节数的 {@code int}。
+     */
+    int getWriteBufferLowWaterMark();
+
+    /**
+     * 获取写缓冲区的高水位线。
+     * <p>小于等于 {@code 0} 时使用 Netty 的默认值。</p>
+     *
+     * @return 表示写缓冲区高水位线字节数的 {@code int}。
+     */
+    int getWriteBufferHighWaterMark();
+
+    /**
+     * 获取是否根据请求的 {@code Accept-Encoding} 对 Http 响应进行 gzip 或 deflate 压缩。
+     *
+     * @return 表示是否压缩 Http 响应的 {@code boolean}。
+     */
+    boolean isCompressionEnabled();
+
+    /**
+     * 获取 Http 响应压缩的消息体大小阈值，消息体小于该阈值时不压缩。
+     *
+     * @return 表示压缩阈值字节数的 {@code int}。
+     */
+    int getCompressionThreshold();
 }
@@ -39,6 +39,51 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
      */
     private boolean displayError;
 
+    /**
+     * 配置项：{@code 'execution-mode'}。
+     */
+    private String executionMode;
+
+    /**
+     * 配置项：{@code 'max-concurrent-requests'}。
+     */
+    private int maxConcurrentRequests;
+
+    /**
+     * 配置项：{@code 'transport'}。
+     */
+    private String transport;
+
+    /**
+     * 配置项：{@code 'accept-thread-num'}。
+     */
+    private int acceptThreadNum;
+
+    /**
+     * 配置项：{@code 'allocator'}。
+     */
+    private String allocator;
+
+    /**
+     * 配置项：{@code 'write-buffer-low-water-mark'}。
+     */
+    private int writeBufferLowWaterMark;
+
+    /**
+     * 配置项：{@code 'write-buffer-high-water-mark'}。
+     */
+    private int writeBufferHighWaterMark;
+
+    /**
+     * 配置项：{@code 'compression-enabled'}。
+     */
+    private boolean compressionEnabled;
+
+    /**
+     * 配置项：{@code 'compression-threshold'}。
+     */
+    private int compressionThreshold;
+
     @Override
     public int getCoreThreadNum() {
         return this.coreThreadNum;
@@ -94,4 +139,130 @@ public class DefaultNettyServerConfig implements NettyHttpServerConfig {
     public void setDisplayError(boolean displayError) {
         this.displayError = displayError;
     }
+
+    @Override
+    public String getExecutionMode() {
+        return this.executionMode;
+    }
+
+    /**
+     * 设置 Http 请求的执行模式。
+     *
+     * @param executionMode 表示 Http 请求的执行模式的 {@link String}。
+     */
+    public void setExecutionMode(String executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    @Override
+    public int getMaxConcurrentRequests() {
+        return this.maxConcurrentRequests;
+    }
+
+    /**
+     * 设置使用虚拟线程执行时，同时执行的请求数量上限。
+     *
+     * @param maxConcurrentRequests 表示同时执行的请求数量上限的 {@code int}。
+     */
+    public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    @Override
+    public String getTransport() {
+        return this.transport;
+    }
+
+    /**
+     * 设置网络传输层的实现。
+     *
+     * @param transport 表示网络传输层的实现的 {@link String}。
+     */
+    public void setTransport(String transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public int getAcceptThreadNum() {
+        return this.acceptThreadNum;
+    }
+
+    /**
+     * 设置接收连接的线程数。
+     *
+     * @param acceptThreadNum 表示接收连接的线程数的 {@code int}。
+     */
+    public void setAcceptThreadNum(int acceptThreadNum) {
+        this.acceptThreadNum = acceptThreadNum;
+    }
+
+    @Override
+    public String getAllocator() {
+        return this.allocator;
+    }
+
+    /**
+     * 设置缓冲区分配器的类型。
+     *
+     * @param allocator 表示缓冲区分配器的类型的 {@link String}。
+     */
+    public void setAllocator(String allocator) {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public int getWriteBufferLowWaterMark() {
+        return this.writeBufferLowWaterMark;
+    }
+
+    /**
+     * 设置写缓冲区的低水位线。
+     *
+     * @param writeBufferLowWaterMark 表示写缓冲区的低水位线的 {@code int}。
+     */
+    public void setWriteBufferLowWaterMark(int writeBufferLowWaterMark) {
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+    }
+
+    @Override
+    public int getWriteBufferHighWaterMark() {
+        return this.writeBufferHighWaterMark;
+    }
+
+    /**
+     * 设置写缓冲区的高水位线。
+     *
+     * @param writeBufferHighWaterMark 表示写缓冲区的高水位线的 {@code int}。
+     */
+    public void setWriteBufferHighWaterMark(int writeBufferHighWaterMark) {
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+    }
+
+    @Override
+    public boolean isCompressionEnabled() {
+        return this.compressionEnabled;
+    }
+
+    /**
+     * 设置是否压缩 Http 响应的标志。
+     *
+     * @param compressionEnabled 表示是否压缩 Http 响应的标志的 {@code boolean}。
+     */
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    public int getCompressionThreshold() {
+        return this.compressionThreshold;
+    }
+
+    /**
+     * 设置 Http 响应压缩的阈值。
+     *
+     * @param compressionThreshold 表示 Http 响应压缩的阈值的 {@code int}。
+     */
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
 }
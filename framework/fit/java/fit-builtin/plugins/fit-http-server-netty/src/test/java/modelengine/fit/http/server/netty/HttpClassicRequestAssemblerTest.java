@@ -6,9 +6,12 @@
 
 package modelengine.fit.http.server.netty;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.channel.Channel;
@@ -16,10 +19,12 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelId;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.Attribute;
 import io.netty.util.AttributeMap;
@@ -35,8 +40,13 @@ import modelengine.fitframework.value.ValueFetcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.net.InetSocketAddress;
+import java.nio.charset.Charset;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 表示 {@link HttpClassicRequestAssembler} 的单元测试。
@@ -94,4 +104,94 @@ class HttpClassicRequestAssemblerTest {
         DefaultHttpRequest httpRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/a", headers);
         assertDoesNotThrow(() -> this.requestAssembler.channelRead0(this.ctx, httpRequest));
     }
+
+    @Test
+    @DisplayName("同时执行的请求达到上限时，新的请求以 503 拒绝，并记录正在执行和被拒绝的请求数量")
+    void givenConcurrencyLimitReachedThenRejectWith503() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        HttpHandler handler = mock(HttpHandler.class);
+        when(handler.pathPattern()).thenReturn("/a");
+        doAnswer(invocation -> {
+            entered.countDown();
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(handler).handle(any(), any());
+        HttpClassicRequestAssembler assembler = new HttpClassicRequestAssembler(this.createJsonServer(handler),
+                false,
+                HttpClassicRequestAssembler.Config.custom()
+                        .shouldDisplayError(true)
+                        .largeBodySize(2048)
+                        .executionMode(HttpClassicRequestAssembler.ExecutionMode.VIRTUAL_THREAD)
+                        .maxConcurrentRequests(1)
+                        .build(),
+                Thread::new);
+        assertThat(assembler.inFlightRequests()).isZero();
+
+        assembler.channelRead0(createContext(), getRequest());
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(assembler.inFlightRequests()).isEqualTo(1);
+
+        ChannelHandlerContext rejected = createContext();
+        assembler.channelRead0(rejected, getRequest());
+        ArgumentCaptor<Object> response = ArgumentCaptor.forClass(Object.class);
+        verify(rejected).writeAndFlush(response.capture());
+        assertThat(response.getValue()).isInstanceOf(FullHttpResponse.class);
+        assertThat(((FullHttpResponse) response.getValue()).status())
+                .isEqualTo(HttpResponseStatus.SERVICE_UNAVAILABLE);
+        assertThat(assembler.inFlightRequests()).isEqualTo(1);
+        assertThat(assembler.rejectedRequests()).isEqualTo(1);
+
+        release.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (assembler.inFlightRequests() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(assembler.inFlightRequests()).isZero();
+        assertThat(assembler.rejectedRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("将执行模式名转换为对应的执行模式，无法识别时使用业务线程池")
+    void givenExecutionModeNameThenReturnMatchedMode() {
+        assertThat(HttpClassicRequestAssembler.ExecutionMode.from("virtual-thread"))
+                .isEqualTo(HttpClassicRequestAssembler.ExecutionMode.VIRTUAL_THREAD);
+        assertThat(HttpClassicRequestAssembler.ExecutionMode.from("THREAD_POOL"))
+                .isEqualTo(HttpClassicRequestAssembler.ExecutionMode.THREAD_POOL);
+        assertThat(HttpClassicRequestAssembler.ExecutionMode.from("unknown"))
+                .isEqualTo(HttpClassicRequestAssembler.ExecutionMode.THREAD_POOL);
+        assertThat(HttpClassicRequestAssembler.ExecutionMode.from(null))
+                .isEqualTo(HttpClassicRequestAssembler.ExecutionMode.THREAD_POOL);
+    }
+
+    private NettyHttpClassicServer createJsonServer(HttpHandler handler) {
+        ObjectSerializer jsonSerializer = mock(ObjectSerializer.class);
+        when(jsonSerializer.serialize(any(), any(Charset.class))).thenReturn(new byte[] {'{', '}'});
+        Map<String, ObjectSerializer> serializers =
+                MapBuilder.<String, ObjectSerializer>get().put("json", jsonSerializer).build();
+        NettyHttpClassicServer server = new NettyHttpClassicServer(mock(BeanContainer.class),
+                serializers,
+                mock(ValueFetcher.class),
+                new DefaultNettyServerConfig(),
+                mock(HttpConfig.class),
+                true);
+        server.httpDispatcher().register(HttpRequestMethod.GET.name(), handler);
+        return server;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ChannelHandlerContext createContext() {
+        ChannelHandlerContext ctx = mock(ChannelHandlerContext.class);
+        Channel channel = mock(Channel.class);
+        when(channel.remoteAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8080));
+        when(channel.localAddress()).thenReturn(new InetSocketAddress("127.0.0.1", 8081));
+        when(ctx.channel()).thenReturn(channel);
+        Attribute attribute = mock(Attribute.class);
+        when(((AttributeMap) ctx).attr(any())).thenReturn(attribute);
+        return ctx;
+    }
+
+    private static DefaultHttpRequest getRequest() {
+        return new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/a", new DefaultHttpHeaders());
+    }
 }
@@ -12,6 +12,13 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.IoEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
 import modelengine.fit.http.Serializers;
 import modelengine.fit.http.server.HttpDispatcher;
 import modelengine.fit.http.server.netty.support.DefaultNettyServerConfig;
@@ -32,6 +39,7 @@ import org.mockito.Mockito;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.Map;
+import java.util.concurrent.Executors;
 
 /**
  * 表示 {@link NettyHttpClassicServer} 的单元测试。
@@ -119,6 +127,50 @@ class NettyHttpClassicServerTest {
         assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("配置的传输层为 nio 时，使用 Nio 的事件循环组和服务端通道")
+    void givenNioTransportThenSelectNio() {
+        NettyHttpClassicServer server = this.createServer("nio");
+        assertThat(server.isEpollEnabled()).isFalse();
+        assertThat(NettyHttpClassicServer.serverChannelClass(false)).isEqualTo(NioServerSocketChannel.class);
+        EventLoopGroup group =
+                NettyHttpClassicServer.newEventLoopGroup(false, 1, Executors.defaultThreadFactory());
+        try {
+            assertThat(((IoEventLoopGroup) group).isIoType(NioIoHandler.class)).isTrue();
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    @Test
+    @DisplayName("配置的传输层为 epoll 时，仅当环境支持 Epoll 才使用 Epoll 的事件循环组和服务端通道")
+    void givenEpollTransportThenSelectEpollWhenAvailable() {
+        NettyHttpClassicServer server = this.createServer("epoll");
+        boolean isEpoll = server.isEpollEnabled();
+        assertThat(isEpoll).isEqualTo(Epoll.isAvailable());
+        assertThat(NettyHttpClassicServer.serverChannelClass(isEpoll))
+                .isEqualTo(isEpoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class);
+        EventLoopGroup group =
+                NettyHttpClassicServer.newEventLoopGroup(isEpoll, 1, Executors.defaultThreadFactory());
+        try {
+            assertThat(((IoEventLoopGroup) group).isIoType(isEpoll ? EpollIoHandler.class : NioIoHandler.class))
+                    .isTrue();
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
+    private NettyHttpClassicServer createServer(String transport) {
+        DefaultNettyServerConfig nettyServerConfig = new DefaultNettyServerConfig();
+        nettyServerConfig.setTransport(transport);
+        return new NettyHttpClassicServer(mock(BeanContainer.class),
+                this.serializersMap,
+                this.valueFetcher,
+                nettyServerConfig,
+                mock(HttpConfig.class),
+                true);
+    }
+
     private int getIdlePort() throws IOException {
         // 读取空闲的可用端口
         try (ServerSocket serverSocket = new ServerSocket(0)) {
@@ -25,7 +25,21 @@ public class DefaultNettyServerConfigTest {
         DefaultNettyServerConfig config = new DefaultNettyServerConfig();
         config.setMaxThreadNum(2);
         config.setDisplayError(true);
+        config.setExecutionMode("virtual-thread");
+        config.setMaxConcurrentRequests(100);
+        config.setTransport("epoll");
+        config.setAcceptThreadNum(4);
+        config.setAllocator("pooled");
+        config.setCompressionEnabled(true);
+        config.setCompressionThreshold(1024);
         assertThat(config).returns(2, DefaultNettyServerConfig::getMaxThreadNum)
-                .returns(true, DefaultNettyServerConfig::isDisplayError);
+                .returns(true, DefaultNettyServerConfig::isDisplayError)
+                .returns("virtual-thread", DefaultNettyServerConfig::getExecutionMode)
+                .returns(100, DefaultNettyServerConfig::getMaxConcurrentRequests)
+                .returns("epoll", DefaultNettyServerConfig::getTransport)
+                .returns(4, DefaultNettyServerConfig::getAcceptThreadNum)
+                .returns("pooled", DefaultNettyServerConfig::getAllocator)
+                .returns(true, DefaultNettyServerConfig::isCompressionEnabled)
+                .returns(1024, DefaultNettyServerConfig::getCompressionThreshold);
     }
 }
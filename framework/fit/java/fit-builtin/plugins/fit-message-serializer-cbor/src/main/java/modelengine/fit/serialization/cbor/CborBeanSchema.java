@@ -0,0 +1,237 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import modelengine.fitframework.beans.BeanAccessor;
+import modelengine.fitframework.util.ReflectionUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 表示自定义对象在 CBOR 编解码时使用的预编译结构。
+ * <p>结构按类型缓存，属性的顺序和别名与 {@link BeanAccessor} 保持一致，读取和设置属性时直接调用预先解析的
+ * {@link MethodHandle}，从而在编码时无需先将对象转换为 {@link Map}，在解码时无需先将数据解码为 {@link Map}。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class CborBeanSchema {
+    private static final Map<Class<?>, CborBeanSchema> SCHEMAS = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+    private final BeanAccessor accessor;
+    private final String[] names;
+    private final List<Function<Object, Object>> getters;
+    private final Map<String, Setter> setters;
+
+    private CborBeanSchema(Class<?> type) {
+        BeanAccessor accessor = BeanAccessor.of(type);
+        this.type = type;
+        this.accessor = accessor;
+        PropertyDescriptor[] descriptors = descriptors(type);
+        Map<String, Method> readMethods = readMethods(descriptors);
+        List<String> properties = accessor.properties()
+                .stream()
+                .filter(property -> !Objects.equals(property, "class"))
+                .toList();
+        this.names = new String[properties.size()];
+        this.getters = new ArrayList<>(properties.size());
+        for (int i = 0; i < properties.size(); i++) {
+            String property = properties.get(i);
+            this.names[i] = accessor.getAlias(property);
+            this.getters.add(getter(accessor, property, readMethods.get(property)));
+        }
+        this.setters = new HashMap<>();
+        for (PropertyDescriptor descriptor : descriptors) {
+            if (accessor.properties().contains(descriptor.getName())) {
+                this.setters.put(descriptor.getName(), setter(accessor, descriptor));
+            }
+        }
+    }
+
+    /**
+     * 获取属性的数量。
+     *
+     * @return 表示属性数量的 {@code int}。
+     */
+    int size() {
+        return this.names.length;
+    }
+
+    /**
+     * 获取指定位置属性编码后使用的名称。
+     *
+     * @param index 表示属性位置的 {@code int}。
+     * @return 表示属性名称的 {@link String}。
+     */
+    String name(int index) {
+        return this.names[index];
+    }
+
+    /**
+     * 获取指定对象在指定位置上的属性值。
+     *
+     * @param bean 表示待读取的对象的 {@link Object}。
+     * @param index 表示属性位置的 {@code int}。
+     * @return 表示属性值的 {@link Object}。
+     */
+    Object get(Object bean, int index) {
+        return this.getters.get(index).apply(bean);
+    }
+
+    /**
+     * 创建一个当前类型的空对象，用于在解码时逐个设置属性。
+     *
+     * @return 表示新创建的对象的 {@link Object}。
+     */
+    Object instantiate() {
+        return ReflectionUtils.instantiate(this.type);
+    }
+
+    /**
+     * 获取编码后的键所对应的属性。
+     * <p>键与属性的对应关系与 {@link BeanAccessor#accept(Object, Map)} 一致。</p>
+     *
+     * @param key 表示编码后的键的 {@link String}。
+     * @return 表示键所对应的属性的 {@link Setter}，当没有对应的属性时，返回 {@code null}。
+     */
+    Setter setter(String key) {
+        return this.setters.get(this.accessor.getAlias(key));
+    }
+
+    /**
+     * 获取指定类型的预编译结构。
+     *
+     * @param type 表示自定义对象类型的 {@link Class}。
+     * @return 表示预编译结构的 {@link CborBeanSchema}。
+     */
+    static CborBeanSchema of(Class<?> type) {
+        return SCHEMAS.computeIfAbsent(type, CborBeanSchema::new);
+    }
+
+    private static PropertyDescriptor[] descriptors(Class<?> type) {
+        try {
+            return Introspector.getBeanInfo(type).getPropertyDescriptors();
+        } catch (IntrospectionException ex) {
+            throw new IllegalStateException(StringUtils.format("Failed to introspect class of bean. [type={0}]",
+                    type.getName()), ex);
+        }
+    }
+
+    private static Map<String, Method> readMethods(PropertyDescriptor[] descriptors) {
+        Map<String, Method> readMethods = new HashMap<>();
+        for (PropertyDescriptor descriptor : descriptors) {
+            if (descriptor.getReadMethod() != null) {
+                readMethods.put(descriptor.getName(), descriptor.getReadMethod());
+            }
+        }
+        return readMethods;
+    }
+
+    private static Function<Object, Object> getter(BeanAccessor accessor, String property, Method readMethod) {
+        if (readMethod == null) {
+            return bean -> accessor.get(bean, property);
+        }
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(readMethod).asType(GETTER_TYPE);
+        } catch (IllegalAccessException ex) {
+            return bean -> accessor.get(bean, property);
+        }
+        return bean -> invoke(handle, bean);
+    }
+
+    private static Setter setter(BeanAccessor accessor, PropertyDescriptor descriptor) {
+        String property = descriptor.getName();
+        Method writeMethod = descriptor.getWriteMethod();
+        if (writeMethod == null) {
+            // 只读属性与 BeanAccessor 的行为一致，设置时抛出异常。
+            Type type = descriptor.getReadMethod().getGenericReturnType();
+            return new Setter(type, (bean, value) -> accessor.set(bean, property, value));
+        }
+        Type type = writeMethod.getGenericParameterTypes()[0];
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(writeMethod).asType(SETTER_TYPE);
+        } catch (IllegalAccessException ex) {
+            return new Setter(type, (bean, value) -> accessor.set(bean, property, value));
+        }
+        return new Setter(type, (bean, value) -> invoke(handle, bean, value));
+    }
+
+    private static void invoke(MethodHandle handle, Object bean, Object value) {
+        try {
+            handle.invokeExact(bean, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(StringUtils.format("Failed to write property of bean. [type={0}]",
+                    bean.getClass().getName()), ex);
+        }
+    }
+
+    private static Object invoke(MethodHandle handle, Object bean) {
+        try {
+            return handle.invokeExact(bean);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(StringUtils.format("Failed to read property of bean. [type={0}]",
+                    bean.getClass().getName()), ex);
+        }
+    }
+
+    /**
+     * 表示自定义对象的一个可设置的属性。
+     */
+    static final class Setter {
+        private final Type type;
+        private final BiConsumer<Object, Object> consumer;
+
+        private Setter(Type type, BiConsumer<Object, Object> consumer) {
+            this.type = type;
+            this.consumer = consumer;
+        }
+
+        /**
+         * 获取属性的类型。
+         *
+         * @return 表示属性类型的 {@link Type}。
+         */
+        Type type() {
+            return this.type;
+        }
+
+        /**
+         * 设置指定对象的当前属性的值。
+         *
+         * @param bean 表示待设置属性值的对象的 {@link Object}。
+         * @param value 表示属性值的 {@link Object}。
+         */
+        void set(Object bean, Object value) {
+            this.consumer.accept(bean, value);
+        }
+    }
+}
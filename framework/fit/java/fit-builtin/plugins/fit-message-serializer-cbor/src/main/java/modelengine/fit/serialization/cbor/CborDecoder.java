@@ -11,15 +11,19 @@ import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fitframework.inspection.Validation;
-import modelengine.fitframework.util.Convert;
+import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +34,8 @@ import java.util.Map;
  * @since 2024-01-28
  */
 public class CborDecoder {
+    private static final long MAX_INITIAL_CAPACITY = 1024;
+
     /**
      * 将指定的二进制数组进行解码。
      *
@@ -53,6 +59,61 @@ public class CborDecoder {
      */
     public Object decode(InputStream in) throws IOException {
         int first = greaterThanOrEquals(in.read(), 0, "No enough byte to decode by CBOR.");
+        return this.decode(in, first);
+    }
+
+    /**
+     * 从指定字节输入流中读取字节，并解码为指定类型的对象。
+     * <p>自定义对象以及元素为自定义对象的列表直接解码到目标对象中，不再先解码为 {@link Map} 再转换，其余类型解码后通过
+     * {@link ObjectUtils#toCustomObject(Object, Type)} 转换，转换的结果与先解码再转换一致。</p>
+     *
+     * @param in 表示指定的字节输入流的 {@link InputStream}。
+     * @param type 表示目标类型的 {@link Type}。
+     * @return 表示解码后的对象的 {@link Object}。
+     * @throws IOException 当解码过程中发生错误时。
+     */
+    public Object decode(InputStream in, Type type) throws IOException {
+        int first = greaterThanOrEquals(in.read(), 0, "No enough byte to decode by CBOR.");
+        int majorType = (first & 0b111_00000) >> 5;
+        if (majorType == 5 && type instanceof Class && isBean((Class<?>) type)) {
+            return this.decodeBean(in, (byte) first, CborBeanSchema.of((Class<?>) type));
+        }
+        if (majorType == 4 && type instanceof ParameterizedType) {
+            Type rawType = ((ParameterizedType) type).getRawType();
+            if (rawType == List.class || rawType == Collection.class) {
+                Type elementType = ((ParameterizedType) type).getActualTypeArguments()[0];
+                return ObjectUtils.toCustomObject(this.decodeArray(in, (byte) first, elementType), type);
+            }
+        }
+        return ObjectUtils.toCustomObject(this.decode(in, first), type);
+    }
+
+    /**
+     * 从指定字节输入流中读取一个数组，并将数组中的元素依次解码为指定类型的对象。
+     * <p>数组中超出指定类型数量的元素按照 {@link Object} 解码，数组中缺少的元素为 {@code null}。</p>
+     *
+     * @param in 表示指定的字节输入流的 {@link InputStream}。
+     * @param types 表示每个元素的目标类型的 {@link Type}{@code []}。
+     * @return 表示解码后的对象的 {@link Object}{@code []}，长度与 {@code types} 一致。
+     * @throws IOException 当解码过程中发生错误时。
+     */
+    public Object[] decode(InputStream in, Type[] types) throws IOException {
+        int first = greaterThanOrEquals(in.read(), 0, "No enough byte to decode by CBOR.");
+        Validation.equals((first & 0b111_00000) >> 5, 4, "The data to decode by CBOR is not an array.");
+        long len = this.decodeUnsignedInteger(in, first);
+        between(len, 0L, (long) Integer.MAX_VALUE, "The array length is out of range. [length={0}]", len);
+        Object[] array = new Object[types.length];
+        for (int i = 0; i < len; i++) {
+            if (i < types.length) {
+                array[i] = this.decode(in, types[i]);
+            } else {
+                this.decode(in);
+            }
+        }
+        return array;
+    }
+
+    private Object decode(InputStream in, int first) throws IOException {
         int type = (first & 0b111_00000) >> 5;
         switch (type) {
             case 0:
@@ -84,17 +145,11 @@ public class CborDecoder {
                     0,
                     "No enough byte to decode to unsigned integer by CBOR. [size=1]");
         } else if (dataType == 25) {
-            byte[] bytes = new byte[2];
-            this.readBytes(in, bytes);
-            return Convert.toLong(bytes);
+            return this.readInteger(in, 2);
         } else if (dataType == 26) {
-            byte[] bytes = new byte[4];
-            this.readBytes(in, bytes);
-            return Convert.toLong(bytes);
+            return this.readInteger(in, 4);
         } else if (dataType == 27) {
-            byte[] bytes = new byte[8];
-            this.readBytes(in, bytes);
-            long data = Convert.toLong(bytes);
+            long data = this.readInteger(in, 8);
             if (data < 0) {
                 throw new IllegalStateException(StringUtils.format("Unsupported number scope. [data={0}]", data));
             }
@@ -117,7 +172,7 @@ public class CborDecoder {
         if (len == 0) {
             return bytes;
         }
-        int read = in.read(bytes);
+        int read = this.readFully(in, bytes);
         Validation.equals(read,
                 (int) len,
                 "No enough bytes to decode to bytes by CBOR. [total={0}, actual={1}]",
@@ -131,15 +186,44 @@ public class CborDecoder {
     }
 
     private List<Object> decodeArray(InputStream in, byte first) throws IOException {
+        return this.decodeArray(in, first, null);
+    }
+
+    private List<Object> decodeArray(InputStream in, byte first, Type elementType) throws IOException {
         long len = this.decodeUnsignedInteger(in, first);
         between(len, 0L, (long) Integer.MAX_VALUE, "The array length is out of range. [length={0}]", len);
-        List<Object> list = new LinkedList<>();
+        List<Object> list = new ArrayList<>((int) Math.min(len, MAX_INITIAL_CAPACITY));
         for (int i = 0; i < len; i++) {
-            list.add(this.decode(in));
+            list.add(elementType == null ? this.decode(in) : this.decode(in, elementType));
         }
         return list;
     }
 
+    private Object decodeBean(InputStream in, byte first, CborBeanSchema schema) throws IOException {
+        long size = this.decodeUnsignedInteger(in, first);
+        between(size, 0L, (long) Integer.MAX_VALUE, "The map size is out of range. [size={0}]", size);
+        Object bean = schema.instantiate();
+        for (int i = 0; i < size; i++) {
+            Object key = this.decode(in);
+            CborBeanSchema.Setter setter = key instanceof String ? schema.setter((String) key) : null;
+            if (setter == null) {
+                this.decode(in);
+                continue;
+            }
+            setter.set(bean, this.decode(in, setter.type()));
+        }
+        return bean;
+    }
+
+    private static boolean isBean(Class<?> clazz) {
+        if (clazz.isPrimitive() || clazz.isArray() || clazz.isEnum() || clazz.isInterface()
+                || Modifier.isAbstract(clazz.getModifiers())) {
+            return false;
+        }
+        String packageName = clazz.getPackageName();
+        return !packageName.startsWith("java.") && !packageName.startsWith("javax.");
+    }
+
     private Map<Object, Object> decodeMap(InputStream in, byte first) throws IOException {
         long size = this.decodeUnsignedInteger(in, first);
         between(size, 0L, (long) Integer.MAX_VALUE, "The map size is out of range. [size={0}]", size);
@@ -163,22 +247,39 @@ public class CborDecoder {
             return false;
         }
         if (first == CborConstant.FLOAT) {
-            byte[] bytes = new byte[4];
-            this.readBytes(in, bytes);
-            return Convert.toFloat(bytes);
+            return Float.intBitsToFloat((int) this.readInteger(in, 4));
         }
         if (first == CborConstant.DOUBLE) {
-            byte[] bytes = new byte[8];
-            this.readBytes(in, bytes);
-            return Convert.toDouble(bytes);
+            return Double.longBitsToDouble(this.readInteger(in, 8));
         }
         throw new IllegalStateException(StringUtils.format("Unsupported type to decode by CBOR. [type={0}]",
                 first & 0b000_11111));
     }
 
-    private void readBytes(InputStream in, byte[] bytes) throws IOException {
-        int len = bytes.length;
-        int read = in.read(bytes);
-        Validation.equals(read, len, "No enough bytes to decode. [need={0}, read={1}]", len, read);
+    private long readInteger(InputStream in, int byteNum) throws IOException {
+        long value = 0;
+        for (int i = 0; i < byteNum; i++) {
+            int current = in.read();
+            if (current < 0) {
+                throw new IllegalArgumentException(StringUtils.format(
+                        "No enough bytes to decode. [need={0}, read={1}]",
+                        byteNum,
+                        i));
+            }
+            value = (value << 8) | current;
+        }
+        return value;
+    }
+
+    private int readFully(InputStream in, byte[] bytes) throws IOException {
+        int read = 0;
+        while (read < bytes.length) {
+            int current = in.read(bytes, read, bytes.length - read);
+            if (current < 0) {
+                break;
+            }
+            read += current;
+        }
+        return read;
     }
 }
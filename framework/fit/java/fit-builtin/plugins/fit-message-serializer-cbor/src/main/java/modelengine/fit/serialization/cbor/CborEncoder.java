@@ -6,17 +6,14 @@
 
 package modelengine.fit.serialization.cbor;
 
-import static modelengine.fitframework.inspection.Validation.between;
-import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
 import static modelengine.fitframework.util.ObjectUtils.cast;
-import static modelengine.fitframework.util.ObjectUtils.toJavaObject;
 
-import modelengine.fitframework.util.Convert;
+import modelengine.fitframework.util.ReflectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -25,11 +22,18 @@ import java.util.Map;
 
 /**
  * 表示 CBOR 的编码器。
+ * <p>编码时直接遍历待编码的对象，自定义对象通过按类型缓存的 {@link CborBeanSchema} 读取属性，编码结果写入
+ * {@link CborOutput}，不再构造中间的 {@link Map} 或 {@link List} 结构。每个线程最多保留一个不超过 64KB 的字节数组用于复用，
+ * 超过该大小的数组在编码完成后直接丢弃。</p>
  *
  * @author 季聿阶
  * @since 2024-01-25
  */
 public class CborEncoder {
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<byte[]> BUFFERS = new ThreadLocal<>();
+
     /**
      * 将指定的数据进行编码。
      *
@@ -38,9 +42,12 @@ public class CborEncoder {
      * @throws IOException 当编码过程中发生错误时。
      */
     public byte[] encode(Object data) throws IOException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            this.encode(data, out);
-            return out.toByteArray();
+        CborOutput output = borrowOutput();
+        try {
+            this.encode(data, output);
+            return output.toByteArray();
+        } finally {
+            giveBack(output);
         }
     }
 
@@ -52,32 +59,59 @@ public class CborEncoder {
      * @throws IOException 当编码过程中发生错误时。
      */
     public void encode(Object data, OutputStream out) throws IOException {
-        Object actual = toJavaObject(data);
-        if (actual == null) {
-            this.encodeNull(out);
-        } else if (actual instanceof Boolean) {
-            this.encodeBoolean((boolean) actual, out);
-        } else if (actual instanceof Number) {
-            this.encodeNumber((Number) actual, out);
-        } else if (actual instanceof byte[]) {
-            this.encodeBytes((byte[]) actual, out);
-        } else if (actual instanceof String) {
-            this.encodeString((String) actual, out);
-        } else if (actual instanceof List) {
-            this.encodeList(cast(actual), out);
-        } else if (actual instanceof Map) {
-            this.encodeObject(cast(actual), out);
-        } else {
-            throw new IllegalArgumentException(StringUtils.format("Unsupported data type to encode by CBOR. [type={0}]",
-                    actual.getClass().getName()));
+        CborOutput output = borrowOutput();
+        try {
+            this.encode(data, output);
+            output.writeTo(out);
+        } finally {
+            giveBack(output);
+        }
+    }
+
+    private static CborOutput borrowOutput() {
+        // 借出期间线程上不保留缓冲区，嵌套的编码会使用新的缓冲区，不会覆盖正在写入的数据。
+        byte[] buffer = BUFFERS.get();
+        if (buffer == null) {
+            return new CborOutput(new byte[DEFAULT_CAPACITY]);
         }
+        BUFFERS.remove();
+        return new CborOutput(buffer);
     }
 
-    private void encodeNull(OutputStream out) throws IOException {
-        out.write(CborConstant.NULL);
+    private static void giveBack(CborOutput output) {
+        byte[] buffer = output.buffer();
+        if (buffer.length <= MAX_RETAINED_CAPACITY) {
+            BUFFERS.set(buffer);
+        }
+    }
+
+    private void encode(Object data, CborOutput out) {
+        if (data == null) {
+            out.write(CborConstant.NULL);
+            return;
+        }
+        Class<?> clazz = data.getClass();
+        if (data instanceof Boolean) {
+            this.encodeBoolean((boolean) data, out);
+        } else if (ReflectionUtils.isPrimitiveWrapper(clazz) || data instanceof BigInteger
+                || data instanceof BigDecimal) {
+            this.encodeNumber(data, out);
+        } else if (data instanceof String) {
+            this.encodeString((String) data, out);
+        } else if (data instanceof byte[]) {
+            this.encodeBytes((byte[]) data, out);
+        } else if (data instanceof Map) {
+            this.encodeMap(cast(data), out);
+        } else if (data instanceof List) {
+            this.encodeList(cast(data), out);
+        } else if (clazz.isArray()) {
+            this.encodeArray(data, out);
+        } else {
+            this.encodeBean(data, out);
+        }
     }
 
-    private void encodeBoolean(boolean data, OutputStream out) throws IOException {
+    private void encodeBoolean(boolean data, CborOutput out) {
         if (data) {
             out.write(CborConstant.TRUE);
         } else {
@@ -85,109 +119,92 @@ public class CborEncoder {
         }
     }
 
-    private void encodeNumber(Number data, OutputStream out) throws IOException {
+    private void encodeNumber(Object data, CborOutput out) {
         if (this.isInteger(data)) {
-            this.encodeInteger(data.longValue(), out);
+            this.encodeInteger(((Number) data).longValue(), out);
         } else if (data instanceof Double || data instanceof BigDecimal) {
-            this.encodeDouble(data.doubleValue(), out);
+            this.encodeDouble(((Number) data).doubleValue(), out);
         } else if (data instanceof Float) {
             this.encodeFloat((float) data, out);
         } else {
-            throw new IllegalArgumentException(StringUtils.format("Unsupported number type. [type={0}]",
+            throw new IllegalArgumentException(StringUtils.format("Unsupported data type to encode by CBOR. [type={0}]",
                     data.getClass().getName()));
         }
     }
 
-    private boolean isInteger(Number number) {
+    private boolean isInteger(Object number) {
         return number instanceof Integer || number instanceof Long || number instanceof Byte || number instanceof Short
                 || number instanceof BigInteger;
     }
 
-    private void encodeInteger(long data, OutputStream out) throws IOException {
+    private void encodeInteger(long data, CborOutput out) {
         if (data >= 0) {
-            this.encodeUnsignedInteger(data, out);
+            out.writeHead(0, data);
         } else {
-            this.encodeNegativeInteger(data, out);
+            out.writeHead(1, -data - 1);
         }
     }
 
-    private void encodeUnsignedInteger(long data, OutputStream out) throws IOException {
-        out.write(this.encodeUnsignedInteger(data, 0));
-    }
-
-    private void encodeNegativeInteger(long data, OutputStream out) throws IOException {
-        out.write(this.encodeUnsignedInteger(-data - 1, 1));
-    }
-
-    private void encodeDouble(double data, OutputStream out) throws IOException {
+    private void encodeDouble(double data, CborOutput out) {
         out.write(CborConstant.DOUBLE);
-        out.write(Convert.toBytes(data));
+        out.writeInteger(Double.doubleToLongBits(data), 8);
     }
 
-    private void encodeFloat(float data, OutputStream out) throws IOException {
+    private void encodeFloat(float data, CborOutput out) {
         out.write(CborConstant.FLOAT);
-        out.write(Convert.toBytes(data));
+        out.writeInteger(Float.floatToIntBits(data), 4);
     }
 
-    private void encodeBytes(byte[] data, OutputStream out) throws IOException {
-        int len = data.length;
-        out.write(this.encodeUnsignedInteger(len, 2));
+    private void encodeBytes(byte[] data, CborOutput out) {
+        out.writeHead(2, data.length);
         out.write(data);
     }
 
-    private void encodeString(String data, OutputStream out) throws IOException {
+    private void encodeString(String data, CborOutput out) {
         byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
-        int len = bytes.length;
-        out.write(this.encodeUnsignedInteger(len, 3));
+        out.writeHead(3, bytes.length);
         out.write(bytes);
     }
 
-    private void encodeList(List<Object> dataList, OutputStream out) throws IOException {
-        int len = dataList.size();
-        out.write(this.encodeUnsignedInteger(len, 4));
+    private void encodeList(List<Object> dataList, CborOutput out) {
+        out.writeHead(4, dataList.size());
         for (Object data : dataList) {
             this.encode(data, out);
         }
     }
 
-    private void encodeObject(Map<Object, Object> data, OutputStream out) throws IOException {
-        int len = data.size();
-        out.write(this.encodeUnsignedInteger(len, 5));
+    private void encodeArray(Object array, CborOutput out) {
+        int length = Array.getLength(array);
+        out.writeHead(4, length);
+        for (int i = 0; i < length; i++) {
+            this.encode(Array.get(array, i), out);
+        }
+    }
+
+    private void encodeMap(Map<Object, Object> data, CborOutput out) {
+        out.writeHead(5, data.size());
         for (Map.Entry<Object, Object> entry : data.entrySet()) {
             this.encode(entry.getKey(), out);
             this.encode(entry.getValue(), out);
         }
     }
 
-    private byte[] encodeUnsignedInteger(long data, int type) {
-        greaterThanOrEquals(data, 0, "The integer to encode must be unsigned. [integer={0}]", data);
-        between(type, 0, 5, "The type is out of range. [type={0}]", type);
-        if (data < 24) {
-            return this.encodeUnsignedInteger(data, 0, this.firstByte((byte) data, type));
-        } else if (data < 0xFF) {
-            return this.encodeUnsignedInteger(data, 1, this.firstByte((byte) 0b000_11000, type));
-        } else if (data < 0xFF_FF) {
-            return this.encodeUnsignedInteger(data, 2, this.firstByte((byte) 0b000_11001, type));
-        } else if (data < 0xFF_FF_FF_FFL) {
-            return this.encodeUnsignedInteger(data, 4, this.firstByte((byte) 0b000_11010, type));
-        } else {
-            return this.encodeUnsignedInteger(data, 8, this.firstByte((byte) 0b000_11011, type));
+    private void encodeBean(Object bean, CborOutput out) {
+        CborBeanSchema schema = CborBeanSchema.of(bean.getClass());
+        Object[] values = new Object[schema.size()];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = schema.get(bean, i);
+            if (values[i] != null) {
+                size++;
+            }
         }
-    }
-
-    private byte firstByte(byte flag, int type) {
-        return (byte) (flag | (type << 5));
-    }
-
-    private byte[] encodeUnsignedInteger(long data, int byteNum, byte first) {
-        long value = data;
-        byte[] bs = new byte[byteNum + 1];
-        bs[0] = first;
-        for (int i = byteNum; i > 0; i--) {
-            byte cur = (byte) (value & 0xFF);
-            bs[i] = cur;
-            value = value >> 8;
+        out.writeHead(5, size);
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                this.encodeString(schema.name(i), out);
+                this.encode(values[i], out);
+            }
         }
-        return bs;
     }
 }
@@ -19,7 +19,6 @@ import modelengine.fitframework.conf.runtime.SerializationFormat;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.util.ArrayUtils;
 import modelengine.fitframework.util.ObjectUtils;
-import modelengine.fitframework.util.TypeUtils;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
@@ -57,9 +56,10 @@ public class CborMessageSerializer implements MessageSerializer {
     @Override
     public Object[] deserializeRequest(Type[] argumentTypes, byte[] serialized) {
         MessageSerializerUtils.isSupportedLength(serialized.length, this.config);
-        List<Object> deserialized = this.serializer.deserialize(serialized,
-                UTF_8,
-                TypeUtils.parameterized(List.class, new Type[] {Object.class}));
+        if (this.serializer instanceof CborObjectSerializer) {
+            return ((CborObjectSerializer) this.serializer).deserializeArguments(serialized, argumentTypes);
+        }
+        List<Object> deserialized = this.serializer.deserialize(serialized, UTF_8, Object.class);
         Object[] array = new Object[argumentTypes.length];
         for (int i = 0; i < deserialized.size(); i++) {
             array[i] = ObjectUtils.toCustomObject(deserialized.get(i), argumentTypes[i]);
@@ -12,6 +12,7 @@ import modelengine.fitframework.serialization.SerializationException;
 import modelengine.fitframework.serialization.annotation.BuiltinSerializer;
 import modelengine.fitframework.util.ObjectUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -46,8 +47,23 @@ public class CborObjectSerializer implements ObjectSerializer {
     public <T> T deserialize(InputStream in, Charset charset, Type objectType, Map<String, Object> context)
             throws SerializationException {
         try {
-            Object decoded = this.decoder.decode(in);
-            return ObjectUtils.toCustomObject(decoded, objectType);
+            return ObjectUtils.cast(this.decoder.decode(in, objectType));
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize by CBOR.", e);
+        }
+    }
+
+    /**
+     * 将包含多个参数的 CBOR 数组直接反序列化为指定类型的参数。
+     *
+     * @param bytes 表示待反序列化的二进制数组的 {@code byte[]}。
+     * @param types 表示每个参数的类型的 {@link Type}{@code []}。
+     * @return 表示反序列化后的参数的 {@link Object}{@code []}。
+     * @throws SerializationException 当反序列化过程中发生错误时。
+     */
+    Object[] deserializeArguments(byte[] bytes, Type[] types) {
+        try (InputStream in = new ByteArrayInputStream(bytes)) {
+            return this.decoder.decode(in, types);
         } catch (IOException e) {
             throw new SerializationException("Failed to deserialize by CBOR.", e);
         }
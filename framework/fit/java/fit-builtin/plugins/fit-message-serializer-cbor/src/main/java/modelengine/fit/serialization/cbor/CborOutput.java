@@ -0,0 +1,127 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.cbor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * 表示 CBOR 编码时使用的可复用输出缓冲区。
+ * <p>编码过程中直接写入头部和数据，避免为每个头部分配临时数组。底层的字节数组由 {@link CborEncoder} 按线程借出和归还，
+ * 输出缓冲区本身不会被线程持有。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class CborOutput {
+    private byte[] buffer;
+    private int size;
+
+    /**
+     * 使用指定的初始缓冲区创建输出缓冲区。
+     *
+     * @param buffer 表示初始缓冲区的 {@code byte[]}，容量不足时会被替换为更大的数组。
+     */
+    CborOutput(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * 获取当前使用的缓冲区，以便编码完成后归还复用。
+     *
+     * @return 表示当前缓冲区的 {@code byte[]}。
+     */
+    byte[] buffer() {
+        return this.buffer;
+    }
+
+    /**
+     * 写入一个字节。
+     *
+     * @param value 表示待写入的字节的 {@code int}。
+     */
+    void write(int value) {
+        this.ensureCapacity(1);
+        this.buffer[this.size++] = (byte) value;
+    }
+
+    /**
+     * 写入指定的字节数组。
+     *
+     * @param bytes 表示待写入的字节数组的 {@code byte[]}。
+     */
+    void write(byte[] bytes) {
+        this.ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+        this.size += bytes.length;
+    }
+
+    /**
+     * 以大端序写入指定长度的整数。
+     *
+     * @param value 表示待写入的整数的 {@code long}。
+     * @param byteNum 表示写入的字节数的 {@code int}。
+     */
+    void writeInteger(long value, int byteNum) {
+        this.ensureCapacity(byteNum);
+        for (int i = byteNum - 1; i >= 0; i--) {
+            this.buffer[this.size++] = (byte) (value >>> (i << 3));
+        }
+    }
+
+    /**
+     * 写入 CBOR 数据项的头部。
+     *
+     * @param type 表示数据项主类型的 {@code int}。
+     * @param data 表示头部携带的无符号整数的 {@code long}。
+     */
+    void writeHead(int type, long data) {
+        int major = type << 5;
+        if (data < 24) {
+            this.write(major | (int) data);
+        } else if (data < 0xFF) {
+            this.write(major | 0b000_11000);
+            this.writeInteger(data, 1);
+        } else if (data < 0xFF_FF) {
+            this.write(major | 0b000_11001);
+            this.writeInteger(data, 2);
+        } else if (data < 0xFF_FF_FF_FFL) {
+            this.write(major | 0b000_11010);
+            this.writeInteger(data, 4);
+        } else {
+            this.write(major | 0b000_11011);
+            this.writeInteger(data, 8);
+        }
+    }
+
+    /**
+     * 将已写入的数据复制为新的字节数组。
+     *
+     * @return 表示已写入数据的 {@code byte[]}。
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    /**
+     * 将已写入的数据一次性写入指定的输出流。
+     *
+     * @param out 表示目标输出流的 {@link OutputStream}。
+     * @throws IOException 当写入过程中发生输入输出异常时。
+     */
+    void writeTo(OutputStream out) throws IOException {
+        out.write(this.buffer, 0, this.size);
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = this.size + extra;
+        if (required > this.buffer.length) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(required, this.buffer.length << 1));
+        }
+    }
+}
@@ -9,14 +9,22 @@ package modelengine.fit.serialization.cbor;
 import static modelengine.fitframework.util.ObjectUtils.cast;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import modelengine.fit.serialization.cbor.test.person.Person;
+import modelengine.fit.serialization.cbor.test.person.PersonName;
+import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.TypeUtils;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -207,6 +215,42 @@ public class CborDecoderTest {
         assertThat(decoded).isEqualTo("{\"name\":\"John\",\"age\":30,\"city\":\"New York\"}");
     }
 
+    @Test
+    @DisplayName("当指定自定义对象的列表类型时，直接解码为自定义对象，并且与先解码再转换的结果一致")
+    void shouldDecodeCustomObjectsDirectly() throws IOException {
+        PersonName name = new PersonName();
+        name.setFirst("Thomas");
+        name.setLast("Edison");
+        Person person = new Person();
+        person.setName(name);
+        person.setInventions(Arrays.asList("phonograph", "light bulb"));
+        Map<String, Object> extra = MapBuilder.<String, Object>get()
+                .put("name", ObjectUtils.toJavaObject(name))
+                .put("unknown", 1)
+                .build();
+        byte[] encoded = new CborEncoder().encode(Arrays.asList(person, extra));
+        Type type = TypeUtils.parameterized(List.class, new Type[] {Person.class});
+
+        Object decoded = this.decoder.decode(new ByteArrayInputStream(encoded), type);
+        assertThat(decoded).isEqualTo(ObjectUtils.toCustomObject(this.decoder.decode(encoded), type));
+        List<Person> persons = cast(decoded);
+        assertThat(persons.get(0)).isEqualTo(person);
+        assertThat(persons.get(1).getName()).isEqualTo(name);
+        assertThat(persons.get(1).getInventions()).isNull();
+    }
+
+    @Test
+    @DisplayName("当指定每个参数的类型时，按照参数类型依次解码数组中的元素")
+    void shouldDecodeArgumentsByTypes() throws IOException {
+        PersonName name = new PersonName();
+        name.setFirst("Nikola");
+        byte[] encoded = new CborEncoder().encode(new Object[] {name, 1L});
+
+        Object[] decoded = this.decoder.decode(new ByteArrayInputStream(encoded),
+                new Type[] {PersonName.class, int.class, String.class});
+        assertThat(decoded).containsExactly(name, 1, null);
+    }
+
     private static byte[] convertHexStringToByteArray(String hexString) {
         byte[] byteArray = new byte[hexString.length() / 2];
         for (int i = 0; i < byteArray.length; i++) {
@@ -7,8 +7,12 @@
 package modelengine.fit.serialization.cbor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import modelengine.fit.serialization.cbor.test.person.Person;
+import modelengine.fit.serialization.cbor.test.person.PersonName;
 import modelengine.fitframework.util.DigitUtils;
+import modelengine.fitframework.util.ObjectUtils;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -207,4 +212,24 @@ public class CborEncoderTest {
         assertThat(actual).isEqualTo(
                 "782A7B226E616D65223A224A6F686E222C22616765223A33302C2263697479223A224E657720596F726B227D");
     }
+
+    @Test
+    @DisplayName("当输入自定义对象时，序列化值与先转换为 Java 对象后的序列化值一致")
+    void shouldReturnSameBytesAsJavaObjectWhenDataIsCustomObject() throws IOException {
+        PersonName name = new PersonName();
+        name.setFirst("Alan");
+        name.setLast("Turing");
+        Person person = new Person();
+        person.setName(name);
+        person.setInventions(Arrays.asList("Turing machine", "Turing test"));
+        byte[] encoded = this.encoder.encode(person);
+        byte[] expected = this.encoder.encode(ObjectUtils.toJavaObject(person));
+        assertThat(encoded).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("当输入字符时，抛出异常")
+    void shouldThrowExceptionWhenDataIsCharacter() {
+        assertThatThrownBy(() -> this.encoder.encode('a')).isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -13,9 +13,11 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactoryBuilder;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -47,6 +49,7 @@ import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 表示 Json 格式的序列化器。
@@ -65,8 +68,11 @@ public class JacksonObjectSerializer implements ObjectSerializer {
     /** 表示默认的日期格式。 */
     public static final String DEFAULT_DATE_FORMAT = "yyyy-MM-dd";
 
+    private static final String LENGTH_KEY = "length";
+
     private final ObjectMapper mapper;
     private final boolean isDebug;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
 
     /**
      * 序列化对象为 Json 格式的字符串。
@@ -127,23 +133,38 @@ public class JacksonObjectSerializer implements ObjectSerializer {
         notNull(in, "The input stream cannot be null.");
         Type actualType = ObjectUtils.nullIf(objectType, Object.class);
         Map<String, Object> actualContext = ObjectUtils.getIfNull(context, Collections::emptyMap);
+        Integer length = ObjectUtils.cast(actualContext.get(LENGTH_KEY));
+        if (this.isDebug) {
+            return this.deserializeWithContent(in, length, actualType);
+        }
+        InputStream actualIn = length == null ? in : new LengthLimitedInputStream(in, length);
+        try {
+            return this.reader(actualType).readValue(actualIn);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize by Jackson.", e);
+        }
+    }
+
+    private <T> T deserializeWithContent(InputStream in, Integer length, Type type) {
         String read = null;
         try {
-            if (actualContext.containsKey("length")) {
-                read = IoUtils.content(in, ObjectUtils.<Integer>cast(actualContext.get("length")));
+            if (length != null) {
+                read = IoUtils.content(in, length);
             } else {
                 read = IoUtils.content(in);
             }
-            return this.mapper.readValue(read, this.mapper.constructType(actualType));
+            return this.reader(type).readValue(read);
         } catch (IOException e) {
-            String message = "Failed to deserialize by Jackson.";
-            if (this.isDebug) {
-                message += " [content=" + read + "]";
-            }
-            throw new SerializationException(message, e);
+            throw new SerializationException("Failed to deserialize by Jackson. [content=" + read + "]", e);
         }
     }
 
+    private ObjectReader reader(Type type) {
+        return this.readers.computeIfAbsent(type,
+                key -> this.mapper.readerFor(this.mapper.constructType(key))
+                        .without(JsonParser.Feature.AUTO_CLOSE_SOURCE));
+    }
+
     /**
      * 获取 Jackson 的核心序列化器。
      * <p>因为需要保证 Jackson 的序列化配置全局统一，因此需要将配置好的序列化器透出，让其他 Jackson 序列化器使用。</p>
@@ -0,0 +1,80 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.serialization.json.jackson;
+
+import modelengine.fitframework.inspection.Validation;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 为 {@link InputStream} 提供限制可读取长度的装饰程序。
+ * <p>读取到指定长度后即视为流结束，关闭时不会关闭被装饰的输入流，其生命周期仍由调用方管理。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class LengthLimitedInputStream extends InputStream {
+    private final InputStream inner;
+    private final int length;
+    private int position;
+
+    LengthLimitedInputStream(InputStream inner, int length) {
+        this.inner = inner;
+        this.length = Validation.greaterThanOrEquals(length,
+                0,
+                "The length of data to read cannot be negative. [length={0}]",
+                length);
+        this.position = 0;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (this.position >= this.length) {
+            return -1;
+        }
+        int value = this.inner.read();
+        if (value > -1) {
+            this.position++;
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        if (length < 1) {
+            return 0;
+        }
+        if (this.position >= this.length) {
+            return -1;
+        }
+        int result = this.inner.read(bytes, offset, Math.min(length, this.length - this.position));
+        if (result > 0) {
+            this.position += result;
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long bytes) throws IOException {
+        if (bytes < 1) {
+            return 0L;
+        }
+        long skipped = this.inner.skip(Math.min(bytes, this.length - this.position));
+        this.position += (int) skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return Math.min(this.inner.available(), this.length - this.position);
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -18,7 +18,9 @@ import modelengine.fit.serialization.test.person.PersonName;
 import modelengine.fit.serialization.test.person.PersonTransient;
 import modelengine.fitframework.serialization.ObjectSerializer;
 import modelengine.fitframework.serialization.SerializationException;
+import modelengine.fitframework.util.IoUtils;
 import modelengine.fitframework.util.MapBuilder;
+import modelengine.fitframework.util.TypeUtils;
 
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.AfterEach;
@@ -29,8 +31,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
@@ -198,6 +202,31 @@ public class JacksonObjectSerializerTest {
             assertThat(cause).hasMessage("Failed to deserialize by Jackson. [content={\"Hello\"}]");
         }
 
+        @Test
+        @DisplayName("当非调试模式输入错误的 Json 数据时，错误信息中不包含原始内容")
+        void givenWrongJsonAndNotDebugThenMessageExcludesContent() {
+            ObjectSerializer serializer = new JacksonObjectSerializer(null, null, "America/New_York", false);
+            InputStream in = new ByteArrayInputStream("{\"Hello\"}".getBytes());
+            SerializationException cause = catchThrowableOfType(SerializationException.class,
+                    () -> serializer.deserialize(in, JacksonObjectSerializerTest.this.charset, String.class));
+            assertThat(cause).hasMessage("Failed to deserialize by Jackson.");
+        }
+
+        @Test
+        @DisplayName("当指定长度时，仅从输入流中读取指定长度的数据，且不关闭输入流")
+        void givenLengthThenReadLimitedContentAndKeepStreamOpen() throws IOException {
+            ObjectSerializer serializer = new JacksonObjectSerializer(null, null, "America/New_York", false);
+            byte[] bytes = "[1,2][3]".getBytes(StandardCharsets.UTF_8);
+            InputStream in = new ByteArrayInputStream(bytes);
+            Map<String, Object> context = MapBuilder.<String, Object>get().put("length", 5).build();
+            List<Integer> first = serializer.deserialize(in,
+                    JacksonObjectSerializerTest.this.charset,
+                    TypeUtils.parameterized(List.class, new Type[] {Integer.class}),
+                    context);
+            assertThat(first).containsExactly(1, 2);
+            assertThat(IoUtils.content(in)).isEqualTo("[3]");
+        }
+
         private InputStream constructInputStream(Object obj) {
             byte[] serialized = JacksonObjectSerializerTest.this.jsonSerializer.serialize(obj,
                     JacksonObjectSerializerTest.this.charset);
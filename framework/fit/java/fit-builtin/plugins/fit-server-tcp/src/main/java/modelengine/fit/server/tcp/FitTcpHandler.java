@@ -0,0 +1,206 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.tcp;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.serialization.util.MessageSerializerUtils;
+import modelengine.fit.tcp.protocol.TcpFrame;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.broker.server.Response;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.exception.MethodInvocationException;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.TagLengthValues;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+import modelengine.fitframework.util.ExceptionUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * 表示处理 TCP 连接上的 FIT 调用的处理器。
+ * <p>每个连接对应一个处理器实例。请求帧在业务线程中执行，执行完成后立即返回响应帧，因此同一个连接上的调用可以并发执行并乱序返回。</p>
+ * <p>当连接上正在执行的调用数量达到上限时，暂停读取该连接上的数据。暂停前已经读取到的数据中可能还包含多个请求帧，这些请求帧在连接上排队，
+ * 直到有调用执行完成后才提交到业务线程，因此同一个连接上同时执行的调用数量严格不超过上限。</p>
+ * <p>调用失败时，响应帧的元数据与 Http 服务器一致：{@link FitException} 的错误码和异常属性分别写入错误码和 TLV 中，
+ * 并携带当前进程的唯一标识。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class FitTcpHandler extends SimpleChannelInboundHandler<TcpFrame> {
+    private static final Logger log = Logger.get(FitTcpHandler.class);
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final BeanContainer container;
+    private final WorkerConfig workerConfig;
+    private final Dispatcher dispatcher;
+    private final LocalGenericableRepository repository;
+    private final Executor executor;
+    private final int maxConcurrentStreams;
+    private final Queue<TcpFrame> pendingFrames = new ArrayDeque<>();
+    private int inFlightStreams;
+
+    /**
+     * 创建处理 TCP 连接上的 FIT 调用的处理器。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param workerConfig 表示当前进程的配置的 {@link WorkerConfig}。
+     * @param dispatcher 表示请求转发器的 {@link Dispatcher}。
+     * @param repository 表示本地服务仓的 {@link LocalGenericableRepository}。
+     * @param executor 表示执行调用的业务线程池的 {@link Executor}。
+     * @param maxConcurrentStreams 表示连接上同时执行的调用数量上限的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code container}、{@code workerConfig}、{@code dispatcher}、
+     * {@code repository} 或 {@code executor} 为 {@code null}，或 {@code maxConcurrentStreams} 不是正数时。
+     */
+    public FitTcpHandler(BeanContainer container, WorkerConfig workerConfig, Dispatcher dispatcher,
+            LocalGenericableRepository repository, Executor executor, int maxConcurrentStreams) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
+        this.dispatcher = notNull(dispatcher, "The dispatcher cannot be null.");
+        this.repository = notNull(repository, "The local genericable repository cannot be null.");
+        this.executor = notNull(executor, "The executor cannot be null.");
+        this.maxConcurrentStreams =
+                greaterThan(maxConcurrentStreams, 0, "The max concurrent streams must be positive.");
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, TcpFrame frame) {
+        if (frame.type() != TcpFrame.TYPE_REQUEST) {
+            log.warn("Ignore unexpected tcp frame. [type={}, streamId={}]", frame.type(), frame.streamId());
+            return;
+        }
+        if (this.inFlightStreams >= this.maxConcurrentStreams) {
+            this.pendingFrames.add(frame);
+            return;
+        }
+        this.dispatch(ctx, frame);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        this.pendingFrames.clear();
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("Close tcp connection for unexpected exception. [remote={}]", ctx.channel().remoteAddress(), cause);
+        ctx.close();
+    }
+
+    private void dispatch(ChannelHandlerContext ctx, TcpFrame frame) {
+        if (++this.inFlightStreams >= this.maxConcurrentStreams) {
+            ctx.channel().config().setAutoRead(false);
+        }
+        try {
+            this.executor.execute(() -> this.handle(ctx, frame));
+        } catch (RejectedExecutionException e) {
+            this.respond(ctx, this.failedResponse(frame.streamId(), null, e));
+        }
+    }
+
+    private void handle(ChannelHandlerContext ctx, TcpFrame frame) {
+        TcpFrame response;
+        RequestMetadata metadata = null;
+        try {
+            metadata = RequestMetadata.deserialize(frame.metadata());
+            Object[] data = this.getRequestData(metadata, frame.body());
+            response = this.toFrame(frame.streamId(), metadata, this.dispatcher.dispatch(metadata, data));
+        } catch (Throwable cause) {
+            log.error("Failed to handle tcp request. [streamId={}]", frame.streamId(), cause);
+            response = this.failedResponse(frame.streamId(), metadata, cause);
+        }
+        this.respond(ctx, response);
+    }
+
+    private void respond(ChannelHandlerContext ctx, TcpFrame response) {
+        ctx.writeAndFlush(response);
+        // 计数和排队的请求帧仅在事件循环中修改，避免与读取数据并发。
+        ctx.executor().execute(() -> this.complete(ctx));
+    }
+
+    private void complete(ChannelHandlerContext ctx) {
+        this.inFlightStreams--;
+        while (this.inFlightStreams < this.maxConcurrentStreams && !this.pendingFrames.isEmpty()) {
+            this.dispatch(ctx, this.pendingFrames.poll());
+        }
+        ChannelConfig config = ctx.channel().config();
+        if (this.inFlightStreams < this.maxConcurrentStreams && !config.isAutoRead()) {
+            config.setAutoRead(true);
+        }
+    }
+
+    private Object[] getRequestData(RequestMetadata metadata, byte[] body) {
+        Genericable genericable =
+                this.repository.get(metadata.genericableId(), metadata.genericableVersion().toString())
+                        .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                                "No genericable. [genericableId={0}, genericableVersion={1}]",
+                                metadata.genericableId(),
+                                metadata.genericableVersion())));
+        Method method = genericable.method().method();
+        notNull(method, "The genericable method cannot be null. [genericableId={0}]", genericable.id());
+        Type[] argumentTypes =
+                Stream.of(method.getParameters()).map(Parameter::getParameterizedType).toArray(Type[]::new);
+        return this.getMessageSerializer(metadata.dataFormat()).deserializeRequest(argumentTypes, body);
+    }
+
+    private TcpFrame toFrame(int streamId, RequestMetadata metadata, Response result) {
+        byte[] body = EMPTY_BODY;
+        if (result.metadata().code() == ResponseMetadata.CODE_OK) {
+            body = this.getMessageSerializer(metadata.dataFormat()).serializeResponse(result.type(), result.data());
+        }
+        return new TcpFrame(TcpFrame.TYPE_RESPONSE, streamId, result.metadata().serialize(), body);
+    }
+
+    private MessageSerializer getMessageSerializer(int format) {
+        return MessageSerializerUtils.getMessageSerializer(this.container, format)
+                .orElseThrow(() -> new IllegalStateException(StringUtils.format(
+                        "MessageSerializer required but not found. [format={0}]",
+                        format)));
+    }
+
+    private TcpFrame failedResponse(int streamId, RequestMetadata request, Throwable cause) {
+        Throwable actualCause = cause instanceof MethodInvocationException
+                ? ExceptionUtils.getActualCause((MethodInvocationException) cause)
+                : cause;
+        int code = -1;
+        TagLengthValues tagValues = TagLengthValues.create();
+        if (actualCause instanceof FitException) {
+            FitException exception = (FitException) actualCause;
+            code = exception.getCode();
+            TlvUtils.setExceptionProperties(tagValues, exception.getProperties());
+        }
+        TlvUtils.setWorkerId(tagValues, this.workerConfig.id());
+        TlvUtils.setWorkerInstanceId(tagValues, this.workerConfig.instanceId());
+        ResponseMetadata.Builder builder =
+                ResponseMetadata.custom().code(code).message(actualCause.getMessage()).tagValues(tagValues);
+        if (request != null) {
+            builder.dataFormat(request.dataFormat());
+        }
+        return new TcpFrame(TcpFrame.TYPE_RESPONSE, streamId, builder.build().serialize(), EMPTY_BODY);
+    }
+}
@@ -0,0 +1,188 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.tcp;
+
+import static modelengine.fitframework.inspection.Validation.greaterThan;
+import static modelengine.fitframework.inspection.Validation.greaterThanOrEquals;
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import modelengine.fit.server.FitServer;
+import modelengine.fit.server.StartServerException;
+import modelengine.fit.tcp.protocol.TcpFrame;
+import modelengine.fitframework.annotation.Component;
+import modelengine.fitframework.broker.Endpoint;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.conf.runtime.CommunicationProtocol;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.annotation.PreDestroy;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.runtime.FitRuntime;
+import modelengine.fitframework.runtime.FitRuntimeStartedObserver;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tcp 服务器。
+ * <p>客户端与服务器之间保持长连接，调用以 {@link TcpFrame} 的形式在连接上多路复用，避免了每次调用的 Http 报文头的构造与解析。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component(name = "tcp")
+public class FitTcpServer implements FitServer, FitRuntimeStartedObserver {
+    private static final Logger log = Logger.get(FitTcpServer.class);
+    private static final String PROTOCOL_NAME = "tcp";
+
+    private final BeanContainer container;
+    private final WorkerConfig workerConfig;
+    private final Dispatcher dispatcher;
+    private final LocalGenericableRepository repository;
+    private final TcpServerConfig config;
+
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private ExecutorService executor;
+    private Channel channel;
+
+    /**
+     * 创建 FIT 的 Tcp 服务器对象。
+     *
+     * @param container 表示 Bean 容器的 {@link BeanContainer}。
+     * @param workerConfig 表示当前进程的配置的 {@link WorkerConfig}。
+     * @param dispatcher 表示请求转发器的 {@link Dispatcher}。
+     * @param repository 表示本地服务仓的 {@link LocalGenericableRepository}。
+     * @param config 表示 Tcp 服务器配置的 {@link TcpServerConfig}。
+     * @throws IllegalArgumentException 当任意参数为 {@code null}，或配置的端口号、线程数、调用数量上限或帧的最大长度不合法时。
+     */
+    public FitTcpServer(BeanContainer container, WorkerConfig workerConfig, Dispatcher dispatcher,
+            LocalGenericableRepository repository, TcpServerConfig config) {
+        this.container = notNull(container, "The bean container cannot be null.");
+        this.workerConfig = notNull(workerConfig, "The worker config cannot be null.");
+        this.dispatcher = notNull(dispatcher, "The dispatcher cannot be null.");
+        this.repository = notNull(repository, "The local genericable repository cannot be null.");
+        this.config = notNull(config, "The tcp server config cannot be null.");
+        greaterThanOrEquals(config.getPort(), 0, "The server tcp port cannot be negative.");
+        greaterThan(config.getThreadNum(), 0, "The server tcp thread num must be positive.");
+        greaterThan(config.getMaxConcurrentStreams(), 0, "The server tcp max concurrent streams must be positive.");
+        greaterThan(config.getMaxFrameLength(),
+                TcpFrame.HEADER_LENGTH,
+                "The server tcp max frame length is too small.");
+        log.debug("Config 'server.tcp.port' is {}.", config.getPort());
+    }
+
+    @Override
+    public void onRuntimeStarted(FitRuntime runtime) {
+        this.start();
+    }
+
+    @Override
+    public synchronized void start() throws StartServerException {
+        if (this.channel != null) {
+            return;
+        }
+        this.bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("netty-tcp-boss", true, (thread, e) -> {
+            log.error("Netty tcp boss group occurs exception.", e);
+        }));
+        this.workerGroup = new NioEventLoopGroup(Math.max(this.config.getIoThreadNum(), 0),
+                new DefaultThreadFactory("netty-tcp-worker", true, (thread, e) -> {
+                    log.error("Netty tcp worker group occurs exception.", e);
+                }));
+        this.executor = Executors.newFixedThreadPool(this.config.getThreadNum(),
+                new DefaultThreadFactory("fit-tcp-server", true, (thread, e) -> {
+                    log.error("Fit tcp server thread occurs exception.", e);
+                }));
+        ServerBootstrap bootstrap = new ServerBootstrap().group(this.bossGroup, this.workerGroup)
+                .channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.SO_KEEPALIVE, true)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline()
+                                .addLast(new FlushConsolidationHandler())
+                                .addLast(TcpFrameCodec.frameDecoder(FitTcpServer.this.config.getMaxFrameLength()))
+                                .addLast(TcpFrameCodec.INSTANCE)
+                                .addLast(new FitTcpHandler(FitTcpServer.this.container,
+                                        FitTcpServer.this.workerConfig,
+                                        FitTcpServer.this.dispatcher,
+                                        FitTcpServer.this.repository,
+                                        FitTcpServer.this.executor,
+                                        FitTcpServer.this.config.getMaxConcurrentStreams()));
+                    }
+                });
+        try {
+            this.channel = bootstrap.bind(this.config.getPort()).sync().channel();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.stop();
+            throw new StartServerException("Interrupted while starting tcp server.", e);
+        } catch (RuntimeException e) {
+            this.stop();
+            throw new StartServerException("Failed to start tcp server.", e);
+        }
+        log.info("Start netty tcp server successfully. [port={}]", this.localPort());
+    }
+
+    @PreDestroy
+    @Override
+    public synchronized void stop() {
+        if (this.channel != null) {
+            this.channel.close().syncUninterruptibly();
+            this.channel = null;
+        }
+        if (this.bossGroup != null) {
+            this.bossGroup.shutdownGracefully();
+            this.bossGroup = null;
+        }
+        if (this.workerGroup != null) {
+            this.workerGroup.shutdownGracefully();
+            this.workerGroup = null;
+        }
+        if (this.executor != null) {
+            this.executor.shutdown();
+            this.executor = null;
+        }
+    }
+
+    @Override
+    public List<Endpoint> endpoints() {
+        int port = this.config.getToRegisterPort() > 0 ? this.config.getToRegisterPort() : this.localPort();
+        return Collections.singletonList(Endpoint.custom()
+                .protocol(PROTOCOL_NAME, CommunicationProtocol.TCP.code())
+                .port(port)
+                .build());
+    }
+
+    /**
+     * 获取服务器实际监听的端口号。
+     * <p>当服务器尚未启动时，返回配置的端口号。</p>
+     *
+     * @return 表示服务器实际监听的端口号的 {@code int}。
+     */
+    public synchronized int localPort() {
+        if (this.channel == null) {
+            return this.config.getPort();
+        }
+        return ((InetSocketAddress) this.channel.localAddress()).getPort();
+    }
+}
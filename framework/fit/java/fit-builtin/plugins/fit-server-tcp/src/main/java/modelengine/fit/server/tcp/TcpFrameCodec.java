@@ -0,0 +1,65 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.handler.codec.MessageToMessageCodec;
+import modelengine.fit.tcp.protocol.TcpFrame;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 表示 {@link TcpFrame} 在 Netty 上的编解码器。
+ * <p>帧的格式由 {@link TcpFrame} 定义，当前编解码器只负责在 {@link ByteBuf} 与 {@link TcpFrame} 之间转换。解码时需要在当前编解码器之前使用
+ * {@link #frameDecoder(int)} 按照帧长度拆分数据。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@ChannelHandler.Sharable
+public class TcpFrameCodec extends MessageToMessageCodec<ByteBuf, TcpFrame> {
+    /** 获取编解码器的唯一实例。 */
+    public static final TcpFrameCodec INSTANCE = new TcpFrameCodec();
+
+    /**
+     * 创建按照帧长度拆分数据的解码器。
+     *
+     * @param maxFrameLength 表示帧的最大长度的 {@code int}。
+     * @return 表示创建的解码器的 {@link LengthFieldBasedFrameDecoder}。
+     */
+    public static LengthFieldBasedFrameDecoder frameDecoder(int maxFrameLength) {
+        return new LengthFieldBasedFrameDecoder(maxFrameLength,
+                0,
+                TcpFrame.LENGTH_FIELD_LENGTH,
+                0,
+                TcpFrame.LENGTH_FIELD_LENGTH);
+    }
+
+    @Override
+    protected void encode(ChannelHandlerContext ctx, TcpFrame frame, List<Object> out) throws IOException {
+        ByteBuf buffer = ctx.alloc().buffer(TcpFrame.LENGTH_FIELD_LENGTH + frame.length());
+        frame.write(new ByteBufOutputStream(buffer));
+        out.add(buffer);
+    }
+
+    @Override
+    protected void decode(ChannelHandlerContext ctx, ByteBuf buffer, List<Object> out) {
+        try {
+            out.add(TcpFrame.read(buffer.nioBuffer()));
+        } catch (IllegalArgumentException e) {
+            throw new CorruptedFrameException(e.getMessage(), e);
+        } finally {
+            buffer.skipBytes(buffer.readableBytes());
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.tcp;
+
+/**
+ * 表示 {@link FitTcpServer} 的配置。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface TcpServerConfig {
+    /**
+     * 获取监听的端口号。
+     *
+     * @return 表示端口号的 {@code int}。
+     */
+    int getPort();
+
+    /**
+     * 获取注册到注册中心的端口号。
+     * <p>当端口号小于等于 {@code 0} 时，使用监听的端口号。</p>
+     *
+     * @return 表示去注册的端口号的 {@code int}。
+     */
+    int getToRegisterPort();
+
+    /**
+     * 获取处理网络读写的线程数。
+     * <p>当线程数小于等于 {@code 0} 时，使用 Netty 的默认线程数。</p>
+     *
+     * @return 表示处理网络读写的线程数的 {@code int}。
+     */
+    int getIoThreadNum();
+
+    /**
+     * 获取执行调用的业务线程数。
+     *
+     * @return 表示执行调用的业务线程数的 {@code int}。
+     */
+    int getThreadNum();
+
+    /**
+     * 获取每个连接上同时执行的调用数量上限。
+     * <p>达到上限后暂停读取该连接上的数据，直到有调用执行完成，从而将压力反馈给客户端。</p>
+     *
+     * @return 表示每个连接上同时执行的调用数量上限的 {@code int}。
+     */
+    int getMaxConcurrentStreams();
+
+    /**
+     * 获取数据帧的最大长度。
+     *
+     * @return 表示数据帧的最大长度的 {@code int}。
+     */
+    int getMaxFrameLength();
+}
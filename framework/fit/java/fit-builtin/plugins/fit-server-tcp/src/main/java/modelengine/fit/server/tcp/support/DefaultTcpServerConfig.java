@@ -0,0 +1,135 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.tcp.support;
+
+import modelengine.fit.server.tcp.TcpServerConfig;
+import modelengine.fitframework.annotation.AcceptConfigValues;
+import modelengine.fitframework.annotation.Component;
+
+/**
+ * {@link TcpServerConfig} 的默认实现。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+@AcceptConfigValues("server.tcp")
+public class DefaultTcpServerConfig implements TcpServerConfig {
+    /**
+     * 配置项：{@code 'port'}。
+     */
+    private int port;
+
+    /**
+     * 配置项：{@code 'to-register-port'}。
+     */
+    private int toRegisterPort;
+
+    /**
+     * 配置项：{@code 'io-thread-num'}。
+     */
+    private int ioThreadNum;
+
+    /**
+     * 配置项：{@code 'thread-num'}。
+     */
+    private int threadNum;
+
+    /**
+     * 配置项：{@code 'max-concurrent-streams'}。
+     */
+    private int maxConcurrentStreams;
+
+    /**
+     * 配置项：{@code 'max-frame-length'}。
+     */
+    private int maxFrameLength;
+
+    @Override
+    public int getPort() {
+        return this.port;
+    }
+
+    /**
+     * 设置端口号。
+     *
+     * @param port 表示端口号的 {@code int}。
+     */
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    @Override
+    public int getToRegisterPort() {
+        return this.toRegisterPort;
+    }
+
+    /**
+     * 设置去注册的端口号。
+     *
+     * @param toRegisterPort 表示去注册的端口号的 {@code int}。
+     */
+    public void setToRegisterPort(int toRegisterPort) {
+        this.toRegisterPort = toRegisterPort;
+    }
+
+    @Override
+    public int getIoThreadNum() {
+        return this.ioThreadNum;
+    }
+
+    /**
+     * 设置处理网络读写的线程数。
+     *
+     * @param ioThreadNum 表示处理网络读写的线程数的 {@code int}。
+     */
+    public void setIoThreadNum(int ioThreadNum) {
+        this.ioThreadNum = ioThreadNum;
+    }
+
+    @Override
+    public int getThreadNum() {
+        return this.threadNum;
+    }
+
+    /**
+     * 设置执行调用的业务线程数。
+     *
+     * @param threadNum 表示执行调用的业务线程数的 {@code int}。
+     */
+    public void setThreadNum(int threadNum) {
+        this.threadNum = threadNum;
+    }
+
+    @Override
+    public int getMaxConcurrentStreams() {
+        return this.maxConcurrentStreams;
+    }
+
+    /**
+     * 设置每个连接上同时执行的调用数量上限。
+     *
+     * @param maxConcurrentStreams 表示每个连接上同时执行的调用数量上限的 {@code int}。
+     */
+    public void setMaxConcurrentStreams(int maxConcurrentStreams) {
+        this.maxConcurrentStreams = maxConcurrentStreams;
+    }
+
+    @Override
+    public int getMaxFrameLength() {
+        return this.maxFrameLength;
+    }
+
+    /**
+     * 设置数据帧的最大长度。
+     *
+     * @param maxFrameLength 表示数据帧的最大长度的 {@code int}。
+     */
+    public void setMaxFrameLength(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+}
@@ -0,0 +1,162 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.tcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import modelengine.fit.serialization.MessageSerializer;
+import modelengine.fit.tcp.protocol.TcpFrame;
+import modelengine.fitframework.broker.Genericable;
+import modelengine.fitframework.broker.GenericableMethod;
+import modelengine.fitframework.broker.LocalGenericableRepository;
+import modelengine.fitframework.broker.server.Dispatcher;
+import modelengine.fitframework.conf.runtime.WorkerConfig;
+import modelengine.fitframework.exception.FitException;
+import modelengine.fitframework.ioc.BeanContainer;
+import modelengine.fitframework.ioc.BeanFactory;
+import modelengine.fitframework.serialization.RequestMetadata;
+import modelengine.fitframework.serialization.ResponseMetadata;
+import modelengine.fitframework.serialization.Version;
+import modelengine.fitframework.serialization.tlv.TlvUtils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link FitTcpHandler} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 FitTcpHandler")
+class FitTcpHandlerTest {
+    private static final int FORMAT = 1;
+    private static final String GENERICABLE_ID = "genericable";
+    private static final Version VERSION = Version.builder("1.0.0").build();
+    private static final byte[] EMPTY = new byte[0];
+    private static final String WORKER_ID = "worker";
+    private static final String WORKER_INSTANCE_ID = "instance";
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private LocalGenericableRepository repository;
+    private Dispatcher dispatcher;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setup() {
+        MessageSerializer serializer = mock(MessageSerializer.class);
+        when(serializer.getFormat()).thenReturn(FORMAT);
+        when(serializer.deserializeRequest(any(), any())).thenReturn(new Object[0]);
+        BeanFactory factory = mock(BeanFactory.class);
+        when(factory.get()).thenReturn(serializer);
+        BeanContainer container = mock(BeanContainer.class);
+        when(container.all(MessageSerializer.class)).thenReturn(Collections.singletonList(factory));
+        this.repository = mock(LocalGenericableRepository.class);
+        this.dispatcher = mock(Dispatcher.class);
+        WorkerConfig workerConfig = mock(WorkerConfig.class);
+        when(workerConfig.id()).thenReturn(WORKER_ID);
+        when(workerConfig.instanceId()).thenReturn(WORKER_INSTANCE_ID);
+        this.channel = new EmbeddedChannel(new FitTcpHandler(container,
+                workerConfig,
+                this.dispatcher,
+                this.repository,
+                this.tasks::add,
+                1));
+    }
+
+    @AfterEach
+    void teardown() {
+        this.channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("服务不存在时，返回包含错误信息的响应帧")
+    void shouldRespondErrorWhenGenericableNotFound() {
+        when(this.repository.get(any(), any())).thenReturn(Optional.empty());
+        this.channel.writeInbound(request(3));
+        this.runNextTask();
+
+        TcpFrame response = this.channel.readOutbound();
+        assertThat(response.type()).isEqualTo(TcpFrame.TYPE_RESPONSE);
+        assertThat(response.streamId()).isEqualTo(3);
+        assertThat(response.body()).isEmpty();
+        ResponseMetadata metadata = ResponseMetadata.deserialize(response.metadata());
+        assertThat(metadata.code()).isNotEqualTo(ResponseMetadata.CODE_OK);
+        assertThat(metadata.message()).contains(GENERICABLE_ID);
+    }
+
+    @Test
+    @DisplayName("调用抛出异常时，返回包含异常错误码、异常属性和进程标识的响应帧")
+    void shouldRespondErrorCodeWhenDispatchFailed() throws NoSuchMethodException {
+        GenericableMethod method = mock(GenericableMethod.class);
+        when(method.method()).thenReturn(Object.class.getMethod("hashCode"));
+        Genericable genericable = mock(Genericable.class);
+        when(genericable.method()).thenReturn(method);
+        when(this.repository.get(any(), any())).thenReturn(Optional.of(genericable));
+        FitException exception = new FitException(0x7F000001, "dispatch failed");
+        exception.setProperty("key", "value");
+        when(this.dispatcher.dispatch(any(), any())).thenThrow(exception);
+        this.channel.writeInbound(request(5));
+        this.runNextTask();
+
+        TcpFrame response = this.channel.readOutbound();
+        assertThat(response.streamId()).isEqualTo(5);
+        assertThat(response.body()).isEmpty();
+        ResponseMetadata metadata = ResponseMetadata.deserialize(response.metadata());
+        assertThat(metadata.code()).isEqualTo(0x7F000001);
+        assertThat(metadata.message()).isEqualTo("dispatch failed");
+        assertThat(metadata.dataFormat()).isEqualTo(FORMAT);
+        assertThat(TlvUtils.getExceptionProperties(metadata.tagValues())).containsEntry("key", "value");
+        assertThat(TlvUtils.getWorkerId(metadata.tagValues())).isEqualTo(WORKER_ID);
+        assertThat(TlvUtils.getWorkerInstanceId(metadata.tagValues())).isEqualTo(WORKER_INSTANCE_ID);
+    }
+
+    @Test
+    @DisplayName("同时执行的调用达到上限时，后续请求排队，直到有调用执行完成")
+    void shouldQueueRequestsBeyondMaxConcurrentStreams() {
+        when(this.repository.get(any(), any())).thenReturn(Optional.empty());
+        this.channel.writeInbound(request(1), request(2));
+        assertThat(this.tasks).hasSize(1);
+        assertThat(this.channel.config().isAutoRead()).isFalse();
+
+        this.runNextTask();
+        assertThat(this.tasks).hasSize(1);
+        assertThat(this.channel.config().isAutoRead()).isFalse();
+        this.runNextTask();
+        assertThat(this.tasks).isEmpty();
+        assertThat(this.channel.config().isAutoRead()).isTrue();
+        assertThat(this.channel.<TcpFrame>readOutbound().streamId()).isEqualTo(1);
+        assertThat(this.channel.<TcpFrame>readOutbound().streamId()).isEqualTo(2);
+    }
+
+    private void runNextTask() {
+        this.tasks.remove(0).run();
+        this.channel.runPendingTasks();
+    }
+
+    private static TcpFrame request(int streamId) {
+        RequestMetadata metadata = RequestMetadata.custom()
+                .dataFormat(FORMAT)
+                .genericableId(GENERICABLE_ID)
+                .genericableVersion(VERSION)
+                .fitableId("fitable")
+                .fitableVersion(VERSION)
+                .build();
+        return new TcpFrame(TcpFrame.TYPE_REQUEST, streamId, metadata.serialize(), EMPTY);
+    }
+}
@@ -0,0 +1,105 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.server.tcp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.DecoderException;
+import io.netty.handler.codec.TooLongFrameException;
+import modelengine.fit.tcp.protocol.TcpFrame;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link TcpFrameCodec} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 TcpFrameCodec")
+class TcpFrameCodecTest {
+    private static final byte[] METADATA = "metadata".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY = "body".getBytes(StandardCharsets.UTF_8);
+
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    void setup() {
+        this.channel = new EmbeddedChannel(TcpFrameCodec.frameDecoder(64), TcpFrameCodec.INSTANCE);
+    }
+
+    @AfterEach
+    void teardown() {
+        this.channel.finishAndReleaseAll();
+    }
+
+    @Test
+    @DisplayName("编码后的数据被拆分成多段到达时，可以解码出原始的帧")
+    void shouldDecodeFrameFromFragments() {
+        assertThat(this.channel.writeOutbound(new TcpFrame(TcpFrame.TYPE_REQUEST, 7, METADATA, BODY))).isTrue();
+        ByteBuf encoded = this.channel.readOutbound();
+        assertThat(encoded.readableBytes()).isEqualTo(TcpFrame.LENGTH_FIELD_LENGTH + TcpFrame.HEADER_LENGTH
+                + METADATA.length + BODY.length);
+        while (encoded.isReadable()) {
+            this.channel.writeInbound(encoded.readRetainedSlice(Math.min(3, encoded.readableBytes())));
+        }
+        encoded.release();
+
+        TcpFrame frame = this.channel.readInbound();
+        assertThat(frame.type()).isEqualTo(TcpFrame.TYPE_REQUEST);
+        assertThat(frame.streamId()).isEqualTo(7);
+        assertThat(frame.metadata()).isEqualTo(METADATA);
+        assertThat(frame.body()).isEqualTo(BODY);
+        assertThat((Object) this.channel.readInbound()).isNull();
+    }
+
+    @Test
+    @DisplayName("同一段数据中包含多个帧时，依次解码出所有的帧")
+    void shouldDecodePipelinedFrames() {
+        this.channel.writeOutbound(new TcpFrame(TcpFrame.TYPE_RESPONSE, 1, METADATA, BODY));
+        this.channel.writeOutbound(new TcpFrame(TcpFrame.TYPE_RESPONSE, 2, METADATA, new byte[0]));
+        ByteBuf first = this.channel.readOutbound();
+        ByteBuf second = this.channel.readOutbound();
+        this.channel.writeInbound(Unpooled.wrappedBuffer(first, second));
+
+        TcpFrame frame1 = this.channel.readInbound();
+        TcpFrame frame2 = this.channel.readInbound();
+        assertThat(frame1.streamId()).isEqualTo(1);
+        assertThat(frame1.body()).isEqualTo(BODY);
+        assertThat(frame2.streamId()).isEqualTo(2);
+        assertThat(frame2.body()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("元数据长度超过帧的剩余长度时，抛出异常")
+    void shouldFailWhenMetadataLengthIsIllegal() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(TcpFrame.HEADER_LENGTH);
+        buffer.writeByte(TcpFrame.TYPE_REQUEST);
+        buffer.writeInt(1);
+        buffer.writeInt(10);
+        assertThatThrownBy(() -> this.channel.writeInbound(buffer)).isInstanceOf(DecoderException.class);
+    }
+
+    @Test
+    @DisplayName("帧长度超过上限时，抛出异常")
+    void shouldFailWhenFrameIsTooLong() {
+        ByteBuf buffer = Unpooled.buffer();
+        buffer.writeInt(65);
+        buffer.writeZero(65);
+        assertThatThrownBy(() -> this.channel.writeInbound(buffer)).isInstanceOf(TooLongFrameException.class);
+    }
+}
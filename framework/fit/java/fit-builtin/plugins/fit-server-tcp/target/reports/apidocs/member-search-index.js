@@ -0,0 +1 @@
+memberSearchIndex = [{"p":"modelengine.fit.server.tcp","c":"FitTcpHandler","l":"channelInactive(ChannelHandlerContext)","u":"channelInactive(io.netty.channel.ChannelHandlerContext)"},{"p":"modelengine.fit.server.tcp","c":"FitTcpHandler","l":"channelRead0(ChannelHandlerContext, TcpFrame)","u":"channelRead0(io.netty.channel.ChannelHandlerContext,modelengine.fit.tcp.protocol.TcpFrame)"},{"p":"modelengine.fit.server.tcp","c":"TcpFrameCodec","l":"decode(ChannelHandlerContext, ByteBuf, List<Object>)","u":"decode(io.netty.channel.ChannelHandlerContext,io.netty.buffer.ByteBuf,java.util.List)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"DefaultTcpServerConfig()","u":"%3Cinit%3E()"},{"p":"modelengine.fit.server.tcp","c":"TcpFrameCodec","l":"encode(ChannelHandlerContext, TcpFrame, List<Object>)","u":"encode(io.netty.channel.ChannelHandlerContext,modelengine.fit.tcp.protocol.TcpFrame,java.util.List)"},{"p":"modelengine.fit.server.tcp","c":"FitTcpServer","l":"endpoints()"},{"p":"modelengine.fit.server.tcp","c":"FitTcpHandler","l":"exceptionCaught(ChannelHandlerContext, Throwable)","u":"exceptionCaught(io.netty.channel.ChannelHandlerContext,java.lang.Throwable)"},{"p":"modelengine.fit.server.tcp","c":"FitTcpHandler","l":"FitTcpHandler(BeanContainer, WorkerConfig, Dispatcher, LocalGenericableRepository, Executor, int)","u":"%3Cinit%3E(modelengine.fitframework.ioc.BeanContainer,modelengine.fitframework.conf.runtime.WorkerConfig,modelengine.fitframework.broker.server.Dispatcher,modelengine.fitframework.broker.LocalGenericableRepository,java.util.concurrent.Executor,int)"},{"p":"modelengine.fit.server.tcp","c":"FitTcpServer","l":"FitTcpServer(BeanContainer, WorkerConfig, Dispatcher, LocalGenericableRepository, TcpServerConfig)","u":"%3Cinit%3E(modelengine.fitframework.ioc.BeanContainer,modelengine.fitframework.conf.runtime.WorkerConfig,modelengine.fitframework.broker.server.Dispatcher,modelengine.fitframework.broker.LocalGenericableRepository,modelengine.fit.server.tcp.TcpServerConfig)"},{"p":"modelengine.fit.server.tcp","c":"TcpFrameCodec","l":"frameDecoder(int)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"getIoThreadNum()"},{"p":"modelengine.fit.server.tcp","c":"TcpServerConfig","l":"getIoThreadNum()"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"getMaxConcurrentStreams()"},{"p":"modelengine.fit.server.tcp","c":"TcpServerConfig","l":"getMaxConcurrentStreams()"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"getMaxFrameLength()"},{"p":"modelengine.fit.server.tcp","c":"TcpServerConfig","l":"getMaxFrameLength()"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"getPort()"},{"p":"modelengine.fit.server.tcp","c":"TcpServerConfig","l":"getPort()"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"getThreadNum()"},{"p":"modelengine.fit.server.tcp","c":"TcpServerConfig","l":"getThreadNum()"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"getToRegisterPort()"},{"p":"modelengine.fit.server.tcp","c":"TcpServerConfig","l":"getToRegisterPort()"},{"p":"modelengine.fit.server.tcp","c":"TcpFrameCodec","l":"INSTANCE"},{"p":"modelengine.fit.server.tcp","c":"FitTcpServer","l":"localPort()"},{"p":"modelengine.fit.server.tcp","c":"FitTcpServer","l":"onRuntimeStarted(FitRuntime)","u":"onRuntimeStarted(modelengine.fitframework.runtime.FitRuntime)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"setIoThreadNum(int)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"setMaxConcurrentStreams(int)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"setMaxFrameLength(int)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"setPort(int)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"setThreadNum(int)"},{"p":"modelengine.fit.server.tcp.support","c":"DefaultTcpServerConfig","l":"setToRegisterPort(int)"},{"p":"modelengine.fit.server.tcp","c":"FitTcpServer","l":"start()"},{"p":"modelengine.fit.server.tcp","c":"FitTcpServer","l":"stop()"},{"p":"modelengine.fit.server.tcp","c":"TcpFrameCodec","l":"TcpFrameCodec()","u":"%3Cinit%3E()"}];updateSearchResults();
\ No newline at end of file
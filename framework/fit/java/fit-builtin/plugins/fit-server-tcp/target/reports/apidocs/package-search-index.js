@@ -0,0 +1 @@
+packageSearchIndex = [{"l":"All Packages","u":"allpackages-index.html"},{"l":"modelengine.fit.server.tcp"},{"l":"modelengine.fit.server.tcp.support"}];updateSearchResults();
\ No newline at end of file
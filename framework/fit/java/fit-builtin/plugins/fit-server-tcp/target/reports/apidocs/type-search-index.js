@@ -0,0 +1 @@
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"modelengine.fit.server.tcp.support","l":"DefaultTcpServerConfig"},{"p":"modelengine.fit.server.tcp","l":"FitTcpHandler"},{"p":"modelengine.fit.server.tcp","l":"FitTcpServer"},{"p":"modelengine.fit.server.tcp","l":"TcpFrameCodec"},{"p":"modelengine.fit.server.tcp","l":"TcpServerConfig"}];updateSearchResults();
\ No newline at end of file
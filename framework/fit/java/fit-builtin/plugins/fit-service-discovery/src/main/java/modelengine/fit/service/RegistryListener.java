@@ -50,6 +50,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -111,6 +112,7 @@ public class RegistryListener implements Registry, Notify {
 
     private final Map<UniqueFitableId, Optional<FitableAddressInstance>> fitableInstancesCache =
             new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
     private final ApplicationConfig application;
     private final WorkerConfig worker;
     private final RegistryListenerMode listenerMode;
@@ -241,7 +243,7 @@ public class RegistryListener implements Registry, Notify {
                 ObjectUtils.<Optional<FitableAddressInstance>>nullIf(this.fitableInstancesCache.get(id),
                         Optional.empty()).orElseGet(() -> this.loadFitableInstance(id).orElse(null));
         if (fitableInstance == null) {
-            this.fitableInstancesCache.put(id, Optional.empty());
+            this.updateCache(id, Optional.empty());
             fitableInstance = new FitableAddressInstance();
             fitableInstance.setApplicationInstances(new ArrayList<>());
             log.debug("No fitable instance in cache. "
@@ -271,6 +273,11 @@ public class RegistryListener implements Registry, Notify {
         return targets;
     }
 
+    @Override
+    public long version() {
+        return this.version.get();
+    }
+
     private boolean isWorkerIdInApplicationInstance(String workerId, ApplicationInstance applicationInstance) {
         return applicationInstance.getWorkers().stream().anyMatch(worker -> Objects.equals(worker.getId(), workerId));
     }
@@ -401,7 +408,7 @@ public class RegistryListener implements Registry, Notify {
                 .filter(fitableInstance -> fitableInstance.getFitable() != null)
                 .collect(Collectors.toMap(fitableInstance -> this.getUniqueFitableId(fitableInstance.getFitable()),
                         Function.identity()));
-        fitableKeys.forEach(fitableKey -> this.fitableInstancesCache.put(fitableKey,
+        fitableKeys.forEach(fitableKey -> this.updateCache(fitableKey,
                 Optional.ofNullable(fitableInstanceMap.get(fitableKey))));
     }
 
@@ -492,7 +499,14 @@ public class RegistryListener implements Registry, Notify {
         }
         UniqueFitableId fitableKey = this.getUniqueFitableId(fitable);
         if (this.fitableInstancesCache.containsKey(fitableKey)) {
-            this.fitableInstancesCache.put(fitableKey, Optional.of(fitableInstance));
+            this.updateCache(fitableKey, Optional.of(fitableInstance));
+        }
+    }
+
+    private void updateCache(UniqueFitableId fitableKey, Optional<FitableAddressInstance> fitableInstance) {
+        Optional<FitableAddressInstance> previous = this.fitableInstancesCache.put(fitableKey, fitableInstance);
+        if (!Objects.equals(previous, fitableInstance)) {
+            this.version.incrementAndGet();
         }
     }
 }
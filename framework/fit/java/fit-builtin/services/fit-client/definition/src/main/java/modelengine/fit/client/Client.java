@@ -9,6 +9,7 @@ package modelengine.fit.client;
 import modelengine.fitframework.inspection.Nonnull;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 请求客户端。
@@ -25,6 +26,22 @@ public interface Client {
      */
     Response requestResponse(@Nonnull Request request);
 
+    /**
+     * 异步请求一个响应。
+     * <p>默认实现在当前线程中同步完成请求，支持非阻塞通信的客户端应覆盖该方法，使调用线程无需等待响应到达。</p>
+     *
+     * @param request 表示请求的 {@link Request}。调用保证请求一定不为 {@code null}。
+     * @return 表示响应的异步结果的 {@link CompletableFuture}{@code <}{@link Response}{@code >}。请求过程中发生的异常通过该结果
+     * 传递。
+     */
+    default CompletableFuture<Response> requestResponseAsync(@Nonnull Request request) {
+        try {
+            return CompletableFuture.completedFuture(this.requestResponse(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * 获取支持的协议号集合。
      *
@@ -19,6 +19,7 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示 Http 客户端。
@@ -63,6 +64,21 @@ public interface HttpClassicClient extends HttpResource {
      */
     <T> HttpClassicClientResponse<T> exchange(HttpClassicClientRequest request, Type responseType);
 
+    /**
+     * 异步发送 Http 请求，接收 Http 响应。
+     * <p>调用线程不会等待响应到达，响应由底层客户端在其回调线程中完成。</p>
+     *
+     * @param request 表示 Http 请求的 {@link HttpClassicClientRequest}。
+     * @param responseType 表示期待的返回值类型的 {@link Type}。
+     * @param <T> 表示期待的返回值类型的 {@link T}。
+     * @return 表示 Http 响应的异步结果的 {@link CompletableFuture}{@code <}{@link HttpClassicClientResponse}{@code <}{@link
+     * T}{@code >>}。
+     */
+    default <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(HttpClassicClientRequest request,
+            Type responseType) {
+        return request.exchangeAsync(responseType);
+    }
+
     /**
      * 发送 Http 请求，获取 Http 响应的数据内容。
      * <p>可以通过捕获 {@link HttpClientResponseException} 来获取详细错误信息。</p>
@@ -14,6 +14,7 @@ import modelengine.fitframework.flowable.Choir;
 import modelengine.fitframework.model.MultiValueMap;
 
 import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示经典的客户端的 Http 请求。
@@ -81,6 +82,17 @@ public interface HttpClassicClientRequest extends HttpClassicRequest {
      */
     <T> HttpClassicClientResponse<T> exchange(Type responseType);
 
+    /**
+     * 异步发送当前 Http 请求，交换 Http 响应。
+     * <p>请求发送后立即返回，不等待响应到达。超时和客户端异常通过返回的结果传递。</p>
+     *
+     * @param responseType 表示期待的返回值类型的 {@link Type}。
+     * @param <T> 表示期待的返回值类型的 {@link T}。
+     * @return 表示交换回来的 Http 响应的异步结果的 {@link CompletableFuture}{@code <}{@link HttpClassicClientResponse}{@code
+     * <}{@link T}{@code >>}。
+     */
+    <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(Type responseType);
+
     /**
      * 延迟发送当前 Http 请求，交换 Http 流式响应。
      *
@@ -35,6 +35,8 @@ import java.lang.reflect.Type;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 表示 {@link HttpClassicClientRequest} 的默认实现。
@@ -108,29 +110,7 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
     public <T> HttpClassicClientResponse<T> exchange(Type responseType) {
         this.commit();
         try {
-            Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
-            if (this.entity == null) {
-                this.clientRequest.writeStartLineAndHeaders();
-            } else if (this.entity instanceof ReadableBinaryEntity) {
-                if (this.entity instanceof FileEntity) {
-                    FileEntity actual = cast(this.entity);
-                    this.headers().set(CONTENT_LENGTH, String.valueOf(actual.length()));
-                } else {
-                    this.headers().set(TRANSFER_ENCODING, CHUNKED);
-                }
-                this.clientRequest.writeStartLineAndHeaders();
-                ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
-                byte[] bytes = new byte[512];
-                int read;
-                while ((read = readableBinaryEntity.read(bytes)) > -1) {
-                    this.clientRequest.writeBody(bytes, 0, read);
-                }
-            } else {
-                byte[] entityBytes = this.entitySerializer().serializeEntity(cast(this.entity), charset);
-                this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
-                this.clientRequest.writeStartLineAndHeaders();
-                this.clientRequest.writeBody(entityBytes);
-            }
+            this.writeRequest();
             ClientResponse clientResponse = this.clientRequest.readResponse();
             return new DefaultHttpClassicClientResponse<>(this.httpResource(), clientResponse, responseType);
         } catch (IOException e) {
@@ -140,6 +120,60 @@ public class DefaultHttpClassicClientRequest extends AbstractHttpClassicRequest
         }
     }
 
+    @Override
+    public <T> CompletableFuture<HttpClassicClientResponse<T>> exchangeAsync(Type responseType) {
+        CompletableFuture<ClientResponse> future;
+        try {
+            this.commit();
+            this.writeRequest();
+            future = this.clientRequest.readResponseAsync();
+        } catch (IOException | RuntimeException e) {
+            this.close();
+            return CompletableFuture.failedFuture(e instanceof IOException
+                    ? new ClientException("Failed to exchange response.", e)
+                    : e);
+        }
+        return future.handle((clientResponse, cause) -> {
+            this.close();
+            if (cause == null) {
+                return new DefaultHttpClassicClientResponse<>(this.httpResource(), clientResponse, responseType);
+            }
+            Throwable actual = cause instanceof CompletionException && cause.getCause() != null
+                    ? cause.getCause()
+                    : cause;
+            if (actual instanceof RuntimeException) {
+                throw (RuntimeException) actual;
+            }
+            throw new ClientException("Failed to exchange response.", actual);
+        });
+    }
+
+    private void writeRequest() throws IOException {
+        Charset charset = this.contentType().flatMap(ContentType::charset).orElse(StandardCharsets.UTF_8);
+        if (this.entity == null) {
+            this.clientRequest.writeStartLineAndHeaders();
+        } else if (this.entity instanceof ReadableBinaryEntity) {
+            if (this.entity instanceof FileEntity) {
+                FileEntity actual = cast(this.entity);
+                this.headers().set(CONTENT_LENGTH, String.valueOf(actual.length()));
+            } else {
+                this.headers().set(TRANSFER_ENCODING, CHUNKED);
+            }
+            this.clientRequest.writeStartLineAndHeaders();
+            ReadableBinaryEntity readableBinaryEntity = cast(this.entity);
+            byte[] bytes = new byte[512];
+            int read;
+            while ((read = readableBinaryEntity.read(bytes)) > -1) {
+                this.clientRequest.writeBody(bytes, 0, read);
+            }
+        } else {
+            byte[] entityBytes = this.entitySerializer().serializeEntity(cast(this.entity), charset);
+            this.headers().set(CONTENT_LENGTH, String.valueOf(entityBytes.length));
+            this.clientRequest.writeStartLineAndHeaders();
+            this.clientRequest.writeBody(entityBytes);
+        }
+    }
+
     @Override
     public Choir<Object> exchangeStream() {
         return this.exchangeStream(Object.class);
@@ -33,8 +33,7 @@ public interface MappingTree<T> {
      * @param handler 表示指定匹配路径样式的处理器的 {@link T}。
      * @return 当指定匹配路径样式已经存在处理器时，返回注册过的处理器的
      * {@link Optional}{@code <}{@link T}{@code >}，否则，返回 {@link Optional#empty()}。
-     * @throws IllegalArgumentException 当 {@code pathPattern} 为 {@code null} 或空白字符串或不以 {@code '/'}
-     * 开头或仅包含 {@code '/'} 时。
+     * @throws IllegalArgumentException 当 {@code pathPattern} 为 {@code null} 或空白字符串或不以 {@code '/'} 开头时。
      * @throws IllegalArgumentException 当 {@code handler} 为 {@code null} 时。
      */
     Optional<T> register(String pathPattern, T handler);
@@ -51,8 +50,7 @@ public interface MappingTree<T> {
      *
      * @param path 表示指定路径的 {@link String}。
      * @return 表示搜索到的指定路径的处理器的 {@link Optional}{@code <}{@link T}{@code >}。
-     * @throws IllegalArgumentException 当 {@code path} 为 {@code null} 或空白字符串或不以 {@code '/'}
-     * 开头或仅包含 {@code '/'} 时。
+     * @throws IllegalArgumentException 当 {@code path} 为 {@code null} 或空白字符串或不以 {@code '/'} 开头时。
      */
     Optional<T> search(String path);
 
@@ -63,6 +61,16 @@ public interface MappingTree<T> {
      */
     List<T> getAllHandlers();
 
+    /**
+     * 获取当前匹配树的匹配统计信息。
+     * <p>默认不收集统计信息，返回各项均为 {@code 0} 的统计信息。</p>
+     *
+     * @return 表示匹配统计信息的 {@link MatchStatistics}。
+     */
+    default MatchStatistics statistics() {
+        return MatchStatistics.empty();
+    }
+
     /**
      * 将标准的处理器路径转换成通配符格式的路径。
      *
@@ -88,4 +96,80 @@ public interface MappingTree<T> {
     static Deque<String> splitPath(String path) {
         return DefaultMappingTree.splitPath(path);
     }
+
+    /**
+     * 表示匹配树的匹配统计信息。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    interface MatchStatistics {
+        /**
+         * 获取各项均为 {@code 0} 的匹配统计信息。
+         *
+         * @return 表示各项均为 {@code 0} 的匹配统计信息的 {@link MatchStatistics}。
+         */
+        static MatchStatistics empty() {
+            return EmptyMatchStatistics.INSTANCE;
+        }
+
+        /**
+         * 获取匹配到不含 {@code '*'} 的路径样式的次数。
+         *
+         * @return 表示匹配次数的 {@code long}。
+         */
+        long literalMatches();
+
+        /**
+         * 获取匹配到含 {@code '*'} 但不含 {@code '**'} 的路径样式的次数。
+         *
+         * @return 表示匹配次数的 {@code long}。
+         */
+        long variableMatches();
+
+        /**
+         * 获取匹配到含 {@code '**'} 的路径样式的次数。
+         *
+         * @return 表示匹配次数的 {@code long}。
+         */
+        long wildcardMatches();
+
+        /**
+         * 获取未匹配到任何路径样式的次数。
+         *
+         * @return 表示未匹配次数的 {@code long}。
+         */
+        long misses();
+    }
+
+    /**
+     * 表示不收集任何信息的 {@link MatchStatistics}。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    enum EmptyMatchStatistics implements MatchStatistics {
+        /** 表示唯一的实例。 */
+        INSTANCE;
+
+        @Override
+        public long literalMatches() {
+            return 0;
+        }
+
+        @Override
+        public long variableMatches() {
+            return 0;
+        }
+
+        @Override
+        public long wildcardMatches() {
+            return 0;
+        }
+
+        @Override
+        public long misses() {
+            return 0;
+        }
+    }
 }
@@ -11,23 +11,33 @@ import static modelengine.fitframework.inspection.Validation.notBlank;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fit.http.server.dispatch.MappingTree;
-import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.StringUtils;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * {@link MappingTree} 的默认实现。
+ * <p>通过构造方法创建的匹配树以路径段为单位组织为树，忽略空白的路径段，{@code '*'} 匹配任意一段路径，其他路径段（包括
+ * {@code '**'}）按照原文匹配，且不收集匹配统计信息。</p>
+ * <p>通过 {@link #forHttpDispatch()} 创建的匹配树用于 Http 请求的分发，同时处理以下三类路径样式，每一类的匹配规则与
+ * 分别处理时保持一致：</p>
+ * <ul>
+ *     <li>不含 {@code '*'} 的路径样式，如 {@code /a/b}，按照完整路径精确匹配，不忽略多余的 {@code '/'}，如 {@code /a/b/}
+ *     不匹配 {@code /a/b}；</li>
+ *     <li>含 {@code '*'} 但不含 {@code '**'} 的路径样式，如 {@code /a/*}，以路径段为单位组织为树，忽略空白的路径段，
+ *     {@code '*'} 匹配任意一段路径，其他路径段按照原文匹配，如 {@code /a/b*} 只匹配 {@code /a/b*}；</li>
+ *     <li>含 {@code '**'} 的路径样式，如 {@code /a/**}，匹配规则与 {@link modelengine.fitframework.util.wildcard.PathPattern}
+ *     一致。通配符之前的部分作为树上的前缀节点，通配符及之后的部分在注册时预编译为 {@link WildcardRoute}，挂在前缀节点上。</li>
+ * </ul>
+ * <p>搜索时依次匹配以上三类路径样式，路径只切分一次，通配符路径样式中前缀最长的优先。</p>
  *
  * @author 季聿阶
  * @since 2022-07-26
@@ -37,8 +47,36 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
     public static final String PATH_SEPARATOR = "/";
 
     private static final String WILD_KEY = "*";
+    private static final String MULTIPLE_WILD_KEY = "**";
+    private static final char SINGLE_WILD_CHAR = '?';
+    private static final char MULTIPLE_WILD_CHAR = '*';
+    private static final String[] EMPTY_FRAGMENTS = new String[0];
 
-    private final Map<String, MappingTreeNode<T>> nodes = new ConcurrentHashMap<>();
+    private final boolean isHttpDispatch;
+    private final Map<String, T> literalHandlers = new ConcurrentHashMap<>();
+    private final MappingTreeNode<T> root = new MappingTreeNode<>();
+    private final DefaultMatchStatistics statistics = new DefaultMatchStatistics();
+
+    /**
+     * 创建一个以路径段为单位匹配的 {@link DefaultMappingTree} 的新实例。
+     */
+    public DefaultMappingTree() {
+        this(false);
+    }
+
+    private DefaultMappingTree(boolean isHttpDispatch) {
+        this.isHttpDispatch = isHttpDispatch;
+    }
+
+    /**
+     * 创建一个用于 Http 请求分发的匹配树，支持不含 {@code '*'} 的路径样式的精确匹配和含 {@code '**'} 的通配符路径样式。
+     *
+     * @param <T> 表示匹配树上的处理器类型的 {@link T}。
+     * @return 表示创建的匹配树的 {@link DefaultMappingTree}{@code <}{@link T}{@code >}。
+     */
+    public static <T> DefaultMappingTree<T> forHttpDispatch() {
+        return new DefaultMappingTree<>(true);
+    }
 
     /**
      * 将指定路径按照路径分隔符进行切分。
@@ -52,6 +90,11 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         return StringUtils.split(path, PATH_SEPARATOR, LinkedList::new, StringUtils::isNotBlank);
     }
 
+    private static String[] toFragments(String path) {
+        List<String> fragments = StringUtils.split(path, PATH_SEPARATOR, ArrayList::new, StringUtils::isNotBlank);
+        return fragments.toArray(EMPTY_FRAGMENTS);
+    }
+
     @Override
     public Optional<T> register(String pathPattern, T handler) {
         notBlank(pathPattern, "The path pattern to register cannot be blank.");
@@ -60,12 +103,22 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         isTrue(actualPathPattern.startsWith(PATH_SEPARATOR),
                 "The path pattern is not start with '/'. [pathPattern={0}]",
                 pathPattern);
-        Queue<String> pathFragments = splitPath(actualPathPattern);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
-                "The path pattern cannot only contain '/'. [pathPattern={0}]",
-                pathPattern);
-        return this.nodes.computeIfAbsent(pathFragments.remove(), fragment -> new MappingTreeNode<>())
-                .register(pathFragments, handler);
+        if (this.isHttpDispatch && !actualPathPattern.contains(WILD_KEY)) {
+            return Optional.ofNullable(this.literalHandlers.put(actualPathPattern, handler));
+        }
+        String[] fragments = this.toNotEmptyFragments(actualPathPattern, pathPattern);
+        int prefixLength = this.prefixLength(actualPathPattern, fragments);
+        MappingTreeNode<T> node = this.root;
+        for (int i = 0; i < prefixLength; i++) {
+            node = node.getOrCreateChild(fragments[i]);
+        }
+        if (prefixLength < fragments.length) {
+            WildcardRoute<T> route = new WildcardRoute<>(fragments, prefixLength, handler);
+            return Optional.ofNullable(node.wildcardRoutes.put(route.pattern, route)).map(pre -> pre.handler);
+        }
+        T pre = node.handler;
+        node.handler = handler;
+        return Optional.ofNullable(pre);
     }
 
     @Override
@@ -75,19 +128,12 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         isTrue(actualPathPattern.startsWith(PATH_SEPARATOR),
                 "The path pattern is not start with '/'. [pathPattern={0}]",
                 pathPattern);
-        Queue<String> pathFragments = splitPath(actualPathPattern);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
-                "The path pattern cannot only contain '/'. [pathPattern={0}]",
-                pathPattern);
-        String removed = pathFragments.remove();
-        if (!this.nodes.containsKey(removed)) {
+        if (this.isHttpDispatch && !actualPathPattern.contains(WILD_KEY)) {
+            this.literalHandlers.remove(actualPathPattern);
             return;
         }
-        MappingTreeNode<T> treeNode = this.nodes.get(removed);
-        boolean isEmpty = treeNode.unregister(pathFragments);
-        if (isEmpty) {
-            this.nodes.remove(removed);
-        }
+        String[] fragments = this.toNotEmptyFragments(actualPathPattern, pathPattern);
+        this.root.unregister(fragments, 0, this.prefixLength(actualPathPattern, fragments));
     }
 
     @Override
@@ -95,91 +141,295 @@ public class DefaultMappingTree<T> implements MappingTree<T> {
         notBlank(path, "The search path cannot be blank.");
         String actualPath = path.trim();
         isTrue(actualPath.startsWith(PATH_SEPARATOR), "The search path is not start with '/'. [path={0}]", path);
-        Deque<String> pathFragments = splitPath(actualPath);
-        isTrue(CollectionUtils.isNotEmpty(pathFragments),
-                "The search path cannot only contain '/'. [pathPattern={0}]",
-                path);
-        MappingTreeNode<T> childNode = this.nodes.get(pathFragments.removeFirst());
-        Optional<T> httpHandler = Optional.ofNullable(childNode).flatMap(node -> node.search(pathFragments));
-        if (httpHandler.isPresent()) {
-            return httpHandler;
-        }
-        MappingTreeNode<T> wildChildNode = this.nodes.get(WILD_KEY);
-        return Optional.ofNullable(wildChildNode).flatMap(node -> node.search(pathFragments));
+        if (!this.isHttpDispatch) {
+            MappingTreeNode<T> node = this.root.search(this.toNotEmptyFragments(actualPath, path), 0);
+            return node == null ? Optional.empty() : Optional.ofNullable(node.handler);
+        }
+        T literalHandler = this.literalHandlers.get(actualPath);
+        if (literalHandler != null) {
+            this.statistics.literalMatches.increment();
+            return Optional.of(literalHandler);
+        }
+        String[] fragments = toFragments(actualPath);
+        MappingTreeNode<T> node = this.root.search(fragments, 0);
+        if (node != null) {
+            this.statistics.variableMatches.increment();
+            return Optional.ofNullable(node.handler);
+        }
+        WildcardRoute<T> route = this.root.searchWildcard(fragments, 0);
+        if (route != null) {
+            this.statistics.wildcardMatches.increment();
+            return Optional.of(route.handler);
+        }
+        this.statistics.misses.increment();
+        return Optional.empty();
     }
 
     @Override
     public List<T> getAllHandlers() {
-        Collection<MappingTreeNode<T>> values = this.nodes.values();
-        return values.stream()
-                .filter(Objects::nonNull)
-                .flatMap(value -> this.getNodeHandlers(value).stream())
-                .collect(Collectors.toList());
+        List<T> handlers = new ArrayList<>(this.literalHandlers.values());
+        this.root.collectHandlers(handlers);
+        this.root.collectWildcardHandlers(handlers);
+        return handlers;
+    }
+
+    @Override
+    public MatchStatistics statistics() {
+        return this.isHttpDispatch ? this.statistics : MatchStatistics.empty();
     }
 
-    private List<T> getNodeHandlers(MappingTreeNode<T> node) {
-        List<T> handlers = new ArrayList<>();
-        if (node.handler != null) {
-            handlers.add(node.handler);
+    private String[] toNotEmptyFragments(String actualPath, String path) {
+        String[] fragments = toFragments(actualPath);
+        isTrue(this.isHttpDispatch || fragments.length > 0, "The path cannot only contain '/'. [path={0}]", path);
+        return fragments;
+    }
+
+    /**
+     * 获取路径样式中可以直接作为树节点的前缀长度。
+     * <p>非 Http 请求分发的匹配树中 {@code '**'} 按照原文匹配，和不含 {@code '**'} 的路径样式一样整体作为树节点。否则，前缀中的每一段要么是不含通配符的路径段，要么是完整的路径变量
+     * {@code '*'}，遇到第一个包含其他通配符的路径段时结束。</p>
+     *
+     * @param pathPattern 表示路径样式的 {@link String}。
+     * @param fragments 表示切分后的路径样式的 {@link String}{@code []}。
+     * @return 表示前缀长度的 {@code int}。
+     */
+    private int prefixLength(String pathPattern, String[] fragments) {
+        if (!this.isHttpDispatch || !pathPattern.contains(MULTIPLE_WILD_KEY)) {
+            return fragments.length;
         }
-        if (!node.children.isEmpty()) {
-            List<T> childrenHandlers = node.children.values()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .flatMap(child -> this.getNodeHandlers(child).stream())
-                    .collect(Collectors.toList());
-            handlers.addAll(childrenHandlers);
+        for (int i = 0; i < fragments.length; i++) {
+            if (!Objects.equals(fragments[i], WILD_KEY)
+                    && WildcardRoute.classify(fragments[i]) != WildcardRoute.LITERAL) {
+                return i;
+            }
         }
-        return handlers;
+        return fragments.length;
     }
 
     private static class MappingTreeNode<T> {
         private final Map<String, MappingTreeNode<T>> children = new ConcurrentHashMap<>();
-        private T handler;
+        private final Map<String, WildcardRoute<T>> wildcardRoutes = new ConcurrentHashMap<>();
+        private volatile T handler;
 
-        private Optional<T> register(Queue<String> pathFragments, T handler) {
-            if (pathFragments.isEmpty()) {
-                T pre = this.handler;
-                this.handler = handler;
-                return Optional.ofNullable(pre);
-            }
-            return this.children.computeIfAbsent(pathFragments.remove(), fragment -> new MappingTreeNode<>())
-                    .register(pathFragments, handler);
+        private MappingTreeNode<T> getOrCreateChild(String fragment) {
+            return this.children.computeIfAbsent(fragment, key -> new MappingTreeNode<>());
+        }
+
+        private boolean isEmpty() {
+            return this.handler == null && this.children.isEmpty() && this.wildcardRoutes.isEmpty();
         }
 
-        private boolean unregister(Queue<String> pathFragments) {
-            if (pathFragments.isEmpty()) {
-                this.handler = null;
-                return this.children.isEmpty();
+        private void unregister(String[] fragments, int index, int prefixLength) {
+            if (index == prefixLength) {
+                if (prefixLength < fragments.length) {
+                    this.wildcardRoutes.remove(WildcardRoute.join(fragments, prefixLength));
+                } else {
+                    this.handler = null;
+                }
+                return;
             }
-            String removed = pathFragments.remove();
-            if (!this.children.containsKey(removed)) {
-                return this.children.isEmpty();
+            MappingTreeNode<T> child = this.children.get(fragments[index]);
+            if (child == null) {
+                return;
             }
-            boolean isEmpty = this.children.get(removed).unregister(pathFragments);
-            if (isEmpty) {
-                this.children.remove(removed);
+            child.unregister(fragments, index + 1, prefixLength);
+            if (child.isEmpty()) {
+                this.children.remove(fragments[index], child);
             }
-            return this.children.isEmpty();
         }
 
-        private Optional<T> search(Deque<String> pathFragments) {
-            if (pathFragments.isEmpty()) {
-                return Optional.ofNullable(this.handler);
+        private MappingTreeNode<T> search(String[] fragments, int index) {
+            if (index == fragments.length) {
+                return this.handler == null ? null : this;
             }
-            String removed = pathFragments.removeFirst();
-            MappingTreeNode<T> child = this.children.get(removed);
-            Optional<T> httpHandler = Optional.ofNullable(child).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+            MappingTreeNode<T> child = this.children.get(fragments[index]);
+            if (child != null) {
+                MappingTreeNode<T> found = child.search(fragments, index + 1);
+                if (found != null) {
+                    return found;
+                }
             }
             MappingTreeNode<T> wildChild = this.children.get(WILD_KEY);
-            httpHandler = Optional.ofNullable(wildChild).flatMap(node -> node.search(pathFragments));
-            if (httpHandler.isPresent()) {
-                return httpHandler;
+            if (wildChild != null && wildChild != child) {
+                return wildChild.search(fragments, index + 1);
+            }
+            return null;
+        }
+
+        private WildcardRoute<T> searchWildcard(String[] fragments, int index) {
+            if (index < fragments.length) {
+                MappingTreeNode<T> child = this.children.get(fragments[index]);
+                if (child != null) {
+                    WildcardRoute<T> found = child.searchWildcard(fragments, index + 1);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+                MappingTreeNode<T> wildChild = this.children.get(WILD_KEY);
+                if (wildChild != null && wildChild != child) {
+                    WildcardRoute<T> found = wildChild.searchWildcard(fragments, index + 1);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+            for (WildcardRoute<T> route : this.wildcardRoutes.values()) {
+                if (route.matches(fragments, index)) {
+                    return route;
+                }
+            }
+            return null;
+        }
+
+        private void collectHandlers(List<T> handlers) {
+            T current = this.handler;
+            if (current != null) {
+                handlers.add(current);
+            }
+            this.children.values().forEach(child -> child.collectHandlers(handlers));
+        }
+
+        private void collectWildcardHandlers(List<T> handlers) {
+            this.wildcardRoutes.values().forEach(route -> handlers.add(route.handler));
+            this.children.values().forEach(child -> child.collectWildcardHandlers(handlers));
+        }
+    }
+
+    /**
+     * 表示预编译的通配符路径样式。
+     * <p>路径段的分类与 {@link modelengine.fitframework.util.wildcard.PathPattern} 保持一致：{@code '**'}
+     * 匹配任意多段路径，{@code '*'} 匹配一段路径，其余包含通配符的路径段按照 {@code '?'} 和 {@code '*'} 在段内匹配。
+     * 匹配过程不修改任何状态，可以被多个请求线程同时使用。</p>
+     */
+    private static class WildcardRoute<T> {
+        private static final byte LITERAL = 0;
+        private static final byte SINGLE = 1;
+        private static final byte MULTIPLE = 2;
+        private static final byte IN_FRAGMENT = 3;
+
+        private final String pattern;
+        private final String[] segments;
+        private final byte[] types;
+        private final T handler;
+
+        private WildcardRoute(String[] fragments, int from, T handler) {
+            this.pattern = join(fragments, from);
+            this.segments = new String[fragments.length - from];
+            this.types = new byte[this.segments.length];
+            for (int i = 0; i < this.segments.length; i++) {
+                String segment = fragments[from + i];
+                this.segments[i] = segment;
+                this.types[i] = classify(segment);
+            }
+            this.handler = handler;
+        }
+
+        private static String join(String[] fragments, int from) {
+            StringBuilder builder = new StringBuilder();
+            for (int i = from; i < fragments.length; i++) {
+                builder.append(PATH_SEPARATOR).append(fragments[i]);
+            }
+            return builder.toString();
+        }
+
+        private static byte classify(String segment) {
+            if (Objects.equals(segment, MULTIPLE_WILD_KEY)) {
+                return MULTIPLE;
+            } else if (Objects.equals(segment, WILD_KEY)) {
+                return SINGLE;
+            } else if (segment.indexOf(MULTIPLE_WILD_CHAR) >= 0 || segment.indexOf(SINGLE_WILD_CHAR) >= 0) {
+                return IN_FRAGMENT;
+            } else {
+                return LITERAL;
+            }
+        }
+
+        private boolean matches(String[] fragments, int from) {
+            return this.matches(0, fragments, from);
+        }
+
+        private boolean matches(int segmentIndex, String[] fragments, int fragmentIndex) {
+            if (segmentIndex == this.segments.length) {
+                return fragmentIndex == fragments.length;
+            }
+            if (this.types[segmentIndex] == MULTIPLE) {
+                for (int i = fragmentIndex; i <= fragments.length; i++) {
+                    if (this.matches(segmentIndex + 1, fragments, i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            if (fragmentIndex == fragments.length) {
+                return false;
+            }
+            return this.matchesSegment(segmentIndex, fragments[fragmentIndex]) && this.matches(segmentIndex + 1,
+                    fragments,
+                    fragmentIndex + 1);
+        }
+
+        private boolean matchesSegment(int segmentIndex, String fragment) {
+            switch (this.types[segmentIndex]) {
+                case SINGLE:
+                    return true;
+                case IN_FRAGMENT:
+                    return matchesInFragment(this.segments[segmentIndex], fragment);
+                default:
+                    return Objects.equals(this.segments[segmentIndex], fragment);
+            }
+        }
+
+        private static boolean matchesInFragment(String segment, String fragment) {
+            int segmentIndex = 0;
+            int fragmentIndex = 0;
+            int starIndex = -1;
+            int starMatchedIndex = 0;
+            while (fragmentIndex < fragment.length()) {
+                if (segmentIndex < segment.length() && segment.charAt(segmentIndex) == MULTIPLE_WILD_CHAR) {
+                    starIndex = segmentIndex++;
+                    starMatchedIndex = fragmentIndex;
+                } else if (segmentIndex < segment.length() && (segment.charAt(segmentIndex) == SINGLE_WILD_CHAR
+                        || segment.charAt(segmentIndex) == fragment.charAt(fragmentIndex))) {
+                    segmentIndex++;
+                    fragmentIndex++;
+                } else if (starIndex >= 0) {
+                    segmentIndex = starIndex + 1;
+                    fragmentIndex = ++starMatchedIndex;
+                } else {
+                    return false;
+                }
+            }
+            while (segmentIndex < segment.length() && segment.charAt(segmentIndex) == MULTIPLE_WILD_CHAR) {
+                segmentIndex++;
             }
-            pathFragments.addFirst(removed);
-            return Optional.empty();
+            return segmentIndex == segment.length();
+        }
+    }
+
+    private static class DefaultMatchStatistics implements MatchStatistics {
+        private final LongAdder literalMatches = new LongAdder();
+        private final LongAdder variableMatches = new LongAdder();
+        private final LongAdder wildcardMatches = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        @Override
+        public long literalMatches() {
+            return this.literalMatches.sum();
+        }
+
+        @Override
+        public long variableMatches() {
+            return this.variableMatches.sum();
+        }
+
+        @Override
+        public long wildcardMatches() {
+            return this.wildcardMatches.sum();
+        }
+
+        @Override
+        public long misses() {
+            return this.misses.sum();
         }
     }
 }
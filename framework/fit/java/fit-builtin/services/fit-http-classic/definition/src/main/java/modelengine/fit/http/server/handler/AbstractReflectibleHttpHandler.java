@@ -17,22 +17,34 @@ import modelengine.fit.http.server.ReflectibleMappingHandler;
 import modelengine.fitframework.exception.MethodInvocationException;
 import modelengine.fitframework.util.ReflectionUtils;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * 对 Http 请求根据指定规则进行参数映射的 {@link HttpHandler}。
+ * <p>参数映射程序和待调用的方法在构造时即编译为数组和 {@link MethodHandle}，每次请求只需按顺序映射参数并直接调用，
+ * 无需再经过流式处理和 {@link Method#invoke(Object, Object...)}。当方法无法转换为 {@link MethodHandle} 时，退化为反射调用。</p>
  *
  * @author 季聿阶
  * @since 2022-07-28
  */
 public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler implements ReflectibleMappingHandler {
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
     private final Object target;
     private final Method method;
     private final List<PropertyValueMapper> propertyValueMappers;
     private final StaticInfo staticInfo;
     private final List<PropertyValueMetadata> propertyValueMetadata;
+    private final PropertyValueMapper[] argumentMappers;
+    private final int[] primitiveParameterIndexes;
+    private final MethodHandle invoker;
 
     private String groupName;
 
@@ -68,6 +80,25 @@ public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler
         this.method = notNull(executionInfo.method(), "The specified method of http handler cannot be null.");
         this.propertyValueMetadata =
                 notNull(staticInfo.propertyValueMetadata(), "The http value meta data cannot be null.");
+        this.argumentMappers = this.propertyValueMappers.toArray(new PropertyValueMapper[0]);
+        Class<?>[] parameterTypes = this.method.getParameterTypes();
+        this.primitiveParameterIndexes = IntStream.range(0, parameterTypes.length)
+                .filter(index -> parameterTypes[index].isPrimitive())
+                .toArray();
+        this.invoker = createInvoker(this.target, this.method);
+    }
+
+    private static MethodHandle createInvoker(Object target, Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(target);
+            }
+            return handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
     }
 
     @Override
@@ -123,23 +154,47 @@ public abstract class AbstractReflectibleHttpHandler extends AbstractHttpHandler
     @Override
     public void handle(HttpClassicServerRequest request, HttpClassicServerResponse response)
             throws DoHttpHandlerException {
-        Object[] args;
+        Object[] args = new Object[this.argumentMappers.length];
         try {
-            args = this.propertyValueMappers.stream()
-                    .map(httpMapper -> httpMapper.map(request, response, null))
-                    .toArray();
+            for (int i = 0; i < args.length; i++) {
+                args[i] = this.argumentMappers[i].map(request, response, null);
+            }
         } catch (HttpServerResponseException e) {
             this.handleException(request, response, new Object[0], e);
             return;
         }
         try {
-            Object ret = ReflectionUtils.invoke(this.target, this.method, args);
+            Object ret = this.invoke(args);
             this.handleResult(request, response, args, ret);
         } catch (MethodInvocationException e) {
             this.handleException(request, response, args, e.getCause());
         }
     }
 
+    private Object invoke(Object[] args) {
+        if (this.invoker == null || this.requiresReflection(args)) {
+            // 参数个数或类型不匹配时，由反射调用给出与原有行为一致的异常。
+            return ReflectionUtils.invoke(this.target, this.method, args);
+        }
+        try {
+            return (Object) this.invoker.invokeExact(args);
+        } catch (Throwable cause) {
+            throw new MethodInvocationException(cause);
+        }
+    }
+
+    private boolean requiresReflection(Object[] args) {
+        if (args.length != this.method.getParameterCount()) {
+            return true;
+        }
+        for (int index : this.primitiveParameterIndexes) {
+            if (args[index] == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 处理参数映射后，调用本地指定方法后的结果。
      * <p>如果需要处理结果，子类需要覆盖该方法。</p>
@@ -7,6 +7,7 @@
 package modelengine.fit.http.server.dispatch.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
 import modelengine.fit.http.server.HttpHandler;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -35,7 +37,7 @@ public class DefaultMappingTreeTest {
 
     @BeforeEach
     void setup() {
-        this.mappingTree = new DefaultMappingTree<>();
+        this.mappingTree = DefaultMappingTree.forHttpDispatch();
         this.handler = mock(HttpHandler.class);
     }
 
@@ -65,4 +67,144 @@ public class DefaultMappingTreeTest {
             assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
         }
     }
+    @Nested
+    @DisplayName("注册了不含 '**' 的路径后")
+    class AfterRegisteringPatternWithoutMultipleWild {
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("搜索匹配的路径可以获取处理器")
+        @CsvSource({"/a/b,/a/b", "/,/", "/a/*,/a//b/", "/a/b*,/a/b*", "/a/b?/*,/a/b?/c"})
+        void returnHandlerWhenSearchingMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
+        }
+
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("不含 '*' 的路径样式按照完整路径匹配，其他路径段中的通配符按照原文匹配")
+        @CsvSource({"/a/b,/a/b/", "/a/b,/a//b", "/a/*,/", "/a/b*,/a/bc", "/a/b?/*,/a/bc/d"})
+        void returnEmptyWhenSearchingNotMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("注册了一个含 '**' 的路径后")
+    class AfterRegistering1MultipleWildPattern {
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("搜索匹配的路径可以获取处理器")
+        @CsvSource({
+                "/**,/", "/**,/a/b", "/a/**,/a", "/a/**,/a/b/c", "/*/**/c,/a/b/c", "/a/**/c,/a/c", "/a/b*/**,/a/bc/d",
+                "/a/b?/**,/a/bc/d"
+        })
+        void returnHandlerWhenSearchingMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isNotEmpty().get().isEqualTo(DefaultMappingTreeTest.this.handler);
+        }
+
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("搜索不匹配的路径无法获取处理器")
+        @CsvSource({"/a/**,/b/c", "/a/**/c,/a/b/d", "/a/b*/**,/a/c/d"})
+        void returnEmptyWhenSearchingNotMatchedPath(String pathPattern, String searchPath) {
+            DefaultMappingTreeTest.this.mappingTree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            Optional<HttpHandler> search = DefaultMappingTreeTest.this.mappingTree.search(searchPath);
+            assertThat(search).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("注册了多种路径样式后")
+    class AfterRegisteringMixedPatterns {
+        private final HttpHandler literalHandler = mock(HttpHandler.class);
+        private final HttpHandler variableHandler = mock(HttpHandler.class);
+        private final HttpHandler wildcardHandler = mock(HttpHandler.class);
+        private final HttpHandler rootWildcardHandler = mock(HttpHandler.class);
+
+        @BeforeEach
+        void setup() {
+            MappingTree<HttpHandler> tree = DefaultMappingTreeTest.this.mappingTree;
+            tree.register("/a/b", this.literalHandler);
+            tree.register("/a/*/c", this.variableHandler);
+            tree.register("/a/b/**", this.wildcardHandler);
+            tree.register("/**", this.rootWildcardHandler);
+        }
+
+        @Test
+        @DisplayName("优先匹配不含 '**' 的路径样式，其次匹配前缀最长的通配符路径样式")
+        void shouldMatchByPriority() {
+            MappingTree<HttpHandler> tree = DefaultMappingTreeTest.this.mappingTree;
+            assertThat(tree.search("/a/b")).get().isEqualTo(this.literalHandler);
+            assertThat(tree.search("/a/b/c")).get().isEqualTo(this.variableHandler);
+            assertThat(tree.search("/a/b/d")).get().isEqualTo(this.wildcardHandler);
+            assertThat(tree.search("/x/y")).get().isEqualTo(this.rootWildcardHandler);
+        }
+
+        @Test
+        @DisplayName("统计各类路径样式的匹配次数")
+        void shouldCountMatches() {
+            MappingTree<HttpHandler> tree = DefaultMappingTreeTest.this.mappingTree;
+            tree.search("/a/b");
+            tree.search("/a/b/c");
+            tree.search("/a/b/d");
+            tree.unregister("/**");
+            tree.search("/x/y");
+            MappingTree.MatchStatistics statistics = tree.statistics();
+            assertThat(statistics.literalMatches()).isEqualTo(1);
+            assertThat(statistics.variableMatches()).isEqualTo(1);
+            assertThat(statistics.wildcardMatches()).isEqualTo(1);
+            assertThat(statistics.misses()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("取消注册后不影响其他路径样式")
+        void shouldKeepOtherHandlersWhenUnregistering() {
+            MappingTree<HttpHandler> tree = DefaultMappingTreeTest.this.mappingTree;
+            tree.unregister("/a/b/**");
+            tree.unregister("/a/*/c");
+            assertThat(tree.search("/a/b")).get().isEqualTo(this.literalHandler);
+            assertThat(tree.search("/a/b/d")).get().isEqualTo(this.rootWildcardHandler);
+            assertThat(tree.getAllHandlers()).containsExactly(this.literalHandler, this.rootWildcardHandler);
+        }
+    }
+    @Nested
+    @DisplayName("通过构造方法创建的匹配树")
+    class GivenTreeCreatedByConstructor {
+        private final MappingTree<HttpHandler> tree = new DefaultMappingTree<>();
+
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("以路径段为单位匹配，'**' 按照原文匹配")
+        @CsvSource({"/a/b,/a/b/", "/a/b,/a//b", "/a/*,/a/b", "/a/**,/a/**"})
+        void returnHandlerWhenSearchingMatchedPath(String pathPattern, String searchPath) {
+            this.tree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            assertThat(this.tree.search(searchPath)).get().isEqualTo(DefaultMappingTreeTest.this.handler);
+        }
+
+        @ParameterizedTest(name = "{index}: 注册路径样式为 `{0}`，搜索路径为 `{1}`")
+        @DisplayName("'**' 不匹配多段路径")
+        @CsvSource({"/a/**,/a/b/c", "/a/**,/a", "/**,/a/b"})
+        void returnEmptyWhenSearchingNotMatchedPath(String pathPattern, String searchPath) {
+            this.tree.register(pathPattern, DefaultMappingTreeTest.this.handler);
+            assertThat(this.tree.search(searchPath)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("不收集匹配统计信息")
+        void shouldNotCountMatches() {
+            this.tree.register("/a", DefaultMappingTreeTest.this.handler);
+            this.tree.search("/a");
+            this.tree.search("/b");
+            MappingTree.MatchStatistics statistics = this.tree.statistics();
+            assertThat(statistics.variableMatches()).isZero();
+            assertThat(statistics.misses()).isZero();
+        }
+
+        @Test
+        @DisplayName("路径样式只包含 '/' 时抛出异常")
+        void shouldFailWhenPatternOnlyContainsSeparator() {
+            assertThatThrownBy(() -> this.tree.register("/", DefaultMappingTreeTest.this.handler))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }
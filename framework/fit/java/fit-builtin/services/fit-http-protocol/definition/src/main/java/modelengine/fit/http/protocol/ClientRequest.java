@@ -9,6 +9,7 @@ package modelengine.fit.http.protocol;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 表示客户端的 Http 请求。
@@ -72,4 +73,19 @@ public interface ClientRequest extends Message<RequestLine, ConfigurableMessageH
      * @throws modelengine.fitframework.exception.TimeoutException 当发生超时异常时。
      */
     ClientResponse readResponse() throws IOException;
+
+    /**
+     * 异步读取 Http 响应。
+     * <p>默认实现在当前线程中同步读取响应，支持非阻塞通信的实现应覆盖该方法，在响应到达时完成返回的结果，而不占用调用线程。</p>
+     *
+     * @return 表示 Http 响应的异步结果的 {@link CompletableFuture}{@code <}{@link ClientResponse}{@code >}。读取过程中发生的
+     * 异常通过该结果传递。
+     */
+    default CompletableFuture<ClientResponse> readResponseAsync() {
+        try {
+            return CompletableFuture.completedFuture(this.readResponse());
+        } catch (IOException | RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 }
@@ -33,4 +33,15 @@ public interface Registry {
      * @return 表示指定服务实现的地址列表的 {@link List}{@code <}{@link Target}{@code >}。
      */
     List<Target> getFitableTargets(UniqueFitableId id);
+
+    /**
+     * 获取当前服务地址信息的版本号。
+     * <p>任意服务实现的地址列表发生变化时，版本号都会随之变化，调用方可以据此缓存
+     * {@link #getFitableTargets(UniqueFitableId)} 的结果。当版本号为负数时，表示注册中心不支持版本号，调用方不能缓存地址列表。</p>
+     *
+     * @return 表示服务地址信息版本号的 {@code long}。
+     */
+    default long version() {
+        return -1L;
+    }
 }
@@ -0,0 +1,150 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.protocol;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 表示 TCP 通信中的一个数据帧。
+ * <p>同一个连接上的多个调用通过流标识区分，请求帧与对应的响应帧使用相同的流标识，因此响应可以乱序返回。元数据为序列化后的
+ * {@link modelengine.fitframework.serialization.RequestMetadata} 或
+ * {@link modelengine.fitframework.serialization.ResponseMetadata}，其中的扩展字段以 TLV 的形式编码；消息体为序列化后的调用参数或返回值。</p>
+ * <p>帧由帧长度（4 字节）、类型（1 字节）、流标识（4 字节）、元数据长度（4 字节）、元数据和消息体依次组成，整数均为大端序。帧长度不包含其自身的
+ * 4 个字节。客户端与服务端共用该格式，各自的传输层只负责按照帧长度拆分数据。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class TcpFrame {
+    /** 表示请求帧的类型。 */
+    public static final byte TYPE_REQUEST = 1;
+
+    /** 表示响应帧的类型。 */
+    public static final byte TYPE_RESPONSE = 2;
+
+    /** 表示帧长度字段的字节数。 */
+    public static final int LENGTH_FIELD_LENGTH = 4;
+
+    /** 表示帧长度之后的固定头部的字节数。 */
+    public static final int HEADER_LENGTH = 9;
+
+    private final byte type;
+    private final int streamId;
+    private final byte[] metadata;
+    private final byte[] body;
+
+    /**
+     * 使用帧的类型、流标识、元数据和消息体初始化 {@link TcpFrame} 的新实例。
+     *
+     * @param type 表示帧的类型的 {@code byte}。
+     * @param streamId 表示流标识的 {@code int}。
+     * @param metadata 表示序列化后的元数据的 {@code byte[]}。
+     * @param body 表示序列化后的消息体的 {@code byte[]}。
+     * @throws IllegalArgumentException 当 {@code metadata} 或 {@code body} 为 {@code null} 时。
+     */
+    public TcpFrame(byte type, int streamId, byte[] metadata, byte[] body) {
+        this.type = type;
+        this.streamId = streamId;
+        this.metadata = notNull(metadata, "The metadata of tcp frame cannot be null.");
+        this.body = notNull(body, "The body of tcp frame cannot be null.");
+    }
+
+    /**
+     * 获取帧的类型。
+     *
+     * @return 表示帧的类型的 {@code byte}。
+     */
+    public byte type() {
+        return this.type;
+    }
+
+    /**
+     * 获取流标识。
+     *
+     * @return 表示流标识的 {@code int}。
+     */
+    public int streamId() {
+        return this.streamId;
+    }
+
+    /**
+     * 获取序列化后的元数据。
+     *
+     * @return 表示序列化后的元数据的 {@code byte[]}。
+     */
+    public byte[] metadata() {
+        return this.metadata;
+    }
+
+    /**
+     * 获取序列化后的消息体。
+     *
+     * @return 表示序列化后的消息体的 {@code byte[]}。
+     */
+    public byte[] body() {
+        return this.body;
+    }
+
+    /**
+     * 获取帧长度，即帧长度字段之后的字节数。
+     *
+     * @return 表示帧长度的 {@code int}。
+     */
+    public int length() {
+        return HEADER_LENGTH + this.metadata.length + this.body.length;
+    }
+
+    /**
+     * 将包含帧长度字段在内的完整的帧写入输出。
+     *
+     * @param out 表示输出的 {@link DataOutput}。
+     * @throws IOException 当写入过程中发生输入输出异常时。
+     */
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(this.length());
+        out.writeByte(this.type);
+        out.writeInt(this.streamId);
+        out.writeInt(this.metadata.length);
+        out.write(this.metadata);
+        out.write(this.body);
+    }
+
+    /**
+     * 从已经去除帧长度字段的数据中读取一个帧，数据中剩余的所有字节都属于该帧。
+     *
+     * @param buffer 表示帧的数据的 {@link ByteBuffer}。
+     * @return 表示读取到的帧的 {@link TcpFrame}。
+     * @throws IllegalArgumentException 当数据不是一个完整的帧时。
+     */
+    public static TcpFrame read(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_LENGTH) {
+            throw new IllegalArgumentException(StringUtils.format("Incomplete tcp frame header. [length={0}]",
+                    buffer.remaining()));
+        }
+        byte type = buffer.get();
+        int streamId = buffer.getInt();
+        int metadataLength = buffer.getInt();
+        if (metadataLength < 0 || metadataLength > buffer.remaining()) {
+            throw new IllegalArgumentException(StringUtils.format(
+                    "Illegal metadata length of tcp frame. [streamId={0}, metadataLength={1}, remaining={2}]",
+                    streamId,
+                    metadataLength,
+                    buffer.remaining()));
+        }
+        byte[] metadata = new byte[metadataLength];
+        buffer.get(metadata);
+        byte[] body = new byte[buffer.remaining()];
+        buffer.get(body);
+        return new TcpFrame(type, streamId, metadata, body);
+    }
+}
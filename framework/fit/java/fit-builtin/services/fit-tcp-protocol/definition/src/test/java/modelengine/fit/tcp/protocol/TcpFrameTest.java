@@ -0,0 +1,64 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.tcp.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link TcpFrame} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 TcpFrame")
+class TcpFrameTest {
+    private static final byte[] METADATA = "metadata".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY = "body".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("写入的帧去除帧长度字段后，可以读取出原始的帧")
+    void shouldReadWrittenFrame() throws IOException {
+        TcpFrame frame = new TcpFrame(TcpFrame.TYPE_REQUEST, 7, METADATA, BODY);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        frame.write(new DataOutputStream(out));
+        ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+        assertThat(buffer.remaining()).isEqualTo(TcpFrame.LENGTH_FIELD_LENGTH + frame.length());
+        assertThat(buffer.getInt()).isEqualTo(frame.length());
+
+        TcpFrame actual = TcpFrame.read(buffer);
+        assertThat(actual.type()).isEqualTo(TcpFrame.TYPE_REQUEST);
+        assertThat(actual.streamId()).isEqualTo(7);
+        assertThat(actual.metadata()).isEqualTo(METADATA);
+        assertThat(actual.body()).isEqualTo(BODY);
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    @DisplayName("数据不足一个头部时，抛出异常")
+    void shouldFailWhenHeaderIsIncomplete() {
+        assertThatThrownBy(() -> TcpFrame.read(ByteBuffer.allocate(TcpFrame.HEADER_LENGTH - 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("元数据长度超过帧的剩余长度时，抛出异常")
+    void shouldFailWhenMetadataLengthIsIllegal() {
+        ByteBuffer buffer = ByteBuffer.allocate(TcpFrame.HEADER_LENGTH);
+        buffer.put(TcpFrame.TYPE_RESPONSE).putInt(1).putInt(10).flip();
+        assertThatThrownBy(() -> TcpFrame.read(buffer)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -45,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -56,6 +58,16 @@ import java.util.stream.Collectors;
  * @since 2022-04-28
  */
 public final class DefaultBeanContainer extends AbstractDisposable implements BeanContainer, BeanRegistry {
+    /**
+     * 表示所有容器共享的注册表版本号。
+     * <p>{@link #all(Type)} 和 {@link #lookup(Type)} 的结果依赖于插件树上其他容器中的 Bean，因此任意容器中的注册、移除或插件的
+     * 加载与卸载，都需要使所有容器中的类型索引失效。</p>
+     */
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    /** 表示单个类型索引中允许缓存的类型的最大数量，用以避免不可比较的类型导致缓存无限增长。 */
+    private static final int MAX_INDEXED_TYPES = 4096;
+
     private final Plugin plugin;
 
     private final Beans beans;
@@ -65,6 +77,8 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     private final List<BeanRegisteredObserver> beanRegisteredObservers;
 
+    private volatile TypeIndex index;
+
     public DefaultBeanContainer(Plugin plugin) {
         this.plugin = notNull(plugin, "The owning plugin of a bean container cannot be null.");
 
@@ -74,6 +88,15 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
         this.monitor = LockUtils.newReentrantReadWriteLock();
 
         this.beanRegisteredObservers = new LinkedList<>();
+        this.index = new TypeIndex(GENERATION.get());
+    }
+
+    /**
+     * 使所有容器中缓存的按类型查找的结果失效。
+     * <p>当插件树的结构发生变化（例如插件被加载或卸载）时调用。</p>
+     */
+    public static void invalidateIndexes() {
+        GENERATION.incrementAndGet();
     }
 
     private BeanMetadata register(BeanFactory factory) {
@@ -86,6 +109,7 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
                     .collect(Collectors.toSet());
             if (existing.isEmpty()) {
                 this.factories.add(factory);
+                invalidateIndexes();
             } else {
                 throw new BeanDefinitionException(StringUtils.format(
                         "Beans with the same name already exists. [names={0}]",
@@ -197,9 +221,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public void removeBean(String beanName) {
-        synchronized (this.monitor) {
-            this.factories.removeIf(beanFactory -> names(beanFactory).contains(beanName));
-        }
+        LockUtils.synchronize(this.monitor.writeLock(), () -> {
+            if (this.factories.removeIf(beanFactory -> names(beanFactory).contains(beanName))) {
+                invalidateIndexes();
+            }
+        });
     }
 
     @Override
@@ -245,6 +271,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> factories(Type type) {
+        TypeIndex current = this.index();
+        return new ArrayList<>(current.get(current.locals, type, this::factories0));
+    }
+
+    private List<BeanFactory> factories0(Type type) {
         return LockUtils.synchronize(this.monitor.readLock(),
                 () -> this.factories.stream()
                         .filter(factory -> TypeMatcher.match(factory.metadata().type(), type))
@@ -263,7 +294,8 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public Optional<BeanFactory> lookup(Type type) {
-        return this.lookup(container -> container.factory(type));
+        TypeIndex current = this.index();
+        return current.get(current.lookups, type, key -> this.lookup(container -> container.factory(key)));
     }
 
     private Optional<BeanFactory> lookup(Function<BeanContainer, Optional<BeanFactory>> mapper) {
@@ -282,6 +314,11 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
 
     @Override
     public List<BeanFactory> all(Type type) {
+        TypeIndex current = this.index();
+        return new ArrayList<>(current.get(current.all, type, this::all0));
+    }
+
+    private List<BeanFactory> all0(Type type) {
         return LockUtils.synchronize(this.monitor.readLock(),
                 () -> this.all()
                         .stream()
@@ -428,9 +465,51 @@ public final class DefaultBeanContainer extends AbstractDisposable implements Be
         LockUtils.synchronize(this.monitor.writeLock(), () -> {
             this.factories.forEach(Disposable::safeDispose);
             this.factories.clear();
+            invalidateIndexes();
         });
     }
 
+    private TypeIndex index() {
+        TypeIndex current = this.index;
+        long generation = GENERATION.get();
+        if (current.generation != generation) {
+            current = new TypeIndex(generation);
+            this.index = current;
+        }
+        return current;
+    }
+
+    /**
+     * 表示某一注册表版本下按类型查找结果的索引。
+     * <p>索引中的结果在计算时读取了不早于 {@link #generation} 的注册表状态，当版本号变化时，整个索引被丢弃，因此不会返回过期的
+     * 结果。查找过程中抛出的异常不会被缓存。</p>
+     */
+    private static final class TypeIndex {
+        private final long generation;
+        private final Map<Type, List<BeanFactory>> locals = new ConcurrentHashMap<>();
+        private final Map<Type, List<BeanFactory>> all = new ConcurrentHashMap<>();
+        private final Map<Type, Optional<BeanFactory>> lookups = new ConcurrentHashMap<>();
+
+        private TypeIndex(long generation) {
+            this.generation = generation;
+        }
+
+        private <V> V get(Map<Type, V> cache, Type type, Function<Type, V> loader) {
+            if (type == null) {
+                return loader.apply(null);
+            }
+            V value = cache.get(type);
+            if (value != null) {
+                return value;
+            }
+            value = loader.apply(type);
+            if (cache.size() < MAX_INDEXED_TYPES) {
+                cache.putIfAbsent(type, value);
+            }
+            return value;
+        }
+    }
+
     private boolean applicable(BeanContainer container, BeanApplicableScope scope) {
         BeanApplicableScope actual = nullIf(scope, BeanApplicableScope.ANYWHERE);
         switch (actual) {
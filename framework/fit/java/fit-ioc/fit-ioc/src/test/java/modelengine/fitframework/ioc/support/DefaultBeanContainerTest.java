@@ -419,6 +419,63 @@ class DefaultBeanContainerTest extends AbstractBeanContainerTest {
         }
     }
 
+    @Nested
+    @DisplayName("测试按类型查找的索引")
+    class TestTypeIndex {
+        private DefaultBeanDefinition definition(String name) {
+            return new DefaultBeanDefinition(name,
+                    String.class,
+                    DefaultBeanContainerTest.this.emptySet,
+                    DefaultBeanContainerTest.this.stereotype,
+                    DefaultBeanContainerTest.this.annotations,
+                    false,
+                    false,
+                    DefaultBeanContainerTest.this.emptySet,
+                    BeanApplicableScope.ANYWHERE,
+                    DefaultBeanContainerTest.this.properties);
+        }
+
+        @Test
+        @DisplayName("重复查找时，返回相同的结果")
+        void givenRepeatedLookupThenReturnSameFactory() {
+            DefaultBeanContainerTest.this.container.register(this.definition("first"));
+            Optional<BeanFactory> first = DefaultBeanContainerTest.this.container.lookup(String.class);
+            Optional<BeanFactory> second = DefaultBeanContainerTest.this.container.lookup(String.class);
+            assertThat(first).isPresent();
+            assertThat(second).containsSame(first.get());
+        }
+
+        @Test
+        @DisplayName("注册新的 Bean 后，查找结果包含新注册的 Bean")
+        void givenNewBeanRegisteredThenIndexInvalidated() {
+            DefaultBeanContainerTest.this.container.register(this.definition("first"));
+            assertThat(DefaultBeanContainerTest.this.container.all(String.class)).hasSize(1);
+            assertThat(DefaultBeanContainerTest.this.container.factories(String.class)).hasSize(1);
+            DefaultBeanContainerTest.this.container.register(this.definition("second"));
+            assertThat(DefaultBeanContainerTest.this.container.all(String.class)).hasSize(2);
+            assertThat(DefaultBeanContainerTest.this.container.factories(String.class)).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("移除 Bean 后，查找结果不再包含被移除的 Bean")
+        void givenBeanRemovedThenIndexInvalidated() {
+            DefaultBeanContainerTest.this.container.register(this.definition("first"));
+            assertThat(DefaultBeanContainerTest.this.container.lookup(String.class)).isPresent();
+            DefaultBeanContainerTest.this.container.removeBean("first");
+            assertThat(DefaultBeanContainerTest.this.container.lookup(String.class)).isEmpty();
+            assertThat(DefaultBeanContainerTest.this.container.all(String.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("修改返回的列表，不影响后续查找的结果")
+        void givenReturnedListModifiedThenIndexNotAffected() {
+            DefaultBeanContainerTest.this.container.register(this.definition("first"));
+            List<BeanFactory> factories = DefaultBeanContainerTest.this.container.all(String.class);
+            factories.clear();
+            assertThat(DefaultBeanContainerTest.this.container.all(String.class)).hasSize(1);
+        }
+    }
+
     @Test
     @DisplayName("释放对象占用的资源，释放成功")
     void disposeResourceThenExecuteSuccessfully() {
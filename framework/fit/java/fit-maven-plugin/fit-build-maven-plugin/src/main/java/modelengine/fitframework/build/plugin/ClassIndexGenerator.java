@@ -0,0 +1,128 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.build.plugin;
+
+import modelengine.fitframework.jvm.classfile.AccessFlag;
+import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.classfile.ConstantPool;
+import modelengine.fitframework.jvm.classfile.attribute.RuntimeVisibleAnnotationsAttribute;
+import modelengine.fitframework.jvm.classfile.constant.ClassInfo;
+import modelengine.fitframework.jvm.classfile.constant.Utf8Info;
+import modelengine.fitframework.jvm.classfile.lang.U2;
+import modelengine.fitframework.jvm.scan.ClassIndex;
+import modelengine.fitframework.util.StringUtils;
+
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 为插件生成构建时的 {@link ClassIndex 类型索引}。
+ * <p>通过解析类文件而非加载类型来判断类型是否可能成为 Bean：类型自身声明了运行时可见的注解，或者其父类可能通过
+ * {@link java.lang.annotation.Inherited} 为其带来注解。父类不在当前编译产物中时，无法确定其注解，因此保守地将类型记入索引。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class ClassIndexGenerator {
+    private static final String JDK_PACKAGE_PREFIX = "java/";
+
+    private final Map<String, ClassSummary> summaries = new HashMap<>();
+    private final Map<String, Boolean> candidates = new HashMap<>();
+
+    /**
+     * 扫描指定目录中的所有类文件，并生成类型索引。
+     *
+     * @param classesDirectory 表示编译产物所在目录的 {@link Path}。
+     * @return 表示生成的类型索引的 {@link ClassIndex}。
+     * @throws MojoExecutionException 当读取类文件失败时。
+     */
+    ClassIndex generate(Path classesDirectory) throws MojoExecutionException {
+        try (Stream<Path> paths = Files.walk(classesDirectory)) {
+            List<Path> classPaths = paths.filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(ClassFile.FILE_EXTENSION))
+                    .collect(Collectors.toList());
+            for (Path classPath : classPaths) {
+                this.summarize(classPath);
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to list class files.", e);
+        }
+        Set<String> classNames = this.summaries.keySet()
+                .stream()
+                .filter(this::isCandidate)
+                .map(name -> name.replace('/', '.'))
+                .collect(Collectors.toSet());
+        return ClassIndex.create(classNames);
+    }
+
+    private void summarize(Path path) throws MojoExecutionException {
+        try (InputStream in = Files.newInputStream(path)) {
+            ClassFile classFile = new ClassFile(in);
+            Set<AccessFlag> flags = AccessFlag.of(classFile.accessFlags());
+            if (flags.contains(AccessFlag.ACC_MODULE)) {
+                return;
+            }
+            ConstantPool constants = classFile.constants();
+            String name = className(constants, classFile.thisClass());
+            String superName = classFile.superClass().equals(U2.ZERO)
+                    ? null
+                    : className(constants, classFile.superClass());
+            boolean annotated = RuntimeVisibleAnnotationsAttribute.lookup(classFile.attributes()) != null;
+            this.summaries.put(name,
+                    new ClassSummary(superName, annotated, flags.contains(AccessFlag.ACC_INTERFACE)));
+        } catch (IOException e) {
+            throw new MojoExecutionException(StringUtils.format("Failed to load class. [file={0}]", path), e);
+        }
+    }
+
+    private static String className(ConstantPool constants, U2 index) {
+        ClassInfo info = constants.get(index);
+        return constants.<Utf8Info>get(info.nameIndex()).stringValue();
+    }
+
+    private boolean isCandidate(String name) {
+        Boolean cached = this.candidates.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        ClassSummary summary = this.summaries.get(name);
+        boolean candidate;
+        if (summary == null) {
+            candidate = !name.startsWith(JDK_PACKAGE_PREFIX);
+        } else if (summary.annotated) {
+            candidate = true;
+        } else if (summary.isInterface || summary.superName == null) {
+            candidate = false;
+        } else {
+            candidate = this.isCandidate(summary.superName);
+        }
+        this.candidates.put(name, candidate);
+        return candidate;
+    }
+
+    private static final class ClassSummary {
+        private final String superName;
+        private final boolean annotated;
+        private final boolean isInterface;
+
+        private ClassSummary(String superName, boolean annotated, boolean isInterface) {
+            this.superName = superName;
+            this.annotated = annotated;
+            this.isInterface = isInterface;
+        }
+    }
+}
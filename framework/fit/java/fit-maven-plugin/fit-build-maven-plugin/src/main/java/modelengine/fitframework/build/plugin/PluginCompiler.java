@@ -6,6 +6,7 @@
 
 package modelengine.fitframework.build.plugin;
 
+import modelengine.fitframework.jvm.scan.ClassIndex;
 import modelengine.fitframework.plugin.maven.support.AbstractCompiler;
 import modelengine.fitframework.plugin.maven.support.SharedDependency;
 import modelengine.fitframework.util.StringUtils;
@@ -33,6 +34,7 @@ import java.util.Set;
  */
 final class PluginCompiler extends AbstractCompiler {
     private static final String PLUGIN_MANIFEST = "plugin.xml";
+    private static final String CLASS_INDEX = ClassIndex.ENTRY_NAME.substring(FIT_ROOT_DIRECTORY.length() + 1);
 
     private final PluginManifest manifest;
 
@@ -45,6 +47,7 @@ final class PluginCompiler extends AbstractCompiler {
     protected void output(String outputDirectory, String fitRootDirectory) throws MojoExecutionException {
         this.outputPluginManifest(fitRootDirectory);
         this.outputDependencies(fitRootDirectory);
+        this.outputClassIndex(outputDirectory, fitRootDirectory);
     }
 
     private void outputPluginManifest(String outputDirectory) throws MojoExecutionException {
@@ -62,6 +65,21 @@ final class PluginCompiler extends AbstractCompiler {
         }
     }
 
+    private void outputClassIndex(String outputDirectory, String fitRootDirectory) throws MojoExecutionException {
+        ClassIndex index = new ClassIndexGenerator().generate(Paths.get(outputDirectory));
+        String fileName = fitRootDirectory + File.separator + CLASS_INDEX;
+        try (OutputStream out = Files.newOutputStream(new File(fileName).toPath())) {
+            index.write(out);
+            this.log()
+                    .info(StringUtils.format("Write class index. [file={0}, classes={1}]",
+                            fileName,
+                            index.classNames().size()));
+        } catch (IOException e) {
+            throw new MojoExecutionException(StringUtils.format("Failed to write class index. [file={0}]", fileName),
+                    e);
+        }
+    }
+
     private void outputDependencies(String outputDirectory) throws MojoExecutionException {
         Set<Artifact> dependencies = this.project().getArtifacts();
         this.log().info(StringUtils.format("Prepare to package dependencies. [total={0}]", dependencies.size()));
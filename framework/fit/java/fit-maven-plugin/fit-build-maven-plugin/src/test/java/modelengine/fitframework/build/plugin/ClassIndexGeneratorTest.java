@@ -0,0 +1,130 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.build.plugin;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.jvm.scan.ClassIndex;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * {@link ClassIndexGenerator} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 ClassIndexGenerator 类")
+class ClassIndexGeneratorTest {
+    @TempDir
+    Path directory;
+
+    private List<String> classNames;
+
+    @BeforeEach
+    void setup() throws IOException, MojoExecutionException {
+        Class<?>[] classes = {
+                Annotated.class, AnnotatedSub.class, InheritedBase.class, InheritedSub.class, InheritedGrandSub.class,
+                Plain.class, PlainSub.class, PlainInterface.class, AnnotatedInterface.class, ExternalSub.class
+        };
+        Path packageDirectory = this.directory.resolve(ClassIndexGeneratorTest.class.getPackage()
+                .getName()
+                .replace('.', '/'));
+        Files.createDirectories(packageDirectory);
+        for (Class<?> clazz : classes) {
+            String fileName = clazz.getName().substring(clazz.getName().lastIndexOf('.') + 1) + ".class";
+            try (InputStream in = clazz.getResourceAsStream(fileName)) {
+                assertThat(in).isNotNull();
+                Files.copy(in, packageDirectory.resolve(fileName));
+            }
+        }
+        ClassIndex index = new ClassIndexGenerator().generate(this.directory);
+        this.classNames = index.classNames();
+    }
+
+    @Test
+    @DisplayName("声明了运行时可见注解的类型是候选类型")
+    void givenAnnotatedClassThenCandidate() {
+        assertThat(this.classNames).contains(Annotated.class.getName(), AnnotatedInterface.class.getName());
+    }
+
+    @Test
+    @DisplayName("父类声明了注解的类型是候选类型")
+    void givenAnnotatedSuperclassThenCandidate() {
+        assertThat(this.classNames).contains(AnnotatedSub.class.getName());
+    }
+
+    @Test
+    @DisplayName("父类及其祖先通过 @Inherited 注解带来注解的类型是候选类型")
+    void givenInheritedAnnotationThenCandidate() {
+        assertThat(this.classNames).contains(InheritedBase.class.getName(),
+                InheritedSub.class.getName(),
+                InheritedGrandSub.class.getName());
+    }
+
+    @Test
+    @DisplayName("父类不在编译产物中且不是 JDK 类型时，保守地作为候选类型")
+    void givenExternalSuperclassThenCandidate() {
+        assertThat(this.classNames).contains(ExternalSub.class.getName());
+    }
+
+    @Test
+    @DisplayName("自身和父类都没有注解的类型和接口不是候选类型")
+    void givenNoAnnotationThenNotCandidate() {
+        assertThat(this.classNames).doesNotContain(Plain.class.getName(),
+                PlainSub.class.getName(),
+                PlainInterface.class.getName());
+        assertThat(this.classNames).hasSize(7);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface Marker {}
+
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface InheritedMarker {}
+
+    @Marker
+    static class Annotated {}
+
+    static class AnnotatedSub extends Annotated {}
+
+    @InheritedMarker
+    static class InheritedBase {}
+
+    static class InheritedSub extends InheritedBase {}
+
+    static class InheritedGrandSub extends InheritedSub {}
+
+    static class Plain {}
+
+    static class PlainSub extends Plain {}
+
+    interface PlainInterface {}
+
+    @Marker
+    interface AnnotatedInterface {}
+
+    static class ExternalSub extends MojoExecutionException {
+        ExternalSub() {
+            super("external");
+        }
+    }
+}
@@ -246,7 +246,7 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
                 .collect(Collectors.toCollection(HashSet::new));
         Class<?> entryClass = this.runtime().entry();
         PackageScanner scanner =
-                this.scanner((packageScanner, clazz) -> this.onClassDetected(packageScanner, clazz, entryClass));
+                this.beanScanner((packageScanner, clazz) -> this.onClassDetected(packageScanner, clazz, entryClass));
         if (entryClass != null) {
             List<BeanMetadata> beans = this.container().registry().register(entryClass);
             Set<String> entryBasePackages = beans.stream()
@@ -262,7 +262,12 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
             }
             basePackages.addAll(entryBasePackages);
         }
+        long startTime = System.nanoTime();
         scanner.scan(basePackages);
+        LOG.debug("Beans scanned. [plugin={}, packages={}, duration={}ms]",
+                this.metadata().name(),
+                basePackages,
+                (System.nanoTime() - startTime) / 1_000_000);
     }
 
     /**
@@ -421,6 +426,18 @@ public abstract class AbstractPlugin extends AbstractDisposable implements Plugi
         return new PluginClassLoaderScanner(this.pluginClassLoader(), callback);
     }
 
+    /**
+     * 获取用以扫描 Bean 的扫描程序。
+     * <p>与 {@link #scanner(PackageScanner.Callback)} 不同，该扫描程序会优先使用构建时生成的
+     * {@link modelengine.fitframework.jvm.scan.ClassIndex 类型索引}，仅加载可能成为 Bean 的类型。</p>
+     *
+     * @param callback 表示当扫描到类型时的回调方法的 {@link PackageScanner.Callback}。
+     * @return 表示用以扫描 Bean 的扫描程序的 {@link PackageScanner}。
+     */
+    protected PackageScanner beanScanner(PackageScanner.Callback callback) {
+        return new PluginClassLoaderScanner(this.pluginClassLoader(), callback, true);
+    }
+
     @Override
     public String toString() {
         return this.metadata().toString();
@@ -9,6 +9,7 @@ package modelengine.fitframework.plugin.support;
 import static modelengine.fitframework.inspection.Validation.notNull;
 
 import modelengine.fitframework.inspection.Nonnull;
+import modelengine.fitframework.ioc.support.DefaultBeanContainer;
 import modelengine.fitframework.plugin.Plugin;
 import modelengine.fitframework.plugin.PluginCollection;
 import modelengine.fitframework.protocol.jar.Jar;
@@ -69,6 +70,7 @@ final class DefaultPluginCollection implements PluginCollection {
             Plugin child = JarPluginResolver.INSTANCE.resolve(this.plugin, location);
             this.plugins.put(pluginKey, child);
             this.keys.add(pluginKey);
+            DefaultBeanContainer.invalidateIndexes();
             return child;
         });
     }
@@ -83,6 +85,7 @@ final class DefaultPluginCollection implements PluginCollection {
                 Plugin removedPlugin = this.plugins.remove(pluginKey);
                 if (removedPlugin != null) {
                     this.keys.remove(pluginKey);
+                    DefaultBeanContainer.invalidateIndexes();
                 }
                 return removedPlugin;
             });
@@ -26,6 +26,10 @@ public class PluginClassLoaderScanner extends ClassLoaderPackageScanner {
         super(loader, callback);
     }
 
+    public PluginClassLoaderScanner(ClassLoader loader, PackageScanner.Callback callback, boolean indexed) {
+        super(loader, callback, indexed);
+    }
+
     @Override
     protected Enumeration<URL> getPackageResources(String basePackage, String resourceName) {
         if (this.getLoader() instanceof PluginClassLoader) {
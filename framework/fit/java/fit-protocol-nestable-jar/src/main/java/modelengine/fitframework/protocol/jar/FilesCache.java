@@ -6,6 +6,7 @@
 
 package modelengine.fitframework.protocol.jar;
 
+import modelengine.fitframework.protocol.jar.support.LruFilesCache;
 import modelengine.fitframework.protocol.jar.support.WeakHashMapFilesCache;
 
 import java.io.File;
@@ -27,10 +28,11 @@ public interface FilesCache {
 
     /**
      * 获取文件缓存器的实例。
+     * <p>当启用强引用的 JAR 缓存时，返回容量有限的强引用缓存器，否则返回弱引用的缓存器。</p>
      *
      * @return 表示文件缓存器实例的 {@link FilesCache}。
      */
     static FilesCache instance() {
-        return WeakHashMapFilesCache.INSTANCE;
+        return LruFilesCache.enabled() ? LruFilesCache.INSTANCE : WeakHashMapFilesCache.INSTANCE;
     }
 }
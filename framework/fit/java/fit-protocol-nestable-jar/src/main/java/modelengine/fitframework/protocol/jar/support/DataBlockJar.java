@@ -33,14 +33,25 @@ final class DataBlockJar implements Jar {
     private final DataLocator locatorOfData;
     private final String comment;
     private final JarEntryCollection entries;
+    private final DataRandomReaders.Mapped mappedData;
 
     private DataBlockJar(JarLocation location, DataLocator locatorOfData, DataRandomReader reader) throws IOException {
+        this(location, locatorOfData, reader, new Zip(reader));
+    }
+
+    private DataBlockJar(JarLocation location, DataLocator locatorOfData, DataRandomReader reader, Zip cd)
+            throws IOException {
+        this(location, locatorOfData, reader, cd.comment(), cd.size(), cd);
+    }
+
+    private DataBlockJar(JarLocation location, DataLocator locatorOfData, DataRandomReader reader, String comment,
+            int size, Enumerable<Zip.FileHeader> headers) throws IOException {
         this.location = location;
         this.locatorOfData = locatorOfData;
-        Zip cd = new Zip(reader);
-        this.comment = cd.comment();
-        this.entries = new JarEntryCollection(cd.size());
-        Enumerator<Zip.FileHeader> enumerator = cd.enumerator();
+        this.mappedData = reader instanceof DataRandomReaders.Mapped ? (DataRandomReaders.Mapped) reader : null;
+        this.comment = comment;
+        this.entries = new JarEntryCollection(size);
+        Enumerator<Zip.FileHeader> enumerator = headers.enumerator();
         while (enumerator.more()) {
             Zip.FileHeader header = enumerator.next();
             Entry entry = this.new Entry(header);
@@ -85,6 +96,27 @@ final class DataBlockJar implements Jar {
         }
     }
 
+    /**
+     * 使用已经解析的中心目录恢复 JAR，而不再读取数据块中的中心目录。
+     *
+     * @param location 表示 JAR 的位置的 {@link JarLocation}。
+     * @param locatorOfData 表示 JAR 的数据块的定位程序的 {@link DataLocator}。
+     * @param comment 表示 JAR 的备注的 {@link String}。
+     * @param size 表示 JAR 中记录的数量的 32 位整数。
+     * @param headers 表示 JAR 中心目录中的文件头信息的 {@link Enumerable}{@code <}{@link Zip.FileHeader}{@code >}。
+     * @return 表示恢复的 JAR 的 {@link DataBlockJar}。
+     * @throws IOException 当恢复 JAR 过程中发生输入输出异常时。
+     */
+    static DataBlockJar restore(JarLocation location, DataLocator locatorOfData, String comment, int size,
+            Enumerable<Zip.FileHeader> headers) throws IOException {
+        if (!DataRandomReaders.mapped()) {
+            return new DataBlockJar(location, locatorOfData, null, comment, size, headers);
+        }
+        try (DataRandomReader reader = DataRandomReader.from(locatorOfData)) {
+            return new DataBlockJar(location, locatorOfData, reader, comment, size, headers);
+        }
+    }
+
     /**
      * 为 {@link Jar.Entry} 提供基于数据块的实现。
      *
@@ -180,16 +212,8 @@ final class DataBlockJar implements Jar {
 
         @Override
         public InputStream read() throws IOException {
-            // 性能敏感场景，IDEA 提示无情重构为 Files.newInputStream(Path path)，该重构性能劣化严重，禁止该重构。
-            InputStream in = new FileInputStream(DataBlockJar.this.locatorOfData().file());
+            InputStream in = DataBlockJar.this.mappedData == null ? this.openFile() : this.openMapped();
             try {
-                long bytesToSkip = DataBlockJar.this.locatorOfData.offset() + this.offsetOfLocalHeader;
-                long skipped = 0L;
-                while (skipped < bytesToSkip) {
-                    skipped += in.skip(bytesToSkip - skipped);
-                }
-                Zip.skipLocalHeader(in);
-                in = new LimitedInputStream(in, this.sizeOfCompressed());
                 switch (this.methodOfCompression()) {
                     case NONE:
                         return in;
@@ -210,12 +234,41 @@ final class DataBlockJar implements Jar {
             }
         }
 
+        private InputStream openFile() throws IOException {
+            // 性能敏感场景，IDEA 提示无情重构为 Files.newInputStream(Path path)，该重构性能劣化严重，禁止该重构。
+            InputStream in = new FileInputStream(DataBlockJar.this.locatorOfData().file());
+            try {
+                long bytesToSkip = DataBlockJar.this.locatorOfData.offset() + this.offsetOfLocalHeader;
+                long skipped = 0L;
+                while (skipped < bytesToSkip) {
+                    skipped += in.skip(bytesToSkip - skipped);
+                }
+                Zip.skipLocalHeader(in);
+                return new LimitedInputStream(in, this.sizeOfCompressed());
+            } catch (IOException | RuntimeException e) {
+                try {
+                    in.close();
+                } catch (IOException | RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+
+        private InputStream openMapped() throws IOException {
+            DataRandomReaders.Mapped data = DataBlockJar.this.mappedData;
+            long offset = this.offsetOfLocalHeader + Zip.measureLocalHeader(data, this.offsetOfLocalHeader);
+            return data.sub(offset, this.sizeOfCompressed).stream();
+        }
+
         @Override
         public Jar asJar() throws IOException {
             if (this.directory()) {
                 return new NestedDirectoryJar(this);
             } else if (Objects.equals(this.methodOfCompression, CompressionMethod.NONE)) {
-                try (DataRandomReader data = DataRandomReader.from(DataBlockJar.this.locatorOfData)) {
+                try (DataRandomReader data = DataBlockJar.this.mappedData == null
+                        ? DataRandomReader.from(DataBlockJar.this.locatorOfData)
+                        : DataBlockJar.this.mappedData) {
                     long offset = this.offsetOfLocalHeader;
                     offset += Zip.measureLocalHeader(data, offset);
                     long length = this.sizeOfCompressed;
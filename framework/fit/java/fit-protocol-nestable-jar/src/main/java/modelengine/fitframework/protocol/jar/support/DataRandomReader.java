@@ -52,6 +52,6 @@ public interface DataRandomReader extends Closeable {
      * @throws IOException 当创建数据随机读取器过程中发生输入输出异常时。
      */
     static DataRandomReader from(DataLocator locator) throws IOException {
-        return new DataRandomReaders.Default(locator);
+        return DataRandomReaders.create(locator);
     }
 }
@@ -10,7 +10,11 @@ import static modelengine.fitframework.protocol.jar.location.Locations.path;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Locale;
 
 /**
@@ -20,6 +24,41 @@ import java.util.Locale;
  * @since 2023-02-22
  */
 final class DataRandomReaders {
+    /**
+     * 表示选择数据随机读取器实现的系统属性。
+     * <p>当值为 {@code mapped} 时，使用基于内存映射的 {@link Mapped} 实现，否则使用基于 {@link RandomAccessFile} 的
+     * {@link Default} 实现。</p>
+     */
+    static final String MODE_PROPERTY_KEY = "modelengine.fitframework.protocol.jar.reader";
+
+    private static final String MAPPED_MODE = "mapped";
+
+    private DataRandomReaders() {}
+
+    /**
+     * 判断是否使用基于内存映射的数据随机读取器。
+     *
+     * @return 若使用基于内存映射的数据随机读取器，则为 {@code true}，否则为 {@code false}。
+     */
+    static boolean mapped() {
+        return MAPPED_MODE.equalsIgnoreCase(System.getProperty(MODE_PROPERTY_KEY));
+    }
+
+    /**
+     * 从指定数据定位器处获得一个数据随机读取器。
+     *
+     * @param locator 表示指定数据定位器的 {@link DataLocator}。
+     * @return 表示数据随机读取器的 {@link DataRandomReader}。
+     * @throws IOException 当创建数据随机读取器过程中发生输入输出异常时。
+     */
+    static DataRandomReader create(DataLocator locator) throws IOException {
+        if (mapped() && locator.length() <= Integer.MAX_VALUE) {
+            return Mapped.map(locator);
+        } else {
+            return new Default(locator);
+        }
+    }
+
     /**
      * 表示数据块。
      *
@@ -120,4 +159,115 @@ final class DataRandomReaders {
             }
         }
     }
+
+    /**
+     * 表示基于只读内存映射的数据块。
+     * <p>所有读取均使用绝对位置进行，不修改共享的状态，因此可以被多个线程并发使用。子数据块与父数据块共享同一个映射，不复制数据。
+     * 映射在关闭通道后依然有效，并在不再被引用后由垃圾回收释放，因此 {@link #close()} 不需要执行任何操作。</p>
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    static final class Mapped implements DataRandomReader {
+        private final DataLocator locator;
+        private final ByteBuffer buffer;
+
+        private Mapped(DataLocator locator, ByteBuffer buffer) {
+            this.locator = locator;
+            this.buffer = buffer;
+        }
+
+        /**
+         * 将数据定位器所定位的数据映射到内存中。
+         *
+         * @param locator 表示待映射的数据定位器的 {@link DataLocator}。
+         * @return 表示映射后的数据随机读取器的 {@link Mapped}。
+         * @throws IOException 当映射过程中发生输入输出异常时。
+         */
+        static Mapped map(DataLocator locator) throws IOException {
+            try (FileChannel channel = FileChannel.open(locator.file().toPath(), StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, locator.offset(), locator.length());
+                return new Mapped(locator, buffer);
+            }
+        }
+
+        @Override
+        public void close() {}
+
+        @Override
+        public long length() {
+            return this.locator.length();
+        }
+
+        @Override
+        public byte[] read(long position, int length) {
+            Default.validate(position, length, this.locator.length());
+            byte[] bytes = new byte[length];
+            this.buffer.get((int) position, bytes);
+            return bytes;
+        }
+
+        @Override
+        public Mapped sub(long offset, long length) {
+            DataLocator dataLocator = this.locator.sub(offset, length);
+            if (offset == 0L && length == this.locator.length()) {
+                return this;
+            } else {
+                return new Mapped(dataLocator, this.buffer.slice((int) offset, (int) length));
+            }
+        }
+
+        /**
+         * 获取用以顺序读取当前数据块的输入流。
+         *
+         * @return 表示用以读取当前数据块的输入流的 {@link InputStream}。
+         */
+        InputStream stream() {
+            return new ByteBufferInputStream(this.buffer.duplicate());
+        }
+    }
+
+    /**
+     * 表示读取 {@link ByteBuffer} 中数据的输入流。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int actual = Math.min(length, this.buffer.remaining());
+            this.buffer.get(bytes, offset, actual);
+            return actual;
+        }
+
+        @Override
+        public long skip(long n) {
+            int actual = (int) Math.max(0L, Math.min(n, this.buffer.remaining()));
+            this.buffer.position(this.buffer.position() + actual);
+            return actual;
+        }
+
+        @Override
+        public int available() {
+            return this.buffer.remaining();
+        }
+    }
 }
@@ -11,6 +11,7 @@ import modelengine.fitframework.protocol.jar.JarCache;
 import modelengine.fitframework.protocol.jar.JarFormatException;
 import modelengine.fitframework.protocol.jar.JarLocation;
 
+import java.io.File;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.security.Permission;
@@ -18,23 +19,83 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 /**
  * 为 {@link JarCache} 提供默认实现。
+ * <p>默认情况下，缓存的 JAR 仅被弱引用，在不再被使用后由垃圾回收释放。可以通过系统属性调整缓存的行为：</p>
+ * <ul>
+ *     <li>{@value #MODE_PROPERTY_KEY}：当值为 {@code lru} 时，缓存的 JAR 被强引用，并在超出容量时淘汰最久未使用的 JAR；</li>
+ *     <li>{@value #CAPACITY_PROPERTY_KEY}：强引用缓存的容量，默认为 {@value #DEFAULT_CAPACITY}；</li>
+ *     <li>{@value #INDEX_PROPERTY_KEY}：持久化中心目录索引的目录，设置后将从索引中恢复 JAR，避免在每次启动时重新解析中心目录，
+ *     新解析的 JAR 的索引在虚拟机退出时写入该目录。</li>
+ * </ul>
  *
  * @author 梁济时
  * @since 2023-02-21
  */
 public final class DefaultJarCache implements JarCache {
+    /**
+     * 表示选择缓存模式的系统属性。
+     */
+    public static final String MODE_PROPERTY_KEY = "modelengine.fitframework.protocol.jar.cache";
+
+    /**
+     * 表示强引用缓存的容量的系统属性。
+     */
+    public static final String CAPACITY_PROPERTY_KEY = "modelengine.fitframework.protocol.jar.cache.capacity";
+
+    /**
+     * 表示持久化中心目录索引所在目录的系统属性。
+     */
+    public static final String INDEX_PROPERTY_KEY = "modelengine.fitframework.protocol.jar.index";
+
+    private static final String LRU_MODE = "lru";
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final boolean STRONG = LRU_MODE.equalsIgnoreCase(System.getProperty(MODE_PROPERTY_KEY));
+    private static final int CAPACITY = Math.max(Integer.getInteger(CAPACITY_PROPERTY_KEY, DEFAULT_CAPACITY), 1);
+
     /**
      * 表示当前类型的唯一实例。
      */
-    public static final DefaultJarCache INSTANCE = new DefaultJarCache();
+    public static final DefaultJarCache INSTANCE = new DefaultJarCache(STRONG, System.getProperty(INDEX_PROPERTY_KEY));
+
+    private final boolean strong;
+    private final Map<JarLocation, Supplier<CachedJar>> cache;
+    private final File indexDirectory;
+    private final Map<File, JarIndex> indexes;
+    private final AtomicBoolean indexWriterRegistered = new AtomicBoolean();
 
-    private final Map<JarLocation, WeakReference<CachedJar>> cache;
+    private DefaultJarCache(boolean strong, String indexDirectory) {
+        this.strong = strong;
+        this.cache = strong ? LruFilesCache.lru(CAPACITY) : new WeakHashMap<>();
+        if (indexDirectory == null || indexDirectory.isEmpty()) {
+            this.indexDirectory = null;
+            this.indexes = null;
+        } else {
+            this.indexDirectory = new File(indexDirectory);
+            this.indexes = new ConcurrentHashMap<>();
+        }
+    }
 
-    private DefaultJarCache() {
-        this.cache = new WeakHashMap<>();
+    /**
+     * 判断是否启用强引用的缓存。
+     *
+     * @return 若启用强引用的缓存，则为 {@code true}，否则为 {@code false}。
+     */
+    static boolean strong() {
+        return STRONG;
+    }
+
+    /**
+     * 获取强引用缓存的容量。
+     *
+     * @return 表示强引用缓存的容量的 32 位整数。
+     */
+    static int capacity() {
+        return CAPACITY;
     }
 
     @Override
@@ -44,14 +105,12 @@ public final class DefaultJarCache implements JarCache {
 
     private CachedJar getOrLoad(JarLocation location) throws IOException {
         CachedJar jar;
-        WeakReference<CachedJar> ref;
         boolean created = false;
-        if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null) {
+        if ((jar = this.lookup(location)) == null) {
             synchronized (this.cache) {
-                if ((ref = this.cache.get(location)) == null || (jar = ref.get()) == null) {
+                if ((jar = dereference(this.cache.get(location))) == null) {
                     jar = new CachedJar(location);
-                    ref = new WeakReference<>(jar);
-                    this.cache.put(location, ref);
+                    this.cache.put(location, this.reference(jar));
                     created = true;
                 }
             }
@@ -61,13 +120,49 @@ public final class DefaultJarCache implements JarCache {
             synchronized (this.cache) {
                 // 使用归档件中持有的位置信息实例作为键，确保在归档件实例存在时，键具有强引用，避免被释放。
                 this.cache.remove(jar.location());
-                this.cache.put(jar.location(), new WeakReference<>(jar));
+                this.cache.put(jar.location(), this.reference(jar));
             }
         }
         return jar;
     }
 
+    private CachedJar lookup(JarLocation location) {
+        if (this.strong) {
+            // 按照访问顺序淘汰的映射在读取时也会修改内部结构，因此需要同步。
+            synchronized (this.cache) {
+                return dereference(this.cache.get(location));
+            }
+        }
+        return dereference(this.cache.get(location));
+    }
+
+    private Supplier<CachedJar> reference(CachedJar jar) {
+        if (this.strong) {
+            return () -> jar;
+        }
+        return new WeakReference<>(jar)::get;
+    }
+
+    private static CachedJar dereference(Supplier<CachedJar> ref) {
+        return ref == null ? null : ref.get();
+    }
+
     private Jar load(JarLocation location) throws IOException {
+        JarIndex index = this.index(location);
+        if (index != null) {
+            Jar jar = index.restore(location);
+            if (jar != null) {
+                return jar;
+            }
+        }
+        Jar jar = this.parse(location);
+        if (index != null && jar instanceof DataBlockJar) {
+            index.put(location, (DataBlockJar) jar);
+        }
+        return jar;
+    }
+
+    private Jar parse(JarLocation location) throws IOException {
         if (location.nests().isEmpty()) {
             return DataBlockJar.load(location.file());
         }
@@ -82,6 +177,33 @@ public final class DefaultJarCache implements JarCache {
         return entry.asJar();
     }
 
+    private JarIndex index(JarLocation location) {
+        if (this.indexes == null) {
+            return null;
+        }
+        if (this.indexWriterRegistered.compareAndSet(false, true)) {
+            // 仅在首次使用索引时注册写入索引的钩子，避免在加载类时产生副作用。
+            Runtime.getRuntime().addShutdownHook(new Thread(this::saveIndexes, "jar-index-writer"));
+        }
+        // 外层 JAR 文件在进程运行期间可能被替换，每次使用前都需要校验，失效时重新加载。
+        return this.indexes.compute(location.file(), (file, index) -> {
+            if (index != null && index.matches(file)) {
+                return index;
+            }
+            return JarIndex.load(this.indexDirectory, file);
+        });
+    }
+
+    private void saveIndexes() {
+        for (JarIndex index : this.indexes.values()) {
+            try {
+                index.save();
+            } catch (IOException ignored) {
+                // 索引仅用于加速，保存失败时在下次启动时重新解析即可。
+            }
+        }
+    }
+
     private final class CachedJar implements Jar {
         private final JarLocation location;
         private volatile Jar jar;
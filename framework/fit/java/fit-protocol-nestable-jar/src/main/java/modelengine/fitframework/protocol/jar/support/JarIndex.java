@@ -0,0 +1,321 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static modelengine.fitframework.protocol.jar.location.Locations.path;
+
+import modelengine.fitframework.protocol.jar.CompressionMethod;
+import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.protocol.jar.JarLocation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 表示持久化在磁盘上的 JAR 中心目录索引。
+ * <p>每个外层 JAR 文件对应一个索引文件，索引文件中记录了该文件及其中嵌套的 JAR 的数据块位置和所有记录的文件头信息。索引以外层
+ * JAR 文件的路径、大小和上次修改时间作为键，任何一项发生变化时索引即失效，因此嵌套 JAR 无需单独校验。</p>
+ * <p>索引文件通过一次内存映射读取完成加载。加载过程中发现的任何格式问题都会使索引被视为不存在，并在下次保存时被重写。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class JarIndex {
+    private static final int MAGIC = 0x4649544a;
+    private static final int VERSION = 1;
+    private static final String FILE_EXTENSION = ".idx";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private final File indexFile;
+    private final String path;
+    private final long size;
+    private final long lastModified;
+    private final Map<List<String>, Record> records;
+    private volatile boolean dirty;
+
+    private JarIndex(File indexFile, File jarFile) {
+        this.indexFile = indexFile;
+        this.path = path(jarFile);
+        this.size = jarFile.length();
+        this.lastModified = jarFile.lastModified();
+        this.records = new ConcurrentHashMap<>();
+        this.dirty = false;
+    }
+
+    /**
+     * 从指定目录中加载外层 JAR 文件的索引。
+     * <p>当索引文件不存在、格式不正确或已经失效时，返回一个空的索引。</p>
+     *
+     * @param directory 表示索引文件所在目录的 {@link File}。
+     * @param jarFile 表示外层 JAR 文件的 {@link File}。
+     * @return 表示外层 JAR 文件的索引的 {@link JarIndex}。
+     */
+    static JarIndex load(File directory, File jarFile) {
+        String name = jarFile.getName() + '-' + Integer.toHexString(path(jarFile).hashCode()) + FILE_EXTENSION;
+        JarIndex index = new JarIndex(new File(directory, name), jarFile);
+        if (!index.indexFile.isFile()) {
+            return index;
+        }
+        try (FileChannel channel = FileChannel.open(index.indexFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            index.read(buffer);
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException e) {
+            // 索引仅用于加速，无法读取时视为不存在。
+            index.records.clear();
+        }
+        return index;
+    }
+
+    /**
+     * 判断索引是否仍然与外层 JAR 文件一致。
+     * <p>外层 JAR 文件在进程运行期间被替换时，其大小或上次修改时间发生变化，此时索引中记录的数据块位置不再有效。</p>
+     *
+     * @param jarFile 表示外层 JAR 文件的 {@link File}。
+     * @return 若索引与外层 JAR 文件一致，则为 {@code true}，否则为 {@code false}。
+     */
+    boolean matches(File jarFile) {
+        return jarFile.length() == this.size && jarFile.lastModified() == this.lastModified;
+    }
+
+    /**
+     * 使用索引中记录的中心目录恢复指定位置的 JAR。
+     *
+     * @param location 表示 JAR 的位置的 {@link JarLocation}。
+     * @return 若索引中存在该 JAR，则为表示恢复的 JAR 的 {@link DataBlockJar}，否则为 {@code null}。
+     * @throws IOException 当恢复 JAR 过程中发生输入输出异常时。
+     */
+    DataBlockJar restore(JarLocation location) throws IOException {
+        Record record = this.records.get(location.nests());
+        if (record == null) {
+            return null;
+        }
+        DataLocator locator = DataLocator.of(location.file()).sub(record.offset, record.length);
+        return DataBlockJar.restore(location, locator, record.comment, record.headers.size(), record);
+    }
+
+    /**
+     * 将指定位置的 JAR 的中心目录记录到索引中。
+     *
+     * @param location 表示 JAR 的位置的 {@link JarLocation}。
+     * @param jar 表示 JAR 的 {@link DataBlockJar}。
+     */
+    void put(JarLocation location, DataBlockJar jar) {
+        if (this.records.putIfAbsent(location.nests(), Record.of(jar)) == null) {
+            this.dirty = true;
+        }
+    }
+
+    /**
+     * 当索引中存在尚未保存的记录时，将索引保存到磁盘。
+     * <p>索引首先写入临时文件，再替换原有的索引文件，以避免其他进程读取到不完整的索引。</p>
+     *
+     * @throws IOException 当保存索引过程中发生输入输出异常时。
+     */
+    void save() throws IOException {
+        if (!this.dirty) {
+            return;
+        }
+        this.dirty = false;
+        Path target = this.indexFile.toPath();
+        Files.createDirectories(target.getParent());
+        Path temporary = Files.createTempFile(target.getParent(), this.indexFile.getName(), TEMPORARY_FILE_EXTENSION);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                    temporary)))) {
+                this.write(out);
+            }
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void read(ByteBuffer buffer) {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION || !this.path.equals(readString(buffer))
+                || buffer.getLong() != this.size || buffer.getLong() != this.lastModified) {
+            return;
+        }
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            int depth = buffer.getInt();
+            List<String> nests = new ArrayList<>(depth);
+            for (int j = 0; j < depth; j++) {
+                nests.add(readString(buffer));
+            }
+            this.records.put(Collections.unmodifiableList(nests), Record.read(buffer));
+        }
+    }
+
+    private void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeString(out, this.path);
+        out.writeLong(this.size);
+        out.writeLong(this.lastModified);
+        List<Map.Entry<List<String>, Record>> entries = new ArrayList<>(this.records.entrySet());
+        out.writeInt(entries.size());
+        for (Map.Entry<List<String>, Record> entry : entries) {
+            out.writeInt(entry.getKey().size());
+            for (String nest : entry.getKey()) {
+                writeString(out, nest);
+            }
+            entry.getValue().write(out);
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        return new String(readBytes(buffer), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "Bad length of bytes in JAR index. [length=%d, remaining=%d]",
+                    length,
+                    buffer.remaining()));
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * 表示索引中一个 JAR 的记录。
+     *
+     * @author agent
+     * @since 2026-10-17
+     */
+    private static final class Record implements Enumerable<Zip.FileHeader> {
+        private final long offset;
+        private final long length;
+        private final String comment;
+        private final List<Zip.FileHeader> headers;
+
+        private Record(long offset, long length, String comment, List<Zip.FileHeader> headers) {
+            this.offset = offset;
+            this.length = length;
+            this.comment = comment;
+            this.headers = headers;
+        }
+
+        private static Record of(DataBlockJar jar) {
+            List<Zip.FileHeader> headers = new ArrayList<>(jar.entries().size());
+            for (Jar.Entry entry : jar.entries()) {
+                CompressionMethod method = entry.methodOfCompression();
+                headers.add(new Zip.FileHeader(entry.sizeOfCompressed(),
+                        entry.sizeOfUncompressed(),
+                        entry.offsetOfLocalHeader(),
+                        method == null ? -1 : method.id(),
+                        entry.crc32(),
+                        entry.timeOfLastModification(),
+                        entry.name(),
+                        entry.extra(),
+                        entry.comment(),
+                        0));
+            }
+            DataLocator locator = jar.locatorOfData();
+            return new Record(locator.offset(), locator.length(), jar.comment(), headers);
+        }
+
+        private static Record read(ByteBuffer buffer) {
+            long offset = buffer.getLong();
+            long length = buffer.getLong();
+            String comment = readString(buffer);
+            int count = buffer.getInt();
+            List<Zip.FileHeader> headers = new ArrayList<>(Math.min(count, buffer.remaining()));
+            for (int i = 0; i < count; i++) {
+                String name = readString(buffer);
+                int method = buffer.getInt();
+                int crc32 = buffer.getInt();
+                long sizeOfCompressed = buffer.getLong();
+                long sizeOfUncompressed = buffer.getLong();
+                Date timeOfLastModification = new Date(buffer.getLong());
+                byte[] extra = readBytes(buffer);
+                String entryComment = readString(buffer);
+                long offsetOfLocalHeader = buffer.getLong();
+                headers.add(new Zip.FileHeader(sizeOfCompressed,
+                        sizeOfUncompressed,
+                        offsetOfLocalHeader,
+                        method,
+                        crc32,
+                        timeOfLastModification,
+                        name,
+                        extra,
+                        entryComment,
+                        0));
+            }
+            return new Record(offset, length, comment, headers);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeLong(this.offset);
+            out.writeLong(this.length);
+            writeString(out, this.comment);
+            out.writeInt(this.headers.size());
+            for (Zip.FileHeader header : this.headers) {
+                writeString(out, header.filename());
+                out.writeInt(header.methodOfCompression());
+                out.writeInt(header.crc32());
+                out.writeLong(header.sizeOfCompressed());
+                out.writeLong(header.sizeOfUncompressed());
+                out.writeLong(header.timeOfLastModification().getTime());
+                writeBytes(out, header.extra());
+                writeString(out, header.comment());
+                out.writeLong(header.offsetOfLocalHeader());
+            }
+        }
+
+        @Override
+        public Enumerator<Zip.FileHeader> enumerator() {
+            return new Enumerator<Zip.FileHeader>() {
+                private int index = 0;
+
+                @Override
+                public boolean more() {
+                    return this.index < Record.this.headers.size();
+                }
+
+                @Override
+                public Zip.FileHeader next() {
+                    return Record.this.headers.get(this.index++);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static modelengine.fitframework.protocol.jar.location.Locations.path;
+
+import modelengine.fitframework.protocol.jar.FilesCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 表示强引用且容量有限的文件缓存器实现。
+ * <p>与 {@link WeakHashMapFilesCache} 不同，缓存的结果不会因垃圾回收而丢失，仅在超出容量时淘汰最久未使用的记录。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class LruFilesCache implements FilesCache {
+    /**
+     * 表示当前类型的唯一实例。
+     */
+    public static final LruFilesCache INSTANCE = new LruFilesCache(DefaultJarCache.capacity());
+
+    private final Map<String, File> cache;
+
+    private LruFilesCache(int capacity) {
+        this.cache = lru(capacity);
+    }
+
+    /**
+     * 判断是否启用强引用的缓存。
+     *
+     * @return 若启用强引用的缓存，则为 {@code true}，否则为 {@code false}。
+     */
+    public static boolean enabled() {
+        return DefaultJarCache.strong();
+    }
+
+    @Override
+    public File getCanonicalFile(File file) {
+        String key = file.getAbsolutePath();
+        File cachedFile;
+        synchronized (this.cache) {
+            cachedFile = this.cache.get(key);
+        }
+        if (cachedFile != null) {
+            return cachedFile;
+        }
+        try {
+            cachedFile = file.getCanonicalFile();
+        } catch (IOException e) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "The file of JAR location is not canonical. [path=%s]",
+                    path(file)));
+        }
+        synchronized (this.cache) {
+            this.cache.put(key, cachedFile);
+        }
+        return cachedFile;
+    }
+
+    /**
+     * 创建一个按照访问顺序淘汰记录的映射。
+     * <p>返回的映射不是线程安全的，调用方需要自行同步。</p>
+     *
+     * @param capacity 表示映射中最多保留的记录数量的 32 位整数。
+     * @param <K> 表示键的类型的 {@link K}。
+     * @param <V> 表示值的类型的 {@link V}。
+     * @return 表示创建的映射的 {@link Map}{@code <}{@link K}{@code , }{@link V}{@code >}。
+     */
+    static <K, V> Map<K, V> lru(int capacity) {
+        return new LinkedHashMap<K, V>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return this.size() > capacity;
+            }
+        };
+    }
+}
@@ -0,0 +1,154 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.protocol.jar.Jar;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * {@link DataRandomReaders} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 DataRandomReaders")
+class DataRandomReadersTest {
+    private static final String NESTED_JAR_ENTRY_NAME = "FIT-INF/lib/nested.jar";
+    private static final Map<String, byte[]> CONTENTS = new LinkedHashMap<>();
+
+    private static File jarFile;
+
+    @BeforeAll
+    static void setupAll() throws IOException {
+        for (int i = 0; i < 16; i++) {
+            String content = ("content-" + i + "-").repeat(i * 64 + 1);
+            CONTENTS.put("modelengine/test/Entry" + i + ".class", content.getBytes(StandardCharsets.UTF_8));
+        }
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(nested)) {
+            for (Map.Entry<String, byte[]> entry : CONTENTS.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue());
+                zip.closeEntry();
+            }
+        }
+        jarFile = Files.createTempFile("DataRandomReaders-", ".jar").toFile();
+        try (OutputStream out = Files.newOutputStream(jarFile.toPath());
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            byte[] bytes = nested.toByteArray();
+            CRC32 crc32 = new CRC32();
+            crc32.update(bytes);
+            ZipEntry entry = new ZipEntry(NESTED_JAR_ENTRY_NAME);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setCrc(crc32.getValue());
+            entry.setCompressedSize(bytes.length);
+            entry.setSize(bytes.length);
+            zip.putNextEntry(entry);
+            zip.write(bytes);
+            zip.closeEntry();
+        }
+    }
+
+    @AfterAll
+    static void teardownAll() throws IOException {
+        Files.delete(jarFile.toPath());
+    }
+
+    @AfterEach
+    void teardown() {
+        System.clearProperty(DataRandomReaders.MODE_PROPERTY_KEY);
+    }
+
+    @Test
+    @DisplayName("未指定模式时，使用基于 RandomAccessFile 的实现")
+    void shouldUseDefaultReaderByDefault() throws IOException {
+        try (DataRandomReader reader = DataRandomReader.from(DataLocator.of(jarFile))) {
+            assertThat(reader).isInstanceOf(DataRandomReaders.Default.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("使用内存映射模式")
+    class Mapped {
+        @Test
+        @DisplayName("子数据块读取的数据与父数据块中对应位置的数据相同")
+        void shouldReadSameDataFromSubsection() throws IOException {
+            System.setProperty(DataRandomReaders.MODE_PROPERTY_KEY, "mapped");
+            try (DataRandomReader reader = DataRandomReader.from(DataLocator.of(jarFile))) {
+                assertThat(reader).isInstanceOf(DataRandomReaders.Mapped.class);
+                DataRandomReader sub = reader.sub(10, 20);
+                assertThat(sub.length()).isEqualTo(20);
+                assertThat(sub.read(5, 10)).isEqualTo(reader.read(15, 10));
+            }
+        }
+
+        @Test
+        @DisplayName("读取嵌套 JAR 中的条目，内容与写入的内容相同")
+        void shouldReadNestedEntries() throws IOException {
+            System.setProperty(DataRandomReaders.MODE_PROPERTY_KEY, "mapped");
+            Jar nested = DataBlockJar.load(jarFile).entries().get(NESTED_JAR_ENTRY_NAME).asJar();
+            for (Map.Entry<String, byte[]> expected : CONTENTS.entrySet()) {
+                assertThat(content(nested.entries().get(expected.getKey()))).isEqualTo(expected.getValue());
+            }
+        }
+
+        @Test
+        @DisplayName("并发读取嵌套 JAR 中的条目，内容与写入的内容相同")
+        void shouldReadNestedEntriesConcurrently() throws Exception {
+            System.setProperty(DataRandomReaders.MODE_PROPERTY_KEY, "mapped");
+            Jar nested = DataBlockJar.load(jarFile).entries().get(NESTED_JAR_ENTRY_NAME).asJar();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<Boolean>> futures = new ArrayList<>();
+                for (int i = 0; i < 64; i++) {
+                    for (Map.Entry<String, byte[]> expected : CONTENTS.entrySet()) {
+                        futures.add(executor.submit(() -> Arrays.equals(expected.getValue(),
+                                content(nested.entries().get(expected.getKey())))));
+                    }
+                }
+                for (Future<Boolean> future : futures) {
+                    assertThat(future.get()).isTrue();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    private static byte[] content(Jar.Entry entry) throws IOException {
+        try (InputStream in = entry.read()) {
+            return in.readAllBytes();
+        }
+    }
+}
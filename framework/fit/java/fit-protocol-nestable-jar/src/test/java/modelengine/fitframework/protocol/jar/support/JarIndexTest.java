@@ -0,0 +1,136 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.protocol.jar.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.protocol.jar.Jar;
+import modelengine.fitframework.protocol.jar.JarLocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * {@link JarIndex} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 JarIndex")
+class JarIndexTest {
+    private static final String NESTED_JAR_ENTRY_NAME = "FIT-INF/lib/nested.jar";
+    private static final String ENTRY_NAME = "modelengine/test/Entry.class";
+    private static final byte[] CONTENT = "content".repeat(64).getBytes(StandardCharsets.UTF_8);
+
+    private File directory;
+    private File jarFile;
+    private JarLocation nestedLocation;
+
+    @BeforeEach
+    void setup() throws IOException {
+        this.directory = Files.createTempDirectory("JarIndex-").toFile();
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(nested)) {
+            zip.putNextEntry(new ZipEntry(ENTRY_NAME));
+            zip.write(CONTENT);
+            zip.closeEntry();
+        }
+        this.jarFile = Files.createTempFile("JarIndex-", ".jar").toFile();
+        try (OutputStream out = Files.newOutputStream(this.jarFile.toPath());
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            byte[] bytes = nested.toByteArray();
+            CRC32 crc32 = new CRC32();
+            crc32.update(bytes);
+            ZipEntry entry = new ZipEntry(NESTED_JAR_ENTRY_NAME);
+            entry.setMethod(ZipEntry.STORED);
+            entry.setCrc(crc32.getValue());
+            entry.setCompressedSize(bytes.length);
+            entry.setSize(bytes.length);
+            zip.putNextEntry(entry);
+            zip.write(bytes);
+            zip.closeEntry();
+        }
+        this.nestedLocation = JarLocation.custom()
+                .file(this.jarFile)
+                .nests(Collections.singletonList(NESTED_JAR_ENTRY_NAME))
+                .build();
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        Files.deleteIfExists(this.jarFile.toPath());
+        File[] files = this.directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+        Files.deleteIfExists(this.directory.toPath());
+    }
+
+    @Test
+    @DisplayName("保存后重新加载索引，可以恢复嵌套 JAR 的所有记录")
+    void shouldRestoreNestedJarFromSavedIndex() throws IOException {
+        JarIndex index = JarIndex.load(this.directory, this.jarFile);
+        assertThat(index.restore(this.nestedLocation)).isNull();
+        DataBlockJar nested = (DataBlockJar) DataBlockJar.load(this.jarFile)
+                .entries()
+                .get(NESTED_JAR_ENTRY_NAME)
+                .asJar();
+        index.put(this.nestedLocation, nested);
+        index.save();
+
+        DataBlockJar restored = JarIndex.load(this.directory, this.jarFile).restore(this.nestedLocation);
+        assertThat(restored).isNotNull();
+        assertThat(restored.location()).isEqualTo(this.nestedLocation);
+        assertThat(restored.locatorOfData()).isEqualTo(nested.locatorOfData());
+        Jar.Entry expected = nested.entries().get(ENTRY_NAME);
+        Jar.Entry actual = restored.entries().get(ENTRY_NAME);
+        assertThat(actual.crc32()).isEqualTo(expected.crc32());
+        assertThat(actual.offsetOfLocalHeader()).isEqualTo(expected.offsetOfLocalHeader());
+        assertThat(actual.timeOfLastModification()).isEqualTo(expected.timeOfLastModification());
+        try (InputStream in = actual.read()) {
+            assertThat(in.readAllBytes()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    @DisplayName("外层 JAR 文件被修改后，索引失效")
+    void shouldIgnoreIndexWhenJarFileChanged() throws IOException {
+        JarIndex index = JarIndex.load(this.directory, this.jarFile);
+        index.put(this.nestedLocation,
+                (DataBlockJar) DataBlockJar.load(this.jarFile).entries().get(NESTED_JAR_ENTRY_NAME).asJar());
+        index.save();
+        assertThat(this.jarFile.setLastModified(this.jarFile.lastModified() + 2000L)).isTrue();
+
+        assertThat(JarIndex.load(this.directory, this.jarFile).restore(this.nestedLocation)).isNull();
+    }
+
+    @Test
+    @DisplayName("已加载的索引在外层 JAR 文件被修改后不再匹配")
+    void shouldNotMatchWhenJarFileChangedAfterLoad() {
+        JarIndex index = JarIndex.load(this.directory, this.jarFile);
+        assertThat(index.matches(this.jarFile)).isTrue();
+        assertThat(this.jarFile.setLastModified(this.jarFile.lastModified() + 2000L)).isTrue();
+
+        assertThat(index.matches(this.jarFile)).isFalse();
+    }
+}
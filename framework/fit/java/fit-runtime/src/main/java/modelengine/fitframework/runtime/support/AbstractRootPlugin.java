@@ -81,6 +81,7 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
     private static final String GENERICABLE_FILTER_MANAGER_NAME = "genericableServerFilterManager";
     private static final int LEVEL_MAX = 7;
     private static final int LEVEL_MIN = 1;
+    private static final String STARTUP_PARALLELISM_KEY = "fit.plugins.startup.parallelism";
 
     private MatataConfig matata;
     private WorkerConfig worker;
@@ -131,7 +132,8 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
         TargetLocator targetLocator =
                 new DefaultTargetLocator(this.container(), this.worker, this.matata.registry().availableServices());
         this.container().registry().register(targetLocator, TARGET_LOCATOR_BEAN_NAME);
-        LoadBalancer loadBalancer = new DefaultLoadBalancer(this.container(), serializationService, targetLocator);
+        LoadBalancer loadBalancer =
+                new DefaultLoadBalancer(this.container(), serializationService, targetLocator, this.config());
         this.container().registry().register(loadBalancer, LOAD_BALANCER_BEAN_BANE);
         FitExceptionCreator exceptionCreator = new DefaultFitExceptionCreator(this.container());
         this.container().registry().register(exceptionCreator, FIT_EXCEPTION_CREATOR_BEAN_NAME);
@@ -169,13 +171,28 @@ public abstract class AbstractRootPlugin extends AbstractPlugin implements RootP
         this.obtainChildrenForStartup(PluginCategory.SYSTEM).forEach(Plugin::start);
         super.onStarted();
         List<Plugin> userPlugins = this.obtainChildrenForStartup(PluginCategory.USER);
-        for (int level = LEVEL_MIN; level <= LEVEL_MAX; level++) {
-            List<Plugin> levelPlugins = this.obtainPluginsByLevel(userPlugins, level);
-            levelPlugins.forEach(Plugin::initialize);
-            levelPlugins.forEach(Plugin::start);
+        int parallelism = this.startupParallelism();
+        log.debug("Start user plugins. [total={}, parallelism={}]", userPlugins.size(), parallelism);
+        try (PluginStartupExecutor executor =
+                new PluginStartupExecutor(this.runtime().publisherOfEvents(), parallelism)) {
+            for (int level = LEVEL_MIN; level <= LEVEL_MAX; level++) {
+                executor.startup(this.obtainPluginsByLevel(userPlugins, level));
+            }
         }
     }
 
+    /**
+     * 获取同一启动级别中并行初始化和启动用户插件的最大数量。
+     * <p>默认为 {@code 1}，即依次初始化和启动。开启并行启动时，同一级别的插件的初始化与启动过程以及插件的观察者需要是线程安全的。
+     * </p>
+     *
+     * @return 表示最大并行数量的 {@code int}。
+     */
+    private int startupParallelism() {
+        Integer parallelism = this.config().get(STARTUP_PARALLELISM_KEY, Integer.class);
+        return parallelism == null ? 1 : Math.max(parallelism, 1);
+    }
+
     private List<Plugin> obtainPluginsByLevel(List<Plugin> plugins, int level) {
         return plugins.stream()
                 .filter(userPlugin -> userPlugin.metadata().level() == level)
@@ -6,6 +6,8 @@
 
 package modelengine.fitframework.runtime.support;
 
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedEvent;
 import modelengine.fitframework.runtime.FitRuntime;
 import modelengine.fitframework.runtime.FitRuntimeFailedEvent;
 import modelengine.fitframework.runtime.FitRuntimePreparedEvent;
@@ -82,6 +84,33 @@ final class Events {
         }
     }
 
+    private static final class PluginStarted implements PluginStartedEvent {
+        private final Plugin plugin;
+        private final Duration initializationDuration;
+        private final Duration startDuration;
+
+        private PluginStarted(Plugin plugin, Duration initializationDuration, Duration startDuration) {
+            this.plugin = plugin;
+            this.initializationDuration = initializationDuration;
+            this.startDuration = startDuration;
+        }
+
+        @Override
+        public Plugin plugin() {
+            return this.plugin;
+        }
+
+        @Override
+        public Duration initializationDuration() {
+            return this.initializationDuration;
+        }
+
+        @Override
+        public Duration startDuration() {
+            return this.startDuration;
+        }
+    }
+
     /**
      * 获取 FIT 运行时环境已准备就绪的事件。
      *
@@ -114,4 +143,16 @@ final class Events {
     static FitRuntimeFailedEvent failed(FitRuntime runtime, Throwable cause) {
         return new Failed(runtime, cause);
     }
+
+    /**
+     * 获取插件已启动的事件。
+     *
+     * @param plugin 表示已启动的插件的 {@link Plugin}。
+     * @param initializationDuration 表示初始化插件所花费的时间的 {@link Duration}。
+     * @param startDuration 表示启动插件所花费的时间的 {@link Duration}。
+     * @return 表示插件已启动的事件的 {@link PluginStartedEvent}。
+     */
+    static PluginStartedEvent pluginStarted(Plugin plugin, Duration initializationDuration, Duration startDuration) {
+        return new PluginStarted(plugin, initializationDuration, startDuration);
+    }
 }
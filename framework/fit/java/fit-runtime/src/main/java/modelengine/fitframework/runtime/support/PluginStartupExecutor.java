@@ -0,0 +1,142 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.runtime.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.event.EventPublisher;
+import modelengine.fitframework.plugin.Plugin;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 为同一启动级别的用户插件提供初始化和启动的执行程序。
+ * <p>同一级别的插件先全部完成初始化，再全部完成启动，两个阶段之间以及不同级别之间均存在屏障。当并行度大于 1 时，同一阶段中的插件在
+ * 有界的线程池中并发执行；否则按照给定的顺序依次执行。</p>
+ * <p>当同一阶段中有多个插件失败时，总是抛出排在最前面的插件的异常，其余插件的异常作为被抑制的异常附加在其上，因此错误报告与并发
+ * 调度的顺序无关。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class PluginStartupExecutor implements AutoCloseable {
+    private static final String THREAD_NAME_PREFIX = "plugin-startup-";
+
+    private final EventPublisher publisher;
+    private final int parallelism;
+    private ExecutorService executor;
+
+    /**
+     * 使用事件发布程序和并行度初始化 {@link PluginStartupExecutor} 类的新实例。
+     *
+     * @param publisher 表示用以发布插件启动耗时的事件发布程序的 {@link EventPublisher}。
+     * @param parallelism 表示同一阶段中并发执行的插件的最大数量的 {@code int}。
+     * @throws IllegalArgumentException 当 {@code publisher} 为 {@code null} 时。
+     */
+    PluginStartupExecutor(EventPublisher publisher, int parallelism) {
+        this.publisher = notNull(publisher, "The event publisher cannot be null.");
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+    /**
+     * 初始化并启动同一级别的插件。
+     *
+     * @param plugins 表示按照启动顺序排列的同一级别的插件的 {@link List}{@code <}{@link Plugin}{@code >}。
+     */
+    void startup(List<Plugin> plugins) {
+        if (plugins.isEmpty()) {
+            return;
+        }
+        long[] initializationNanos = this.run(plugins, Plugin::initialize);
+        long[] startNanos = this.run(plugins, Plugin::start);
+        for (int i = 0; i < plugins.size(); i++) {
+            this.publisher.publishEvent(Events.pluginStarted(plugins.get(i),
+                    Duration.ofNanos(initializationNanos[i]),
+                    Duration.ofNanos(startNanos[i])));
+        }
+    }
+
+    private long[] run(List<Plugin> plugins, Consumer<Plugin> action) {
+        long[] durations = new long[plugins.size()];
+        Throwable[] failures = new Throwable[plugins.size()];
+        if (this.parallelism < 2 || plugins.size() < 2) {
+            for (int i = 0; i < plugins.size(); i++) {
+                long startTime = System.nanoTime();
+                action.accept(plugins.get(i));
+                durations[i] = System.nanoTime() - startTime;
+            }
+            return durations;
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(plugins.size());
+        for (int i = 0; i < plugins.size(); i++) {
+            int index = i;
+            futures.add(CompletableFuture.runAsync(() -> {
+                long startTime = System.nanoTime();
+                try {
+                    action.accept(plugins.get(index));
+                } catch (Throwable cause) {
+                    failures[index] = cause;
+                } finally {
+                    durations[index] = System.nanoTime() - startTime;
+                }
+            }, this.executor()));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        rethrow(failures);
+        return durations;
+    }
+
+    private static void rethrow(Throwable[] failures) {
+        Throwable first = null;
+        for (Throwable failure : failures) {
+            if (failure == null) {
+                continue;
+            }
+            if (first == null) {
+                first = failure;
+            } else {
+                first.addSuppressed(failure);
+            }
+        }
+        if (first instanceof RuntimeException) {
+            throw (RuntimeException) first;
+        } else if (first instanceof Error) {
+            throw (Error) first;
+        } else if (first != null) {
+            throw new IllegalStateException("Failed to start plugin.", first);
+        }
+    }
+
+    private ExecutorService executor() {
+        if (this.executor == null) {
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            this.executor = Executors.newFixedThreadPool(this.parallelism, threadFactory);
+        }
+        return this.executor;
+    }
+
+    @Override
+    public void close() {
+        if (this.executor != null) {
+            this.executor.shutdown();
+            this.executor = null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.runtime.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import modelengine.fitframework.event.EventPublisher;
+import modelengine.fitframework.plugin.Plugin;
+import modelengine.fitframework.plugin.PluginStartedEvent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PluginStartupExecutor} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 PluginStartupExecutor")
+class PluginStartupExecutorTest {
+    private final EventPublisher publisher = mock(EventPublisher.class);
+
+    @Nested
+    @DisplayName("依次启动")
+    class Serial {
+        @Test
+        @DisplayName("先初始化所有插件，再启动所有插件")
+        void shouldInitializeAllBeforeStart() {
+            List<String> steps = Collections.synchronizedList(new ArrayList<>());
+            Plugin first = plugin("first", steps);
+            Plugin second = plugin("second", steps);
+            try (PluginStartupExecutor executor = new PluginStartupExecutor(PluginStartupExecutorTest.this.publisher,
+                    1)) {
+                executor.startup(Arrays.asList(first, second));
+            }
+            assertThat(steps).containsExactly("initialize:first",
+                    "initialize:second",
+                    "start:first",
+                    "start:second");
+            verify(PluginStartupExecutorTest.this.publisher, times(2)).publishEvent(any(PluginStartedEvent.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("并行启动")
+    class Parallel {
+        @Test
+        @DisplayName("同一级别的插件并发初始化")
+        void shouldInitializeConcurrently() {
+            CountDownLatch latch = new CountDownLatch(2);
+            Plugin first = awaiting(latch);
+            Plugin second = awaiting(latch);
+            try (PluginStartupExecutor executor = new PluginStartupExecutor(PluginStartupExecutorTest.this.publisher,
+                    2)) {
+                executor.startup(Arrays.asList(first, second));
+            }
+            assertThat(latch.getCount()).isZero();
+            verify(first).start();
+            verify(second).start();
+        }
+
+        @Test
+        @DisplayName("多个插件初始化失败时，抛出排在最前面的插件的异常，且不启动任何插件")
+        void shouldThrowFirstFailureInOrder() {
+            Plugin first = mock(Plugin.class);
+            Plugin second = mock(Plugin.class);
+            Plugin third = mock(Plugin.class);
+            IllegalStateException firstCause = new IllegalStateException("first");
+            IllegalStateException thirdCause = new IllegalStateException("third");
+            doThrow(firstCause).when(first).initialize();
+            doThrow(thirdCause).when(third).initialize();
+            IllegalStateException cause;
+            try (PluginStartupExecutor executor = new PluginStartupExecutor(PluginStartupExecutorTest.this.publisher,
+                    3)) {
+                cause = catchThrowableOfType(IllegalStateException.class,
+                        () -> executor.startup(Arrays.asList(first, second, third)));
+            }
+            assertThat(cause).isSameAs(firstCause);
+            assertThat(cause.getSuppressed()).containsExactly(thirdCause);
+            verify(second, never()).start();
+            verify(PluginStartupExecutorTest.this.publisher, never()).publishEvent(any());
+        }
+    }
+
+    private static Plugin plugin(String name, List<String> steps) {
+        Plugin plugin = mock(Plugin.class);
+        doAnswer(invocation -> steps.add("initialize:" + name)).when(plugin).initialize();
+        doAnswer(invocation -> steps.add("start:" + name)).when(plugin).start();
+        return plugin;
+    }
+
+    private static Plugin awaiting(CountDownLatch latch) {
+        Plugin plugin = mock(Plugin.class);
+        doAnswer(invocation -> {
+            latch.countDown();
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(plugin).initialize();
+        return plugin;
+    }
+}
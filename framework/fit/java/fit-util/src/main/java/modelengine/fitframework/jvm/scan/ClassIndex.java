@@ -0,0 +1,72 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan;
+
+import modelengine.fitframework.jvm.scan.support.DefaultClassIndex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 表示在构建时生成的候选类型索引。
+ * <p>索引中记录了归档件中所有可能被注册为 Bean 的类型的名称，运行时可以据此直接加载这些类型，而无需枚举并加载包中的每一个类型。
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface ClassIndex {
+    /** 表示索引在归档件中的条目名称的 {@link String}。 */
+    String ENTRY_NAME = "FIT-INF/beans.idx";
+
+    /**
+     * 获取索引中所有的类型名称。
+     *
+     * @return 表示按字典序排列的类型名称的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    List<String> classNames();
+
+    /**
+     * 获取指定包及其子包中的类型名称。
+     *
+     * @param basePackage 表示包名的 {@link String}。
+     * @return 表示包中类型名称的 {@link List}{@code <}{@link String}{@code >}。
+     */
+    List<String> classNames(String basePackage);
+
+    /**
+     * 将索引写入到指定的输出流中。
+     *
+     * @param out 表示待写入的输出流的 {@link OutputStream}。
+     * @throws IOException 当写入过程中发生输入输出异常时。
+     */
+    void write(OutputStream out) throws IOException;
+
+    /**
+     * 使用指定的类型名称创建索引。
+     *
+     * @param classNames 表示类型名称的 {@link Collection}{@code <}{@link String}{@code >}。
+     * @return 表示创建出来的索引的 {@link ClassIndex}。
+     */
+    static ClassIndex create(Collection<String> classNames) {
+        return new DefaultClassIndex(classNames);
+    }
+
+    /**
+     * 从指定的输入流中读取索引。
+     *
+     * @param in 表示包含索引内容的输入流的 {@link InputStream}。
+     * @return 若索引的格式可以被识别，则为读取到的 {@link ClassIndex}，否则为 {@code null}。
+     * @throws IOException 当读取过程中发生输入输出异常时。
+     */
+    static ClassIndex read(InputStream in) throws IOException {
+        return DefaultClassIndex.read(in);
+    }
+}
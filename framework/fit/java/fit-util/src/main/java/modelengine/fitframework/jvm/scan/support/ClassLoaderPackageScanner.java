@@ -7,6 +7,7 @@
 package modelengine.fitframework.jvm.scan.support;
 
 import modelengine.fitframework.jvm.classfile.ClassFile;
+import modelengine.fitframework.jvm.scan.ClassIndex;
 import modelengine.fitframework.jvm.scan.PackageScanner;
 import modelengine.fitframework.protocol.jar.Jar;
 import modelengine.fitframework.protocol.jar.JarEntryLocation;
@@ -18,12 +19,16 @@ import modelengine.fitframework.util.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -37,6 +42,8 @@ public class ClassLoaderPackageScanner implements PackageScanner {
     private final ClassLoader loader;
     private final Callback callback;
     private final Set<String> scannedClassNames;
+    private final boolean indexed;
+    private final Map<JarLocation, Optional<ClassIndex>> indexes;
 
     /**
      * 使用指定的类加载器和回调函数来初始化 {@link ClassLoaderPackageScanner} 的新实例。
@@ -45,9 +52,24 @@ public class ClassLoaderPackageScanner implements PackageScanner {
      * @param callback 表示扫描回调函数的 {@link Callback}。
      */
     public ClassLoaderPackageScanner(ClassLoader loader, Callback callback) {
+        this(loader, callback, false);
+    }
+
+    /**
+     * 使用指定的类加载器、回调函数和是否使用构建时索引的标志来初始化 {@link ClassLoaderPackageScanner} 的新实例。
+     * <p>当使用构建时索引时，对于包含 {@link ClassIndex#ENTRY_NAME} 的归档件，仅加载索引中记录的类型，其余归档件和目录仍然
+     * 逐个枚举类型。</p>
+     *
+     * @param loader 表示类加载器的 {@link ClassLoader}。
+     * @param callback 表示扫描回调函数的 {@link Callback}。
+     * @param indexed 若需要使用构建时索引，则为 {@code true}，否则为 {@code false}。
+     */
+    public ClassLoaderPackageScanner(ClassLoader loader, Callback callback, boolean indexed) {
         this.loader = loader;
         this.callback = callback;
         this.scannedClassNames = new HashSet<>();
+        this.indexed = indexed;
+        this.indexes = new HashMap<>();
     }
 
     @Override
@@ -116,7 +138,13 @@ public class ClassLoaderPackageScanner implements PackageScanner {
                 }
                 this.scanClassesInDirectory(basePackage, directory);
             } else {
-                JarLocation location = JarEntryLocation.parse(resourceUrl).asJar();
+                JarEntryLocation entryLocation = JarEntryLocation.parse(resourceUrl);
+                Optional<ClassIndex> index = this.index(entryLocation.jar());
+                if (index.isPresent()) {
+                    index.get().classNames(basePackage).forEach(this::notifyClassScanned);
+                    continue;
+                }
+                JarLocation location = entryLocation.asJar();
                 Jar jar;
                 try {
                     jar = Jar.from(location);
@@ -130,6 +158,28 @@ public class ClassLoaderPackageScanner implements PackageScanner {
         }
     }
 
+    private Optional<ClassIndex> index(JarLocation location) {
+        if (!this.indexed) {
+            return Optional.empty();
+        }
+        return this.indexes.computeIfAbsent(location, ClassLoaderPackageScanner::loadIndex);
+    }
+
+    private static Optional<ClassIndex> loadIndex(JarLocation location) {
+        try {
+            Jar.Entry entry = Jar.from(location).entries().get(ClassIndex.ENTRY_NAME);
+            if (entry == null) {
+                return Optional.empty();
+            }
+            try (InputStream in = entry.read()) {
+                return Optional.ofNullable(ClassIndex.read(in));
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException(StringUtils.format("Failed to load class index. [location={0}]",
+                    location), ex);
+        }
+    }
+
     /**
      * 获取包路径下的所有指定名字的资源。
      *
@@ -184,7 +234,10 @@ public class ClassLoaderPackageScanner implements PackageScanner {
     }
 
     private void notifyClassScanned(String basePackage, String resourceName) {
-        String className = toClassName(basePackage, resourceName);
+        this.notifyClassScanned(toClassName(basePackage, resourceName));
+    }
+
+    private void notifyClassScanned(String className) {
         if (this.scannedClassNames.contains(className)) {
             return;
         }
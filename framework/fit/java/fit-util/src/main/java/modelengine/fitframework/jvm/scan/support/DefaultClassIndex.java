@@ -0,0 +1,108 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import static modelengine.fitframework.inspection.Validation.notNull;
+
+import modelengine.fitframework.jvm.scan.ClassIndex;
+import modelengine.fitframework.util.ClassUtils;
+import modelengine.fitframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * 为 {@link ClassIndex} 提供默认实现。
+ * <p>索引以 UTF-8 编码的文本保存，首行为格式版本，其后每行一个类型名称，类型名称按字典序排列。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class DefaultClassIndex implements ClassIndex {
+    private static final String HEADER = "fit-class-index:1";
+
+    private final List<String> classNames;
+
+    /**
+     * 使用类型名称初始化 {@link DefaultClassIndex} 类的新实例。
+     *
+     * @param classNames 表示类型名称的 {@link Collection}{@code <}{@link String}{@code >}。
+     * @throws IllegalArgumentException 当 {@code classNames} 为 {@code null} 时。
+     */
+    public DefaultClassIndex(Collection<String> classNames) {
+        notNull(classNames, "The class names of index cannot be null.");
+        this.classNames = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(classNames)));
+    }
+
+    @Override
+    public List<String> classNames() {
+        return this.classNames;
+    }
+
+    @Override
+    public List<String> classNames(String basePackage) {
+        if (StringUtils.isBlank(basePackage)) {
+            return this.classNames;
+        }
+        String prefix = basePackage + ClassUtils.PACKAGE_SEPARATOR;
+        int index = Collections.binarySearch(this.classNames, prefix);
+        int start = index < 0 ? -index - 1 : index;
+        int end = start;
+        while (end < this.classNames.size() && this.classNames.get(end).startsWith(prefix)) {
+            end++;
+        }
+        return this.classNames.subList(start, end);
+    }
+
+    @Override
+    public void write(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        for (String className : this.classNames) {
+            writer.write(className);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * 从指定的输入流中读取索引。
+     *
+     * @param in 表示包含索引内容的输入流的 {@link InputStream}。
+     * @return 若索引的格式可以被识别，则为读取到的 {@link ClassIndex}，否则为 {@code null}。
+     * @throws IOException 当读取过程中发生输入输出异常时。
+     */
+    public static ClassIndex read(InputStream in) throws IOException {
+        notNull(in, "The input stream to read class index cannot be null.");
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        if (!StringUtils.equals(reader.readLine(), HEADER)) {
+            return null;
+        }
+        List<String> classNames = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String className = StringUtils.trim(line);
+            if (StringUtils.isNotBlank(className)) {
+                classNames.add(className);
+            }
+        }
+        return new DefaultClassIndex(classNames);
+    }
+}
@@ -8,6 +8,9 @@ package modelengine.fitframework.util;
 
 import modelengine.fitframework.inspection.Validation;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -84,4 +87,28 @@ public final class ThreadUtils {
             sleep(0L);
         }
     }
+
+    /**
+     * 创建一个生成虚拟线程的线程工厂。
+     * <p>虚拟线程仅在 JDK 21 及以上版本中可用，当前运行环境不支持虚拟线程时，返回 {@link Optional#empty()}，调用方应回退至平台线程。</p>
+     *
+     * @param namePrefix 表示虚拟线程名称前缀的 {@link String}，生成的线程名称为前缀加上从 0 开始的序号。
+     * @return 表示生成虚拟线程的线程工厂的 {@link Optional}{@code <}{@link ThreadFactory}{@code >}。
+     * @throws IllegalArgumentException 当 {@code namePrefix} 为 {@code null} 时。
+     */
+    public static Optional<ThreadFactory> virtualThreadFactory(String namePrefix) {
+        Validation.notNull(namePrefix, "The name prefix of virtual threads cannot be null.");
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix, 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (NoSuchMethodException | ClassNotFoundException | IllegalAccessException e) {
+            return Optional.empty();
+        } catch (InvocationTargetException e) {
+            // 预览版本的 JDK 在未开启预览特性时会抛出 UnsupportedOperationException。
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,121 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.jvm.scan.ClassIndex;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * {@link ClassLoaderPackageScanner} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 ClassLoaderPackageScanner 类")
+class ClassLoaderPackageScannerTest {
+    private static final String PACKAGE = ClassLoaderPackageScannerTest.class.getPackage().getName();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("使用索引扫描包含索引的归档件时，仅加载索引中的类型")
+    void givenJarWithIndexThenScanIndexedClassesOnly() throws IOException {
+        ClassIndex index = ClassIndex.create(Collections.singletonList(First.class.getName()));
+        Path jar = this.createJar(out -> index.write(out));
+        assertThat(scan(jar, true)).containsExactly(First.class.getName());
+    }
+
+    @Test
+    @DisplayName("使用索引扫描不包含索引的归档件时，退回到枚举归档件中的所有类型")
+    void givenJarWithoutIndexThenScanAllClasses() throws IOException {
+        Path jar = this.createJar(null);
+        assertThat(scan(jar, true)).containsExactlyInAnyOrder(First.class.getName(), Second.class.getName());
+    }
+
+    @Test
+    @DisplayName("使用索引扫描包含无法识别的索引的归档件时，退回到枚举归档件中的所有类型")
+    void givenJarWithUnknownIndexThenScanAllClasses() throws IOException {
+        Path jar = this.createJar(out -> out.write("unknown\n".getBytes(StandardCharsets.UTF_8)));
+        assertThat(scan(jar, true)).containsExactlyInAnyOrder(First.class.getName(), Second.class.getName());
+    }
+
+    @Test
+    @DisplayName("不使用索引时，忽略归档件中的索引")
+    void givenNotIndexedThenIgnoreIndex() throws IOException {
+        ClassIndex index = ClassIndex.create(Collections.singletonList(First.class.getName()));
+        Path jar = this.createJar(out -> index.write(out));
+        assertThat(scan(jar, false)).containsExactlyInAnyOrder(First.class.getName(), Second.class.getName());
+    }
+
+    private static Set<String> scan(Path jar, boolean indexed) throws IOException {
+        Set<String> scanned = new HashSet<>();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {jar.toUri().toURL()}, null)) {
+            new ClassLoaderPackageScanner(loader, (scanner, clazz) -> scanned.add(clazz.getName()), indexed).scan(
+                    Collections.singletonList(PACKAGE));
+        }
+        return scanned;
+    }
+
+    private Path createJar(IndexWriter indexWriter) throws IOException {
+        Path jar = this.directory.resolve("scanned.jar");
+        String packagePath = PACKAGE.replace('.', '/') + '/';
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            int index = packagePath.indexOf('/');
+            while (index >= 0) {
+                out.putNextEntry(new JarEntry(packagePath.substring(0, index + 1)));
+                out.closeEntry();
+                index = packagePath.indexOf('/', index + 1);
+            }
+            for (Class<?> clazz : new Class<?>[] {First.class, Second.class}) {
+                String simpleName = clazz.getName().substring(PACKAGE.length() + 1);
+                out.putNextEntry(new JarEntry(packagePath + simpleName + ".class"));
+                try (InputStream in = clazz.getResourceAsStream(simpleName + ".class")) {
+                    assertThat(in).isNotNull();
+                    in.transferTo(out);
+                }
+                out.closeEntry();
+            }
+            if (indexWriter != null) {
+                out.putNextEntry(new JarEntry(ClassIndex.ENTRY_NAME));
+                indexWriter.write(out);
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    @FunctionalInterface
+    private interface IndexWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /** 表示被扫描的第一个类型。 */
+    public static class First {}
+
+    /** 表示被扫描的第二个类型。 */
+    public static class Second {}
+}
@@ -0,0 +1,60 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fitframework.jvm.scan.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import modelengine.fitframework.jvm.scan.ClassIndex;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link DefaultClassIndex} 的单元测试。
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("测试 DefaultClassIndex 类")
+class DefaultClassIndexTest {
+    private final ClassIndex index = ClassIndex.create(Arrays.asList("a.b.Foo",
+            "a.b.Foo$Inner",
+            "a.b.c.Bar",
+            "a.bc.Baz",
+            "x.Qux"));
+
+    @Test
+    @DisplayName("按包名查找时，返回该包及其子包中的类型")
+    void givenPackageThenReturnClassesInPackageAndSubPackages() {
+        assertThat(this.index.classNames("a.b")).containsExactly("a.b.Foo", "a.b.Foo$Inner", "a.b.c.Bar");
+        assertThat(this.index.classNames("a.bc")).containsExactly("a.bc.Baz");
+        assertThat(this.index.classNames("y")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("写入后再读取，得到相同的索引")
+    void givenWrittenIndexThenReadSameIndex() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        this.index.write(out);
+        ClassIndex read = ClassIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertThat(read).isNotNull();
+        assertThat(read.classNames()).isEqualTo(this.index.classNames());
+    }
+
+    @Test
+    @DisplayName("读取无法识别的格式时，返回 null")
+    void givenUnknownFormatThenReturnNull() throws IOException {
+        byte[] content = "unknown\na.b.Foo\n".getBytes(StandardCharsets.UTF_8);
+        assertThat(ClassIndex.read(new ByteArrayInputStream(content))).isNull();
+    }
+}
@@ -19,7 +19,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 /**
@@ -152,4 +154,16 @@ public class ThreadUtilsTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("Test method: virtualThreadFactory")
+    class TestVirtualThreadFactory {
+        @Test
+        @DisplayName("virtual threads are available only since JDK 21")
+        void givenRuntimeVersionThenAvailabilityMatches() {
+            Optional<ThreadFactory> factory = ThreadUtils.virtualThreadFactory("virtual-");
+            assertThat(factory.isPresent()).isEqualTo(Runtime.version().feature() >= 21);
+            factory.ifPresent(actual -> assertThat(actual.newThread(() -> {}).getName()).isEqualTo("virtual-0"));
+        }
+    }
 }
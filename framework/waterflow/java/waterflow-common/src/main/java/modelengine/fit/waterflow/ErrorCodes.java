@@ -300,7 +300,12 @@ public enum ErrorCodes {
     /**
      * 连接线配置不合法。
      */
-    INVALID_EVENT_CONFIG(10007517, "Event config is invalid, event id: {0}");
+    INVALID_EVENT_CONFIG(10007517, "Event config is invalid, event id: {0}"),
+
+    /**
+     * 流程数据文件读写失败。
+     */
+    FLOW_STORE_IO_ERROR(10007519, "Flow store io error, operation: {0}, path: {1}.");
 
     private final Integer errorCode;
 
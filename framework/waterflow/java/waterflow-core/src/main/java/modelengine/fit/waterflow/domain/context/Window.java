@@ -14,6 +14,8 @@ import modelengine.fit.waterflow.domain.stream.operators.Operators;
 import modelengine.fit.waterflow.domain.stream.operators.WindowArg;
 import modelengine.fit.waterflow.domain.stream.reactive.Processor;
 import modelengine.fit.waterflow.domain.stream.reactive.Publisher;
+import modelengine.fit.waterflow.domain.utils.FlowExecutors;
+import modelengine.fit.waterflow.domain.utils.TimingWheel;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -45,6 +47,16 @@ public class Window implements Completable {
      */
     protected AtomicReference<LocalDateTime> now = new AtomicReference<>(LocalDateTime.now());
 
+    /**
+     * window上次聚合之后第一个数据到达的时间
+     */
+    protected AtomicReference<LocalDateTime> firstDataTime = new AtomicReference<>(LocalDateTime.now());
+
+    /**
+     * window最近一个数据到达的时间
+     */
+    protected AtomicReference<LocalDateTime> lastDataTime = new AtomicReference<>(LocalDateTime.now());
+
     /**
      * 窗口的完成状态
      */
@@ -78,6 +90,16 @@ public class Window implements Completable {
 
     private To node = null;
 
+    /**
+     * 上次聚合之后是否有数据到达，第一个数据到达时记录到达的时间
+     */
+    private boolean isOpened = false;
+
+    /**
+     * 按时间完成的window在没有新数据时触发完成的定时任务，由对象锁保护
+     */
+    private TimingWheel.Timeout deadline;
+
     /**
      * 创建窗口
      *
@@ -120,13 +142,17 @@ public class Window implements Completable {
      * @return 完成状态
      */
     public synchronized boolean accept() {
-        if (this.fulfilled()) {
+        WindowArg arg = this.windowArg();
+        if (this.fulfilled(arg)) {
             this.now.set(LocalDateTime.now());
+            this.isOpened = false;
+            this.cancelDeadline();
             for (WindowToken token : this.tokens) {
                 token.reduce();
             }
             return true;
         }
+        this.scheduleDeadline(arg);
         return false;
     }
 
@@ -147,12 +173,64 @@ public class Window implements Completable {
      * @return 是否到达
      */
     public boolean fulfilled() {
-        WindowArg arg = new WindowArg(this.isComplete(),
+        return this.fulfilled(this.windowArg());
+    }
+
+    private boolean fulfilled(WindowArg arg) {
+        return this.condition.fulfilled(arg) || this.isOngoing();
+    }
+
+    private WindowArg windowArg() {
+        LocalDateTime current = LocalDateTime.now();
+        // consuming and consumed are all counted
+        return new WindowArg(this.isComplete(),
                 this.tokens.size(),
                 this.tokens.stream().filter(t -> !t.initialized() && !t.isReduced()).count(),
-                Duration.between(this.now.get(), LocalDateTime.now()));
-        // consuming and consumed are all counted
-        return this.condition.fulfilled(arg) || this.isOngoing();
+                Duration.between(this.now.get(), current),
+                this.isOpened ? Duration.between(this.firstDataTime.get(), current) : Duration.ZERO,
+                Duration.between(this.lastDataTime.get(), current));
+    }
+
+    /**
+     * 按时间完成的window还没有完成时，在剩余的时长到期后重新判定，避免数据停止到达后聚合结果一直留在window中
+     * 已经有定时任务时不重复添加，定时任务到期时如果还没有满足条件会重新添加
+     *
+     * @param arg 判定window完成的参数
+     */
+    private void scheduleDeadline(WindowArg arg) {
+        Duration remaining = this.condition.remaining(arg);
+        if (remaining == null || this.deadline != null || this.isComplete()) {
+            return;
+        }
+        this.deadline = FlowExecutors.getTimingWheel().schedule(Math.max(remaining.toMillis() + 1, 0L), this::expire);
+    }
+
+    private void cancelDeadline() {
+        if (this.deadline != null) {
+            this.deadline.cancel();
+            this.deadline = null;
+        }
+    }
+
+    /**
+     * 定时任务到期，window中所有的数据都已经聚合但是还没有输出时，用完成上下文触发一次聚合节点的处理
+     * 还有正在处理的数据时，由这些数据在聚合时重新判定
+     */
+    private void expire() {
+        To hookNode;
+        CompleteContext hookContext;
+        synchronized (this) {
+            this.deadline = null;
+            hookNode = this.node;
+            hookContext = this.completeContext;
+            if (this.isComplete() || hookContext == null || this.acc == null
+                    || this.tokens.stream().anyMatch(t -> !t.isConsumed())) {
+                return;
+            }
+            // the node consumes a token for the complete context, add one instead of taking the token of new data
+            this.tokens.add(new WindowToken(this));
+        }
+        process(hookNode, hookContext);
     }
 
     /**
@@ -207,6 +285,12 @@ public class Window implements Completable {
      * @return window token
      */
     public synchronized WindowToken createToken() {
+        LocalDateTime current = LocalDateTime.now();
+        this.lastDataTime.set(current);
+        if (!this.isOpened) {
+            this.firstDataTime.set(current);
+            this.isOpened = true;
+        }
         WindowToken token = new WindowToken(this);
         this.tokens.add(token);
         return token;
@@ -243,6 +327,7 @@ public class Window implements Completable {
                 return;
             }
             this.isComplete.set(true);
+            this.cancelDeadline();
         }
         this.fire();
         this.tryFinish();
@@ -251,16 +336,20 @@ public class Window implements Completable {
     private void fire() {
         // only when all elements are consumed(done), fire the possible reduce
         if (completeContext != null && (session.isAccumulator() || this.acc != null) && this.isDone()) {
-            List<FlowContext<Object>> cs = new ArrayList<>();
-            cs.add(completeContext);
-            List contexts = node.getProcessMode().process(node, cs);
-            if (node instanceof Processor) {
-                ((Processor<?, ?>) node).offer(contexts);
-            }
+            process(node, completeContext);
             completeContext = null;
         }
     }
 
+    private static void process(To node, CompleteContext context) {
+        List<FlowContext<Object>> cs = new ArrayList<>();
+        cs.add(context);
+        List contexts = node.getProcessMode().process(node, cs);
+        if (node instanceof Processor) {
+            ((Processor<?, ?>) node).offer(contexts);
+        }
+    }
+
     private void completed() {
         for (Window listener : this.tos) {
             listener.complete();
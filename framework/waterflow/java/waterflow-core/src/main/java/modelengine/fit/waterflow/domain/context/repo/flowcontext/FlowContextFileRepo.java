@@ -0,0 +1,369 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import static modelengine.fit.waterflow.ErrorCodes.FLOW_STORE_IO_ERROR;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.readNullable;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.toText;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.toTime;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.writeNullable;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.domain.utils.AppendOnlyLog;
+import modelengine.fit.waterflow.exceptions.WaterflowException;
+import modelengine.fitframework.inspection.Validation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 持久化{@link FlowContext}对象到本地文件的核心类
+ * <p>查询由{@link FlowContextIndexedMemoRepo}的内存索引完成，每次保存在更新内存索引的同时把上下文的最新状态追加到
+ * {@link AppendOnlyLog}中，归档或者失败的上下文追加一条删除记录。失效的记录足够多时，用当前的上下文重写文件。</p>
+ * <p>重新打开同一个目录时按照写入顺序重放记录，恢复没有结束的上下文以及它们的会话。节点已经取走但是没有处理完的
+ * {@code READY}和{@code PROCESSING}上下文恢复为{@code PENDING}，已经发送给外部但是没有结果的上下文恢复为未发送，
+ * 节点重新拉取时会再次处理，因此恢复后的上下文至少被处理一次。</p>
+ * <p>上下文的数据是字符串、整数、布尔值等常见类型时直接保存，其他类型通过Java序列化保存，需要实现
+ * {@link java.io.Serializable}，恢复时使用{@link ObjectInputFilter}过滤。会话只保存唯一标识、是否保序以及窗口是否完成，
+ * 会话的状态数据和窗口在恢复时重新创建。</p>
+ * <p>仓库只恢复数据，不会触发节点处理。重新启动后以相同的唯一标识定义相同的流程，再调用
+ * {@link modelengine.fit.waterflow.domain.flow.Flow#recover()}继续处理恢复的上下文。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class FlowContextFileRepo extends FlowContextIndexedMemoRepo implements Closeable {
+    private static final String LOG_FILE_NAME = "flow-contexts.log";
+
+    private static final byte PUT = 1;
+
+    private static final byte REMOVE = 2;
+
+    private static final byte NULL_DATA = 0;
+
+    private static final byte STRING_DATA = 1;
+
+    private static final byte INTEGER_DATA = 2;
+
+    private static final byte LONG_DATA = 3;
+
+    private static final byte BOOLEAN_DATA = 4;
+
+    private static final byte DOUBLE_DATA = 5;
+
+    private static final byte SERIALIZED_DATA = 9;
+
+    /**
+     * 默认的反序列化过滤器，优先使用进程级别的过滤器，没有配置时只限制对象图的规模
+     */
+    private static final ObjectInputFilter DEFAULT_FILTER = Optional.ofNullable(
+            ObjectInputFilter.Config.getSerialFilter()).orElseGet(() -> ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;maxrefs=100000;maxarray=10000000"));
+
+    private final Path file;
+
+    private final ObjectInputFilter filter;
+
+    private final AppendOnlyLog log;
+
+    /**
+     * 当前没有结束的上下文唯一标识，由对象锁保护
+     */
+    private final Set<String> liveIds = new HashSet<>();
+
+    /**
+     * 构造方法，每次保存都等待数据刷盘
+     *
+     * @param directory 保存数据文件的目录
+     * @throws WaterflowException 当读写数据文件失败时
+     */
+    public FlowContextFileRepo(Path directory) {
+        this(directory, 0L);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param directory 保存数据文件的目录
+     * @param syncIntervalMillis 刷盘间隔的毫秒数，为0时每次保存都等待数据刷盘，大于0时进程崩溃最多丢失一个间隔内的修改
+     * @throws WaterflowException 当读写数据文件失败时
+     */
+    public FlowContextFileRepo(Path directory, long syncIntervalMillis) {
+        this(directory, syncIntervalMillis, DEFAULT_FILTER);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param directory 保存数据文件的目录
+     * @param syncIntervalMillis 刷盘间隔的毫秒数，为0时每次保存都等待数据刷盘，大于0时进程崩溃最多丢失一个间隔内的修改
+     * @param filter 恢复通过Java序列化保存的数据时使用的过滤器，用于限制可以还原的类和对象图的规模
+     * @throws WaterflowException 当读写数据文件失败时
+     */
+    public FlowContextFileRepo(Path directory, long syncIntervalMillis, ObjectInputFilter filter) {
+        Validation.notNull(directory, "The directory cannot be null.");
+        this.file = directory.resolve(LOG_FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "create directory", directory);
+        }
+        Map<String, FlowContext<Object>> recovered = new LinkedHashMap<>();
+        Map<String, FlowSession> sessions = new HashMap<>();
+        Set<String> completed = new HashSet<>();
+        this.filter = Validation.notNull(filter, "The serial filter cannot be null.");
+        this.log = AppendOnlyLog.open(this.file, syncIntervalMillis,
+                record -> this.replay(record, recovered, sessions, completed));
+        recovered.values().forEach(FlowContextFileRepo::resetInFlight);
+        // 每个没有结束的上下文在会话的窗口中占用一个令牌，令牌全部消费并且窗口完成后会话才结束。
+        recovered.values().forEach(context -> context.getWindow().createToken());
+        completed.stream().map(sessions::get).forEach(session -> session.getWindow().complete());
+        synchronized (this) {
+            super.save(new ArrayList<>(recovered.values()));
+            this.liveIds.addAll(recovered.keySet());
+            if (this.log.needsCompaction(this.liveIds.size())) {
+                this.compact();
+            }
+        }
+    }
+
+    @Override
+    public <T> void save(List<FlowContext<T>> contexts) {
+        long position;
+        synchronized (this) {
+            // 先编码再更新内存索引，数据不能编码时内存和文件中的上下文保持一致。
+            List<byte[]> records = contexts.stream().map(this::encode).collect(Collectors.toList());
+            super.save(contexts);
+            position = this.log.append(records);
+            contexts.forEach(context -> {
+                if (isFinished(context)) {
+                    this.liveIds.remove(context.getId());
+                } else {
+                    this.liveIds.add(context.getId());
+                }
+            });
+            if (this.log.needsCompaction(this.liveIds.size())) {
+                this.compact();
+            }
+        }
+        this.log.sync(position);
+    }
+
+    /**
+     * 关闭数据文件，关闭前等待所有的修改刷盘
+     */
+    @Override
+    public void close() {
+        this.log.close();
+    }
+
+    private void compact() {
+        List<FlowContext<Object>> live = this.getByIds(new ArrayList<>(this.liveIds));
+        this.log.rewrite(live.stream().map(this::encode).collect(Collectors.toList()));
+    }
+
+    private static boolean isFinished(FlowContext<?> context) {
+        return context.getStatus() == FlowNodeStatus.ARCHIVED || context.getStatus() == FlowNodeStatus.ERROR;
+    }
+
+    private static void resetInFlight(FlowContext<?> context) {
+        if (context.getStatus() == FlowNodeStatus.READY || context.getStatus() == FlowNodeStatus.PROCESSING) {
+            context.setStatus(FlowNodeStatus.PENDING);
+        }
+        if (context.getStatus() == FlowNodeStatus.PENDING) {
+            context.setSent(false);
+        }
+    }
+
+    private byte[] encode(FlowContext<?> context) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (isFinished(context)) {
+                out.writeByte(REMOVE);
+                out.writeUTF(context.getId());
+                return bytes.toByteArray();
+            }
+            out.writeByte(PUT);
+            out.writeUTF(context.getId());
+            out.writeUTF(context.getStreamId());
+            out.writeUTF(context.getRootId());
+            writeNullable(out, context.getPosition());
+            out.writeUTF(context.getStatus().name());
+            out.writeBoolean(context.isSent());
+            out.writeBoolean(context.isJoined());
+            writeNullable(out, context.getParallel());
+            writeNullable(out, context.getParallelMode());
+            writeNullable(out, context.getPrevious());
+            writeNullable(out, context.getBatchId());
+            writeNullable(out, context.getToBatch());
+            writeNullable(out, context.getIndex() == null ? null : String.valueOf(context.getIndex()));
+            writeNullable(out, toText(context.getCreateAt()));
+            writeNullable(out, toText(context.getUpdateAt()));
+            writeNullable(out, toText(context.getArchivedAt()));
+            out.writeInt(context.getTraceId().size());
+            for (String traceId : context.getTraceId()) {
+                out.writeUTF(traceId);
+            }
+            out.writeUTF(context.getSession().getId());
+            out.writeBoolean(context.getSession().preserved());
+            out.writeBoolean(context.getWindow() != null && context.getWindow().isComplete());
+            writeData(out, context.getData());
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "encode context " + context.getId(), this.file);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void replay(byte[] record, Map<String, FlowContext<Object>> recovered, Map<String, FlowSession> sessions,
+            Set<String> completed) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte type = in.readByte();
+            String id = in.readUTF();
+            if (type == REMOVE) {
+                recovered.remove(id);
+                return;
+            }
+            String streamId = in.readUTF();
+            String rootId = in.readUTF();
+            String position = readNullable(in);
+            FlowNodeStatus status = FlowNodeStatus.valueOf(in.readUTF());
+            boolean isSent = in.readBoolean();
+            boolean isJoined = in.readBoolean();
+            String parallel = readNullable(in);
+            String parallelMode = readNullable(in);
+            String previous = readNullable(in);
+            String batchId = readNullable(in);
+            String toBatch = readNullable(in);
+            String index = readNullable(in);
+            LocalDateTime createAt = toTime(readNullable(in));
+            LocalDateTime updateAt = toTime(readNullable(in));
+            LocalDateTime archivedAt = toTime(readNullable(in));
+            Set<String> traceIds = new HashSet<>();
+            int traceCount = in.readInt();
+            for (int i = 0; i < traceCount; i++) {
+                traceIds.add(in.readUTF());
+            }
+            String sessionId = in.readUTF();
+            boolean isPreserved = in.readBoolean();
+            boolean isComplete = in.readBoolean();
+            Object data = this.readData(in);
+            FlowSession session = sessions.computeIfAbsent(sessionId, key -> {
+                FlowSession created = new FlowSession(key, isPreserved);
+                created.begin();
+                return created;
+            });
+            if (isComplete) {
+                completed.add(sessionId);
+            }
+            FlowContext<Object> context = new FlowContext<>(streamId, rootId, data, traceIds, position,
+                    parallel, parallelMode, session);
+            context.setId(id);
+            context.setStatus(status);
+            context.setSent(isSent);
+            context.join(isJoined);
+            context.setPrevious(previous);
+            context.batchId(batchId);
+            context.toBatch(toBatch);
+            context.setIndex(index == null ? null : Integer.valueOf(index));
+            context.setCreateAt(createAt);
+            context.setUpdateAt(updateAt);
+            context.setArchivedAt(archivedAt);
+            recovered.put(id, context);
+        } catch (IOException | ClassNotFoundException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "decode context", this.file);
+        }
+    }
+
+    /**
+     * 常见的基本类型直接写入，其他类型通过Java序列化写入
+     *
+     * @param out 输出流
+     * @param data 上下文的数据
+     * @throws IOException 当数据不能序列化时
+     */
+    private static void writeData(DataOutputStream out, Object data) throws IOException {
+        if (data == null) {
+            out.writeByte(NULL_DATA);
+        } else if (data instanceof String) {
+            byte[] bytes = ((String) data).getBytes(StandardCharsets.UTF_8);
+            out.writeByte(STRING_DATA);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (data instanceof Integer) {
+            out.writeByte(INTEGER_DATA);
+            out.writeInt((Integer) data);
+        } else if (data instanceof Long) {
+            out.writeByte(LONG_DATA);
+            out.writeLong((Long) data);
+        } else if (data instanceof Boolean) {
+            out.writeByte(BOOLEAN_DATA);
+            out.writeBoolean((Boolean) data);
+        } else if (data instanceof Double) {
+            out.writeByte(DOUBLE_DATA);
+            out.writeDouble((Double) data);
+        } else {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream serialized = new ObjectOutputStream(bytes)) {
+                serialized.writeObject(data);
+            }
+            out.writeByte(SERIALIZED_DATA);
+            out.writeInt(bytes.size());
+            bytes.writeTo(out);
+        }
+    }
+
+    private Object readData(DataInputStream in) throws IOException, ClassNotFoundException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL_DATA:
+                return null;
+            case STRING_DATA:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case INTEGER_DATA:
+                return in.readInt();
+            case LONG_DATA:
+                return in.readLong();
+            case BOOLEAN_DATA:
+                return in.readBoolean();
+            case DOUBLE_DATA:
+                return in.readDouble();
+            default:
+                try (ObjectInputStream serialized = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+                    serialized.setObjectInputFilter(this.filter);
+                    return serialized.readObject();
+                }
+        }
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,365 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.context.FlowTrace;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.domain.stream.operators.Operators;
+import modelengine.fitframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 持久化{@link FlowContext}对象到内存中，并为节点的查询维护二级索引的核心类
+ * <p>与{@link FlowContextMemoRepo}的查询语义一致，但不再在每次查询时遍历所有流程的上下文，而是在{@code save}时按照
+ * 版本ID+位置+状态、批次ID、并行ID、traceId以及会话+序号维护索引，查询时只访问命中的索引桶。
+ * 上下文按照首次保存的顺序编号，查询结果保持该顺序。</p>
+ * <p>上下文对象本身是可变的，索引只在{@code save}系列方法中更新，因此查询时会用上下文的当前字段再校验一次，
+ * 修改了状态、位置等索引字段的上下文需要重新保存后才能被对应的查询命中，这与引擎修改后立即保存的用法一致。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class FlowContextIndexedMemoRepo implements FlowContextRepo {
+    private static final String KEY_SEPARATOR = "\u0001";
+    private static final String FREE_SESSION = "";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 版本ID+位置+状态的索引
+     */
+    private final Index positionIndex = new Index();
+
+    /**
+     * 版本ID+位置+状态+会话+序号的索引，不需要保序或者序号为0的上下文使用同一个会话键
+     */
+    private final Index sessionIndex = new Index();
+
+    private final Index batchIndex = new Index();
+
+    private final Index parallelIndex = new Index();
+
+    private final Index traceIndex = new Index();
+
+    private final boolean isReserveTerminal;
+
+    private long sequence;
+
+    /**
+     * 构造方法
+     */
+    public FlowContextIndexedMemoRepo() {
+        this(false);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param isReserveTerminal 是否保留结束的数据，一般只有测试才保留
+     */
+    public FlowContextIndexedMemoRepo(boolean isReserveTerminal) {
+        this.isReserveTerminal = isReserveTerminal;
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, List<String> posIds, String status) {
+        NavigableMap<Long, FlowContext<?>> found = new TreeMap<>();
+        for (String posId : new LinkedHashSet<>(posIds)) {
+            this.positionIndex.collect(positionKey(streamId, posId, status), found, context ->
+                    Objects.equals(context.getStreamId(), streamId) && posIds.contains(context.getPosition())
+                            && context.getStatus().toString().equals(status) && !context.isSent());
+        }
+        return cast(found.values());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByPosition(String streamId, String posId, String batchId,
+            String status) {
+        NavigableMap<Long, FlowContext<?>> found = new TreeMap<>();
+        this.batchIndex.collect(key(batchId), found, context ->
+                Objects.equals(context.getStreamId(), streamId) && Objects.equals(context.getPosition(), posId)
+                        && Objects.equals(context.getBatchId(), batchId)
+                        && context.getStatus().toString().equals(status));
+        return cast(found.values());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByTrace(String traceId) {
+        NavigableMap<Long, FlowContext<?>> found = new TreeMap<>();
+        this.traceIndex.collect(key(traceId), found, context -> context.getTraceId().contains(traceId));
+        return cast(found.values());
+    }
+
+    @Override
+    public synchronized <T> void save(List<FlowContext<T>> contexts) {
+        contexts.forEach(context -> {
+            if (this.isReserveTerminal) {
+                this.put(context);
+                return;
+            }
+            if (context.getStatus() == FlowNodeStatus.ARCHIVED || context.getStatus() == FlowNodeStatus.ERROR) {
+                this.remove(context.getId());
+            } else {
+                this.put(context);
+            }
+        });
+    }
+
+    @Override
+    public <T> void updateToSent(List<FlowContext<T>> contexts) {
+        save(contexts);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getContextsByParallel(String parallelId) {
+        NavigableMap<Long, FlowContext<?>> found = new TreeMap<>();
+        this.parallelIndex.collect(key(parallelId), found,
+                context -> Objects.equals(context.getParallel(), parallelId));
+        return cast(found.values());
+    }
+
+    @Override
+    public <T> FlowContext<T> getById(String id) {
+        Entry entry = this.entries.get(id);
+        return entry == null ? null : ObjectUtils.cast(entry.context);
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getPendingAndSentByIds(List<String> ids) {
+        NavigableMap<Long, FlowContext<?>> found = new TreeMap<>();
+        for (String id : ids) {
+            Entry entry = this.entries.get(id);
+            if (entry != null && entry.context.getStatus() == FlowNodeStatus.PENDING && entry.context.isSent()) {
+                found.put(entry.sequence, entry.context);
+            }
+        }
+        return cast(found.values());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> getByIds(List<String> ids) {
+        return ids.stream().map(this::<T>getById).collect(Collectors.toList());
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestMappingContext(String streamId, List<String> subscriptions,
+            Map<String, Integer> sessions) {
+        Predicate<FlowContext<?>> matcher = context -> Objects.equals(context.getStreamId(), streamId)
+                && subscriptions.contains(context.getPosition()) && context.getStatus() == FlowNodeStatus.PENDING
+                && isMappingReady(context, sessions);
+        Map.Entry<Long, FlowContext<?>> first = null;
+        String pending = FlowNodeStatus.PENDING.toString();
+        for (String subscription : new LinkedHashSet<>(subscriptions)) {
+            List<String> keys = new ArrayList<>();
+            keys.add(sessionKey(streamId, subscription, pending, FREE_SESSION));
+            sessions.forEach((session, index) -> keys.add(sessionKey(streamId, subscription, pending,
+                    key(session, String.valueOf(index)))));
+            for (String sessionKey : keys) {
+                Map.Entry<Long, FlowContext<?>> candidate = this.sessionIndex.first(sessionKey, matcher);
+                if (candidate != null && (first == null || candidate.getKey() < first.getKey())) {
+                    first = candidate;
+                }
+            }
+        }
+        return first == null ? new ArrayList<>() : cast(Collections.singletonList(first.getValue()));
+    }
+
+    @Override
+    public <T> List<FlowContext<T>> requestProducingContext(String streamId, List<String> subscriptions,
+            Operators.Filter<T> filter) {
+        NavigableMap<Long, FlowContext<?>> found = new TreeMap<>();
+        String pending = FlowNodeStatus.PENDING.toString();
+        for (String subscription : new LinkedHashSet<>(subscriptions)) {
+            this.positionIndex.collect(positionKey(streamId, subscription, pending), found, context ->
+                    Objects.equals(context.getStreamId(), streamId) && subscriptions.contains(context.getPosition())
+                            && context.getStatus() == FlowNodeStatus.PENDING);
+        }
+        return filter.process(cast(found.values()));
+    }
+
+    @Override
+    public <T> void save(FlowTrace trace, FlowContext<T> flowContext) {
+    }
+
+    @Override
+    public <T> void updateFlowData(List<FlowContext<T>> contexts) {
+        save(contexts);
+    }
+
+    @Override
+    public <T> void updateIndex(List<FlowContext<T>> contexts) {
+        List<FlowContext<T>> updated = new ArrayList<>();
+        for (FlowContext<T> context : contexts) {
+            FlowContext<T> saved = this.getById(context.getId());
+            if (saved == null) {
+                saved = context;
+            } else {
+                saved.setIndex(context.getIndex());
+            }
+            updated.add(saved);
+        }
+        this.save(updated);
+    }
+
+    private void put(FlowContext<?> context) {
+        Entry previous = this.entries.get(context.getId());
+        long order;
+        if (previous == null) {
+            order = ++this.sequence;
+        } else {
+            order = previous.sequence;
+            this.unindex(previous);
+        }
+        Entry entry = new Entry(order, context);
+        this.entries.put(context.getId(), entry);
+        this.positionIndex.add(entry.positionKey, entry);
+        this.sessionIndex.add(entry.sessionKey, entry);
+        this.batchIndex.add(entry.batchKey, entry);
+        this.parallelIndex.add(entry.parallelKey, entry);
+        entry.traceKeys.forEach(traceKey -> this.traceIndex.add(traceKey, entry));
+    }
+
+    private void remove(String id) {
+        Entry previous = this.entries.remove(id);
+        if (previous != null) {
+            this.unindex(previous);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        this.positionIndex.remove(entry.positionKey, entry);
+        this.sessionIndex.remove(entry.sessionKey, entry);
+        this.batchIndex.remove(entry.batchKey, entry);
+        this.parallelIndex.remove(entry.parallelKey, entry);
+        entry.traceKeys.forEach(traceKey -> this.traceIndex.remove(traceKey, entry));
+    }
+
+    private static boolean isMappingReady(FlowContext<?> context, Map<String, Integer> sessions) {
+        Integer index = context.getIndex();
+        if (isFree(index)) {
+            return true;
+        }
+        FlowSession session = context.getSession();
+        return session != null && sessions.containsKey(session.getId())
+                && Objects.equals(index, sessions.get(session.getId()));
+    }
+
+    private static boolean isFree(Integer index) {
+        return index != null && (index == -1 || index == 0); // 不需要保序的或者保序的第一个
+    }
+
+    private static String positionKey(String streamId, String position, String status) {
+        return key(streamId, position, status);
+    }
+
+    private static String sessionKey(String streamId, String position, String status, String session) {
+        return key(streamId, position, status, session);
+    }
+
+    private static String key(String... parts) {
+        return Stream.of(parts).map(part -> Objects.toString(part, "")).collect(Collectors.joining(KEY_SEPARATOR));
+    }
+
+    private static <T> List<FlowContext<T>> cast(Iterable<FlowContext<?>> contexts) {
+        List<FlowContext<T>> result = new ArrayList<>();
+        contexts.forEach(context -> result.add(ObjectUtils.cast(context)));
+        return result;
+    }
+
+    /**
+     * 保存的上下文以及保存时计算出的索引键，用于在上下文再次保存或者删除时从旧的索引桶中移除
+     */
+    private static class Entry {
+        private final long sequence;
+        private final FlowContext<?> context;
+        private final String positionKey;
+        private final String sessionKey;
+        private final String batchKey;
+        private final String parallelKey;
+        private final Set<String> traceKeys;
+
+        private Entry(long sequence, FlowContext<?> context) {
+            this.sequence = sequence;
+            this.context = context;
+            String status = context.getStatus().toString();
+            this.positionKey = positionKey(context.getStreamId(), context.getPosition(), status);
+            String session = FREE_SESSION;
+            if (!isFree(context.getIndex()) && context.getSession() != null) {
+                session = key(context.getSession().getId(), String.valueOf(context.getIndex()));
+            }
+            this.sessionKey = sessionKey(context.getStreamId(), context.getPosition(), status, session);
+            this.batchKey = key(context.getBatchId());
+            this.parallelKey = key(context.getParallel());
+            this.traceKeys = context.getTraceId().stream().map(FlowContextIndexedMemoRepo::key)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * 一类索引，每个索引键对应一个按照上下文保存顺序排列的索引桶
+     * <p>索引只在持有仓库锁的写操作中修改，查询可以无锁并发访问。</p>
+     */
+    private static class Index {
+        private final Map<String, ConcurrentSkipListMap<Long, FlowContext<?>>> buckets = new ConcurrentHashMap<>();
+
+        private void add(String key, Entry entry) {
+            this.buckets.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>()).put(entry.sequence, entry.context);
+        }
+
+        private void remove(String key, Entry entry) {
+            ConcurrentSkipListMap<Long, FlowContext<?>> bucket = this.buckets.get(key);
+            if (bucket == null) {
+                return;
+            }
+            bucket.remove(entry.sequence);
+            if (bucket.isEmpty()) {
+                this.buckets.remove(key, bucket);
+            }
+        }
+
+        private void collect(String key, Map<Long, FlowContext<?>> found, Predicate<FlowContext<?>> matcher) {
+            ConcurrentSkipListMap<Long, FlowContext<?>> bucket = this.buckets.get(key);
+            if (bucket == null) {
+                return;
+            }
+            bucket.forEach((order, context) -> {
+                if (matcher.test(context)) {
+                    found.put(order, context);
+                }
+            });
+        }
+
+        private Map.Entry<Long, FlowContext<?>> first(String key, Predicate<FlowContext<?>> matcher) {
+            ConcurrentSkipListMap<Long, FlowContext<?>> bucket = this.buckets.get(key);
+            if (bucket == null) {
+                return null;
+            }
+            for (Map.Entry<Long, FlowContext<?>> entry : bucket.entrySet()) {
+                if (matcher.test(entry.getValue())) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowtrace;
+
+import static modelengine.fit.waterflow.ErrorCodes.FLOW_STORE_IO_ERROR;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.readNullable;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.toText;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.toTime;
+import static modelengine.fit.waterflow.domain.utils.FlowStoreCodec.writeNullable;
+
+import modelengine.fit.waterflow.domain.context.FlowTrace;
+import modelengine.fit.waterflow.domain.enums.FlowTraceStatus;
+import modelengine.fit.waterflow.domain.utils.AppendOnlyLog;
+import modelengine.fit.waterflow.exceptions.WaterflowException;
+import modelengine.fitframework.inspection.Validation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 持久化{@link FlowTrace}对象到本地文件的核心类
+ * <p>查询直接访问内存中的trace，每次修改把trace的最新状态追加到{@link AppendOnlyLog}中，删除时追加一条删除记录，
+ * 重新打开同一个目录时按照写入顺序重放记录。失效的记录足够多时，用当前的trace重写文件。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class FlowTraceFileRepo implements FlowTraceRepo, Closeable {
+    private static final String LOG_FILE_NAME = "flow-traces.log";
+
+    private static final byte PUT = 1;
+
+    private static final byte REMOVE = 2;
+
+    private final Path file;
+
+    private final AppendOnlyLog log;
+
+    /**
+     * 所有的trace，由对象锁保护
+     */
+    private final Map<String, FlowTrace> traces = new LinkedHashMap<>();
+
+    /**
+     * 构造方法，每次修改都等待数据刷盘
+     *
+     * @param directory 保存数据文件的目录
+     * @throws WaterflowException 当读写数据文件失败时
+     */
+    public FlowTraceFileRepo(Path directory) {
+        this(directory, 0L);
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param directory 保存数据文件的目录
+     * @param syncIntervalMillis 刷盘间隔的毫秒数，为0时每次修改都等待数据刷盘，大于0时进程崩溃最多丢失一个间隔内的修改
+     * @throws WaterflowException 当读写数据文件失败时
+     */
+    public FlowTraceFileRepo(Path directory, long syncIntervalMillis) {
+        Validation.notNull(directory, "The directory cannot be null.");
+        this.file = directory.resolve(LOG_FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "create directory", directory);
+        }
+        this.log = AppendOnlyLog.open(this.file, syncIntervalMillis, this::replay);
+        synchronized (this) {
+            if (this.log.needsCompaction(this.traces.size())) {
+                this.compact();
+            }
+        }
+    }
+
+    @Override
+    public void save(FlowTrace flowTrace) {
+        this.batchCreate(Collections.singletonList(flowTrace));
+    }
+
+    @Override
+    public synchronized FlowTrace find(String traceId) {
+        return this.traces.get(traceId);
+    }
+
+    @Override
+    public synchronized List<FlowTrace> getByIds(List<String> ids) {
+        return ids.stream().map(this.traces::get).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Override
+    public void delete(String streamId) {
+        long position;
+        synchronized (this) {
+            List<String> removed = this.traces.values()
+                    .stream()
+                    .filter(trace -> Objects.equals(trace.getStreamId(), streamId))
+                    .map(FlowTrace::getId)
+                    .collect(Collectors.toList());
+            removed.forEach(this.traces::remove);
+            position = this.log.append(removed.stream().map(this::encodeRemove).collect(Collectors.toList()));
+        }
+        this.log.sync(position);
+    }
+
+    @Override
+    public void batchUpdate(List<FlowTrace> flowTraces) {
+        this.put(flowTraces);
+    }
+
+    @Override
+    public void batchCreate(List<FlowTrace> flowTraces) {
+        this.put(flowTraces);
+    }
+
+    @Override
+    public void updateContextPool(List<String> traceList, List<String> contextList) {
+        this.update(traceList, trace -> trace.setContextPool(new HashSet<>(contextList)));
+    }
+
+    @Override
+    public List<FlowTrace> findTraceByIdList(List<String> traceIds) {
+        return this.getByIds(traceIds);
+    }
+
+    @Override
+    public void updateStatus(List<String> ids, String status) {
+        FlowTraceStatus traceStatus = FlowTraceStatus.valueOf(status);
+        this.update(ids, trace -> trace.setStatus(traceStatus));
+    }
+
+    /**
+     * 关闭数据文件，关闭前等待所有的修改刷盘
+     */
+    @Override
+    public void close() {
+        this.log.close();
+    }
+
+    private void update(List<String> ids, Consumer<FlowTrace> updater) {
+        List<FlowTrace> updated;
+        synchronized (this) {
+            updated = this.getByIds(ids);
+            updated.forEach(updater);
+        }
+        this.put(updated);
+    }
+
+    private void put(List<FlowTrace> flowTraces) {
+        long position;
+        synchronized (this) {
+            flowTraces.forEach(trace -> this.traces.put(trace.getId(), trace));
+            position = this.log.append(flowTraces.stream().map(this::encode).collect(Collectors.toList()));
+            if (this.log.needsCompaction(this.traces.size())) {
+                this.compact();
+            }
+        }
+        this.log.sync(position);
+    }
+
+    private void compact() {
+        this.log.rewrite(this.traces.values().stream().map(this::encode).collect(Collectors.toList()));
+    }
+
+    private byte[] encodeRemove(String id) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(REMOVE);
+            out.writeUTF(id);
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "encode trace " + id, this.file);
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] encode(FlowTrace trace) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(PUT);
+            out.writeUTF(trace.getId());
+            writeNullable(out, trace.getStreamId());
+            writeNullable(out, toText(trace.getStartTime()));
+            writeNullable(out, toText(trace.getEndTime()));
+            writeNullable(out, trace.getOperator());
+            writeNullable(out, trace.getApplication());
+            writeNullable(out, trace.getStartNode());
+            writeNullable(out, trace.getEndNode());
+            writeNullable(out, trace.getStatus() == null ? null : trace.getStatus().name());
+            Set<String> contextPool = trace.getContextPool() == null ? new HashSet<>() : trace.getContextPool();
+            out.writeInt(contextPool.size());
+            for (String contextId : contextPool) {
+                out.writeUTF(contextId);
+            }
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "encode trace " + trace.getId(), this.file);
+        }
+        return bytes.toByteArray();
+    }
+
+    private void replay(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            byte type = in.readByte();
+            String id = in.readUTF();
+            if (type == REMOVE) {
+                this.traces.remove(id);
+                return;
+            }
+            FlowTrace trace = new FlowTrace(id);
+            trace.setStreamId(readNullable(in));
+            trace.setStartTime(toTime(readNullable(in)));
+            trace.setEndTime(toTime(readNullable(in)));
+            trace.setOperator(readNullable(in));
+            trace.setApplication(readNullable(in));
+            trace.setStartNode(readNullable(in));
+            trace.setEndNode(readNullable(in));
+            String status = readNullable(in);
+            trace.setStatus(status == null ? null : FlowTraceStatus.valueOf(status));
+            List<String> contextPool = new ArrayList<>();
+            int size = in.readInt();
+            for (int i = 0; i < size; i++) {
+                contextPool.add(in.readUTF());
+            }
+            trace.setContextPool(new HashSet<>(contextPool));
+            this.traces.put(id, trace);
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "decode trace", this.file);
+        }
+    }
+}
@@ -7,21 +7,37 @@
 package modelengine.fit.waterflow.domain.flow;
 
 import lombok.Getter;
+import modelengine.fit.waterflow.domain.common.Constants;
+import modelengine.fit.waterflow.domain.context.FlowContext;
 import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextRepo;
 import modelengine.fit.waterflow.domain.emitters.Emitter;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.domain.enums.ProcessType;
 import modelengine.fit.waterflow.domain.states.Activity;
 import modelengine.fit.waterflow.domain.states.Start;
 import modelengine.fit.waterflow.domain.states.State;
+import modelengine.fit.waterflow.domain.stream.nodes.To;
 import modelengine.fit.waterflow.domain.stream.reactive.Processor;
 import modelengine.fit.waterflow.domain.stream.reactive.Publisher;
 import modelengine.fit.waterflow.domain.stream.reactive.Subscriber;
+import modelengine.fit.waterflow.domain.stream.reactive.Subscription;
+import modelengine.fit.waterflow.domain.utils.FlowExecutors;
 import modelengine.fit.waterflow.domain.utils.IdGenerator;
+import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -59,6 +75,11 @@ public abstract class Flow<D> extends IdGenerator {
 
     private Consumer<String> completeListener;
 
+    /**
+     * 流程的唯一标识是否由调用方指定，指定时节点和连线的唯一标识在流程定义完成后由流程的唯一标识生成
+     */
+    private final boolean isIdentified;
+
     /**
      * 构造函数
      */
@@ -66,6 +87,19 @@ public abstract class Flow<D> extends IdGenerator {
         // default session for unbound stream
         this.defaultSession = new FlowSession();
         this.defaultSession.begin();
+        this.isIdentified = false;
+    }
+
+    /**
+     * 构造函数，使用调用方指定的流程唯一标识
+     *
+     * @param id 流程的唯一标识
+     */
+    protected Flow(String id) {
+        super(Validation.notBlank(id, "The flow id cannot be blank."));
+        this.defaultSession = new FlowSession();
+        this.defaultSession.begin();
+        this.isIdentified = true;
     }
 
     /**
@@ -218,6 +252,105 @@ public abstract class Flow<D> extends IdGenerator {
         return this.nodes;
     }
 
+    /**
+     * 设置流程预算，即该流程所有节点同时处理的批次数量上限
+     * 节点的并发度通过 {@link State#concurrency(int)} 设置，流程预算和节点并发度都受全局预算限制
+     *
+     * @param concurrency 流程预算，必须大于0
+     * @param <F> 类型
+     * @return 返回自身
+     * @throws IllegalArgumentException 当 {@code concurrency} 不大于0时
+     */
+    public <F extends Flow<D>> F concurrency(int concurrency) {
+        FlowExecutors.setFlowConcurrency(this.start.getStreamId(), concurrency);
+        return (F) this;
+    }
+
+    /**
+     * 移除通过 {@link #concurrency(int)} 设置的流程预算，流程不再使用时调用
+     * 移除后流程只受全局预算限制
+     */
+    public void removeConcurrency() {
+        FlowExecutors.removeFlowConcurrency(this.start.getStreamId());
+    }
+
+    /**
+     * 流程定义完成后，为节点和连线生成稳定的唯一标识
+     * <p>从起始节点开始按照订阅的顺序广度优先遍历，节点和连线的唯一标识由流程的唯一标识和遍历的序号组成，因此相同的流程定义
+     * 在每次启动后得到相同的唯一标识，持久化的上下文中记录的位置在重新启动后仍然有效。流程的唯一标识不是由调用方指定时，
+     * 节点和连线保留随机的唯一标识。</p>
+     */
+    public void identify() {
+        if (!this.isIdentified) {
+            return;
+        }
+        int[] sequence = new int[1];
+        this.traverse((subscription, isFirst) -> {
+            setId(subscription, StringUtils.join(Constants.STREAM_ID_SEPARATOR, this.id, "edge", sequence[0]++));
+            if (isFirst) {
+                setId(subscription.getTo(),
+                        StringUtils.join(Constants.STREAM_ID_SEPARATOR, this.id, "node", sequence[0]++));
+            }
+        });
+    }
+
+    /**
+     * 恢复上下文仓库中没有处理完的数据，需要在流程定义完成之后调用
+     * <p>持久化的上下文仓库在重新启动后只恢复数据，不会触发节点处理。该方法把节点已经取走但是没有处理完的上下文放回到节点的
+     * 连线上，把节点已经生成但是没有发送的上下文发送到后续的连线上，然后通知每个连线上有待处理数据的节点，节点按照正常的
+     * 流程重新处理这些数据。</p>
+     */
+    public void recover() {
+        this.traverse((subscription, isFirst) -> {
+            To<Object, Object> to = ObjectUtils.cast(subscription.getTo());
+            FlowContextRepo repo = to.getFlowContextRepo();
+            String pending = FlowNodeStatus.PENDING.toString();
+            if (isFirst) {
+                List<FlowContext<Object>> taken =
+                        repo.getContextsByPosition(to.getStreamId(), Collections.singletonList(to.getId()), pending);
+                taken.forEach(context -> context.setPosition(subscription.getId()));
+                if (!taken.isEmpty()) {
+                    repo.updateStatus(taken, pending, subscription.getId());
+                }
+            }
+            List<FlowContext<Object>> contexts =
+                    repo.getContextsByPosition(to.getStreamId(), Collections.singletonList(subscription.getId()),
+                            pending);
+            contexts.forEach(to::recoverIndex);
+            to.getMessenger().send(to.isAuto() ? ProcessType.PROCESS : ProcessType.PRE_PROCESS, to, contexts);
+            if (isFirst) {
+                repo.<Object>getContextsByPosition(to.getStreamId(), Collections.singletonList(to.getId()),
+                                FlowNodeStatus.NEW.toString())
+                        .stream()
+                        .map(FlowContext::getBatchId)
+                        .distinct()
+                        .forEach(to::onNext);
+            }
+        });
+    }
+
+    private void traverse(BiConsumer<Subscription<?>, Boolean> visitor) {
+        Deque<Publisher<?>> publishers = new ArrayDeque<>();
+        Set<Subscriber<?, ?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        publishers.add(this.start);
+        while (!publishers.isEmpty()) {
+            for (Subscription<?> subscription : publishers.removeFirst().getSubscriptions()) {
+                Subscriber<?, ?> to = subscription.getTo();
+                boolean isFirst = visited.add(to);
+                visitor.accept(subscription, isFirst);
+                if (isFirst && to instanceof Publisher) {
+                    publishers.addLast((Publisher<?>) to);
+                }
+            }
+        }
+    }
+
+    private static void setId(Object target, String id) {
+        if (target instanceof IdGenerator) {
+            ((IdGenerator) target).setId(id);
+        }
+    }
+
     /**
      * 一个session结束整流操作后将触发onComplete事件
      *
@@ -9,7 +9,7 @@ package modelengine.fit.waterflow.domain.flow;
 import lombok.Setter;
 import modelengine.fit.waterflow.domain.context.FlowSession;
 import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoMessenger;
-import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMemoRepo;
+import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextIndexedMemoRepo;
 import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMessenger;
 import modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextRepo;
 import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocks;
@@ -46,7 +46,7 @@ public final class Flows {
     private static FlowLocks locks;
 
     static {
-        setRepo(new FlowContextMemoRepo());
+        setRepo(new FlowContextIndexedMemoRepo());
         setMessenger(new FlowContextMemoMessenger());
         setLocks(new FlowLocksMemo());
     }
@@ -77,6 +77,24 @@ public final class Flows {
         return new Start<>(flow.start, flow);
     }
 
+    /**
+     * 使用指定的流程唯一标识建立流程，然后通过offer灌入数据进行处理
+     * <p>流程定义完成后节点和连线的唯一标识由流程的唯一标识生成。使用持久化的上下文仓库时，重新启动后以相同的唯一标识
+     * 定义相同的流程，再调用{@link Flow#recover()}即可继续处理没有处理完的数据。</p>
+     *
+     * @param <D> 要处理的数据类型
+     * @param id 流程的唯一标识
+     * @param repo 上下文处理类
+     * @param messenger 事件发送类
+     * @param locks 流程锁
+     * @return 处理流头结点
+     */
+    public static <D> Start<D, D, D, ProcessFlow<D>> create(String id, FlowContextRepo repo,
+            FlowContextMessenger messenger, FlowLocks locks) {
+        ProcessFlow<D> flow = new ProcessFlow<>(id, repo, messenger, locks);
+        return new Start<>(flow.start, flow);
+    }
+
     /**
      * 基于单条数据建立流，然后通过offer开始处理数据
      *
@@ -33,6 +33,21 @@ public class ProcessFlow<D> extends Flow<D> implements EmitterListener<D, FlowSe
         this.start = new From<>(repo, messenger, locks);
     }
 
+    /**
+     * 流从起始节点开始，使用指定的流程唯一标识
+     * <p>流程的唯一标识同时作为流的唯一标识，流程定义完成后节点和连线的唯一标识由它生成，
+     * 使用持久化的上下文仓库时，重新启动后以相同的唯一标识定义相同的流程即可恢复没有处理完的数据。</p>
+     *
+     * @param id 流程的唯一标识
+     * @param repo 上下文持久化
+     * @param messenger 上下文发送器
+     * @param locks 流程锁
+     */
+    public ProcessFlow(String id, FlowContextRepo repo, FlowContextMessenger messenger, FlowLocks locks) {
+        super(id);
+        this.start = new From<>(id, id, repo, messenger, locks);
+    }
+
     @Override
     public void handle(D data, FlowSession session) {
         this.offer(data, session == null ? new FlowSession() : session);
@@ -16,6 +16,7 @@ import modelengine.fit.waterflow.domain.enums.ParallelMode;
 import modelengine.fit.waterflow.domain.flow.Flow;
 import modelengine.fit.waterflow.domain.stream.nodes.From;
 import modelengine.fit.waterflow.domain.stream.operators.Operators;
+import modelengine.fit.waterflow.domain.stream.operators.TimeWindowCondition;
 import modelengine.fit.waterflow.domain.stream.reactive.Publisher;
 import modelengine.fit.waterflow.domain.utils.Identity;
 import modelengine.fit.waterflow.domain.utils.Tuple;
@@ -285,6 +286,10 @@ public class Start<O, D, I, F extends Flow<D>> extends Activity<D, F> implements
             public synchronized R process(FlowContext<O> input) {
                 input.getSession().setAsAccumulator();
                 Window window = input.getWindow();
+                if (input instanceof CompleteContext && window.acc() == null && !window.isComplete()) {
+                    // the timer of time window fired after the data was reduced and emitted by new data
+                    return null;
+                }
                 R acc = ObjectUtils.cast(Optional.ofNullable(window.acc()).orElseGet(actualInit));
                 if (acc == null) {
                     if (input.getData() instanceof Number) {
@@ -319,13 +324,14 @@ public class Start<O, D, I, F extends Flow<D>> extends Activity<D, F> implements
     }
 
     /**
-     * 构建一个时长的window
+     * 构建一个时长的滚动window，从第一个数据到达开始计时，到达时长后即使没有新数据也会完成
+     * 会话window等其他按时间完成的window见 {@link TimeWindowCondition}
      *
      * @param duration 时间间隔
      * @return state节点，用以继续构建后续链路
      */
     public State<O, D, O, F> window(Duration duration) {
-        return this.window(arg -> arg.timeToNow().compareTo(duration) >= 0);
+        return this.window(TimeWindowCondition.tumbling(duration));
     }
 
     /**
@@ -243,6 +243,7 @@ public class State<O, D, I, F extends Flow<D>> extends Start<O, D, I, F>
         this.getFlow()
                 .end()
                 .onGlobalError(this.buildGlobalHandler(errHandler, this.getFlow().end().getFlowContextRepo()));
+        this.getFlow().identify();
         return this.getFlow();
     }
 
@@ -0,0 +1,123 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.stream.nodes;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * 节点的并发指标
+ * <p>包括节点正在处理的批次数量、边上等待处理的数据数量，以及节点因为流程预算或者全局预算耗尽而等待并发许可的次数和时间。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class NodeMetrics {
+    private final IntSupplier inFlight;
+
+    private final IntSupplier maxConcurrency;
+
+    private final IntSupplier queueDepth;
+
+    private final AtomicLong waitingSince = new AtomicLong();
+
+    private final LongAdder permitWaits = new LongAdder();
+
+    private final LongAdder permitWaitNanos = new LongAdder();
+
+    private final AtomicLong maxPermitWaitNanos = new AtomicLong();
+
+    /**
+     * 构造方法
+     *
+     * @param inFlight 节点正在处理的批次数量
+     * @param maxConcurrency 节点的并发度
+     * @param queueDepth 节点边上等待处理的数据数量
+     */
+    NodeMetrics(IntSupplier inFlight, IntSupplier maxConcurrency, IntSupplier queueDepth) {
+        this.inFlight = inFlight;
+        this.maxConcurrency = maxConcurrency;
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * 记录节点没有获得并发许可，开始等待
+     */
+    void onPermitRejected() {
+        this.waitingSince.compareAndSet(0L, System.nanoTime());
+    }
+
+    /**
+     * 记录节点获得了并发许可，之前在等待时累计等待时间
+     */
+    void onPermitAcquired() {
+        long since = this.waitingSince.getAndSet(0L);
+        if (since == 0L) {
+            return;
+        }
+        long waited = System.nanoTime() - since;
+        this.permitWaits.increment();
+        this.permitWaitNanos.add(waited);
+        this.maxPermitWaitNanos.accumulateAndGet(waited, Math::max);
+    }
+
+    /**
+     * 获取节点正在处理的批次数量
+     *
+     * @return 正在处理的批次数量
+     */
+    public int getInFlight() {
+        return this.inFlight.getAsInt();
+    }
+
+    /**
+     * 获取节点的并发度
+     *
+     * @return 节点的并发度
+     */
+    public int getMaxConcurrency() {
+        return this.maxConcurrency.getAsInt();
+    }
+
+    /**
+     * 获取节点边上等待处理的数据数量，每次调用都会查询上下文仓库
+     *
+     * @return 等待处理的数据数量
+     */
+    public int getQueueDepth() {
+        return this.queueDepth.getAsInt();
+    }
+
+    /**
+     * 获取节点等待并发许可的次数
+     *
+     * @return 等待并发许可的次数
+     */
+    public long getPermitWaits() {
+        return this.permitWaits.sum();
+    }
+
+    /**
+     * 获取节点等待并发许可的累计时间
+     *
+     * @return 累计等待的毫秒数
+     */
+    public long getPermitWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.permitWaitNanos.sum());
+    }
+
+    /**
+     * 获取节点单次等待并发许可的最长时间
+     *
+     * @return 单次最长等待的毫秒数
+     */
+    public long getMaxPermitWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(this.maxPermitWaitNanos.get());
+    }
+}
@@ -0,0 +1,139 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.stream.nodes;
+
+import modelengine.fit.waterflow.domain.utils.FlowExecutors;
+import modelengine.fitframework.log.Logger;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 节点的信号驱动处理循环
+ * <p>新数据到达、节点处理完成或者并发许可释放时调用{@link #signal()}唤醒，处理循环在共享的调度线程池中执行，
+ * 不为每次触发创建线程，也不在两次拉取之间固定休眠。</p>
+ * <p>同一时刻一个处理循环最多只在一个线程中运行。处理循环运行期间收到的信号会被累计，处理循环在退出前会重新拉取，
+ * 因此数据到达与处理循环退出并发时不会丢失唤醒。</p>
+ * <p>信号只能由本进程内的{@link modelengine.fit.waterflow.domain.context.repo.flowcontext.FlowContextMessenger}
+ * 发出，其他进程写入边上的数据只有在其消息器把通知投递到本进程时才会唤醒本节点。为此处理过数据的处理循环退出后，
+ * 会在{@link #RECHECK_DELAY_MILLIS}毫秒后再拉取一次，覆盖处理循环退出时其他进程刚写入的数据。</p>
+ * <p>调度线程池拒绝处理循环时，累计的信号保持不变，并在{@link #REJECTED_RETRY_DELAY_MILLIS}毫秒后重新提交，
+ * 直到提交成功，因此唤醒不会因为拒绝而丢失。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class NodeWorker {
+    private static final Logger LOG = Logger.get(NodeWorker.class);
+
+    /**
+     * 处理过数据的处理循环退出后再次拉取的延迟毫秒数
+     */
+    static final long RECHECK_DELAY_MILLIS = 100L;
+
+    /**
+     * 调度线程池拒绝处理循环后重新提交的延迟毫秒数
+     */
+    static final long REJECTED_RETRY_DELAY_MILLIS = 50L;
+
+    private final AtomicInteger signals = new AtomicInteger();
+
+    private final AtomicBoolean delayed = new AtomicBoolean();
+
+    private final Supplier<String> name;
+
+    private final BooleanSupplier step;
+
+    private final Executor scheduler;
+
+    /**
+     * 构造方法，处理循环在流程共享的调度线程池中运行
+     *
+     * @param name 处理循环的名称，用于日志
+     * @param step 拉取并处理一次数据，返回是否需要继续拉取
+     */
+    NodeWorker(Supplier<String> name, BooleanSupplier step) {
+        this(name, step, FlowExecutors.getScheduler());
+    }
+
+    /**
+     * 构造方法
+     *
+     * @param name 处理循环的名称，用于日志
+     * @param step 拉取并处理一次数据，返回是否需要继续拉取
+     * @param scheduler 运行处理循环的调度线程池
+     */
+    NodeWorker(Supplier<String> name, BooleanSupplier step, Executor scheduler) {
+        this.name = name;
+        this.step = step;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 唤醒处理循环，处理循环没有运行时提交到调度线程池中运行
+     */
+    void signal() {
+        if (this.signals.getAndIncrement() != 0) {
+            return;
+        }
+        this.submit();
+    }
+
+    /**
+     * 延迟一段时间后唤醒处理循环，用于外部依赖异常时的重试以及并发爬升，已有延迟唤醒时不再重复注册
+     *
+     * @param delayMillis 延迟的毫秒数
+     */
+    void signalLater(long delayMillis) {
+        if (!this.delayed.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            this.delayed.set(false);
+            this.signal();
+        });
+    }
+
+    private void submit() {
+        try {
+            this.scheduler.execute(this::drain);
+        } catch (RejectedExecutionException ex) {
+            // 信号保持未处理的状态，期间的新信号只会累计，由重新提交后的处理循环统一处理。
+            LOG.warn("The node worker is rejected by scheduler, retry later. [name={}, delayMillis={}]",
+                    this.name.get(),
+                    REJECTED_RETRY_DELAY_MILLIS);
+            CompletableFuture.delayedExecutor(REJECTED_RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS)
+                    .execute(this::submit);
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        boolean isWorked = false;
+        do {
+            try {
+                while (this.step.getAsBoolean()) {
+                    // 持续拉取，直到没有可以处理的数据或者并发已满
+                    isWorked = true;
+                }
+            } catch (Throwable error) {
+                LOG.error("The node worker runs failed. [name={}, message={}]", this.name.get(), error.getMessage());
+                LOG.debug("The node worker runs failed details: ", error);
+            }
+            missed = this.signals.addAndGet(-missed);
+        } while (missed != 0);
+        if (isWorked) {
+            this.signalLater(RECHECK_DELAY_MILLIS);
+        }
+    }
+}
@@ -32,12 +32,10 @@ import modelengine.fit.waterflow.domain.stream.reactive.Subscription;
 import modelengine.fit.waterflow.domain.utils.FlowExecutors;
 import modelengine.fit.waterflow.domain.utils.IdGenerator;
 import modelengine.fit.waterflow.domain.utils.Identity;
-import modelengine.fit.waterflow.domain.utils.SleepUtil;
 import modelengine.fit.waterflow.domain.utils.UUIDUtil;
 import modelengine.fit.waterflow.exceptions.WaterflowException;
 import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
-import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.util.CollectionUtils;
 import modelengine.fitframework.util.ObjectUtils;
 import modelengine.fitframework.util.StringUtils;
@@ -76,7 +74,16 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
      */
     private static final int MAX_CONCURRENCY = 10;
 
-    private static final int SLEEP_MILLS = 10;
+    /**
+     * 拉取数据异常时（如数据库或者redis不可用），重新拉取的延迟时间
+     */
+    private static final int RETRY_DELAY_MILLS = 10;
+
+    /**
+     * 节点有正在处理的数据时，再并发提交下一批数据之前的等待时间
+     * <p>处理较快的数据在完成时立即唤醒节点，按照到达的顺序逐条处理；处理较慢的数据超过该时间后才逐步提升并发。</p>
+     */
+    private static final int RAMP_UP_MILLS = 10;
 
     /**
      * subscriber支持多publisher分发，前提是分发源出来的数据类型需要一致，不然无法统一处理
@@ -168,14 +175,40 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
     private volatile int curConcurrency = 0;
 
     /**
-     * 当前节点预处理是否在运行中
+     * 最近一次提交数据的时间
+     */
+    private volatile long lastSubmitMillis = 0L;
+
+    /**
+     * 当前节点的预处理循环
+     */
+    private final NodeWorker preProcessWorker =
+            new NodeWorker(() -> this.getThreadName(PRE_PROCESS_T_NAME_PREFIX), this::preProcessOnce);
+
+    /**
+     * 当前节点的处理循环
+     */
+    private final NodeWorker processWorker = new NodeWorker(() -> this.getThreadName(PROCESS_T_NAME_PREFIX),
+            () -> this.getProcessMode().requestOnce(ProcessType.PROCESS, this));
+
+    /**
+     * 并发许可释放时唤醒当前节点的处理循环，等待期间只登记一次
+     */
+    private final Runnable permitWaiter = () -> {
+        this.processWorker.signal();
+        this.notifyCapacity();
+    };
+
+    /**
+     * 在调用线程中同步处理平行节点中的contexts时，等待节点或者全局并发释放的监视器
      */
-    private volatile boolean preProcessRunning = false;
+    private final Object capacityMonitor = new Object();
 
     /**
-     * 当前节点处理是否在运行中
+     * 当前节点的并发指标
      */
-    private volatile boolean processRunning = false;
+    private final NodeMetrics metrics =
+            new NodeMetrics(() -> this.curConcurrency, () -> this.maxConcurrency, this::countPending);
 
     /**
      * 数据处理完后callback函数，用于外界的侦听或者数据处理完后后续操作
@@ -191,10 +224,6 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
 
     private boolean isAuto = true;
 
-    private Thread processT = null;
-
-    private Thread preProcessT = null;
-
     private final Map<Object, EmitterListener<O, FlowSession>> listeners = new ConcurrentHashMap<>();
 
     private final Map<Object, FlowSession> nextSessions = new ConcurrentHashMap<>();
@@ -270,22 +299,25 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
     }
 
     /**
-     * 节点接收外部处理事件入口，接收到事件后开始启动执行节点的contexts
+     * 节点接收外部处理事件入口，接收到事件后唤醒节点的处理循环执行节点的contexts
+     * 平行节点中的contexts不交给处理循环，而是在调用线程中同步处理完成后再返回：平行节点把同一个context依次下发给各个分支，
+     * 各分支边上的context共用同一个id，下发到下一个分支时会覆盖上一个分支边上context的位置，
+     * 因此必须在下发下一个分支之前处理完当前分支，异步处理会导致前面分支的数据被覆盖而无法处理
      *
      * @param type 触发节点处理的类型，有PRE_PROCESS和PROCESS两种
      * @param contexts 待处理的contexts，留给平行节点处理时进行条件判断
      */
     @Override
-    public synchronized void accept(ProcessType type, List<FlowContext<I>> contexts) {
+    public void accept(ProcessType type, List<FlowContext<I>> contexts) {
         if (CollectionUtils.isEmpty(contexts)) {
             return;
         }
         if (type == ProcessType.PRE_PROCESS && inParallelMode(contexts)) {
-            this.preProcess(type);
+            this.preProcess();
             return;
         }
         if (type == ProcessType.PROCESS && inParallelMode(contexts)) {
-            this.process(type);
+            this.getProcessMode().request(type, this);
             return;
         }
         this.triggerNodeProcessor(type);
@@ -323,30 +355,12 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         }
     }
 
-    private synchronized void triggerNodeProcessor(ProcessType type) {
-        if (type == ProcessType.PRE_PROCESS && (preProcessT == null || !preProcessRunning)) {
-            preProcessRunning = true;
-            String threadName = getThreadName(PRE_PROCESS_T_NAME_PREFIX);
-            preProcessT = new Thread(() -> preProcess(type), threadName);
-            preProcessT.setUncaughtExceptionHandler((thread, error) -> LOG.error("run preProcessT error, message:{}",
-                    error.getMessage()));
-            preProcessT.start();
-            LOG.debug("[{}] preprocess main loop starts for stream-id: {}, node-id: {}",
-                    threadName,
-                    this.streamId,
-                    this.id);
-        }
-        if (type == ProcessType.PROCESS && (processT == null || !processRunning)) {
-            processRunning = true;
-            String threadName = getThreadName(PROCESS_T_NAME_PREFIX);
-            processT = new Thread(() -> process(type), threadName);
-            processT.setUncaughtExceptionHandler((thread, error) -> LOG.error("run processT error, message:{}",
-                    error.getMessage()));
-            processT.start();
-            LOG.debug("[{}] process main loop starts for stream-id: {}, node-id: {}",
-                    threadName,
-                    this.streamId,
-                    this.id);
+    private void triggerNodeProcessor(ProcessType type) {
+        if (type == ProcessType.PRE_PROCESS) {
+            this.preProcessWorker.signal();
+        }
+        if (type == ProcessType.PROCESS) {
+            this.processWorker.signal();
         }
     }
 
@@ -359,59 +373,48 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
     }
 
     /**
-     * 节点request边上pending的数据
+     * 节点request边上pending的数据，直到边上没有待处理的数据
      * 首先通过分布式锁，保证每次只有一个节点线程可以请求到一批次contexts（以batchID为维度）
      * 其次过滤出ready的contexts，并且将其标记为sent，然后释放分布式锁
      * 最后将ready的contexts通过事件发送给引擎外部
      * 保证一批次contexts一次只有一个线程在处理
-     * 非常重要！退出机制增加保护策略，避免A线程退出过程中，B线程放数据到边上数据得不到处理的场景：
-     * 这时A线程未标记退出，B线程已经完成触发动作，B线程以为A线程还在处理，而A线程直接就会退出，因此由A线程判断是否再触发一次
+     * 非常重要！退出机制的保护策略由{@link NodeWorker}保证：A线程退出过程中B线程放数据到边上时，
+     * B线程的触发信号会被累计，A线程退出前会再拉取一次，数据不会得不到处理
      */
-    private void preProcess(ProcessType type) {
-        while (true) {
-            List<FlowContext<I>> ready = new ArrayList<>();
-            try {
-                ready = requestReady();
-                if (CollectionUtils.isEmpty(ready)) {
-                    preProcessRunning = false;
-                    LOG.debug("[{}] preprocess main loop exit for stream-id: {}, node-id: {}",
-                            this.getThreadName(PRE_PROCESS_T_NAME_PREFIX),
-                            this.streamId,
-                            this.id);
-                    this.handlePreProcessConcurrentConflict();
-                    return;
-                }
-                messenger.send(this.getId(), ready);
-            } catch (Exception ex) {
-                ready.forEach( // 如果是数据库或者redis挂了，会死循环，线程不退出等待数据库或者redis恢复
-                        r -> LOG.error("Preprocess main loop exception stream-id: {}, node-id: {}, context-id: {}.",
-                                this.streamId,
-                                this.id,
-                                r.getId()));
-                LOG.debug("Preprocess main loop exception details: ", ex);
-            } finally {
-                SleepUtil.sleep(SLEEP_MILLS);
-            }
+    private void preProcess() {
+        while (this.preProcessOnce()) {
+            // 持续拉取，直到边上没有待处理的数据
         }
     }
 
-    private void process(ProcessType type) {
-        this.getProcessMode().request(type, this);
-    }
-
-    private void handlePreProcessConcurrentConflict() {
-        List<FlowContext<I>> concurrentConflictContexts = this.preFilter()
-                .process(flowContextRepo.getContextsByPosition(this.streamId,
-                        this.froms.stream().map(Identity::getId).collect(Collectors.toList()),
-                        FlowNodeStatus.PENDING.toString()));
-        if (CollectionUtils.isEmpty(concurrentConflictContexts) || inParallelMode(concurrentConflictContexts)) {
-            return;
+    /**
+     * 节点request一次边上pending的数据
+     *
+     * @return 是否请求到了数据，需要继续拉取
+     */
+    private boolean preProcessOnce() {
+        List<FlowContext<I>> ready = new ArrayList<>();
+        try {
+            ready = requestReady();
+            if (CollectionUtils.isEmpty(ready)) {
+                LOG.debug("[{}] preprocess main loop exit for stream-id: {}, node-id: {}",
+                        this.getThreadName(PRE_PROCESS_T_NAME_PREFIX),
+                        this.streamId,
+                        this.id);
+                return false;
+            }
+            messenger.send(this.getId(), ready);
+            return true;
+        } catch (Exception ex) {
+            ready.forEach( // 如果是数据库或者redis挂了，延迟后重新拉取，等待数据库或者redis恢复
+                    r -> LOG.error("Preprocess main loop exception stream-id: {}, node-id: {}, context-id: {}.",
+                            this.streamId,
+                            this.id,
+                            r.getId()));
+            LOG.debug("Preprocess main loop exception details: ", ex);
+            this.preProcessWorker.signalLater(RETRY_DELAY_MILLS);
+            return false;
         }
-        LOG.info("[{}] preprocess thread conflict happens for stream-id: {}, node-id: {}",
-                this.getThreadName(PRE_PROCESS_T_NAME_PREFIX),
-                this.streamId,
-                this.id);
-        this.accept(ProcessType.PRE_PROCESS, concurrentConflictContexts);
     }
 
     /**
@@ -632,6 +635,41 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
 
     private synchronized void updateConcurrency(int newConcurrency) {
         this.curConcurrency += newConcurrency;
+        if (newConcurrency > 0) {
+            this.lastSubmitMillis = System.currentTimeMillis();
+        } else {
+            this.notifyCapacity();
+        }
+    }
+
+    private void notifyCapacity() {
+        synchronized (this.capacityMonitor) {
+            this.capacityMonitor.notifyAll();
+        }
+    }
+
+    /**
+     * 等待节点或者全局并发释放，释放时立即唤醒，最多等待一个重试间隔后重新检查，避免检查与等待之间错过的唤醒
+     *
+     * @return 是否需要继续等待，线程被中断时返回false
+     */
+    private boolean awaitCapacity() {
+        synchronized (this.capacityMonitor) {
+            try {
+                this.capacityMonitor.wait(RETRY_DELAY_MILLS);
+                return true;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    private long rampUpDelay() {
+        if (this.curConcurrency == 0) {
+            return 0L;
+        }
+        return Math.max(0L, RAMP_UP_MILLS - (System.currentTimeMillis() - this.lastSubmitMillis));
     }
 
     /**
@@ -780,6 +818,35 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         this.maxConcurrency = Validation.greaterThan(concurrency, 0, "The concurrency should greater than 0.");
     }
 
+    /**
+     * 恢复保序会话的处理进度
+     * <p>节点在内存中记录每个保序会话下一个可以处理的序号，重新启动后该记录丢失，需要根据恢复的待处理上下文重新记录，
+     * 否则序号大于0的上下文不会被处理。</p>
+     *
+     * @param context 恢复的待处理上下文
+     */
+    public void recoverIndex(FlowContext<I> context) {
+        Integer index = context.getIndex();
+        if (index != null && index > 0 && context.getSession() != null) {
+            this.processingSessions.merge(context.getSession().getId(), index, Math::min);
+        }
+    }
+
+    private int countPending() {
+        return this.flowContextRepo.getContextsByPosition(this.streamId,
+                this.froms.stream().map(Identity::getId).collect(Collectors.toList()),
+                FlowNodeStatus.PENDING.toString()).size();
+    }
+
+    /**
+     * 获取节点的并发指标
+     *
+     * @return 节点的并发指标
+     */
+    public NodeMetrics getMetrics() {
+        return this.metrics;
+    }
+
     private FlowSession getNextSession(FlowSession session) {
         return FlowSessionRepo.getNextToSession(this.streamId, session);
     }
@@ -877,7 +944,8 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
         public abstract <T1, R1> List<FlowContext<R1>> process(To<T1, R1> to, List<FlowContext<T1>> contexts);
 
         /**
-         * 节点 request 边上 pending 的数据
+         * 节点在调用线程中同步 request 边上 pending 的数据，直到没有可以处理的数据
+         * 用于平行节点中的contexts，并发已满时在调用线程中等待并发释放，不返回给处理循环，保证返回前当前分支的数据已经处理
          *
          * @param <T1> 流程实例执行时的入参数据类型
          * @param <R1> 流程实例执行时的出参数据类型
@@ -886,47 +954,88 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
          */
         public <T1, R1> void request(ProcessType type, To<T1, R1> to) {
             while (true) {
-                if (to.isOverLimit()) {
-                    SleepUtil.sleep(SLEEP_MILLS);
-                    continue;
-                }
-                Optional<FlowExecutors.ConcurrencyHolder> concurrencyHolder = FlowExecutors.incrementConcurrency();
+                Optional<FlowExecutors.ConcurrencyHolder> concurrencyHolder =
+                        to.isOverLimit() ? Optional.empty() : this.acquire(to);
                 if (!concurrencyHolder.isPresent()) {
-                    SleepUtil.sleep(SLEEP_MILLS);
-                    continue;
-                }
-                boolean isSubmitted = false;
-                List<FlowContext<T1>> ready = new ArrayList<>();
-                try {
-                    ready = requestReady(to);
-                    if (CollectionUtils.isEmpty(ready)) {
-                        to.processRunning = false;
-                        LOG.debug("[{}] process main loop exit for stream-id: {}, node-id: {}",
-                                to.getThreadName(To.PROCESS_T_NAME_PREFIX),
-                                to.streamId,
-                                to.id);
-                        handleProcessConcurrentConflict(to);
-                        return;
-                    }
-                    if (to.inParallelMode(ready)) {
-                        to.onProcess(type, ready, false);
-                    } else {
-                        this.submit(type, to, ready, concurrencyHolder.get());
-                        isSubmitted = true;
+                    if (to.awaitCapacity()) {
+                        continue;
                     }
-                } catch (Exception ex) {
-                    // 如果是数据库或者redis挂了，会死循环，线程不退出等待数据库或者redis恢复
-                    ready.forEach(r -> LOG.error(
-                            "Process main loop exception, " + "stream-id: {}, node-id: {}, context-id: {}.",
+                    to.processWorker.signal();
+                    return;
+                }
+                if (!this.requestWith(type, to, concurrencyHolder.get())) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 节点 request 一次边上 pending 的数据并提交处理
+         * 节点、流程或者全局并发已满时直接返回，节点处理完成或者并发预算释放时会唤醒节点的处理循环，不再休眠轮询
+         * 节点有正在处理的数据且刚提交过数据时也直接返回，等待处理完成或者爬升时间到达后再唤醒
+         *
+         * @param <T1> 流程实例执行时的入参数据类型
+         * @param <R1> 流程实例执行时的出参数据类型
+         * @param type 处理类型
+         * @param to 当前节点
+         * @return 是否请求到了数据，需要继续拉取
+         */
+        private <T1, R1> boolean requestOnce(ProcessType type, To<T1, R1> to) {
+            if (to.isOverLimit()) {
+                return false;
+            }
+            long delay = to.rampUpDelay();
+            if (delay > 0) {
+                to.processWorker.signalLater(delay);
+                return false;
+            }
+            return this.acquire(to).map(holder -> this.requestWith(type, to, holder)).orElse(false);
+        }
+
+        private <T1, R1> Optional<FlowExecutors.ConcurrencyHolder> acquire(To<T1, R1> to) {
+            Optional<FlowExecutors.ConcurrencyHolder> concurrencyHolder =
+                    FlowExecutors.incrementConcurrency(to.streamId, to.permitWaiter);
+            if (concurrencyHolder.isPresent()) {
+                to.metrics.onPermitAcquired();
+            } else {
+                to.metrics.onPermitRejected();
+            }
+            return concurrencyHolder;
+        }
+
+        private <T1, R1> boolean requestWith(ProcessType type, To<T1, R1> to,
+                FlowExecutors.ConcurrencyHolder concurrencyHolder) {
+            boolean isSubmitted = false;
+            List<FlowContext<T1>> ready = new ArrayList<>();
+            try {
+                ready = requestReady(to);
+                if (CollectionUtils.isEmpty(ready)) {
+                    LOG.debug("[{}] process main loop exit for stream-id: {}, node-id: {}",
+                            to.getThreadName(To.PROCESS_T_NAME_PREFIX),
                             to.streamId,
-                            to.id,
-                            r.getId()));
-                    LOG.debug("Process main loop exception details: ", ex);
-                } finally {
-                    if (!isSubmitted) {
-                        concurrencyHolder.get().release();
-                    }
-                    SleepUtil.sleep(SLEEP_MILLS);
+                            to.id);
+                    return false;
+                }
+                if (to.inParallelMode(ready)) {
+                    to.onProcess(type, ready, false);
+                } else {
+                    this.submit(type, to, ready, concurrencyHolder);
+                    isSubmitted = true;
+                }
+                return true;
+            } catch (Exception ex) {
+                // 如果是数据库或者redis挂了，延迟后重新拉取，等待数据库或者redis恢复
+                ready.forEach(r -> LOG.error(
+                        "Process main loop exception, " + "stream-id: {}, node-id: {}, context-id: {}.",
+                        to.streamId,
+                        to.id,
+                        r.getId()));
+                LOG.debug("Process main loop exception details: ", ex);
+                to.processWorker.signalLater(RETRY_DELAY_MILLS);
+                return false;
+            } finally {
+                if (!isSubmitted) {
+                    concurrencyHolder.release();
                 }
             }
         }
@@ -979,25 +1088,13 @@ public class To<I, O> extends IdGenerator implements Subscriber<I, O> {
 
         private <T1, R1> void submit(ProcessType type, To<T1, R1> to, List<FlowContext<T1>> ready,
                 FlowExecutors.ConcurrencyHolder concurrencyHolder) {
-            FlowExecutors.getThreadPool().execute(Task.builder().runnable(() -> {
-                to.onProcess(type, ready, true);
-                concurrencyHolder.release();
-            }).buildDisposable());
-        }
-
-        private <T1, R1> void handleProcessConcurrentConflict(To<T1, R1> to) {
-            List<FlowContext<T1>> pending = requestAll(to).stream()
-                    .filter(context -> !context.getParallelMode().equals(ParallelMode.EITHER.name())
-                            || context.isJoined() || !to.isParallelJoined(context))
-                    .collect(Collectors.toList());
-            if (CollectionUtils.isEmpty(pending) || to.inParallelMode(pending)) {
-                return;
-            }
-            LOG.info("[{}] process thread conflict happens for stream-id: {}, node-id: {}",
-                    to.getThreadName(To.PROCESS_T_NAME_PREFIX),
-                    to.streamId,
-                    to.id);
-            to.accept(ProcessType.PROCESS, pending);
+            FlowExecutors.execute(() -> {
+                try {
+                    to.onProcess(type, ready, true);
+                } finally {
+                    concurrencyHolder.release();
+                }
+            });
         }
     }
 }
@@ -16,6 +16,7 @@ import modelengine.fit.waterflow.domain.stream.Collector;
 import modelengine.fit.waterflow.domain.stream.nodes.Retryable;
 import modelengine.fit.waterflow.domain.stream.nodes.To;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -180,6 +181,16 @@ public final class Operators {
          * @return 是，完成
          */
         boolean fulfilled(WindowArg arg);
+
+        /**
+         * 距离window按时间完成还需要等待的时长，window在没有新数据时由定时器在到期后重新判定是否完成
+         *
+         * @param arg 判定window完成的参数
+         * @return 需要等待的时长，为 {@code null} 时表示window不按时间完成
+         */
+        default Duration remaining(WindowArg arg) {
+            return null;
+        }
     }
 
     /**
@@ -6,6 +6,8 @@
 
 package modelengine.fit.waterflow.domain.stream.operators;
 
+import java.time.Duration;
+
 /**
  * session的window的条件
  *
@@ -46,4 +48,9 @@ public class SessionWindowCondition implements Operators.WindowCondition {
     public boolean fulfilled(WindowArg arg) {
         return this.windowCondition.fulfilled(arg);
     }
+
+    @Override
+    public Duration remaining(WindowArg arg) {
+        return this.windowCondition.remaining(arg);
+    }
 }
@@ -0,0 +1,67 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.stream.operators;
+
+import modelengine.fitframework.inspection.Validation;
+
+import java.time.Duration;
+
+/**
+ * 按时间完成的window的条件
+ * <p>滚动window从第一个数据到达开始计时，到达时长后完成；会话window在最近一个数据到达后超过间隔没有新数据时完成。
+ * 两者都通过{@link #remaining(WindowArg)}告知剩余的时长，没有新数据时由定时器到期触发完成。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class TimeWindowCondition implements Operators.WindowCondition {
+    private final Duration size;
+
+    private final Duration gap;
+
+    private TimeWindowCondition(Duration size, Duration gap) {
+        this.size = size;
+        this.gap = gap;
+    }
+
+    /**
+     * 构造一个滚动window的条件
+     *
+     * @param size window的时长
+     * @return 滚动window的条件
+     */
+    public static TimeWindowCondition tumbling(Duration size) {
+        Validation.notNull(size, "The window size cannot be null.");
+        Validation.isFalse(size.isNegative(), "The window size cannot be negative.");
+        return new TimeWindowCondition(size, null);
+    }
+
+    /**
+     * 构造一个会话window的条件
+     *
+     * @param gap 没有新数据的间隔
+     * @return 会话window的条件
+     */
+    public static TimeWindowCondition session(Duration gap) {
+        Validation.notNull(gap, "The session gap cannot be null.");
+        Validation.isFalse(gap.isNegative(), "The session gap cannot be negative.");
+        return new TimeWindowCondition(null, gap);
+    }
+
+    @Override
+    public boolean fulfilled(WindowArg arg) {
+        return this.remaining(arg).compareTo(Duration.ZERO) <= 0;
+    }
+
+    @Override
+    public Duration remaining(WindowArg arg) {
+        if (this.size != null) {
+            return this.size.minus(arg.openToNow());
+        }
+        return this.gap.minus(arg.idleToNow());
+    }
+}
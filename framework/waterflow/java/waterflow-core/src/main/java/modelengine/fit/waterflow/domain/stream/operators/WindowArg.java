@@ -20,6 +20,10 @@ public class WindowArg {
 
     private final Duration timeToNow;
 
+    private final Duration openToNow;
+
+    private final Duration idleToNow;
+
     /**
      * 构造函数
      *
@@ -29,10 +33,27 @@ public class WindowArg {
      * @param timeToNow 时间到当前
      */
     public WindowArg(boolean isSessionComplete, long dataLength, long countToNow, Duration timeToNow) {
+        this(isSessionComplete, dataLength, countToNow, timeToNow, timeToNow, timeToNow);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param isSessionComplete 是否会话完成
+     * @param dataLength 数据长度
+     * @param countToNow 计数到当前
+     * @param timeToNow 时间到当前
+     * @param openToNow 上次聚合之后第一个数据到当前的时间
+     * @param idleToNow 最近一个数据到当前的时间
+     */
+    public WindowArg(boolean isSessionComplete, long dataLength, long countToNow, Duration timeToNow,
+            Duration openToNow, Duration idleToNow) {
         this.isSessionComplete = isSessionComplete;
         this.dataLength = dataLength;
         this.countToNow = countToNow;
         this.timeToNow = timeToNow;
+        this.openToNow = openToNow;
+        this.idleToNow = idleToNow;
     }
 
     /**
@@ -70,4 +91,23 @@ public class WindowArg {
     public Duration timeToNow() {
         return this.timeToNow;
     }
+
+    /**
+     * 上次聚合之后第一个数据到达距当前时间的间隔，上次聚合之后还没有数据到达时为0
+     * 与 {@link #timeToNow()} 不同，window创建或者聚合之后没有数据的时间不计算在内
+     *
+     * @return 间隔
+     */
+    public Duration openToNow() {
+        return this.openToNow;
+    }
+
+    /**
+     * 最近一个数据到达距当前时间的间隔
+     *
+     * @return 间隔
+     */
+    public Duration idleToNow() {
+        return this.idleToNow;
+    }
 }
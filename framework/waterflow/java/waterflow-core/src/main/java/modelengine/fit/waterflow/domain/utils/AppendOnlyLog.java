@@ -0,0 +1,309 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static modelengine.fit.waterflow.ErrorCodes.FLOW_STORE_IO_ERROR;
+
+import modelengine.fit.waterflow.exceptions.WaterflowException;
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * 追加写的记录文件，用于流程数据的本地持久化
+ * <p>每条记录以长度和CRC32校验和开头。打开时按照写入顺序重放所有完整的记录，进程崩溃时只写了一部分的尾部记录会被截断。</p>
+ * <p>刷盘间隔为0时，写入方在返回前等待数据刷盘，并发的写入方共享同一次刷盘；刷盘间隔大于0时由后台线程按照间隔刷盘，
+ * 进程崩溃时最多丢失一个间隔内写入的记录。</p>
+ * <p>失效的记录由使用方通过{@link #rewrite(List)}用当前的有效记录重写文件来清理，重写先写入临时文件再原子替换。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class AppendOnlyLog implements Closeable {
+    private static final Logger LOG = Logger.get(AppendOnlyLog.class);
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+
+    /**
+     * 文件中的记录数量达到该值，且超过有效记录数量的两倍时需要重写
+     */
+    private static final int COMPACT_MIN_RECORDS = 10000;
+
+    private static final ScheduledExecutorService SYNCER = Executors.newSingleThreadScheduledExecutor(
+            new DefaultThreadFactory("flow-store-sync", true, (thread, ex) -> {
+                LOG.error("The flow store sync failed, ex: {}, message: {}.", ex, ex.getMessage());
+            }));
+
+    private final Path file;
+
+    private final Object syncLock = new Object();
+
+    private final ScheduledFuture<?> periodicSync;
+
+    private FileChannel channel;
+
+    private long written;
+
+    private long records;
+
+    private volatile long synced;
+
+    private AppendOnlyLog(Path file, long syncIntervalMillis) {
+        this.file = file;
+        this.periodicSync = syncIntervalMillis > 0
+                ? SYNCER.scheduleWithFixedDelay(this::flushQuietly, syncIntervalMillis, syncIntervalMillis,
+                TimeUnit.MILLISECONDS)
+                : null;
+    }
+
+    /**
+     * 打开记录文件，文件不存在时创建，存在时按照写入顺序重放其中完整的记录
+     *
+     * @param file 记录文件的路径
+     * @param syncIntervalMillis 刷盘间隔的毫秒数，为0时每次写入都等待刷盘
+     * @param replay 重放记录的消费者
+     * @return 打开的记录文件
+     * @throws WaterflowException 当读写文件失败时
+     */
+    public static AppendOnlyLog open(Path file, long syncIntervalMillis, Consumer<byte[]> replay) {
+        Validation.notNull(file, "The log file cannot be null.");
+        Validation.notNull(replay, "The replay consumer cannot be null.");
+        Validation.greaterThanOrEquals(syncIntervalMillis, 0L, "The sync interval cannot be negative.");
+        AppendOnlyLog log = new AppendOnlyLog(file, syncIntervalMillis);
+        try {
+            long valid = Files.exists(file) ? replay(file, log, replay) : 0L;
+            log.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            if (log.channel.size() > valid) {
+                LOG.warn("Truncate the incomplete tail of flow store. [path={}, valid={}, size={}]",
+                        file, valid, log.channel.size());
+                log.channel.truncate(valid);
+            }
+            log.channel.position(valid);
+            log.written = valid;
+            log.synced = valid;
+            return log;
+        } catch (IOException ex) {
+            log.close();
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "open", file);
+        }
+    }
+
+    private static long replay(Path file, AppendOnlyLog log, Consumer<byte[]> replay) throws IOException {
+        long valid = 0L;
+        try (InputStream in = Files.newInputStream(file);
+             DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            long size = Files.size(file);
+            while (valid + HEADER_BYTES <= size) {
+                int length = data.readInt();
+                int checksum = data.readInt();
+                if (length < 0 || valid + HEADER_BYTES + length > size) {
+                    break;
+                }
+                byte[] record = new byte[length];
+                data.readFully(record);
+                if (checksum(record) != checksum) {
+                    break;
+                }
+                replay.accept(record);
+                valid += HEADER_BYTES + length;
+                log.records++;
+            }
+        } catch (EOFException ex) {
+            LOG.debug("The flow store ends with an incomplete record. [path={}]", file);
+        }
+        return valid;
+    }
+
+    /**
+     * 追加一批记录
+     * 刷盘间隔为0时，需要调用{@link #sync(long)}等待这批记录刷盘
+     *
+     * @param entries 记录列表
+     * @return 追加后文件的写入位置，用于等待刷盘
+     * @throws WaterflowException 当写入文件失败时
+     */
+    public synchronized long append(List<byte[]> entries) {
+        if (entries.isEmpty()) {
+            return this.written;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(entries.stream().mapToInt(entry -> HEADER_BYTES + entry.length).sum());
+        entries.forEach(entry -> buffer.putInt(entry.length).putInt(checksum(entry)).put(entry));
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                this.channel.write(buffer);
+            }
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "append", this.file);
+        }
+        this.written += buffer.limit();
+        this.records += entries.size();
+        return this.written;
+    }
+
+    /**
+     * 等待指定位置之前写入的记录刷盘，刷盘间隔大于0时直接返回
+     * 并发的调用方中，一次刷盘会覆盖刷盘开始前写入的所有记录，其余调用方不再重复刷盘
+     *
+     * @param position {@link #append(List)}返回的写入位置
+     * @throws WaterflowException 当刷盘失败时
+     */
+    public void sync(long position) {
+        if (this.periodicSync != null || this.synced >= position) {
+            return;
+        }
+        this.flush(position);
+    }
+
+    /**
+     * 判断失效的记录是否已经足够多，需要用有效的记录重写文件
+     *
+     * @param liveRecords 当前有效的记录数量
+     * @return 是否需要重写
+     */
+    public synchronized boolean needsCompaction(int liveRecords) {
+        return this.records >= COMPACT_MIN_RECORDS && this.records > 2L * liveRecords;
+    }
+
+    /**
+     * 用当前有效的记录重写文件，调用方需要保证重写期间没有并发的写入
+     *
+     * @param entries 有效的记录列表
+     * @throws WaterflowException 当读写文件失败时
+     */
+    public void rewrite(List<byte[]> entries) {
+        Path compacting = this.file.resolveSibling(this.file.getFileName() + ".compacting");
+        synchronized (this.syncLock) {
+            synchronized (this) {
+                FileChannel previous = this.channel;
+                long previousWritten = this.written;
+                long previousRecords = this.records;
+                boolean isWritten = false;
+                try (FileChannel target = FileChannel.open(compacting, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    this.channel = target;
+                    this.written = 0L;
+                    this.records = 0L;
+                    this.append(entries);
+                    target.force(true);
+                    isWritten = true;
+                } catch (IOException ex) {
+                    throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "compact", this.file);
+                } finally {
+                    // 临时文件写入失败时原文件没有变化，继续追加到原文件。
+                    this.channel = previous;
+                    if (!isWritten) {
+                        this.written = previousWritten;
+                        this.records = previousRecords;
+                    }
+                }
+                this.replace(compacting, previousWritten, previousRecords);
+            }
+        }
+    }
+
+    private void replace(Path compacting, long previousWritten, long previousRecords) {
+        try {
+            this.channel.close();
+            Files.move(compacting, this.file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException ex) {
+            // 替换失败时原文件仍然完整，重新打开原文件继续追加，没有刷盘的记录由下一次刷盘覆盖。
+            this.written = previousWritten;
+            this.records = previousRecords;
+            this.reopen();
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "compact", this.file);
+        }
+        this.reopen();
+        this.synced = this.written;
+    }
+
+    private void reopen() {
+        try {
+            this.channel = FileChannel.open(this.file, StandardOpenOption.WRITE);
+            this.channel.position(this.written);
+        } catch (IOException ex) {
+            throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "reopen", this.file);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.periodicSync != null) {
+            this.periodicSync.cancel(false);
+        }
+        synchronized (this.syncLock) {
+            synchronized (this) {
+                if (this.channel == null || !this.channel.isOpen()) {
+                    return;
+                }
+                try {
+                    this.channel.force(false);
+                    this.channel.close();
+                } catch (IOException ex) {
+                    throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "close", this.file);
+                }
+            }
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            this.flush(Long.MAX_VALUE);
+        } catch (WaterflowException ex) {
+            LOG.error("The flow store sync failed. [path={}, message={}]", this.file, ex.getMessage());
+        }
+    }
+
+    private void flush(long position) {
+        synchronized (this.syncLock) {
+            if (this.synced >= position) {
+                return;
+            }
+            long target;
+            FileChannel current;
+            synchronized (this) {
+                target = this.written;
+                current = this.channel;
+            }
+            if (this.synced >= target || !current.isOpen()) {
+                return;
+            }
+            try {
+                current.force(false);
+            } catch (IOException ex) {
+                throw new WaterflowException(ex, FLOW_STORE_IO_ERROR, "sync", this.file);
+            }
+            this.synced = target;
+        }
+    }
+
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 0, record.length);
+        return (int) crc.getValue();
+    }
+}
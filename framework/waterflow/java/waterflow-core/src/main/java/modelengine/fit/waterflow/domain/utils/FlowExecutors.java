@@ -8,32 +8,90 @@ package modelengine.fit.waterflow.domain.utils;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import modelengine.fitframework.inspection.Validation;
 import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.schedule.Task;
 import modelengine.fitframework.schedule.ThreadPoolExecutor;
 import modelengine.fitframework.thread.DefaultThreadFactory;
+import modelengine.fitframework.util.ObjectUtils;
+import modelengine.fitframework.util.StringUtils;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 流程引擎的节点线程池
+ * <p>节点的并发按照全局、流程、节点三级预算控制：全局预算限制所有流程同时处理的批次数量，流程预算限制单个流程同时处理的批次数量，
+ * 节点预算即 {@code State.concurrency} 设置的节点并发度。全局预算耗尽时，等待的节点按照流程轮转唤醒，避免繁忙的流程占满全局预算。</p>
+ * <p>可以通过系统属性调整线程池的行为：</p>
+ * <ul>
+ *     <li>{@value #MAX_CONCURRENCY_PROPERTY_KEY}：全局预算，也是节点线程池的最大线程数，默认为 {@value #DEFAULT_MAX_CONCURRENCY}；</li>
+ *     <li>{@value #FIXED_KEY_THREADS_PROPERTY_KEY}：固定键线程池的线程数，默认为 {@value #DEFAULT_FIXED_KEY_THREADS}；</li>
+ *     <li>{@value #VIRTUAL_THREADS_PROPERTY_KEY}：为 {@code true} 时节点任务在虚拟线程中执行，运行环境不支持虚拟线程时忽略。</li>
+ * </ul>
  *
  * @author 高诗意
  * @since 1.0
  */
 public final class FlowExecutors {
-    private static final int MAX_THREAD_COUNT = 64;
+    /**
+     * 表示全局并发预算的系统属性。
+     */
+    public static final String MAX_CONCURRENCY_PROPERTY_KEY = "modelengine.fit.waterflow.executor.max-concurrency";
+
+    /**
+     * 表示固定键线程池线程数的系统属性。
+     */
+    public static final String FIXED_KEY_THREADS_PROPERTY_KEY = "modelengine.fit.waterflow.executor.fixed-key-threads";
+
+    /**
+     * 表示是否使用虚拟线程执行节点任务的系统属性。
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY_KEY = "modelengine.fit.waterflow.executor.virtual-threads";
 
-    private static final int CORE_THREAD_COUNT = 8;
+    private static final int DEFAULT_MAX_CONCURRENCY = 64;
+
+    private static final int DEFAULT_FIXED_KEY_THREADS = 32;
+
+    private static final int MAX_THREAD_COUNT =
+            Math.max(Integer.getInteger(MAX_CONCURRENCY_PROPERTY_KEY, DEFAULT_MAX_CONCURRENCY), 1);
+
+    private static final int CORE_THREAD_COUNT = Math.min(8, MAX_THREAD_COUNT);
 
     private static final Logger LOG = Logger.get(FlowExecutors.class);
 
     private static final ThreadPoolExecutor THREAD_POOL;
 
-    private static AtomicInteger currentConcurrency = new AtomicInteger(0);
+    private static final ExecutorService VIRTUAL_THREAD_POOL;
+
+    private static final ExecutorService SCHEDULER = Executors.newCachedThreadPool(
+            new DefaultThreadFactory("flow-node-scheduler", true, (thread, ex) -> {
+                LOG.error("The node scheduler run failed, ex: {}, message: {}.", ex, ex.getMessage());
+            }));
+
+    /**
+     * 流程共享的时间轮，刻度为10毫秒，每层512个槽，到期的任务在调度线程池中运行
+     */
+    private static final TimingWheel TIMING_WHEEL = new TimingWheel(10L, 512, SCHEDULER);
+
+    /**
+     * 全局、流程两级的并发预算，全局预算即节点线程池的最大线程数
+     */
+    private static final Budgets BUDGETS = new Budgets(MAX_THREAD_COUNT);
 
     static {
         ThreadPoolExecutor newPool = ThreadPoolExecutor.custom()
@@ -51,6 +109,17 @@ public final class FlowExecutors {
                 .rejectedExecutionHandler(new AbortPolicy())
                 .build();
         THREAD_POOL = newPool;
+        VIRTUAL_THREAD_POOL = Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY_KEY) ? newVirtualThreadPool() : null;
+    }
+
+    private static ExecutorService newVirtualThreadPool() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return ObjectUtils.cast(factory.invoke(null));
+        } catch (ReflectiveOperationException ex) {
+            LOG.warn("Virtual threads are not supported by current runtime, use platform threads instead.");
+            return null;
+        }
     }
 
     /**
@@ -62,21 +131,104 @@ public final class FlowExecutors {
         return THREAD_POOL;
     }
 
+    /**
+     * 执行节点任务，开启虚拟线程时在虚拟线程中执行，否则在节点线程池中执行
+     * 调用方需要先通过 {@link #incrementConcurrency(String, Runnable)} 获得并发预算
+     *
+     * @param task 节点任务
+     */
+    public static void execute(Runnable task) {
+        if (VIRTUAL_THREAD_POOL == null) {
+            THREAD_POOL.execute(Task.builder().runnable(task).buildDisposable());
+            return;
+        }
+        VIRTUAL_THREAD_POOL.execute(() -> {
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                LOG.error("The node pool run failed, error cause: {}, message: {}.", throwable.getCause(),
+                        throwable.getMessage());
+                LOG.debug("The node pool run failed details: ", throwable);
+            }
+        });
+    }
+
+    /**
+     * 获取节点处理循环的调度线程池，节点的拉取循环在其中运行，线程在各个节点之间复用
+     *
+     * @return 调度线程池
+     */
+    public static Executor getScheduler() {
+        return SCHEDULER;
+    }
+
+    /**
+     * 获取流程共享的时间轮，用于在没有新数据时按时间触发的处理，例如按时间完成的window
+     *
+     * @return 时间轮
+     */
+    public static TimingWheel getTimingWheel() {
+        return TIMING_WHEEL;
+    }
+
+    /**
+     * 设置流程预算，即该流程所有节点同时处理的批次数量上限，不超过全局预算
+     *
+     * @param streamId 流程的流ID
+     * @param concurrency 流程预算，必须大于0
+     * @throws IllegalArgumentException 当 {@code concurrency} 不大于0时
+     */
+    public static void setFlowConcurrency(String streamId, int concurrency) {
+        BUDGETS.setFlowConcurrency(streamId, concurrency);
+    }
+
+    /**
+     * 移除流程预算，流程不再使用时调用，避免流程预算的设置一直保留
+     * 移除后该流程只受全局预算限制，等待流程预算的节点被唤醒重新申请
+     *
+     * @param streamId 流程的流ID
+     */
+    public static void removeFlowConcurrency(String streamId) {
+        BUDGETS.removeFlowConcurrency(streamId);
+    }
+
+    /**
+     * 获取全局正在使用的并发预算
+     *
+     * @return 全局正在使用的并发预算
+     */
+    public static int getCurrentConcurrency() {
+        return BUDGETS.getCurrentConcurrency();
+    }
+
+    /**
+     * 获取流程正在使用的并发预算
+     *
+     * @param streamId 流程的流ID
+     * @return 流程正在使用的并发预算
+     */
+    public static int getCurrentConcurrency(String streamId) {
+        return BUDGETS.getCurrentConcurrency(streamId);
+    }
+
     /**
      * 增加一个并发
      *
      * @return 并发持有对象。如果无法增加并发则返回null对象
      */
-    public static synchronized Optional<ConcurrencyHolder> incrementConcurrency() {
-        if (currentConcurrency.incrementAndGet() > MAX_THREAD_COUNT) {
-            currentConcurrency.decrementAndGet();
-            return Optional.empty();
-        }
-        return Optional.of(new ConcurrencyHolder());
+    public static Optional<ConcurrencyHolder> incrementConcurrency() {
+        return incrementConcurrency(StringUtils.EMPTY, null);
     }
 
-    private static synchronized void decrementConcurrency() {
-        currentConcurrency.decrementAndGet();
+    /**
+     * 为流程增加一个并发，流程预算或者全局预算耗尽时登记唤醒函数，在有预算释放时调用，由调用方重新申请
+     *
+     * @param streamId 流程的流ID
+     * @param waiter 无法增加并发时登记的唤醒函数，为null时不登记。同一个唤醒函数等待期间只登记一次
+     * @return 并发持有对象。如果无法增加并发则返回null对象
+     */
+    public static Optional<ConcurrencyHolder> incrementConcurrency(String streamId, Runnable waiter) {
+        return BUDGETS.incrementConcurrency(streamId, waiter);
     }
 
     /**
@@ -97,9 +249,15 @@ public final class FlowExecutors {
      * @since 2024/8/12
      */
     public static class ConcurrencyHolder {
+        private final Budgets budgets;
+
+        private final String streamId;
+
         private boolean isReleased;
 
-        private ConcurrencyHolder() {
+        private ConcurrencyHolder(Budgets budgets, String streamId) {
+            this.budgets = budgets;
+            this.streamId = streamId;
             this.isReleased = false;
         }
 
@@ -109,11 +267,168 @@ public final class FlowExecutors {
         public void release() {
             if (!this.isReleased) {
                 this.isReleased = true;
-                FlowExecutors.decrementConcurrency();
+                this.budgets.decrementConcurrency(this.streamId);
+            }
+        }
+    }
+
+    /**
+     * 全局、流程两级的并发预算
+     * <p>流程共用 {@link FlowExecutors} 中的实例，测试时可以构造独立的实例，不受其他流程占用的预算影响。</p>
+     */
+    static final class Budgets {
+        private final int maxConcurrency;
+
+        /**
+         * 各个流程设置的流程预算，没有设置的流程只受全局预算限制
+         */
+        private final Map<String, Integer> flowLimits = new ConcurrentHashMap<>();
+
+        /**
+         * 各个流程正在使用的预算以及等待流程预算的节点，由对象锁保护
+         */
+        private final Map<String, FlowBudget> flowBudgets = new HashMap<>();
+
+        /**
+         * 等待全局预算的节点，按照流程分组，释放时在流程之间轮转唤醒，由对象锁保护
+         */
+        private final LinkedHashMap<String, Set<Runnable>> globalWaiters = new LinkedHashMap<>();
+
+        private int currentConcurrency = 0;
+
+        /**
+         * 构造并发预算
+         *
+         * @param maxConcurrency 全局预算，必须大于0
+         * @throws IllegalArgumentException 当 {@code maxConcurrency} 不大于0时
+         */
+        Budgets(int maxConcurrency) {
+            this.maxConcurrency =
+                    Validation.greaterThan(maxConcurrency, 0, "The max concurrency should greater than 0.");
+        }
+
+        void setFlowConcurrency(String streamId, int concurrency) {
+            Validation.notNull(streamId, "The stream id cannot be null.");
+            this.flowLimits.put(streamId,
+                    Validation.greaterThan(concurrency, 0, "The concurrency should greater than 0."));
+            wakeUp(this.pollWaiters(streamId));
+        }
+
+        void removeFlowConcurrency(String streamId) {
+            Validation.notNull(streamId, "The stream id cannot be null.");
+            if (this.flowLimits.remove(streamId) != null) {
+                wakeUp(this.pollWaiters(streamId));
+            }
+        }
+
+        synchronized int getCurrentConcurrency() {
+            return this.currentConcurrency;
+        }
+
+        synchronized int getCurrentConcurrency(String streamId) {
+            FlowBudget budget = this.flowBudgets.get(streamId);
+            return budget == null ? 0 : budget.used;
+        }
+
+        synchronized Optional<ConcurrencyHolder> incrementConcurrency(String streamId, Runnable waiter) {
+            FlowBudget budget = this.flowBudgets.get(streamId);
+            if (budget != null && budget.used >= this.flowLimit(streamId)) {
+                if (waiter != null) {
+                    budget.waiters.add(waiter);
+                }
+                return Optional.empty();
+            }
+            if (this.currentConcurrency >= this.maxConcurrency) {
+                if (waiter != null) {
+                    this.globalWaiters.computeIfAbsent(streamId, key -> new LinkedHashSet<>()).add(waiter);
+                }
+                return Optional.empty();
+            }
+            if (budget == null) {
+                budget = new FlowBudget();
+                this.flowBudgets.put(streamId, budget);
+            }
+            budget.used++;
+            this.currentConcurrency++;
+            return Optional.of(new ConcurrencyHolder(this, streamId));
+        }
+
+        private void decrementConcurrency(String streamId) {
+            List<Runnable> waiters = new ArrayList<>();
+            synchronized (this) {
+                this.currentConcurrency--;
+                FlowBudget budget = this.flowBudgets.get(streamId);
+                budget.used--;
+                poll(budget.waiters).ifPresent(waiters::add);
+                if (budget.used == 0 && budget.waiters.isEmpty()) {
+                    this.flowBudgets.remove(streamId);
+                }
+                this.pollFairly().ifPresent(waiters::add);
+            }
+            wakeUp(waiters);
+        }
+
+        private synchronized List<Runnable> pollWaiters(String streamId) {
+            FlowBudget budget = this.flowBudgets.get(streamId);
+            if (budget == null) {
+                return Collections.emptyList();
+            }
+            List<Runnable> waiters = new ArrayList<>(budget.waiters);
+            budget.waiters.clear();
+            return waiters;
+        }
+
+        /**
+         * 从等待全局预算的节点中轮转选出一个，每次从不同的流程中选取
+         * 流程预算已经耗尽的节点即使唤醒也无法获得预算，转为等待流程预算
+         *
+         * @return 选出的唤醒函数
+         */
+        private Optional<Runnable> pollFairly() {
+            while (!this.globalWaiters.isEmpty()) {
+                Iterator<Map.Entry<String, Set<Runnable>>> iterator = this.globalWaiters.entrySet().iterator();
+                Map.Entry<String, Set<Runnable>> next = iterator.next();
+                iterator.remove();
+                String streamId = next.getKey();
+                FlowBudget budget = this.flowBudgets.get(streamId);
+                if (budget != null && budget.used >= this.flowLimit(streamId)) {
+                    budget.waiters.addAll(next.getValue());
+                    continue;
+                }
+                Optional<Runnable> waiter = poll(next.getValue());
+                if (!next.getValue().isEmpty()) {
+                    this.globalWaiters.put(streamId, next.getValue());
+                }
+                return waiter;
+            }
+            return Optional.empty();
+        }
+
+        private static Optional<Runnable> poll(Set<Runnable> waiters) {
+            Iterator<Runnable> iterator = waiters.iterator();
+            if (!iterator.hasNext()) {
+                return Optional.empty();
             }
+            Runnable waiter = iterator.next();
+            iterator.remove();
+            return Optional.of(waiter);
+        }
+
+        private int flowLimit(String streamId) {
+            return this.flowLimits.getOrDefault(streamId, this.maxConcurrency);
+        }
+
+        private static void wakeUp(List<Runnable> waiters) {
+            waiters.forEach(Runnable::run);
         }
     }
 
+    private static class FlowBudget {
+        private final Set<Runnable> waiters = new LinkedHashSet<>();
+
+        private int used;
+    }
+
     private static class FixedKeyThreadPool {
         private static FixedKeyThreadPool threadPool;
 
@@ -146,7 +461,8 @@ public final class FlowExecutors {
             if (threadPool != null) {
                 return threadPool;
             }
-            threadPool = new FixedKeyThreadPool(32);
+            threadPool = new FixedKeyThreadPool(
+                    Math.max(Integer.getInteger(FIXED_KEY_THREADS_PROPERTY_KEY, DEFAULT_FIXED_KEY_THREADS), 1));
             return threadPool;
         }
 
@@ -158,7 +474,7 @@ public final class FlowExecutors {
          */
         public void execute(String key, Runnable task) {
             // 通过hash值获取固定线程池
-            int threadIndex = Math.abs(key.hashCode() % poolSize);
+            int threadIndex = Math.floorMod(key.hashCode(), poolSize);
             Integer current = threadLocal.get();
             if (current != null && current == threadIndex) {
                 task.run();
@@ -168,8 +484,11 @@ public final class FlowExecutors {
                 @Override
                 public void run() {
                     threadLocal.set(threadIndex);
-                    task.run();
-                    threadLocal.set(-1);
+                    try {
+                        task.run();
+                    } finally {
+                        threadLocal.remove();
+                    }
                 }
             });
         }
@@ -0,0 +1,67 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 流程数据本地持久化的记录编解码工具，供基于{@link AppendOnlyLog}的仓库共用
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class FlowStoreCodec {
+    private FlowStoreCodec() {}
+
+    /**
+     * 写入可能为空的字符串
+     *
+     * @param out 输出流
+     * @param value 字符串，可以为空
+     * @throws IOException 当写入失败时
+     */
+    public static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    /**
+     * 读取{@link #writeNullable(DataOutputStream, String)}写入的字符串
+     *
+     * @param in 输入流
+     * @return 字符串，写入时为空则返回空
+     * @throws IOException 当读取失败时
+     */
+    public static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * 把时间转换为可以写入的文本
+     *
+     * @param time 时间，可以为空
+     * @return 时间的文本，时间为空时返回空
+     */
+    public static String toText(LocalDateTime time) {
+        return time == null ? null : time.toString();
+    }
+
+    /**
+     * 把{@link #toText(LocalDateTime)}转换的文本还原为时间
+     *
+     * @param text 时间的文本，可以为空
+     * @return 时间，文本为空时返回空
+     */
+    public static LocalDateTime toTime(String text) {
+        return text == null ? null : LocalDateTime.parse(text);
+    }
+}
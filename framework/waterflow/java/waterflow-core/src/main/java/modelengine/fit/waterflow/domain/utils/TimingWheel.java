@@ -0,0 +1,285 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import modelengine.fitframework.inspection.Validation;
+import modelengine.fitframework.log.Logger;
+import modelengine.fitframework.thread.DefaultThreadFactory;
+
+import java.io.Closeable;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分层时间轮，用于在到期时触发流程中的定时任务，例如按时间完成的window
+ * <p>每一层有固定数量的槽，每个槽是到期时间落在同一个刻度内的任务组成的双向链表，添加和取消任务都是O(1)的。
+ * 超出当前层范围的任务放到上一层，上一层的刻度是当前层转一圈的时长，上一层的槽到期时其中的任务重新放到下一层。</p>
+ * <p>只有一个后台线程等待最近的一个有任务的槽到期，没有任务时不会定期唤醒。到期时间按刻度向上取整，任务不会提前触发，
+ * 最多推迟一个刻度。到期的任务交给执行器运行，不占用时间轮的线程，执行器拒绝的任务记录日志后丢弃。</p>
+ * <p>时间取自 {@link System#nanoTime()}，可能为负数，因此按刻度取整时使用向下取整的除法和取模。</p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class TimingWheel implements Closeable {
+    private static final Logger LOG = Logger.get(TimingWheel.class);
+
+    private final long tickMillis;
+
+    private final int wheelSize;
+
+    private final Executor executor;
+
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+
+    private final Level root;
+
+    private Thread worker;
+
+    private boolean isClosed;
+
+    /**
+     * 构造方法
+     *
+     * @param tickMillis 最底层一个刻度的毫秒数
+     * @param wheelSize 每一层的槽数量
+     * @param executor 运行到期任务的执行器
+     */
+    public TimingWheel(long tickMillis, int wheelSize, Executor executor) {
+        Validation.greaterThan(tickMillis, 0L, "The tick millis must be positive.");
+        Validation.greaterThan(wheelSize, 1, "The wheel size must be greater than 1.");
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.executor = Validation.notNull(executor, "The executor cannot be null.");
+        this.root = new Level(tickMillis, clock());
+    }
+
+    /**
+     * 添加一个定时任务
+     *
+     * @param delayMillis 延迟的毫秒数
+     * @param task 到期时运行的任务
+     * @return 可以取消的定时任务
+     * @throws IllegalStateException 当时间轮已经关闭时
+     */
+    public Timeout schedule(long delayMillis, Runnable task) {
+        Validation.notNull(task, "The task cannot be null.");
+        long deadline = clock() + Math.max(delayMillis, 0L);
+        long rounded = Math.floorDiv(deadline + this.tickMillis - 1, this.tickMillis) * this.tickMillis;
+        Timeout timeout = new Timeout(this, rounded, task);
+        synchronized (this) {
+            if (this.isClosed) {
+                throw new IllegalStateException("The timing wheel is closed.");
+            }
+            if (this.worker == null) {
+                this.worker = new DefaultThreadFactory("flow-timing-wheel", true, (thread, ex) -> {
+                    LOG.error("The timing wheel run failed, ex: {}, message: {}.", ex, ex.getMessage());
+                }).newThread(this::run);
+                this.worker.start();
+            }
+            this.addOrRun(timeout);
+        }
+        return timeout;
+    }
+
+    /**
+     * 关闭时间轮，没有到期的任务不再运行
+     */
+    @Override
+    public synchronized void close() {
+        this.isClosed = true;
+        if (this.worker != null) {
+            this.worker.interrupt();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Bucket bucket;
+            try {
+                bucket = this.queue.take();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            synchronized (this) {
+                while (bucket != null) {
+                    this.root.advance(bucket.expiration);
+                    bucket.flush();
+                    bucket = this.queue.poll();
+                }
+            }
+        }
+    }
+
+    private void addOrRun(Timeout timeout) {
+        if (timeout.isCancelled || this.root.add(timeout)) {
+            return;
+        }
+        try {
+            this.executor.execute(timeout.task);
+        } catch (RejectedExecutionException ex) {
+            LOG.error("The timing wheel task is rejected by executor, message: {}.", ex.getMessage());
+            LOG.debug("The timing wheel task rejected details: ", ex);
+        }
+    }
+
+    private static long clock() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * 时间轮中的一层，由时间轮的对象锁保护
+     */
+    private final class Level {
+        private final long tickMillis;
+
+        private final long intervalMillis;
+
+        private final Bucket[] buckets;
+
+        private long currentTime;
+
+        private Level overflow;
+
+        private Level(long tickMillis, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * TimingWheel.this.wheelSize;
+            this.buckets = new Bucket[TimingWheel.this.wheelSize];
+            for (int i = 0; i < this.buckets.length; i++) {
+                this.buckets[i] = new Bucket();
+            }
+            this.currentTime = startMillis - Math.floorMod(startMillis, tickMillis);
+        }
+
+        private boolean add(Timeout timeout) {
+            if (timeout.deadline < this.currentTime + this.tickMillis) {
+                return false;
+            }
+            if (timeout.deadline < this.currentTime + this.intervalMillis) {
+                long virtualId = Math.floorDiv(timeout.deadline, this.tickMillis);
+                Bucket bucket = this.buckets[(int) Math.floorMod(virtualId, (long) this.buckets.length)];
+                bucket.add(timeout);
+                if (bucket.expiration != virtualId * this.tickMillis) {
+                    bucket.expiration = virtualId * this.tickMillis;
+                    TimingWheel.this.queue.offer(bucket);
+                }
+                return true;
+            }
+            if (this.overflow == null) {
+                this.overflow = new Level(this.intervalMillis, this.currentTime);
+            }
+            return this.overflow.add(timeout);
+        }
+
+        private void advance(long time) {
+            if (time < this.currentTime + this.tickMillis) {
+                return;
+            }
+            this.currentTime = time - Math.floorMod(time, this.tickMillis);
+            if (this.overflow != null) {
+                this.overflow.advance(this.currentTime);
+            }
+        }
+    }
+
+    /**
+     * 时间轮中的一个槽，由时间轮的对象锁保护，到期时间同时被延迟队列读取
+     */
+    private final class Bucket implements Delayed {
+        private volatile long expiration = -1L;
+
+        private Timeout head;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            timeout.next = this.head;
+            if (this.head != null) {
+                this.head.prev = timeout;
+            }
+            this.head = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev == null) {
+                this.head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        private void flush() {
+            Timeout current = this.head;
+            this.head = null;
+            this.expiration = -1L;
+            while (current != null) {
+                Timeout next = current.next;
+                current.bucket = null;
+                current.prev = null;
+                current.next = null;
+                TimingWheel.this.addOrRun(current);
+                current = next;
+            }
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(this.expiration - clock(), 0L), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(this.expiration, ((Bucket) other).expiration);
+        }
+    }
+
+    /**
+     * 时间轮中的定时任务
+     */
+    public static final class Timeout {
+        private final TimingWheel wheel;
+
+        private final long deadline;
+
+        private final Runnable task;
+
+        private Bucket bucket;
+
+        private Timeout prev;
+
+        private Timeout next;
+
+        private boolean isCancelled;
+
+        private Timeout(TimingWheel wheel, long deadline, Runnable task) {
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * 取消定时任务，已经开始运行的任务不受影响
+         */
+        public void cancel() {
+            synchronized (this.wheel) {
+                this.isCancelled = true;
+                if (this.bucket != null) {
+                    this.bucket.remove(this);
+                }
+            }
+        }
+    }
+}
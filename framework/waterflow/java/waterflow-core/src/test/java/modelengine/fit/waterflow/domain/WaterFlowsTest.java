@@ -30,6 +30,7 @@ import modelengine.fit.waterflow.domain.flow.Flows;
 import modelengine.fit.waterflow.domain.flow.ProcessFlow;
 import modelengine.fit.waterflow.domain.states.State;
 import modelengine.fit.waterflow.domain.stream.nodes.BlockToken;
+import modelengine.fit.waterflow.domain.stream.operators.TimeWindowCondition;
 import modelengine.fit.waterflow.domain.utils.Mermaid;
 import modelengine.fit.waterflow.domain.utils.SleepUtil;
 import modelengine.fit.waterflow.domain.utils.Tuple;
@@ -42,7 +43,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -328,6 +331,47 @@ class WaterFlowsTest {
             assertEquals(5, result.stream().reduce(0, (acc, i) -> acc + i));
         }
 
+        @Test
+        @DisplayName("时长window在没有新数据且会话没有结束时到期输出聚合结果")
+        void test_reduce_with_duration_window_when_data_stops() {
+            List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+            ProcessFlow<Integer> flow = Flows.<Integer>create(repo, messenger, locks)
+                    .window(Duration.ofMillis(100))
+                    .reduce(() -> 0, (acc, value) -> acc + value)
+                    .just(value -> result.add(value))
+                    .close();
+            FlowSession session = new FlowSession();
+            session.begin();
+            for (int i = 1; i < 4; i++) {
+                flow.offer(i, session);
+            }
+            FlowsTestUtil.waitUntil(() -> result.size() == 1, 1000);
+            assertEquals(Collections.singletonList(6), result);
+
+            flow.offer(4, session);
+            FlowsTestUtil.waitUntil(() -> result.size() == 2, 1000);
+            assertEquals(Arrays.asList(6, 4), result);
+        }
+
+        @Test
+        @DisplayName("会话window在超过间隔没有新数据时输出聚合结果")
+        void test_reduce_with_session_window() {
+            List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+            ProcessFlow<Integer> flow = Flows.<Integer>create(repo, messenger, locks)
+                    .window(TimeWindowCondition.session(Duration.ofMillis(100)))
+                    .reduce(() -> 0, (acc, value) -> acc + value)
+                    .just(value -> result.add(value))
+                    .close();
+            FlowSession session = new FlowSession();
+            session.begin();
+            flow.offer(1, session);
+            flow.offer(2, session);
+            SleepUtil.sleep(400);
+            flow.offer(3, session);
+            FlowsTestUtil.waitUntil(() -> result.size() == 2, 1000);
+            assertEquals(Arrays.asList(3, 3), result);
+        }
+
         @Test
         @Disabled("概率性无法通过")
         void test_reduce_with_window_and_keyBy() {
@@ -0,0 +1,188 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.context.repo.flowlock.FlowLocksMemo;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+import modelengine.fit.waterflow.domain.flow.Flows;
+import modelengine.fit.waterflow.domain.flow.ProcessFlow;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * {@link FlowContextFileRepo} 的测试用例集合
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("本地文件上下文仓库测试用例集合")
+class FlowContextFileRepoTest {
+    private static final String STREAM_ID = "stream";
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("FlowContextFileRepoTest-");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    @DisplayName("重新打开后恢复没有结束的上下文，正在处理的上下文恢复为待处理且未发送")
+    void shouldRecoverUnfinishedContexts() {
+        FlowSession session = new FlowSession(true);
+        session.begin();
+        FlowContext<String> pending = context("a", FlowNodeStatus.PENDING, "pending", session);
+        FlowContext<String> processing = context("a", FlowNodeStatus.PROCESSING, "processing", session);
+        FlowContext<String> archived = context("b", FlowNodeStatus.PENDING, "archived", new FlowSession());
+        pending.setSent(true);
+        processing.batchId("batch");
+        try (FlowContextFileRepo repo = new FlowContextFileRepo(this.directory)) {
+            repo.save(Arrays.asList(pending, processing, archived));
+            archived.setStatus(FlowNodeStatus.ARCHIVED);
+            repo.save(Collections.singletonList(archived));
+        }
+
+        try (FlowContextFileRepo repo = new FlowContextFileRepo(this.directory)) {
+            List<FlowContext<String>> recovered =
+                    repo.getContextsByPosition(STREAM_ID, Collections.singletonList("a"), "PENDING");
+            assertEquals(Arrays.asList("pending", "processing"), data(recovered));
+            assertFalse(recovered.get(0).isSent());
+            assertEquals("batch", recovered.get(1).getBatchId());
+            assertEquals(session.getId(), recovered.get(0).getSession().getId());
+            assertSame(recovered.get(0).getSession(), recovered.get(1).getSession());
+            assertEquals(pending.getIndex(), recovered.get(0).getIndex());
+            assertNull(repo.getById(archived.getId()));
+        }
+    }
+
+    @Test
+    @DisplayName("进程崩溃时写了一半的尾部记录在重新打开时被截断，之前的记录正常恢复")
+    void shouldTruncateIncompleteTail() throws IOException {
+        FlowContext<String> saved = context("a", FlowNodeStatus.PENDING, "saved", new FlowSession());
+        try (FlowContextFileRepo repo = new FlowContextFileRepo(this.directory)) {
+            repo.save(Collections.singletonList(saved));
+        }
+        Path file = this.directory.resolve("flow-contexts.log");
+        long size = Files.size(file);
+        Files.write(file, new byte[] {0, 0, 1, 0, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        FlowContext<String> next = context("a", FlowNodeStatus.PENDING, "next", new FlowSession());
+        try (FlowContextFileRepo repo = new FlowContextFileRepo(this.directory)) {
+            assertEquals(size, Files.size(file));
+            repo.save(Collections.singletonList(next));
+        }
+        try (FlowContextFileRepo repo = new FlowContextFileRepo(this.directory)) {
+            assertEquals(Arrays.asList("saved", "next"),
+                    data(repo.getContextsByPosition(STREAM_ID, Collections.singletonList("a"), "PENDING")));
+        }
+    }
+
+    @Test
+    @DisplayName("流程在处理过程中停止后，以相同的唯一标识重新定义流程并恢复，没有处理完的数据继续处理到结束")
+    void shouldResumeFlowAfterRestart() throws Exception {
+        Path running = this.directory.resolve("running");
+        Path crashed = this.directory.resolve("crashed");
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        try (FlowContextFileRepo repo = new FlowContextFileRepo(running)) {
+            ProcessFlow<Integer> flow = Flows.<Integer>create("recoverable", repo, new FlowContextMemoMessenger(),
+                            new FlowLocksMemo())
+                    .map(i -> i + 1)
+                    .map(i -> {
+                        entered.countDown();
+                        await(release);
+                        return i * 10;
+                    })
+                    .close(r -> finished.countDown());
+            flow.offer(1);
+            assertTrue(entered.await(5, TimeUnit.SECONDS));
+            // 第二个节点正在处理时复制数据文件，相当于进程在此时崩溃。
+            copy(running, crashed);
+            release.countDown();
+            assertTrue(finished.await(5, TimeUnit.SECONDS));
+        }
+
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch recovered = new CountDownLatch(1);
+        try (FlowContextFileRepo repo = new FlowContextFileRepo(crashed)) {
+            ProcessFlow<Integer> flow = Flows.<Integer>create("recoverable", repo, new FlowContextMemoMessenger(),
+                            new FlowLocksMemo())
+                    .map(i -> i + 1)
+                    .map(i -> i * 10)
+                    .close(r -> {
+                        result.add(r.get().getData());
+                        recovered.countDown();
+                    });
+            flow.recover();
+            assertTrue(recovered.await(5, TimeUnit.SECONDS));
+            assertEquals(Collections.singletonList(20), result);
+        }
+    }
+
+    private static void copy(Path source, Path target) throws IOException {
+        Files.createDirectories(target);
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.copy(file, target.resolve(file.getFileName()));
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static FlowContext<String> context(String position, FlowNodeStatus status, String data,
+            FlowSession session) {
+        FlowContext<String> context = new FlowContext<>(STREAM_ID, "root", data, Collections.singleton("trace"),
+                position, session);
+        context.setStatus(status);
+        return context;
+    }
+
+    private static List<String> data(List<FlowContext<String>> contexts) {
+        return contexts.stream().map(FlowContext::getData).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,129 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowcontext;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import modelengine.fit.waterflow.domain.context.FlowContext;
+import modelengine.fit.waterflow.domain.context.FlowSession;
+import modelengine.fit.waterflow.domain.enums.FlowNodeStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * {@link FlowContextIndexedMemoRepo} 的测试用例集合
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("带索引的内存上下文仓库测试用例集合")
+class FlowContextIndexedMemoRepoTest {
+    private static final String STREAM_ID = "stream";
+
+    private FlowContextIndexedMemoRepo repo;
+
+    @BeforeEach
+    void setUp() {
+        this.repo = new FlowContextIndexedMemoRepo();
+    }
+
+    @Test
+    @DisplayName("按照位置和状态查询时，只返回命中的未发送上下文，且保持首次保存的顺序")
+    void shouldQueryByPositionInSaveOrder() {
+        FlowContext<Integer> first = context("a", FlowNodeStatus.PENDING);
+        FlowContext<Integer> second = context("b", FlowNodeStatus.PENDING);
+        FlowContext<Integer> third = context("a", FlowNodeStatus.PENDING);
+        FlowContext<Integer> other = context("c", FlowNodeStatus.PENDING);
+        this.repo.save(Arrays.asList(first, second, third, other));
+        first.setStatus(FlowNodeStatus.NEW);
+        this.repo.save(Collections.singletonList(first));
+        first.setStatus(FlowNodeStatus.PENDING);
+        this.repo.save(Collections.singletonList(first));
+
+        assertEquals(ids(first, second, third),
+                ids(this.repo.getContextsByPosition(STREAM_ID, Arrays.asList("b", "a"), "PENDING")));
+
+        second.setSent(true);
+        this.repo.updateToSent(Collections.singletonList(second));
+        assertEquals(ids(first, third),
+                ids(this.repo.getContextsByPosition(STREAM_ID, Arrays.asList("a", "b"), "PENDING")));
+        assertEquals(ids(second), ids(this.repo.getPendingAndSentByIds(Arrays.asList(second.getId(), first.getId()))));
+    }
+
+    @Test
+    @DisplayName("上下文归档后，从所有的索引中移除")
+    void shouldRemoveArchivedContextFromIndexes() {
+        FlowContext<Integer> context = context("a", FlowNodeStatus.PENDING).batchId("batch").setParallel("parallel");
+        context.getTraceId().add("trace");
+        this.repo.save(Collections.singletonList(context));
+        assertEquals(ids(context), ids(this.repo.getContextsByPosition(STREAM_ID, "a", "batch", "PENDING")));
+        assertEquals(ids(context), ids(this.repo.getContextsByParallel("parallel")));
+        assertEquals(ids(context), ids(this.repo.getContextsByTrace("trace")));
+
+        context.setStatus(FlowNodeStatus.ARCHIVED);
+        this.repo.save(Collections.singletonList(context));
+        assertNull(this.repo.getById(context.getId()));
+        assertTrue(this.repo.getContextsByPosition(STREAM_ID, "a", "batch", "ARCHIVED").isEmpty());
+        assertTrue(this.repo.getContextsByParallel("parallel").isEmpty());
+        assertTrue(this.repo.getContextsByTrace("trace").isEmpty());
+    }
+
+    @Test
+    @DisplayName("保序的上下文只有序号与正在处理的会话匹配时才会被请求到")
+    void shouldRequestMappingContextBySessionIndex() {
+        FlowSession session = new FlowSession();
+        FlowContext<Integer> second = context("a", FlowNodeStatus.PENDING, session);
+        second.setIndex(2);
+        FlowContext<Integer> first = context("a", FlowNodeStatus.PENDING, session);
+        first.setIndex(1);
+        FlowContext<Integer> unordered = context("a", FlowNodeStatus.PENDING);
+        this.repo.save(Arrays.asList(second, first, unordered));
+        Map<String, Integer> sessions = new HashMap<>();
+        List<String> subscriptions = Collections.singletonList("a");
+
+        assertEquals(ids(unordered), ids(this.repo.requestMappingContext(STREAM_ID, subscriptions, sessions)));
+        unordered.setStatus(FlowNodeStatus.ARCHIVED);
+        this.repo.save(Collections.singletonList(unordered));
+        assertTrue(this.repo.requestMappingContext(STREAM_ID, subscriptions, sessions).isEmpty());
+
+        sessions.put(session.getId(), 1);
+        assertEquals(ids(first), ids(this.repo.requestMappingContext(STREAM_ID, subscriptions, sessions)));
+        sessions.put(session.getId(), 2);
+        assertEquals(ids(second), ids(this.repo.requestMappingContext(STREAM_ID, subscriptions, sessions)));
+    }
+
+    private static FlowContext<Integer> context(String position, FlowNodeStatus status) {
+        return context(position, status, new FlowSession());
+    }
+
+    private static FlowContext<Integer> context(String position, FlowNodeStatus status, FlowSession session) {
+        FlowContext<Integer> context = new FlowContext<>(STREAM_ID, "root", 0, Collections.emptySet(), position,
+                session);
+        context.setStatus(status);
+        return context;
+    }
+
+    @SafeVarargs
+    private static List<String> ids(FlowContext<Integer>... contexts) {
+        return Arrays.stream(contexts).map(FlowContext::getId).collect(Collectors.toList());
+    }
+
+    private static List<String> ids(List<FlowContext<Integer>> contexts) {
+        return contexts.stream().map(FlowContext::getId).collect(Collectors.toList());
+    }
+}
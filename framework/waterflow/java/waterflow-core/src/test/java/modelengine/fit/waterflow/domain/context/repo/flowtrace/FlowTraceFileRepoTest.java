@@ -0,0 +1,83 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.context.repo.flowtrace;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import modelengine.fit.waterflow.domain.context.FlowTrace;
+import modelengine.fit.waterflow.domain.enums.FlowTraceStatus;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.stream.Stream;
+
+/**
+ * {@link FlowTraceFileRepo} 的测试用例集合
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("本地文件trace仓库测试用例集合")
+class FlowTraceFileRepoTest {
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("FlowTraceFileRepoTest-");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test
+    @DisplayName("重新打开后恢复trace最新的状态和上下文池，删除的trace不再恢复")
+    void shouldRecoverLatestTraces() {
+        LocalDateTime startTime = LocalDateTime.of(2026, 10, 17, 8, 30);
+        FlowTrace kept = trace("kept", "stream");
+        kept.setStartTime(startTime);
+        FlowTrace deleted = trace("deleted", "other");
+        try (FlowTraceFileRepo repo = new FlowTraceFileRepo(this.directory)) {
+            repo.batchCreate(Arrays.asList(kept, deleted));
+            repo.updateContextPool(Collections.singletonList("kept"), Arrays.asList("context1", "context2"));
+            repo.updateStatus(Collections.singletonList("kept"), FlowTraceStatus.ARCHIVED.name());
+            repo.delete("other");
+        }
+
+        try (FlowTraceFileRepo repo = new FlowTraceFileRepo(this.directory)) {
+            FlowTrace recovered = repo.find("kept");
+            assertEquals("stream", recovered.getStreamId());
+            assertEquals(startTime, recovered.getStartTime());
+            assertNull(recovered.getEndTime());
+            assertEquals(FlowTraceStatus.ARCHIVED, recovered.getStatus());
+            assertEquals(new HashSet<>(Arrays.asList("context1", "context2")), recovered.getContextPool());
+            assertNull(repo.find("deleted"));
+        }
+    }
+
+    private static FlowTrace trace(String id, String streamId) {
+        FlowTrace trace = new FlowTrace(id);
+        trace.setStreamId(streamId);
+        trace.setStatus(FlowTraceStatus.RUNNING);
+        return trace;
+    }
+}
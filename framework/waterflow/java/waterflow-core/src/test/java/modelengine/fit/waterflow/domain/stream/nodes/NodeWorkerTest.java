@@ -0,0 +1,127 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.stream.nodes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link NodeWorker} 的测试用例集合
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("节点处理循环测试用例集合")
+class NodeWorkerTest {
+    @Test
+    @DisplayName("处理循环运行期间收到的信号会被累计，处理循环退出前再次拉取")
+    void shouldPullAgainWhenSignalledWhileDraining() throws InterruptedException {
+        ConcurrentLinkedQueue<String> edge = new ConcurrentLinkedQueue<>();
+        CountDownLatch pulling = new CountDownLatch(1);
+        CountDownLatch offered = new CountDownLatch(1);
+        CountDownLatch drained = new CountDownLatch(2);
+        AtomicInteger pulls = new AtomicInteger();
+        NodeWorker[] worker = new NodeWorker[1];
+        worker[0] = new NodeWorker(() -> "test", () -> {
+            if (pulls.getAndIncrement() == 0) {
+                pulling.countDown();
+                await(offered);
+            }
+            if (edge.poll() == null) {
+                return false;
+            }
+            drained.countDown();
+            return true;
+        });
+        edge.add("first");
+        worker[0].signal();
+        assertTrue(pulling.await(1, TimeUnit.SECONDS));
+        edge.add("second");
+        worker[0].signal();
+        offered.countDown();
+
+        assertTrue(drained.await(1, TimeUnit.SECONDS));
+        assertTrue(edge.isEmpty());
+    }
+
+    @Test
+    @DisplayName("处理过数据的处理循环退出后，没有信号也会延迟再拉取一次，覆盖其他进程写入的数据")
+    void shouldRecheckOnceAfterWork() throws InterruptedException {
+        ConcurrentLinkedQueue<String> edge = new ConcurrentLinkedQueue<>();
+        CountDownLatch drained = new CountDownLatch(2);
+        AtomicInteger pulls = new AtomicInteger();
+        AtomicBoolean isWritten = new AtomicBoolean();
+        NodeWorker worker = new NodeWorker(() -> "test", () -> {
+            pulls.incrementAndGet();
+            if (edge.poll() != null) {
+                drained.countDown();
+                return true;
+            }
+            if (isWritten.compareAndSet(false, true)) {
+                // 模拟处理循环退出时其他进程刚写入的数据，本进程没有收到信号。
+                edge.add("remote");
+            }
+            return false;
+        });
+        edge.add("local");
+        worker.signal();
+
+        assertTrue(drained.await(NodeWorker.RECHECK_DELAY_MILLIS * 10, TimeUnit.MILLISECONDS));
+        TimeUnit.MILLISECONDS.sleep(NodeWorker.RECHECK_DELAY_MILLIS * 3);
+        int settled = pulls.get();
+        TimeUnit.MILLISECONDS.sleep(NodeWorker.RECHECK_DELAY_MILLIS * 3);
+        assertEquals(settled, pulls.get());
+    }
+
+    @Test
+    @DisplayName("调度线程池拒绝处理循环时，延迟重新提交，拒绝期间收到的信号不会丢失")
+    void shouldResubmitWhenRejectedByScheduler() throws InterruptedException {
+        ConcurrentLinkedQueue<String> edge = new ConcurrentLinkedQueue<>();
+        CountDownLatch drained = new CountDownLatch(2);
+        AtomicInteger submits = new AtomicInteger();
+        Executor scheduler = command -> {
+            if (submits.getAndIncrement() == 0) {
+                throw new RejectedExecutionException("busy");
+            }
+            new Thread(command).start();
+        };
+        NodeWorker worker = new NodeWorker(() -> "test", () -> {
+            if (edge.poll() == null) {
+                return false;
+            }
+            drained.countDown();
+            return true;
+        }, scheduler);
+        edge.add("first");
+        worker.signal();
+        edge.add("second");
+        worker.signal();
+
+        assertTrue(drained.await(NodeWorker.REJECTED_RETRY_DELAY_MILLIS * 20, TimeUnit.MILLISECONDS));
+        assertTrue(edge.isEmpty());
+        assertTrue(submits.get() >= 2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
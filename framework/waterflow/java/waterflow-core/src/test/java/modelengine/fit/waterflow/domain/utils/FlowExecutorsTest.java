@@ -0,0 +1,97 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * {@link FlowExecutors} 的测试用例集合
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("流程并发预算测试用例集合")
+class FlowExecutorsTest {
+    @Test
+    @DisplayName("流程预算耗尽时登记唤醒函数，释放预算时唤醒且同一个唤醒函数只登记一次")
+    void shouldWakeUpWaiterWhenFlowBudgetReleased() {
+        String streamId = UUID.randomUUID().toString();
+        FlowExecutors.setFlowConcurrency(streamId, 1);
+        List<String> woken = Collections.synchronizedList(new ArrayList<>());
+        Runnable waiter = () -> woken.add("waiter");
+
+        Optional<FlowExecutors.ConcurrencyHolder> holder = FlowExecutors.incrementConcurrency(streamId, waiter);
+        assertTrue(holder.isPresent());
+        assertFalse(FlowExecutors.incrementConcurrency(streamId, waiter).isPresent());
+        assertFalse(FlowExecutors.incrementConcurrency(streamId, waiter).isPresent());
+        assertEquals(1, FlowExecutors.getCurrentConcurrency(streamId));
+
+        holder.get().release();
+        holder.get().release();
+        assertEquals(Collections.singletonList("waiter"), woken);
+        assertEquals(0, FlowExecutors.getCurrentConcurrency(streamId));
+    }
+
+    @Test
+    @DisplayName("全局预算耗尽时，释放的预算在等待的流程之间轮转分配")
+    void shouldWakeUpWaitersFairlyAcrossFlows() {
+        FlowExecutors.Budgets budgets = new FlowExecutors.Budgets(3);
+        String busy = UUID.randomUUID().toString();
+        String idle = UUID.randomUUID().toString();
+        List<FlowExecutors.ConcurrencyHolder> holders = new ArrayList<>();
+        Optional<FlowExecutors.ConcurrencyHolder> holder;
+        while ((holder = budgets.incrementConcurrency(busy, null)).isPresent()) {
+            holders.add(holder.get());
+        }
+        assertEquals(3, holders.size());
+        List<String> woken = Collections.synchronizedList(new ArrayList<>());
+        assertFalse(budgets.incrementConcurrency(busy, () -> woken.add("busy-1")).isPresent());
+        assertFalse(budgets.incrementConcurrency(busy, () -> woken.add("busy-2")).isPresent());
+        assertFalse(budgets.incrementConcurrency(idle, () -> woken.add("idle-1")).isPresent());
+
+        holders.get(0).release();
+        holders.get(1).release();
+        holders.get(2).release();
+        assertEquals(Arrays.asList("busy-1", "idle-1", "busy-2"), woken);
+        holders.forEach(FlowExecutors.ConcurrencyHolder::release);
+        assertEquals(0, budgets.getCurrentConcurrency());
+    }
+
+    @Test
+    @DisplayName("移除流程预算后唤醒等待流程预算的节点，流程只受全局预算限制")
+    void shouldWakeUpWaiterWhenFlowLimitRemoved() {
+        FlowExecutors.Budgets budgets = new FlowExecutors.Budgets(2);
+        String streamId = UUID.randomUUID().toString();
+        budgets.setFlowConcurrency(streamId, 1);
+        List<String> woken = Collections.synchronizedList(new ArrayList<>());
+
+        Optional<FlowExecutors.ConcurrencyHolder> first = budgets.incrementConcurrency(streamId, null);
+        assertTrue(first.isPresent());
+        assertFalse(budgets.incrementConcurrency(streamId, () -> woken.add("waiter")).isPresent());
+
+        budgets.removeFlowConcurrency(streamId);
+        assertEquals(Collections.singletonList("waiter"), woken);
+        Optional<FlowExecutors.ConcurrencyHolder> second = budgets.incrementConcurrency(streamId, null);
+        assertTrue(second.isPresent());
+        assertEquals(2, budgets.getCurrentConcurrency(streamId));
+        first.get().release();
+        second.get().release();
+        assertEquals(0, budgets.getCurrentConcurrency());
+    }
+}
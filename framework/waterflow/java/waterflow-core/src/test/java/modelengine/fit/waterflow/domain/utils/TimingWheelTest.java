@@ -0,0 +1,104 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) 2025 Huawei Technologies Co., Ltd. All rights reserved.
+ *  This file is a part of the ModelEngine Project.
+ *  Licensed under the MIT License. See License.txt in the project root for license information.
+ *--------------------------------------------------------------------------------------------*/
+
+package modelengine.fit.waterflow.domain.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link TimingWheel} 的测试用例集合
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@DisplayName("分层时间轮测试用例集合")
+class TimingWheelTest {
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        this.wheel = new TimingWheel(5L, 4, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.wheel.close();
+    }
+
+    @Test
+    @DisplayName("超出最底层范围的任务经过上一层后按照到期时间的顺序触发，并且不会提前触发")
+    void shouldFireInDeadlineOrderAcrossLevels() throws InterruptedException {
+        List<Long> fired = Collections.synchronizedList(new ArrayList<>());
+        List<Long> early = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(3);
+        long start = System.nanoTime();
+        for (long delay : new long[] {120L, 10L, 45L}) {
+            this.wheel.schedule(delay, () -> {
+                if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < delay) {
+                    early.add(delay);
+                }
+                fired.add(delay);
+                latch.countDown();
+            });
+        }
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(10L, 45L, 120L), fired);
+        assertTrue(early.isEmpty());
+    }
+
+    @Test
+    @DisplayName("取消的任务不会触发")
+    void shouldNotFireCancelledTimeout() throws InterruptedException {
+        List<String> fired = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        this.wheel.schedule(30L, () -> fired.add("cancelled")).cancel();
+        this.wheel.schedule(60L, () -> {
+            fired.add("kept");
+            latch.countDown();
+        });
+
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList("kept"), fired);
+    }
+
+    @Test
+    @DisplayName("执行器拒绝到期的任务时，时间轮继续触发后续的任务")
+    void shouldKeepRunningWhenExecutorRejects() throws InterruptedException {
+        AtomicBoolean isRejected = new AtomicBoolean(false);
+        TimingWheel rejecting = new TimingWheel(5L, 4, task -> {
+            if (isRejected.compareAndSet(false, true)) {
+                throw new RejectedExecutionException("rejected");
+            }
+            task.run();
+        });
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            rejecting.schedule(10L, () -> {});
+            rejecting.schedule(40L, latch::countDown);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertTrue(isRejected.get());
+        } finally {
+            rejecting.close();
+        }
+    }
+}